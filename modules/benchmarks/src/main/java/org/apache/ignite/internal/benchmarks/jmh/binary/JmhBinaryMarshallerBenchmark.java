@@ -0,0 +1,248 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.binary;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.binary.BinaryObjectException;
+import org.apache.ignite.binary.BinaryReader;
+import org.apache.ignite.binary.BinaryWriter;
+import org.apache.ignite.binary.Binarylizable;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.binary.BinaryReaderEx;
+import org.apache.ignite.internal.binary.BinaryWriterEx;
+import org.apache.ignite.logger.NullLogger;
+import org.apache.ignite.marshaller.Marshaller;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Reflection based binary serialization vs {@link Binarylizable} code produced by
+ * {@code BinarylizableCodeGenerator} for the same set of fields.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-server"})
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 10)
+public class JmhBinaryMarshallerBenchmark {
+    /** */
+    private Marshaller marsh;
+
+    /** */
+    private ReflectiveValue reflVal;
+
+    /** */
+    private GeneratedValue genVal;
+
+    /** */
+    private byte[] reflBytes;
+
+    /** */
+    private byte[] genBytes;
+
+    /**
+     * Starts node and prepares values.
+     *
+     * @throws Exception If failed.
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        IgniteConfiguration cfg = new IgniteConfiguration();
+
+        cfg.setGridLogger(new NullLogger());
+        cfg.setIgniteInstanceName("binary-bench");
+
+        marsh = Ignition.start(cfg).configuration().getMarshaller();
+
+        reflVal = new ReflectiveValue();
+        genVal = new GeneratedValue();
+
+        UUID uid = UUID.randomUUID();
+
+        reflVal.id = genVal.id = 1;
+        reflVal.ts = genVal.ts = System.currentTimeMillis();
+        reflVal.name = genVal.name = "value-name";
+        reflVal.uid = genVal.uid = uid;
+        reflVal.boxed = genVal.boxed = 42;
+        reflVal.data = genVal.data = new byte[64];
+        reflVal.tags = genVal.tags = Arrays.asList("a", "b", "c");
+        reflVal.ratio = genVal.ratio = 0.75;
+
+        reflBytes = marsh.marshal(reflVal);
+        genBytes = marsh.marshal(genVal);
+    }
+
+    /**
+     * Stops node.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Ignition.stopAll(true);
+    }
+
+    /**
+     * @return Marshalled bytes.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Benchmark
+    public byte[] marshalReflective() throws IgniteCheckedException {
+        return marsh.marshal(reflVal);
+    }
+
+    /**
+     * @return Marshalled bytes.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Benchmark
+    public byte[] marshalGenerated() throws IgniteCheckedException {
+        return marsh.marshal(genVal);
+    }
+
+    /**
+     * @return Unmarshalled value.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Benchmark
+    public Object unmarshalReflective() throws IgniteCheckedException {
+        return marsh.unmarshal(reflBytes, null);
+    }
+
+    /**
+     * @return Unmarshalled value.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Benchmark
+    public Object unmarshalGenerated() throws IgniteCheckedException {
+        return marsh.unmarshal(genBytes, null);
+    }
+
+    /**
+     * Run benchmarks.
+     *
+     * @param args Arguments.
+     * @throws RunnerException If failed.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(JmhBinaryMarshallerBenchmark.class.getSimpleName())
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    /**
+     * Plain POJO serialized through field accessors.
+     */
+    private static class ReflectiveValue {
+        /** */
+        private int id;
+
+        /** */
+        private long ts;
+
+        /** */
+        private String name;
+
+        /** */
+        private UUID uid;
+
+        /** */
+        private Integer boxed;
+
+        /** */
+        private byte[] data;
+
+        /** */
+        private List<String> tags;
+
+        /** */
+        private double ratio;
+    }
+
+    /**
+     * Same fields as {@link ReflectiveValue} with generated serialization code.
+     */
+    private static class GeneratedValue implements Binarylizable {
+        /** */
+        private int id;
+
+        /** */
+        private long ts;
+
+        /** */
+        private String name;
+
+        /** */
+        private UUID uid;
+
+        /** */
+        private Integer boxed;
+
+        /** */
+        private byte[] data;
+
+        /** */
+        private List<String> tags;
+
+        /** */
+        private double ratio;
+
+        /** {@inheritDoc} */
+        @Override public void writeBinary(BinaryWriter writer) throws BinaryObjectException {
+            writer.writeInt("id", id);
+            writer.writeLong("ts", ts);
+            writer.writeString("name", name);
+            writer.writeUuid("uid", uid);
+            ((BinaryWriterEx)writer).writeIntNullable("boxed", boxed);
+            writer.writeByteArray("data", data);
+            writer.writeObject("tags", tags);
+            writer.writeDouble("ratio", ratio);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void readBinary(BinaryReader reader) throws BinaryObjectException {
+            id = reader.readInt("id");
+            ts = reader.readLong("ts");
+            name = reader.readString("name");
+            uid = reader.readUuid("uid");
+            boxed = ((BinaryReaderEx)reader).readIntNullable("boxed");
+            data = reader.readByteArray("data");
+            tags = reader.readObject("tags");
+            ratio = reader.readDouble("ratio");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.cache;
+
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.cache.CacheWriteSynchronizationMode;
+import org.apache.ignite.internal.benchmarks.jmh.runner.JmhIdeBenchmarkRunner;
+import org.openjdk.jmh.annotations.Mode;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_CACHE_NIO_THREAD_PROCESSING;
+
+/**
+ * Compares latency of single-key ATOMIC cache operations issued from a client node when requests are processed
+ * in the striped pool and in communication threads.
+ */
+public class JmhCacheNioThreadProcessingBenchmark extends JmhCacheBenchmark {
+    /**
+     * Run benchmarks.
+     *
+     * @param args Arguments.
+     * @throws Exception If failed.
+     */
+    public static void main(String[] args) throws Exception {
+        for (String benchmark : new String[] {"put", "get"}) {
+            run(benchmark, false);
+            run(benchmark, true);
+        }
+    }
+
+    /**
+     * Run benchmark.
+     *
+     * @param benchmark Benchmark to run.
+     * @param nioThreadProcessing Whether requests are processed in communication threads.
+     * @throws Exception If failed.
+     */
+    private static void run(String benchmark, boolean nioThreadProcessing) throws Exception {
+        String simpleClsName = JmhCacheNioThreadProcessingBenchmark.class.getSimpleName();
+
+        String output = simpleClsName + "-" + benchmark + "-" + (nioThreadProcessing ? "nio" : "striped");
+
+        JmhIdeBenchmarkRunner.create()
+            .forks(1)
+            .threads(4)
+            .benchmarkModes(Mode.SampleTime)
+            .warmupIterations(10)
+            .measurementIterations(30)
+            .benchmarks(simpleClsName + "." + benchmark)
+            .output(output + ".jmh.log")
+            .jvmArguments(
+                "-Xms4g",
+                "-Xmx4g",
+                "-D" + IGNITE_ATOMIC_CACHE_NIO_THREAD_PROCESSING + "=" + nioThreadProcessing,
+                JmhIdeBenchmarkRunner.createProperty(PROP_ATOMICITY_MODE, CacheAtomicityMode.ATOMIC),
+                JmhIdeBenchmarkRunner.createProperty(PROP_WRITE_SYNC_MODE, CacheWriteSynchronizationMode.FULL_SYNC),
+                JmhIdeBenchmarkRunner.createProperty(PROP_DATA_NODES, 2),
+                JmhIdeBenchmarkRunner.createProperty(PROP_CLIENT_MODE, true))
+            .run();
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.codegen;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.ignite.binary.Binarylizable;
+import org.apache.ignite.internal.binary.BinaryUtils;
+import org.apache.ignite.internal.binary.BinaryWriteMode;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+import static java.lang.reflect.Modifier.isFinal;
+import static java.lang.reflect.Modifier.isStatic;
+import static java.lang.reflect.Modifier.isTransient;
+
+/**
+ * Generates straight-line {@link Binarylizable#writeBinary} and {@link Binarylizable#readBinary} bodies
+ * for user classes.
+ * <p>
+ * Generated code writes the same fields, in the same order and with the same field IDs as the reflection based
+ * path of {@code BinaryClassDescriptor}, so the produced binary objects are byte-to-byte identical to the ones
+ * written for the plain POJO. This lets hot value classes opt in to monomorphic serialization code without
+ * per-field accessor dispatch and without changing the wire format.
+ * <p>
+ * Every field is written with the typed method matching its declared type, so type metadata is the same as for the
+ * plain POJO as well and a type may be written by both paths in one cluster. Fields of primitive wrapper types use
+ * {@code BinaryWriterEx} and {@code BinaryReaderEx}, these and the types of collection, map and object array fields
+ * must be imported by the class. Fields are read in the order they are written, which lets both writer and reader
+ * resolve field IDs by order instead of mapping field names.
+ * <p>
+ * A class must already implement {@link Binarylizable} (method bodies are replaced in place, exactly as
+ * {@link MessageCodeGenerator} does for messages). Fields of a superclass are supported only if the superclass
+ * is generated as well, in which case its methods are invoked after the fields of the class itself.
+ */
+public class BinarylizableCodeGenerator {
+    /** */
+    private static final Comparator<Field> FIELD_CMP = new Comparator<Field>() {
+        @Override public int compare(Field f1, Field f2) {
+            return f1.getName().compareTo(f2.getName());
+        }
+    };
+
+    /** */
+    private static final String DFLT_SRC_DIR = U.getIgniteHome() + "/modules/core/src/main/java";
+
+    /** */
+    private static final String TAB = "    ";
+
+    /** Field modes having dedicated typed writer methods, mapped to the method name suffix. */
+    private static final Map<BinaryWriteMode, String> TYPES = new EnumMap<>(BinaryWriteMode.class);
+
+    /** Primitive wrapper field modes, mapped to the method name suffix of the extended writer and reader. */
+    private static final Map<BinaryWriteMode, String> NULLABLE_TYPES = new EnumMap<>(BinaryWriteMode.class);
+
+    static {
+        TYPES.put(BinaryWriteMode.P_BYTE, "Byte");
+        TYPES.put(BinaryWriteMode.P_SHORT, "Short");
+        TYPES.put(BinaryWriteMode.P_INT, "Int");
+        TYPES.put(BinaryWriteMode.P_LONG, "Long");
+        TYPES.put(BinaryWriteMode.P_FLOAT, "Float");
+        TYPES.put(BinaryWriteMode.P_DOUBLE, "Double");
+        TYPES.put(BinaryWriteMode.P_CHAR, "Char");
+        TYPES.put(BinaryWriteMode.P_BOOLEAN, "Boolean");
+        TYPES.put(BinaryWriteMode.DECIMAL, "Decimal");
+        TYPES.put(BinaryWriteMode.STRING, "String");
+        TYPES.put(BinaryWriteMode.UUID, "Uuid");
+        TYPES.put(BinaryWriteMode.DATE, "Date");
+        TYPES.put(BinaryWriteMode.TIMESTAMP, "Timestamp");
+        TYPES.put(BinaryWriteMode.TIME, "Time");
+        TYPES.put(BinaryWriteMode.BYTE_ARR, "ByteArray");
+        TYPES.put(BinaryWriteMode.SHORT_ARR, "ShortArray");
+        TYPES.put(BinaryWriteMode.INT_ARR, "IntArray");
+        TYPES.put(BinaryWriteMode.LONG_ARR, "LongArray");
+        TYPES.put(BinaryWriteMode.FLOAT_ARR, "FloatArray");
+        TYPES.put(BinaryWriteMode.DOUBLE_ARR, "DoubleArray");
+        TYPES.put(BinaryWriteMode.CHAR_ARR, "CharArray");
+        TYPES.put(BinaryWriteMode.BOOLEAN_ARR, "BooleanArray");
+        TYPES.put(BinaryWriteMode.DECIMAL_ARR, "DecimalArray");
+        TYPES.put(BinaryWriteMode.STRING_ARR, "StringArray");
+        TYPES.put(BinaryWriteMode.UUID_ARR, "UuidArray");
+        TYPES.put(BinaryWriteMode.DATE_ARR, "DateArray");
+        TYPES.put(BinaryWriteMode.TIMESTAMP_ARR, "TimestampArray");
+        TYPES.put(BinaryWriteMode.TIME_ARR, "TimeArray");
+        TYPES.put(BinaryWriteMode.ENUM, "Enum");
+        TYPES.put(BinaryWriteMode.ENUM_ARR, "EnumArray");
+        TYPES.put(BinaryWriteMode.OBJECT_ARR, "ObjectArray");
+        TYPES.put(BinaryWriteMode.COL, "Collection");
+        TYPES.put(BinaryWriteMode.MAP, "Map");
+        TYPES.put(BinaryWriteMode.OBJECT, "Object");
+
+        NULLABLE_TYPES.put(BinaryWriteMode.BYTE, "ByteNullable");
+        NULLABLE_TYPES.put(BinaryWriteMode.SHORT, "ShortNullable");
+        NULLABLE_TYPES.put(BinaryWriteMode.INT, "IntNullable");
+        NULLABLE_TYPES.put(BinaryWriteMode.LONG, "LongNullable");
+        NULLABLE_TYPES.put(BinaryWriteMode.FLOAT, "FloatNullable");
+        NULLABLE_TYPES.put(BinaryWriteMode.DOUBLE, "DoubleNullable");
+        NULLABLE_TYPES.put(BinaryWriteMode.CHAR, "CharNullable");
+        NULLABLE_TYPES.put(BinaryWriteMode.BOOLEAN, "BooleanNullable");
+    }
+
+    /** */
+    private final Collection<String> write = new ArrayList<>();
+
+    /** */
+    private final Collection<String> read = new ArrayList<>();
+
+    /** */
+    private final String srcDir;
+
+    /**
+     * @param args Arguments: source directory followed by the names of classes to generate.
+     * @throws Exception In case of error.
+     */
+    public static void main(String[] args) throws Exception {
+        String srcDir = DFLT_SRC_DIR;
+
+        if (args != null && args.length > 0)
+            srcDir = args[0];
+
+        BinarylizableCodeGenerator gen = new BinarylizableCodeGenerator(srcDir);
+
+        for (int i = 1; args != null && i < args.length; i++)
+            gen.generateAndWrite(Class.forName(args[i]));
+    }
+
+    /**
+     * @param srcDir Source directory.
+     */
+    public BinarylizableCodeGenerator(String srcDir) {
+        this.srcDir = srcDir;
+    }
+
+    /**
+     * Generates code for provided class and writes it to source file.
+     *
+     * @param cls Class.
+     * @throws Exception In case of error.
+     */
+    public void generateAndWrite(Class<?> cls) throws Exception {
+        assert cls != null;
+
+        generate(cls);
+
+        File file = new File(srcDir, cls.getName().replace('.', File.separatorChar) + ".java");
+
+        if (!file.exists() || !file.isFile()) {
+            System.out.println("Source file not found: " + file.getPath());
+
+            return;
+        }
+
+        Collection<String> src = new ArrayList<>();
+
+        boolean writeFound = false;
+        boolean readFound = false;
+
+        try (BufferedReader rdr = new BufferedReader(new FileReader(file))) {
+            String line;
+            boolean skip = false;
+
+            while ((line = rdr.readLine()) != null) {
+                if (!skip) {
+                    src.add(line);
+
+                    if (line.contains("public void writeBinary(BinaryWriter writer)")) {
+                        src.addAll(write);
+
+                        skip = true;
+
+                        writeFound = true;
+                    }
+                    else if (line.contains("public void readBinary(BinaryReader reader)")) {
+                        src.addAll(read);
+
+                        skip = true;
+
+                        readFound = true;
+                    }
+                }
+                else if (line.startsWith(TAB + "}")) {
+                    src.add(line);
+
+                    skip = false;
+                }
+            }
+        }
+
+        if (!writeFound)
+            System.out.println("    writeBinary method doesn't exist.");
+
+        if (!readFound)
+            System.out.println("    readBinary method doesn't exist.");
+
+        try (BufferedWriter wr = new BufferedWriter(new FileWriter(file))) {
+            for (String line : src)
+                wr.write(line + '\n');
+        }
+    }
+
+    /**
+     * Generates code for provided class.
+     *
+     * @param cls Class.
+     */
+    private void generate(Class<?> cls) {
+        assert cls != null;
+
+        if (!Binarylizable.class.isAssignableFrom(cls))
+            throw new IllegalStateException("Class must implement Binarylizable: " + cls.getName());
+
+        Class<?> sup = cls.getSuperclass();
+
+        boolean hasSuper = sup != Object.class && Binarylizable.class.isAssignableFrom(sup);
+
+        if (!hasSuper && hasSerializableFields(sup))
+            throw new IllegalStateException("Superclass fields are not accessible: " + sup.getName());
+
+        if (hasSuper && BinaryUtils.FIELDS_SORTED_ORDER)
+            throw new IllegalStateException("Sorted fields order is not supported for class hierarchies: " +
+                cls.getName());
+
+        write.clear();
+        read.clear();
+
+        List<Field> fields = new ArrayList<>();
+
+        for (Field field : cls.getDeclaredFields()) {
+            int mod = field.getModifiers();
+
+            if (isStatic(mod) || isTransient(mod))
+                continue;
+
+            if (isFinal(mod))
+                throw new IllegalStateException("Final fields can't be read in readBinary(): " + field);
+
+            for (Class<?> c = sup; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field f : c.getDeclaredFields()) {
+                    if (f.getName().equals(field.getName()) && !isStatic(f.getModifiers()) &&
+                        !isTransient(f.getModifiers()))
+                        throw new IllegalStateException("Duplicate field name in class hierarchy: " + field);
+                }
+            }
+
+            fields.add(field);
+        }
+
+        if (BinaryUtils.FIELDS_SORTED_ORDER)
+            Collections.sort(fields, FIELD_CMP);
+
+        for (Field field : fields) {
+            String name = field.getName();
+            BinaryWriteMode mode = BinaryUtils.mode(field.getType());
+
+            String type = TYPES.get(mode);
+
+            if (type != null) {
+                write.add(TAB + TAB + "writer.write" + type + "(\"" + name + "\", " + name + ");");
+                read.add(TAB + TAB + name + " = " + readCast(field, mode) + "reader.read" + type + "(\"" + name +
+                    "\");");
+
+                continue;
+            }
+
+            type = NULLABLE_TYPES.get(mode);
+
+            if (type == null)
+                throw new IllegalStateException("Field type is not supported, its metadata can't match the one of " +
+                    "reflection based serialization [field=" + field + ", mode=" + mode + ']');
+
+            write.add(TAB + TAB + "((BinaryWriterEx)writer).write" + type + "(\"" + name + "\", " + name + ");");
+            read.add(TAB + TAB + name + " = ((BinaryReaderEx)reader).read" + type + "(\"" + name + "\");");
+        }
+
+        if (hasSuper) {
+            write.add(TAB + TAB + "super.writeBinary(writer);");
+            read.add(TAB + TAB + "super.readBinary(reader);");
+        }
+    }
+
+    /**
+     * @param field Field.
+     * @param mode Field mode.
+     * @return Cast of the value returned by the reader to the field type, empty if not needed.
+     */
+    private static String readCast(Field field, BinaryWriteMode mode) {
+        switch (mode) {
+            case COL:
+            case MAP:
+                return "(" + field.getType().getSimpleName() + ")";
+
+            case OBJECT_ARR:
+                return field.getType() == Object[].class ? "" : "(" + field.getType().getSimpleName() + ")";
+
+            default:
+                return "";
+        }
+    }
+
+    /**
+     * @param cls Class.
+     * @return {@code True} if class or any of its superclasses declares serializable fields.
+     */
+    private static boolean hasSerializableFields(Class<?> cls) {
+        for (Class<?> c = cls; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field f : c.getDeclaredFields()) {
+                if (!isStatic(f.getModifiers()) && !isTransient(f.getModifiers()))
+                    return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -419,6 +419,28 @@ public final class IgniteSystemProperties {
     public static final String IGNITE_DEFERRED_ONE_PHASE_COMMIT_ACK_REQUEST_BUFFER_SIZE =
         "IGNITE_DEFERRED_ONE_PHASE_COMMIT_ACK_REQUEST_BUFFER_SIZE";
 
+    /**
+     * Maximum number of DHT transaction finish messages to the same node sent as a single batch message.
+     * Messages are combined only while another thread is sending to the node, so batching adds no delay.
+     * {@code 0} disables batching. Default is {@code 64}.
+     */
+    public static final String IGNITE_TX_FINISH_BATCH_SIZE = "IGNITE_TX_FINISH_BATCH_SIZE";
+
+    /**
+     * Maximum number of keys read earlier by an optimistic serializable transaction whose read versions are sent
+     * for validation together with a subsequent read from the same primary node. Validation lets a conflicting
+     * transaction fail on read rather than on commit. Each read version is sent once.
+     * <p>
+     * Default is {@code 0}, early validation is disabled.
+     */
+    public static final String IGNITE_TX_SERIALIZABLE_READ_CHECKS = "IGNITE_TX_SERIALIZABLE_READ_CHECKS";
+
+    /**
+     * Maximum number of transaction recovery requests or responses to the same node sent as a single batch message
+     * when transactions of a failed node are recovered. {@code 0} disables batching. Default is {@code 1024}.
+     */
+    public static final String IGNITE_TX_RECOVERY_BATCH_SIZE = "IGNITE_TX_RECOVERY_BATCH_SIZE";
+
     /**
      * If this property set then debug console will be opened for H2 indexing SPI.
      *
@@ -443,6 +465,13 @@ public final class IgniteSystemProperties {
      */
     public static final String IGNITE_IPC_SHMEM_SPACE_DEBUG = "IGNITE_IPC_SHMEM_SPACE_DEBUG";
 
+    /**
+     * If this property is set to {@code true} then shared memory IPC spaces will be backed by memory-mapped
+     * files instead of native System V segments even if the native library is available. Memory-mapped
+     * files are always used when the native library can not be loaded on the current platform.
+     */
+    public static final String IGNITE_IPC_SHMEM_MAPPED_FILES = "IGNITE_IPC_SHMEM_MAPPED_FILES";
+
     /**
      * Property allowing to skip configuration consistency checks.
      */
@@ -604,6 +633,20 @@ public final class IgniteSystemProperties {
     /** Maximum number of nested listener calls before listener notification becomes asynchronous. */
     public static final String IGNITE_MAX_NESTED_LISTENER_CALLS = "IGNITE_MAX_NESTED_LISTENER_CALLS";
 
+    /**
+     * Maximum number of keys for which lock contention statistics are kept on a node. When the limit is reached,
+     * the least contended key is replaced, contention of the keys decays over time. {@code 0} disables per-key
+     * statistics. Default is {@code 128}.
+     */
+    public static final String IGNITE_LOCK_CONTENTION_TRACKED_KEYS = "IGNITE_LOCK_CONTENTION_TRACKED_KEYS";
+
+    /**
+     * When set to {@code true}, a near lock future waiting for entry locks trusts the lock ownership handed off to
+     * it and checks only the entries it has not been handed yet, rather than re-entering every entry it locks on
+     * each handoff. Default is {@code false}.
+     */
+    public static final String IGNITE_LOCK_QUEUED_HANDOFF = "IGNITE_LOCK_QUEUED_HANDOFF";
+
     /** Indicating whether local store keeps primary only. Backward compatibility flag. */
     public static final String IGNITE_LOCAL_STORE_KEEPS_PRIMARY_ONLY = "IGNITE_LOCAL_STORE_KEEPS_PRIMARY_ONLY";
 
@@ -697,6 +740,25 @@ public final class IgniteSystemProperties {
     /** */
     public static final String IGNITE_IO_BALANCE_PERIOD = "IGNITE_IO_BALANCE_PERIOD";
 
+    /**
+     * Sample rate of communication latency histograms: one of the given number of messages is measured.
+     * Value {@code 0} disables measurements.
+     * <p>
+     * Default is {@code 64}.
+     */
+    public static final String IGNITE_IO_TIMING_METRICS_SAMPLE_RATE = "IGNITE_IO_TIMING_METRICS_SAMPLE_RATE";
+
+    /**
+     * When set to {@code true} single-key get and update requests (except for {@code invoke}) of ATOMIC caches are
+     * processed directly in the communication thread which has read them instead of being handed off to the striped
+     * pool. This removes a thread switch from the request path and reduces latency of small operations, but a slow
+     * request delays all other messages of the same connection. Requests to caches with persistence, a cache store,
+     * an interceptor or continuous queries are always processed in the striped pool.
+     * <p>
+     * Default is {@code false}.
+     */
+    public static final String IGNITE_ATOMIC_CACHE_NIO_THREAD_PROCESSING = "IGNITE_ATOMIC_CACHE_NIO_THREAD_PROCESSING";
+
     /**
      * When set to {@code true} fields are written by BinaryMarshaller in sorted order. Otherwise
      * the natural order is used.
@@ -706,6 +768,38 @@ public final class IgniteSystemProperties {
     @Deprecated
     public static final String IGNITE_BINARY_SORT_OBJECT_FIELDS = "IGNITE_BINARY_SORT_OBJECT_FIELDS";
 
+    /**
+     * When set to {@code true}, {@code int} and {@code long} fields of binary objects are written by BinaryMarshaller
+     * with variable length zigzag encoding, which takes 1 to 10 bytes depending on the magnitude of the value instead
+     * of fixed 4 or 8 bytes. Readers always accept both encodings.
+     * <p>
+     * The setting must be the same on all nodes and clients of the cluster, since binary keys are hashed and
+     * compared by their serialized form, nodes with a different value are not allowed to join. Objects built with
+     * {@link org.apache.ignite.binary.BinaryObjectBuilder} use the same encoding. Platform and thin clients that do
+     * not understand the encoding can't read such objects. Default is {@code false}.
+     * <p>
+     * The property sets the default of {@link org.apache.ignite.configuration.BinaryConfiguration#isVarintFields()}.
+     */
+    public static final String IGNITE_BINARY_VARINT_FIELDS = "IGNITE_BINARY_VARINT_FIELDS";
+
+    /**
+     * Maximum number of entries in the cluster-wide dictionary of repeated string values. When greater than zero,
+     * string fields of cache values marshalled on this node are written as dictionary ids for values present in the
+     * dictionary, and new values of low cardinality fields are added to it through distributed metastorage.
+     * Keys are never encoded. Objects with encoded fields are decoded transparently by server and thick client
+     * nodes regardless of this setting, but can't be read by platform and thin clients. Default is {@code 0}
+     * (encoding is disabled).
+     */
+    public static final String IGNITE_BINARY_STRING_DICTIONARY_SIZE = "IGNITE_BINARY_STRING_DICTIONARY_SIZE";
+
+    /**
+     * Maximum number of distinct values of a string field observed by a node for the field to be considered
+     * for {@link #IGNITE_BINARY_STRING_DICTIONARY_SIZE string dictionary}. Values of fields with higher cardinality
+     * are not added to the dictionary. Default is {@code 64}.
+     */
+    public static final String IGNITE_BINARY_STRING_DICTIONARY_FIELD_CARDINALITY =
+        "IGNITE_BINARY_STRING_DICTIONARY_FIELD_CARDINALITY";
+
     /**
      * Whether Ignite can access unaligned memory addresses.
      * <p>
@@ -747,6 +841,12 @@ public final class IgniteSystemProperties {
      */
     public static final String IGNITE_TTL_EXPIRE_BATCH_SIZE = "IGNITE_TTL_EXPIRE_BATCH_SIZE";
 
+    /**
+     * Number of threads removing expired entries of caches with eager TTL. Partitions are distributed between
+     * the threads, so the partition is always processed by the same thread. Defaults to {@code 1}.
+     */
+    public static final String IGNITE_TTL_CLEANUP_WORKERS_COUNT = "IGNITE_TTL_CLEANUP_WORKERS_COUNT";
+
     /**
      * Indexing discovery history size. Protects from duplicate messages maintaining the list of IDs of recently
      * arrived discovery messages.
@@ -755,6 +855,21 @@ public final class IgniteSystemProperties {
      */
     public static final String IGNITE_INDEXING_DISCOVERY_HISTORY_SIZE = "IGNITE_INDEXING_DISCOVERY_HISTORY_SIZE";
 
+    /**
+     * Time window in milliseconds during which concurrent read-through loads of single keys performed outside of
+     * transactions are merged into one {@link org.apache.ignite.cache.store.CacheStore#loadAll(Iterable)} call.
+     * <p>
+     * Defaults to {@code 0} which means that keys are loaded one by one.
+     */
+    public static final String IGNITE_CACHE_STORE_LOAD_BATCH_WINDOW = "IGNITE_CACHE_STORE_LOAD_BATCH_WINDOW";
+
+    /**
+     * Maximum number of keys merged into one read-through
+     * {@link org.apache.ignite.cache.store.CacheStore#loadAll(Iterable)} call, see
+     * {@link #IGNITE_CACHE_STORE_LOAD_BATCH_WINDOW}. Defaults to {@code 256}.
+     */
+    public static final String IGNITE_CACHE_STORE_LOAD_BATCH_SIZE = "IGNITE_CACHE_STORE_LOAD_BATCH_SIZE";
+
     /** Cache start size for on-heap maps. Defaults to 4096. */
     public static final String IGNITE_CACHE_START_SIZE = "IGNITE_CACHE_START_SIZE";
 
@@ -829,6 +944,28 @@ public final class IgniteSystemProperties {
     public static final String IGNITE_DATA_STREAMING_EXECUTOR_SERVICE_TASKS_STEALING_THRESHOLD =
             "IGNITE_DATA_STREAMING_EXECUTOR_SERVICE_TASKS_STEALING_THRESHOLD";
 
+    /**
+     * Number of attempts an idle thread of the striped system pool polls its queue before it parks.
+     * Higher values reduce latency of task handoff at the cost of CPU usage.
+     * <p>
+     * Default value is {@code 2048}.
+     */
+    public static final String IGNITE_STRIPED_POOL_SPIN_COUNT = "IGNITE_STRIPED_POOL_SPIN_COUNT";
+
+    /**
+     * Number of attempts an idle thread of the data streamer pool polls its queue before it parks.
+     * <p>
+     * Default value is {@code 2048}.
+     */
+    public static final String IGNITE_DATA_STREAMER_POOL_SPIN_COUNT = "IGNITE_DATA_STREAMER_POOL_SPIN_COUNT";
+
+    /**
+     * Tasks of striped pools running longer than this threshold (in milliseconds) are counted as long-running.
+     * <p>
+     * Default value is {@code 500}.
+     */
+    public static final String IGNITE_STRIPED_POOL_LONG_TASK_THRESHOLD = "IGNITE_STRIPED_POOL_LONG_TASK_THRESHOLD";
+
     /**
      * If this property is set, then Ignite will use Async File IO factory by default.
      */
@@ -1114,6 +1251,23 @@ public final class IgniteSystemProperties {
     @Deprecated
     public static final String IGNITE_REBALANCE_THROTTLE_OVERRIDE = "IGNITE_REBALANCE_THROTTLE_OVERRIDE";
 
+    /**
+     * Disables preparation of the next supply batch while the previous one is being processed by demander.
+     * When prefetch is enabled supplier reads one batch ahead of the demander's requests for each supply context.
+     * <p>
+     * Default is {@code false}.
+     */
+    public static final String IGNITE_DISABLE_REBALANCE_SUPPLY_PREFETCH = "IGNITE_DISABLE_REBALANCE_SUPPLY_PREFETCH";
+
+    /**
+     * Enables runtime adjustment of rebalance batch size, batches prefetch count and throttle on supplier based on
+     * checkpoint dirty pages ratio, foreground put latency and demander responsiveness. Configured values are used
+     * as the starting point.
+     * <p>
+     * Default is {@code false}.
+     */
+    public static final String IGNITE_REBALANCE_SUPPLY_AUTO_TUNING = "IGNITE_REBALANCE_SUPPLY_AUTO_TUNING";
+
     /**
      * Enables start caches in parallel.
      *
@@ -503,16 +503,16 @@ public interface CacheMetrics {
     public int getWriteBehindStoreBatchSize();
 
     /**
-     * Gets count of write buffer overflow events since initialization. Each overflow event causes
-     * the ongoing flush operation to be performed synchronously.
+     * Gets count of write buffer overflow events since initialization. Each overflow event blocks
+     * the writer until the buffer is flushed below the critical size.
      *
      * @return Count of cache overflow events since start.
      */
     public int getWriteBehindTotalCriticalOverflowCount();
 
     /**
-     * Gets count of write buffer overflow events in progress at the moment. Each overflow event causes
-     * the ongoing flush operation to be performed synchronously.
+     * Gets count of write buffer overflow events in progress at the moment. Each overflow event blocks
+     * the writer until the buffer is flushed below the critical size.
      *
      * @return Count of cache overflow events since start.
      */
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.cache.query;
+
+import javax.cache.event.CacheEntryEvent;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.cache.CacheEntryEventSerializableFilter;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+/**
+ * Remote filter of {@link ContinuousQuery} which passes events whose new value has the given field equal
+ * to the given value.
+ * <p>
+ * Unlike arbitrary filters, this filter is known to the server nodes: continuous queries with such filters
+ * are indexed by field value, so an update evaluates only filters of the queries it may match. Use it instead of
+ * a custom filter when there are many continuous queries on the same cache which differ only by the value
+ * of a field, e.g. subscriptions to a topic. Field value should be of a primitive type, a primitive wrapper
+ * or {@link String}.
+ * <pre name="code" class="java">
+ * ContinuousQuery&lt;Integer, Order&gt; qry = new ContinuousQuery&lt;&gt;();
+ *
+ * qry.setRemoteFilterFactory(FactoryBuilder.factoryOf(new FieldEqualsEventFilter&lt;&gt;("customerId", 42)));
+ * </pre>
+ */
+public class FieldEqualsEventFilter<K, V> implements CacheEntryEventSerializableFilter<K, V> {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Field name. */
+    private final String fieldName;
+
+    /** Field value. */
+    private final Object val;
+
+    /**
+     * @param fieldName Field name.
+     * @param val Field value.
+     */
+    public FieldEqualsEventFilter(String fieldName, Object val) {
+        A.notNull(fieldName, "fieldName");
+        A.notNull(val, "val");
+
+        this.fieldName = fieldName;
+        this.val = val;
+    }
+
+    /**
+     * @return Field name.
+     */
+    public String fieldName() {
+        return fieldName;
+    }
+
+    /**
+     * @return Field value.
+     */
+    public Object value() {
+        return val;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean evaluate(CacheEntryEvent<? extends K, ? extends V> evt) {
+        Object obj = evt.getValue();
+
+        if (obj == null)
+            return false;
+
+        Object fieldVal;
+
+        if (obj instanceof BinaryObject)
+            fieldVal = ((BinaryObject)obj).field(fieldName);
+        else {
+            try {
+                fieldVal = U.field(obj, fieldName);
+            }
+            catch (IgniteException ignored) {
+                return false;
+            }
+        }
+
+        return val.equals(fieldVal);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(FieldEqualsEventFilter.class, this);
+    }
+}
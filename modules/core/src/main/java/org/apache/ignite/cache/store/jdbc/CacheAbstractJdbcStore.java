@@ -25,6 +25,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -36,6 +37,8 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import javax.cache.Cache;
@@ -61,6 +64,7 @@ import org.apache.ignite.internal.binary.BinaryMarshaller;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.typedef.C1;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.SB;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteBiInClosure;
 import org.apache.ignite.lang.IgnitePredicate;
@@ -483,6 +487,74 @@ public abstract class CacheAbstractJdbcStore<K, V> implements CacheStore<K, V>,
         };
     }
 
+    /**
+     * Construct load cache of a set of partitions in one select.
+     *
+     * @param em Type mapping description.
+     * @param clo Closure that will be applied to loaded values.
+     * @param parts Partitions.
+     * @param loadedParts Counter of loaded partitions of the type.
+     * @param totalParts Number of partitions of the type to load.
+     * @param rows Counter of loaded rows.
+     * @return Callable for pool submit.
+     */
+    private Callable<Void> loadCachePartitions(
+        final EntryMapping em,
+        final IgniteBiInClosure<K, V> clo,
+        final int[] parts,
+        final AtomicInteger loadedParts,
+        final int totalParts,
+        final LongAdder rows
+    ) {
+        return new Callable<Void>() {
+            @Override public Void call() throws Exception {
+                Connection conn = null;
+
+                PreparedStatement stmt = null;
+
+                try {
+                    conn = openConnection(true);
+
+                    stmt = conn.prepareStatement(em.loadCachePartitionsQuery(parts.length));
+
+                    stmt.setFetchSize(dialect.getFetchSize());
+
+                    for (int i = 0; i < parts.length; i++)
+                        stmt.setInt(i + 1, parts[i]);
+
+                    ResultSet rs = stmt.executeQuery();
+
+                    while (rs.next()) {
+                        K key = buildObject(em.cacheName, em.keyType(), em.keyKind(), em.keyColumns(),
+                            em.loadColIdxs, rs);
+
+                        V val = buildObject(em.cacheName, em.valueType(), em.valueKind(), em.valueColumns(),
+                            em.loadColIdxs, rs);
+
+                        clo.apply(key, val);
+                    }
+                }
+                catch (SQLException e) {
+                    throw new IgniteCheckedException("Failed to load cache partitions [parts=" +
+                        Arrays.toString(parts) + ']', e);
+                }
+                finally {
+                    U.closeQuiet(stmt);
+
+                    U.closeQuiet(conn);
+                }
+
+                int loaded = loadedParts.addAndGet(parts.length);
+
+                if (log.isInfoEnabled())
+                    log.info("Load cache progress [cache=" + U.maskName(em.cacheName) + ", keyType=" + em.keyType() +
+                        ", parts=" + loaded + '/' + totalParts + ", rows=" + rows.sum() + ']');
+
+                return null;
+            }
+        };
+    }
+
     /**
      * Construct load cache in one select.
      *
@@ -682,6 +754,17 @@ public abstract class CacheAbstractJdbcStore<K, V> implements CacheStore<K, V>,
 
         String cacheName = session().cacheName();
 
+        long startTs = U.currentTimeMillis();
+
+        // Number of rows loaded by all the types, reported by the load progress and finish messages.
+        final LongAdder rows = new LongAdder();
+
+        final IgniteBiInClosure<K, V> loadClo = (key, val) -> {
+            clo.apply(key, val);
+
+            rows.increment();
+        };
+
         try {
             pool = Executors.newFixedThreadPool(maxPoolSize, new IgniteThreadFactory(ignite.name(), CACHE_LOADER_THREAD_NAME));
 
@@ -720,7 +803,7 @@ public abstract class CacheAbstractJdbcStore<K, V> implements CacheStore<K, V>,
                             log.info("Started load cache using custom statement [cache=" + U.maskName(cacheName) +
                                       ", keyType=" + keyType + ", stmt=" + stmt + ']');
 
-                        task = new LoadCacheCustomQueryWorker<>(em, stmt, clo);
+                        task = new LoadCacheCustomQueryWorker<>(em, stmt, loadClo);
                     }
                     else {
                         String qry = arg.toString();
@@ -729,7 +812,7 @@ public abstract class CacheAbstractJdbcStore<K, V> implements CacheStore<K, V>,
                               log.info("Started load cache using custom query [cache=" + U.maskName(cacheName) +
                                   ", keyType=" + keyType + ", query=" + qry + ']');
 
-                        task = new LoadCacheCustomQueryWorker<>(em, qry, clo);
+                        task = new LoadCacheCustomQueryWorker<>(em, qry, loadClo);
                     }
 
                     futs.add(pool.submit(task));
@@ -749,6 +832,32 @@ public abstract class CacheAbstractJdbcStore<K, V> implements CacheStore<K, V>,
                     if (log.isInfoEnabled())
                         log.info("Started load cache [cache=" + U.maskName(cacheName) + ", keyType=" + keyType + ']');
 
+                    if (em.partExpr != null) {
+                        int[] parts = ignite.affinity(cacheName).allPartitions(ignite.cluster().localNode());
+
+                        // Every select scans the table unless the partition expression is indexed, so partitions
+                        // are split between as few selects as the pool size and the parameter limit allow.
+                        int partsPerStmt = Math.min(dialect.getMaxParameterCount(),
+                            Math.max(1, (parts.length + maxPoolSize - 1) / maxPoolSize));
+
+                        if (log.isDebugEnabled())
+                            log.debug("Loading local partitions from db [cache=" + U.maskName(cacheName) +
+                                ", keyType=" + keyType + ", parts=" + parts.length + ", partsPerStmt=" +
+                                partsPerStmt + ']');
+
+                        AtomicInteger loadedParts = new AtomicInteger();
+
+                        for (int from = 0; from < parts.length; from += partsPerStmt) {
+                            int[] stmtParts = Arrays.copyOfRange(parts, from, Math.min(from + partsPerStmt,
+                                parts.length));
+
+                            futs.add(pool.submit(loadCachePartitions(em, loadClo, stmtParts, loadedParts, parts.length,
+                                rows)));
+                        }
+
+                        continue;
+                    }
+
                     if (parallelLoadCacheMinThreshold > 0) {
                         Connection conn = null;
 
@@ -773,7 +882,7 @@ public abstract class CacheAbstractJdbcStore<K, V> implements CacheStore<K, V>,
                                 for (int i = 0; i < keyCnt; i++)
                                     upperBound[i] = rs.getObject(i + 1);
 
-                                futs.add(pool.submit(loadCacheRange(em, clo, null, upperBound, 0)));
+                                futs.add(pool.submit(loadCacheRange(em, loadClo, null, upperBound, 0)));
 
                                 while (rs.next()) {
                                     Object[] lowerBound = upperBound;
@@ -783,10 +892,10 @@ public abstract class CacheAbstractJdbcStore<K, V> implements CacheStore<K, V>,
                                     for (int i = 0; i < keyCnt; i++)
                                         upperBound[i] = rs.getObject(i + 1);
 
-                                    futs.add(pool.submit(loadCacheRange(em, clo, lowerBound, upperBound, 0)));
+                                    futs.add(pool.submit(loadCacheRange(em, loadClo, lowerBound, upperBound, 0)));
                                 }
 
-                                futs.add(pool.submit(loadCacheRange(em, clo, upperBound, null, 0)));
+                                futs.add(pool.submit(loadCacheRange(em, loadClo, upperBound, null, 0)));
 
                                 continue;
                             }
@@ -804,7 +913,7 @@ public abstract class CacheAbstractJdbcStore<K, V> implements CacheStore<K, V>,
                         log.debug("Single thread loading entries from db [cache=" + U.maskName(cacheName) +
                             ", keyType=" + keyType + ']');
 
-                    futs.add(pool.submit(loadCacheFull(em, clo)));
+                    futs.add(pool.submit(loadCacheFull(em, loadClo)));
                 }
             }
 
@@ -812,7 +921,8 @@ public abstract class CacheAbstractJdbcStore<K, V> implements CacheStore<K, V>,
                 U.get(fut);
 
             if (log.isInfoEnabled())
-                log.info("Finished load cache: " + U.maskName(cacheName));
+                log.info("Finished load cache [cache=" + U.maskName(cacheName) + ", rows=" + rows.sum() +
+                    ", time=" + (U.currentTimeMillis() - startTs) + "ms]");
         }
         catch (IgniteCheckedException e) {
             throw new CacheLoaderException("Failed to load cache: " + U.maskName(cacheName), e.getCause());
@@ -1667,6 +1777,9 @@ public abstract class CacheAbstractJdbcStore<K, V> implements CacheStore<K, V>,
         /** Select all items query. */
         private final String loadCacheQry;
 
+        /** SQL expression evaluating to the cache partition of the row or {@code null} if not set. */
+        private final String partExpr;
+
         /** Select item query. */
         private final String loadQrySingle;
 
@@ -1803,6 +1916,8 @@ public abstract class CacheAbstractJdbcStore<K, V> implements CacheStore<K, V>,
 
             loadCacheQry = dialect.loadCacheQuery(sqlFullTblName, sqlCols);
 
+            partExpr = F.isEmpty(typeMeta.getPartitionExpression()) ? null : typeMeta.getPartitionExpression();
+
             loadCacheSelRangeQry = dialect.loadCacheSelectRangeQuery(sqlFullTblName, sqlKeyCols);
 
             loadQrySingle = dialect.loadQuery(sqlFullTblName, sqlKeyCols, sqlCols, 1);
@@ -1881,6 +1996,30 @@ public abstract class CacheAbstractJdbcStore<K, V> implements CacheStore<K, V>,
             return dialect.loadQuery(sqlFullTblName, sqlKeyCols, sqlCols, keyCnt);
         }
 
+        /**
+         * Construct query for select values of partitions.
+         *
+         * @param partCnt Partition count.
+         * @return Load query statement text.
+         */
+        protected String loadCachePartitionsQuery(int partCnt) {
+            assert partExpr != null && partCnt > 0 : partCnt;
+
+            SB sb = new SB(loadCacheQry);
+
+            sb.a(" WHERE ").a(partExpr);
+
+            if (partCnt == 1)
+                return sb.a(" = ?").toString();
+
+            sb.a(" IN (?");
+
+            for (int i = 1; i < partCnt; i++)
+                sb.a(", ?");
+
+            return sb.a(')').toString();
+        }
+
         /**
          * Construct query for select values in range.
          *
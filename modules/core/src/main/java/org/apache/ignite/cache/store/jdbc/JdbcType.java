@@ -53,6 +53,9 @@ public class JdbcType implements Serializable {
     /** Custom type hasher. */
     private JdbcTypeHasher hasher;
 
+    /** SQL expression evaluating to the cache partition of the row. */
+    private String partExpr;
+
     /**
      * Empty constructor (all values are initialized to their defaults).
      */
@@ -76,6 +79,8 @@ public class JdbcType implements Serializable {
 
         valType = type.getValueType();
         valFlds = type.getValueFields();
+
+        partExpr = type.getPartitionExpression();
     }
 
     /**
@@ -247,6 +252,33 @@ public class JdbcType implements Serializable {
         return this;
     }
 
+    /**
+     * Gets SQL expression evaluating to the cache partition of the row.
+     *
+     * @return SQL expression or {@code null} if not set.
+     */
+    public String getPartitionExpression() {
+        return partExpr;
+    }
+
+    /**
+     * Sets SQL expression evaluating to the cache partition of the row, for example a column holding
+     * the partition computed by {@link org.apache.ignite.cache.affinity.Affinity#partition(Object)} for the key.
+     * <p>
+     * If set, cache loading without arguments selects on each node only the rows of partitions owned by the node.
+     * Local partitions are split between at most {@link CacheAbstractJdbcStore#getMaximumPoolSize()} selects
+     * filtering by the expression, unless the dialect parameter limit requires more. Rows for which the expression
+     * does not match the affinity function are not loaded.
+     *
+     * @param partExpr SQL expression.
+     * @return {@code this} for chaining.
+     */
+    public JdbcType setPartitionExpression(String partExpr) {
+        this.partExpr = partExpr;
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override public String toString() {
         return S.toString(JdbcType.class, this);
@@ -19,6 +19,7 @@ package org.apache.ignite.configuration;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.binary.BinaryIdMapper;
 import org.apache.ignite.binary.BinaryNameMapper;
 import org.apache.ignite.binary.BinarySerializer;
@@ -51,6 +52,10 @@ public class BinaryConfiguration implements Serializable {
     /** Compact footer flag. */
     private boolean compactFooter = DFLT_COMPACT_FOOTER;
 
+    /** Variable length int and long fields flag. */
+    private boolean varintFields =
+        IgniteSystemProperties.getBoolean(IgniteSystemProperties.IGNITE_BINARY_VARINT_FIELDS);
+
     /**
      * Sets class names of binary objects explicitly.
      *
@@ -181,6 +186,31 @@ public class BinaryConfiguration implements Serializable {
         return this;
     }
 
+    /**
+     * Get whether to write int and long fields of objects with variable length encoding. Small values then take
+     * less space in the cache, but the setting must be the same on all nodes in the cluster.
+     * <p>
+     * Defaults to the {@link IgniteSystemProperties#IGNITE_BINARY_VARINT_FIELDS} system property.
+     *
+     * @return Whether to write int and long fields with variable length encoding.
+     */
+    public boolean isVarintFields() {
+        return varintFields;
+    }
+
+    /**
+     * Set whether to write int and long fields of objects with variable length encoding.
+     * See {@link #isVarintFields()} for more info.
+     *
+     * @param varintFields Whether to write int and long fields with variable length encoding.
+     * @return {@code this} for chaining.
+     */
+    public BinaryConfiguration setVarintFields(boolean varintFields) {
+        this.varintFields = varintFields;
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override public String toString() {
         return S.toString(BinaryConfiguration.class, this);
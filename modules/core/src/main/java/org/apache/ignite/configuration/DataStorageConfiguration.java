@@ -231,6 +231,9 @@ public class DataStorageConfiguration implements Serializable {
     /** WAL archive path. */
     private String walArchivePath = DFLT_WAL_ARCHIVE_PATH;
 
+    /** Additional directories for work WAL segments. */
+    private String[] walStripePaths;
+
     /** Metrics enabled flag. */
     private boolean metricsEnabled = DFLT_METRICS_ENABLED;
 
@@ -706,6 +709,34 @@ public class DataStorageConfiguration implements Serializable {
         return this;
     }
 
+    /**
+     * Gets paths to additional directories for work WAL segments.
+     *
+     * @return Additional WAL work directories or {@code null} if all work segments are stored in {@link #getWalPath()}.
+     */
+    public String[] getWalStripePaths() {
+        return walStripePaths;
+    }
+
+    /**
+     * Sets paths to additional directories for work WAL segments. Work segments are spread round-robin across
+     * {@link #getWalPath()} and these directories, so consecutive segments are placed on different devices when
+     * the directories are on different devices: while one segment is written, the previous one is synced and
+     * copied to the archive and the next one is formatted without competing for the same device. Relative paths
+     * are resolved relatively to Ignite work directory.
+     * <p>
+     * Requires WAL archive to be enabled, i.e. {@link #getWalArchivePath()} must differ from {@link #getWalPath()}.
+     * Directories may be added to an existing node, but not removed while they contain work segments.
+     *
+     * @param walStripePaths Additional WAL work directories.
+     * @return {@code this} for chaining.
+     */
+    public DataStorageConfiguration setWalStripePaths(String... walStripePaths) {
+        this.walStripePaths = walStripePaths;
+
+        return this;
+    }
+
     /**
      * Gets flag indicating whether persistence metrics collection is enabled.
      * Default value is {@link #DFLT_METRICS_ENABLED}.
@@ -881,9 +912,9 @@ public class DataStorageConfiguration implements Serializable {
 
     /**
      * Property that allows to trade latency for throughput in {@link WALMode#FSYNC} mode.
-     * It limits minimum time interval between WAL fsyncs. First thread that initiates WAL fsync will wait for
-     * this number of nanoseconds, another threads will just wait fsync of first thread (similar to CyclicBarrier).
-     * Total throughput should increase under load as total WAL fsync rate will be limited.
+     * First thread that initiates WAL fsync waits for other threads to join it while they keep coming, but no longer
+     * than this number of nanoseconds, another threads will just wait fsync of first thread. The wait is skipped
+     * if fsync requests come less often than this delay, so latency doesn't suffer under low load.
      */
     public long getWalFsyncDelayNanos() {
         return walFsyncDelay <= 0 ? DFLT_WAL_FSYNC_DELAY : walFsyncDelay;
@@ -891,9 +922,9 @@ public class DataStorageConfiguration implements Serializable {
 
     /**
      * Sets property that allows to trade latency for throughput in {@link WALMode#FSYNC} mode.
-     * It limits minimum time interval between WAL fsyncs. First thread that initiates WAL fsync will wait for
-     * this number of nanoseconds, another threads will just wait fsync of first thread (similar to CyclicBarrier).
-     * Total throughput should increase under load as total WAL fsync rate will be limited.
+     * First thread that initiates WAL fsync waits for other threads to join it while they keep coming, but no longer
+     * than this number of nanoseconds, another threads will just wait fsync of first thread. The wait is skipped
+     * if fsync requests come less often than this delay, so latency doesn't suffer under low load.
      *
      * @param walFsyncDelayNanos Wal fsync delay, in nanoseconds.
      */
@@ -152,7 +152,22 @@ public enum IgniteFeatures {
     DISTRIBUTED_TX_COLLISIONS_DUMP(37),
 
     /** Remove metadata from cluster for specified type. */
-    REMOVE_METADATA(39);
+    REMOVE_METADATA(39),
+
+    /** Batching of DHT transaction finish messages. */
+    TX_FINISH_BATCH(40),
+
+    /** Batching of transaction recovery messages. */
+    TX_RECOVERY_BATCH(41),
+
+    /**
+     * Validation of read versions of optimistic serializable transactions on subsequent reads and compact read
+     * versions in prepare requests.
+     */
+    TX_SERIALIZABLE_READ_CHECKS(42),
+
+    /** Batching of near cache evicted keys notifications of ATOMIC caches. */
+    NEAR_EVICTED_BATCH(43);
     /**
      * Unique feature identifier.
      */
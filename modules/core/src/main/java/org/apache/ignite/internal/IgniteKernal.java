@@ -271,6 +271,7 @@ import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_MARSHALLER;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_MARSHALLER_COMPACT_FOOTER;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_MARSHALLER_USE_BINARY_STRING_SER_VER_2;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_MARSHALLER_USE_DFLT_SUID;
+import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_MARSHALLER_VARINT_FIELDS;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_MEMORY_CONFIG;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_NODE_CONSISTENT_ID;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_OFFHEAP_SIZE;
@@ -1726,6 +1727,10 @@ public class IgniteKernal implements IgniteEx, IgniteMXBean, Externalizable {
             add(ATTR_MARSHALLER_USE_BINARY_STRING_SER_VER_2,
                 getBoolean(IGNITE_BINARY_MARSHALLER_USE_STRING_SERIALIZATION_VER_2,
                     BinaryUtils.USE_STR_SERIALIZATION_VER_2));
+
+            add(ATTR_MARSHALLER_VARINT_FIELDS, cfg.getBinaryConfiguration() == null ?
+                BinaryUtils.VARINT_FIELDS :
+                cfg.getBinaryConfiguration().isVarintFields());
         }
 
         add(ATTR_USER_NAME, System.getProperty("user.name"));
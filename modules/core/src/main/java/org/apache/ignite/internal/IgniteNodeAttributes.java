@@ -42,6 +42,9 @@ public final class IgniteNodeAttributes {
     public static final String ATTR_MARSHALLER_USE_BINARY_STRING_SER_VER_2 = ATTR_PREFIX +
         ".marshaller.utf8SerializationVer2";
 
+    /** Internal attribute constant that controls whether int and long fields use variable length encoding. */
+    public static final String ATTR_MARSHALLER_VARINT_FIELDS = ATTR_PREFIX + ".marshaller.varintFields";
+
     /** Internal attribute name constant. */
     public static final String ATTR_JIT_NAME = ATTR_PREFIX + ".jit.name";
 
@@ -140,13 +140,16 @@ import static org.apache.ignite.IgniteState.STOPPED_ON_FAILURE;
 import static org.apache.ignite.IgniteState.STOPPED_ON_SEGMENTATION;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_CLIENT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_CONFIG_URL;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_DATA_STREAMER_POOL_SPIN_COUNT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_DEP_MODE_OVERRIDE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_LOCAL_HOST;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_NO_SHUTDOWN_HOOK;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_OVERRIDE_CONSISTENT_ID;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_RESTART_CODE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_STRIPED_POOL_SPIN_COUNT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_SUCCESS_FILE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_SYSTEM_WORKER_BLOCKED_TIMEOUT;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.IgniteSystemProperties.getLong;
 import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
 import static org.apache.ignite.cache.CacheMode.PARTITIONED;
@@ -1857,8 +1860,10 @@ public class IgnitionEx {
                             grid.context().failure().process(new FailureContext(SYSTEM_WORKER_TERMINATION, t));
                     }
                 },
+                false,
                 workerRegistry,
-                cfg.getFailureDetectionTimeout());
+                cfg.getFailureDetectionTimeout(),
+                getInteger(IGNITE_STRIPED_POOL_SPIN_COUNT, StripedExecutor.DFLT_SPIN_CNT));
 
             // Note that since we use 'LinkedBlockingQueue', number of
             // maximum threads has no effect.
@@ -1908,7 +1913,8 @@ public class IgnitionEx {
                 },
                 true,
                 workerRegistry,
-                cfg.getFailureDetectionTimeout());
+                cfg.getFailureDetectionTimeout(),
+                getInteger(IGNITE_DATA_STREAMER_POOL_SPIN_COUNT, StripedExecutor.DFLT_SPIN_CNT));
 
             // Note that we do not pre-start threads here as this pool may not be needed.
             validateThreadPoolSize(cfg.getAsyncCallbackPoolSize(), "async callback");
@@ -125,6 +125,9 @@ public class BinaryClassDescriptor {
     /** Whether stable schema was published. */
     private volatile boolean stableSchemaPublished;
 
+    /** Schema of the last object written by {@link Binarylizable} or serializer, used to speed up field ID lookup. */
+    private volatile BinarySchema lastSchema;
+
     /**
      * @param ctx Context.
      * @param cls Class.
@@ -760,6 +763,8 @@ public class BinaryClassDescriptor {
                 case BINARY:
                     if (preWrite(writer, obj)) {
                         try {
+                            writer.matchingSchema(lastSchema);
+
                             if (serializer != null)
                                 serializer.writeBinary(obj, writer);
                             else
@@ -772,7 +777,9 @@ public class BinaryClassDescriptor {
                             if (obj.getClass() != BinaryMetadata.class && obj.getClass() != BinaryTreeMap.class) {
                                 int schemaId = writer.schemaId();
 
-                                if (schemaReg.schema(schemaId) == null) {
+                                BinarySchema schema = schemaReg.schema(schemaId);
+
+                                if (schema == null) {
                                     // This is new schema, let's update metadata.
                                     BinaryMetadataCollector collector =
                                         new BinaryMetadataCollector(typeId, typeName, mapper);
@@ -790,7 +797,12 @@ public class BinaryClassDescriptor {
                                     ctx.updateMetadata(typeId, meta, writer.failIfUnregistered());
 
                                     schemaReg.addSchema(newSchema.schemaId(), newSchema);
+
+                                    schema = newSchema;
                                 }
+
+                                if (lastSchema != schema)
+                                    lastSchema = schema;
                             }
 
                             postWriteHashCode(writer, obj);
@@ -157,9 +157,15 @@ public class BinaryContext {
     /** Compact footer flag. */
     private boolean compactFooter;
 
+    /** Whether int and long fields are written with variable length encoding. */
+    private boolean varintFields = BinaryUtils.VARINT_FIELDS;
+
     /** Object schemas. */
     private volatile Map<Integer, BinarySchemaRegistry> schemas;
 
+    /** Dictionary of repeated string field values. */
+    private final BinaryStringDictionary strDict = new BinaryStringDictionary();
+
     /**
      * @param metaHnd Meta data handler.
      * @param igniteCfg Ignite configuration.
@@ -294,6 +300,13 @@ public class BinaryContext {
         return igniteCfg;
     }
 
+    /**
+     * @return Dictionary of repeated string field values.
+     */
+    public BinaryStringDictionary stringDictionary() {
+        return strDict;
+    }
+
     /**
      * @param marsh Binary marshaller.
      * @throws BinaryObjectException In case of error.
@@ -330,6 +343,8 @@ public class BinaryContext {
         );
 
         compactFooter = binaryCfg.isCompactFooter();
+
+        varintFields = binaryCfg.isVarintFields();
     }
 
     /**
@@ -1221,6 +1236,13 @@ public class BinaryContext {
         return compactFooter;
     }
 
+    /**
+     * @return Whether int and long fields are written with variable length encoding.
+     */
+    public boolean isVarintFields() {
+        return varintFields;
+    }
+
     /**
      * Get schema registry for type ID.
      *
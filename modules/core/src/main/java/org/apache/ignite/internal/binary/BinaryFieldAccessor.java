@@ -363,7 +363,10 @@ public abstract class BinaryFieldAccessor {
 
             int val = GridUnsafe.getIntField(obj, offset);
 
-            writer.writeIntFieldPrimitive(val);
+            if (writer.context().isVarintFields())
+                writer.writeVarIntFieldPrimitive(val);
+            else
+                writer.writeIntFieldPrimitive(val);
         }
 
         /** {@inheritDoc} */
@@ -393,7 +396,10 @@ public abstract class BinaryFieldAccessor {
 
             long val = GridUnsafe.getLongField(obj, offset);
 
-            writer.writeLongFieldPrimitive(val);
+            if (writer.context().isVarintFields())
+                writer.writeVarLongFieldPrimitive(val);
+            else
+                writer.writeLongFieldPrimitive(val);
         }
 
         /** {@inheritDoc} */
@@ -149,6 +149,16 @@ public class BinaryFieldImpl implements BinaryFieldEx {
 
                     break;
 
+                case GridBinaryMarshaller.VARINT:
+                    val = (int)BinaryUtils.readVarLong(buf);
+
+                    break;
+
+                case GridBinaryMarshaller.VARLONG:
+                    val = BinaryUtils.readVarLong(buf);
+
+                    break;
+
                 case GridBinaryMarshaller.BOOLEAN:
                     val = buf.get() != 0;
 
@@ -191,6 +201,11 @@ public class BinaryFieldImpl implements BinaryFieldEx {
                     break;
                 }
 
+                case GridBinaryMarshaller.STRING_DICT:
+                    val = ctx.stringDictionary().value((int)BinaryUtils.readVarLong(buf));
+
+                    break;
+
                 case GridBinaryMarshaller.DATE: {
                     long time = buf.getLong();
 
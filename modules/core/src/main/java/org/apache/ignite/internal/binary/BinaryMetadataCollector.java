@@ -29,13 +29,12 @@ import java.util.Map;
 import java.util.UUID;
 import org.apache.ignite.binary.BinaryObjectException;
 import org.apache.ignite.binary.BinaryRawWriter;
-import org.apache.ignite.binary.BinaryWriter;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Writer for meta data collection.
  */
-class BinaryMetadataCollector implements BinaryWriter {
+class BinaryMetadataCollector implements BinaryWriterEx {
     /** Type ID. */
     private final int typeId;
 
@@ -83,41 +82,81 @@ class BinaryMetadataCollector implements BinaryWriter {
         add(fieldName, BinaryWriteMode.BYTE);
     }
 
+    /** {@inheritDoc} */
+    @Override public void writeByteNullable(String fieldName, @Nullable Byte val) throws BinaryObjectException {
+        add(fieldName, BinaryWriteMode.BYTE);
+    }
+
     /** {@inheritDoc} */
     @Override public void writeShort(String fieldName, short val) throws BinaryObjectException {
         add(fieldName, BinaryWriteMode.SHORT);
     }
 
+    /** {@inheritDoc} */
+    @Override public void writeShortNullable(String fieldName, @Nullable Short val) throws BinaryObjectException {
+        add(fieldName, BinaryWriteMode.SHORT);
+    }
+
     /** {@inheritDoc} */
     @Override public void writeInt(String fieldName, int val) throws BinaryObjectException {
         add(fieldName, BinaryWriteMode.INT);
     }
 
+    /** {@inheritDoc} */
+    @Override public void writeIntNullable(String fieldName, @Nullable Integer val) throws BinaryObjectException {
+        add(fieldName, BinaryWriteMode.INT);
+    }
+
     /** {@inheritDoc} */
     @Override public void writeLong(String fieldName, long val) throws BinaryObjectException {
         add(fieldName, BinaryWriteMode.LONG);
     }
 
+    /** {@inheritDoc} */
+    @Override public void writeLongNullable(String fieldName, @Nullable Long val) throws BinaryObjectException {
+        add(fieldName, BinaryWriteMode.LONG);
+    }
+
     /** {@inheritDoc} */
     @Override public void writeFloat(String fieldName, float val) throws BinaryObjectException {
         add(fieldName, BinaryWriteMode.FLOAT);
     }
 
+    /** {@inheritDoc} */
+    @Override public void writeFloatNullable(String fieldName, @Nullable Float val) throws BinaryObjectException {
+        add(fieldName, BinaryWriteMode.FLOAT);
+    }
+
     /** {@inheritDoc} */
     @Override public void writeDouble(String fieldName, double val) throws BinaryObjectException {
         add(fieldName, BinaryWriteMode.DOUBLE);
     }
 
+    /** {@inheritDoc} */
+    @Override public void writeDoubleNullable(String fieldName, @Nullable Double val) throws BinaryObjectException {
+        add(fieldName, BinaryWriteMode.DOUBLE);
+    }
+
     /** {@inheritDoc} */
     @Override public void writeChar(String fieldName, char val) throws BinaryObjectException {
         add(fieldName, BinaryWriteMode.CHAR);
     }
 
+    /** {@inheritDoc} */
+    @Override public void writeCharNullable(String fieldName, @Nullable Character val) throws BinaryObjectException {
+        add(fieldName, BinaryWriteMode.CHAR);
+    }
+
     /** {@inheritDoc} */
     @Override public void writeBoolean(String fieldName, boolean val) throws BinaryObjectException {
         add(fieldName, BinaryWriteMode.BOOLEAN);
     }
 
+    /** {@inheritDoc} */
+    @Override public void writeBooleanNullable(String fieldName, @Nullable Boolean val) throws BinaryObjectException {
+        add(fieldName, BinaryWriteMode.BOOLEAN);
+    }
+
     /** {@inheritDoc} */
     @Override public void writeDecimal(String fieldName, @Nullable BigDecimal val) throws BinaryObjectException {
         add(fieldName, BinaryWriteMode.DECIMAL);
@@ -268,16 +307,16 @@ class BinaryMetadataCollector implements BinaryWriter {
     private void add(String name, BinaryWriteMode mode) throws BinaryObjectException {
         assert name != null;
 
-        int typeId = mode.typeId();
+        int fieldTypeId = mode.typeId();
         int fieldId = mapper.fieldId(typeId, name);
 
-        BinaryFieldMetadata oldFieldMeta = meta.put(name, new BinaryFieldMetadata(typeId, fieldId));
+        BinaryFieldMetadata oldFieldMeta = meta.put(name, new BinaryFieldMetadata(fieldTypeId, fieldId));
 
-        if (oldFieldMeta != null && oldFieldMeta.typeId() != typeId) {
+        if (oldFieldMeta != null && oldFieldMeta.typeId() != fieldTypeId) {
             throw new BinaryObjectException(
                 "Field is written twice with different types [" + "typeName=" + typeName + ", fieldName=" + name +
                 ", fieldTypeName1=" + BinaryUtils.fieldTypeName(oldFieldMeta.typeId()) +
-                ", fieldTypeName2=" + BinaryUtils.fieldTypeName(typeId) + ']'
+                ", fieldTypeName2=" + BinaryUtils.fieldTypeName(fieldTypeId) + ']'
             );
         }
 
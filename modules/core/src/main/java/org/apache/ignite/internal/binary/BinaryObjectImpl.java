@@ -391,6 +391,16 @@ public final class BinaryObjectImpl extends BinaryObjectExImpl implements Extern
 
                 break;
 
+            case GridBinaryMarshaller.VARINT:
+                val = (int)BinaryUtils.readVarLong(arr, fieldPos + 1);
+
+                break;
+
+            case GridBinaryMarshaller.VARLONG:
+                val = BinaryUtils.readVarLong(arr, fieldPos + 1);
+
+                break;
+
             case GridBinaryMarshaller.BOOLEAN:
                 val = BinaryPrimitives.readBoolean(arr, fieldPos + 1);
 
@@ -429,6 +439,11 @@ public final class BinaryObjectImpl extends BinaryObjectExImpl implements Extern
                 break;
             }
 
+            case GridBinaryMarshaller.STRING_DICT:
+                val = ctx.stringDictionary().value((int)BinaryUtils.readVarLong(arr, fieldPos + 1));
+
+                break;
+
             case GridBinaryMarshaller.DATE: {
                 long time = BinaryPrimitives.readLong(arr, fieldPos + 1);
 
@@ -553,6 +568,13 @@ public final class BinaryObjectImpl extends BinaryObjectExImpl implements Extern
 
                 break;
 
+            case GridBinaryMarshaller.VARINT:
+            case GridBinaryMarshaller.VARLONG:
+            case GridBinaryMarshaller.STRING_DICT:
+                totalLen = 1 + BinaryUtils.varLongLength(arr, fieldPos + 1);
+
+                break;
+
             case GridBinaryMarshaller.SHORT:
                 totalLen = 3;
 
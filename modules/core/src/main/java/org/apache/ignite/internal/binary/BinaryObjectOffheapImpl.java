@@ -282,6 +282,16 @@ public class BinaryObjectOffheapImpl extends BinaryObjectExImpl implements Exter
 
                 break;
 
+            case GridBinaryMarshaller.VARINT:
+                val = (int)BinaryUtils.readVarLong(ptr, fieldPos + 1);
+
+                break;
+
+            case GridBinaryMarshaller.VARLONG:
+                val = BinaryUtils.readVarLong(ptr, fieldPos + 1);
+
+                break;
+
             case GridBinaryMarshaller.BOOLEAN:
                 val = BinaryPrimitives.readBoolean(ptr, fieldPos + 1);
 
@@ -321,6 +331,11 @@ public class BinaryObjectOffheapImpl extends BinaryObjectExImpl implements Exter
                 break;
             }
 
+            case GridBinaryMarshaller.STRING_DICT:
+                val = ctx.stringDictionary().value((int)BinaryUtils.readVarLong(ptr, fieldPos + 1));
+
+                break;
+
             case GridBinaryMarshaller.DATE: {
                 long time = BinaryPrimitives.readLong(ptr, fieldPos + 1);
 
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.binary;
+
+import org.apache.ignite.binary.BinaryObjectException;
+import org.apache.ignite.binary.BinaryReader;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Extended reader interface.
+ * <p>
+ * Adds fields of primitive wrapper types, which are read exactly as wrapper fields of classes serialized with
+ * reflection, including {@code null} values.
+ */
+public interface BinaryReaderEx extends BinaryReader {
+    /**
+     * @param fieldName Field name.
+     * @return Value.
+     * @throws BinaryObjectException In case of error.
+     */
+    @Nullable public Byte readByteNullable(String fieldName) throws BinaryObjectException;
+
+    /**
+     * @param fieldName Field name.
+     * @return Value.
+     * @throws BinaryObjectException In case of error.
+     */
+    @Nullable public Short readShortNullable(String fieldName) throws BinaryObjectException;
+
+    /**
+     * @param fieldName Field name.
+     * @return Value.
+     * @throws BinaryObjectException In case of error.
+     */
+    @Nullable public Integer readIntNullable(String fieldName) throws BinaryObjectException;
+
+    /**
+     * @param fieldName Field name.
+     * @return Value.
+     * @throws BinaryObjectException In case of error.
+     */
+    @Nullable public Long readLongNullable(String fieldName) throws BinaryObjectException;
+
+    /**
+     * @param fieldName Field name.
+     * @return Value.
+     * @throws BinaryObjectException In case of error.
+     */
+    @Nullable public Float readFloatNullable(String fieldName) throws BinaryObjectException;
+
+    /**
+     * @param fieldName Field name.
+     * @return Value.
+     * @throws BinaryObjectException In case of error.
+     */
+    @Nullable public Double readDoubleNullable(String fieldName) throws BinaryObjectException;
+
+    /**
+     * @param fieldName Field name.
+     * @return Value.
+     * @throws BinaryObjectException In case of error.
+     */
+    @Nullable public Character readCharNullable(String fieldName) throws BinaryObjectException;
+
+    /**
+     * @param fieldName Field name.
+     * @return Value.
+     * @throws BinaryObjectException In case of error.
+     */
+    @Nullable public Boolean readBooleanNullable(String fieldName) throws BinaryObjectException;
+}
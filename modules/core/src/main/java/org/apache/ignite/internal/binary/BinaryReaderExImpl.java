@@ -34,7 +34,6 @@ import org.apache.ignite.binary.BinaryMapFactory;
 import org.apache.ignite.binary.BinaryObject;
 import org.apache.ignite.binary.BinaryObjectException;
 import org.apache.ignite.binary.BinaryRawReader;
-import org.apache.ignite.binary.BinaryReader;
 import org.apache.ignite.internal.binary.streams.BinaryInputStream;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.internal.util.typedef.internal.S;
@@ -77,6 +76,7 @@ import static org.apache.ignite.internal.binary.GridBinaryMarshaller.PROXY;
 import static org.apache.ignite.internal.binary.GridBinaryMarshaller.SHORT;
 import static org.apache.ignite.internal.binary.GridBinaryMarshaller.SHORT_ARR;
 import static org.apache.ignite.internal.binary.GridBinaryMarshaller.STRING;
+import static org.apache.ignite.internal.binary.GridBinaryMarshaller.STRING_DICT;
 import static org.apache.ignite.internal.binary.GridBinaryMarshaller.STRING_ARR;
 import static org.apache.ignite.internal.binary.GridBinaryMarshaller.TIME;
 import static org.apache.ignite.internal.binary.GridBinaryMarshaller.TIMESTAMP;
@@ -85,12 +85,14 @@ import static org.apache.ignite.internal.binary.GridBinaryMarshaller.TIME_ARR;
 import static org.apache.ignite.internal.binary.GridBinaryMarshaller.UNREGISTERED_TYPE_ID;
 import static org.apache.ignite.internal.binary.GridBinaryMarshaller.UUID;
 import static org.apache.ignite.internal.binary.GridBinaryMarshaller.UUID_ARR;
+import static org.apache.ignite.internal.binary.GridBinaryMarshaller.VARINT;
+import static org.apache.ignite.internal.binary.GridBinaryMarshaller.VARLONG;
 
 /**
  * Binary reader implementation.
  */
 @SuppressWarnings("unchecked")
-public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, BinaryReaderHandlesHolder, ObjectInput {
+public class BinaryReaderExImpl implements BinaryReaderEx, BinaryRawReaderEx, BinaryReaderHandlesHolder, ObjectInput {
     /** Binary context. */
     private final BinaryContext ctx;
 
@@ -466,6 +468,16 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
         return findFieldById(fieldId) && checkFlagNoHandles(BYTE) == Flag.NORMAL ? in.readByte() : 0;
     }
 
+    /** {@inheritDoc} */
+    @Nullable @Override public Byte readByteNullable(String fieldName) throws BinaryObjectException {
+        try {
+            return findFieldByName(fieldName) && checkFlagNoHandles(BYTE) == Flag.NORMAL ? in.readByte() : null;
+        }
+        catch (Exception ex) {
+            throw wrapFieldException(fieldName, ex);
+        }
+    }
+
     /**
      * @param fieldId Field ID.
      * @return Value.
@@ -532,6 +544,16 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
         return findFieldById(fieldId) && checkFlagNoHandles(BOOLEAN) == Flag.NORMAL && in.readBoolean();
     }
 
+    /** {@inheritDoc} */
+    @Nullable @Override public Boolean readBooleanNullable(String fieldName) throws BinaryObjectException {
+        try {
+            return findFieldByName(fieldName) && checkFlagNoHandles(BOOLEAN) == Flag.NORMAL ? in.readBoolean() : null;
+        }
+        catch (Exception ex) {
+            throw wrapFieldException(fieldName, ex);
+        }
+    }
+
     /**
      * @param fieldId Field ID.
      * @return Value.
@@ -598,6 +620,16 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
         return findFieldById(fieldId) && checkFlagNoHandles(SHORT) == Flag.NORMAL ? in.readShort() : 0;
     }
 
+    /** {@inheritDoc} */
+    @Nullable @Override public Short readShortNullable(String fieldName) throws BinaryObjectException {
+        try {
+            return findFieldByName(fieldName) && checkFlagNoHandles(SHORT) == Flag.NORMAL ? in.readShort() : null;
+        }
+        catch (Exception ex) {
+            throw wrapFieldException(fieldName, ex);
+        }
+    }
+
     /**
      * @param fieldId Field ID.
      * @return Value.
@@ -664,6 +696,16 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
         return findFieldById(fieldId) && checkFlagNoHandles(CHAR) == Flag.NORMAL ? in.readChar() : 0;
     }
 
+    /** {@inheritDoc} */
+    @Nullable @Override public Character readCharNullable(String fieldName) throws BinaryObjectException {
+        try {
+            return findFieldByName(fieldName) && checkFlagNoHandles(CHAR) == Flag.NORMAL ? in.readChar() : null;
+        }
+        catch (Exception ex) {
+            throw wrapFieldException(fieldName, ex);
+        }
+    }
+
     /**
      * @param fieldId Field ID.
      * @return Value.
@@ -714,7 +756,7 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
     /** {@inheritDoc} */
     @Override public int readInt(String fieldName) throws BinaryObjectException {
         try {
-            return findFieldByName(fieldName) && checkFlagNoHandles(INT) == Flag.NORMAL ? in.readInt() : 0;
+            return findFieldByName(fieldName) ? readIntField() : 0;
         }
         catch (Exception ex) {
             throw wrapFieldException(fieldName, ex);
@@ -727,7 +769,17 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
      * @throws BinaryObjectException If failed.
      */
     int readInt(int fieldId) throws BinaryObjectException {
-        return findFieldById(fieldId) && checkFlagNoHandles(INT) == Flag.NORMAL ? in.readInt() : 0;
+        return findFieldById(fieldId) ? readIntField() : 0;
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public Integer readIntNullable(String fieldName) throws BinaryObjectException {
+        try {
+            return findFieldByName(fieldName) && !skipNull() ? readIntField() : null;
+        }
+        catch (Exception ex) {
+            throw wrapFieldException(fieldName, ex);
+        }
     }
 
     /**
@@ -736,7 +788,7 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
      * @throws BinaryObjectException In case of error.
      */
     @Nullable Integer readIntNullable(int fieldId) throws BinaryObjectException {
-        return findFieldById(fieldId) && checkFlagNoHandles(INT) == Flag.NORMAL ? in.readInt() : null;
+        return findFieldById(fieldId) && !skipNull() ? readIntField() : null;
     }
 
     /** {@inheritDoc} */
@@ -780,7 +832,7 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
     /** {@inheritDoc} */
     @Override public long readLong(String fieldName) throws BinaryObjectException {
         try {
-            return findFieldByName(fieldName) && checkFlagNoHandles(LONG) == Flag.NORMAL ? in.readLong() : 0;
+            return findFieldByName(fieldName) ? readLongField() : 0;
         }
         catch (Exception ex) {
             throw wrapFieldException(fieldName, ex);
@@ -793,7 +845,17 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
      * @throws BinaryObjectException If failed.
      */
     long readLong(int fieldId) throws BinaryObjectException {
-        return findFieldById(fieldId) && checkFlagNoHandles(LONG) == Flag.NORMAL ? in.readLong() : 0;
+        return findFieldById(fieldId) ? readLongField() : 0;
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public Long readLongNullable(String fieldName) throws BinaryObjectException {
+        try {
+            return findFieldByName(fieldName) && !skipNull() ? readLongField() : null;
+        }
+        catch (Exception ex) {
+            throw wrapFieldException(fieldName, ex);
+        }
     }
 
     /**
@@ -802,7 +864,7 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
      * @throws BinaryObjectException In case of error.
      */
     @Nullable Long readLongNullable(int fieldId) throws BinaryObjectException {
-        return findFieldById(fieldId) && checkFlagNoHandles(LONG) == Flag.NORMAL ? in.readLong() : null;
+        return findFieldById(fieldId) && !skipNull() ? readLongField() : null;
     }
 
     /** {@inheritDoc} */
@@ -862,6 +924,16 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
         return findFieldById(fieldId) && checkFlagNoHandles(FLOAT) == Flag.NORMAL ? in.readFloat() : 0;
     }
 
+    /** {@inheritDoc} */
+    @Nullable @Override public Float readFloatNullable(String fieldName) throws BinaryObjectException {
+        try {
+            return findFieldByName(fieldName) && checkFlagNoHandles(FLOAT) == Flag.NORMAL ? in.readFloat() : null;
+        }
+        catch (Exception ex) {
+            throw wrapFieldException(fieldName, ex);
+        }
+    }
+
     /**
      * @param fieldId Field ID.
      * @return Value.
@@ -928,6 +1000,16 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
         return findFieldById(fieldId) && checkFlagNoHandles(DOUBLE) == Flag.NORMAL ? in.readDouble() : 0;
     }
 
+    /** {@inheritDoc} */
+    @Nullable @Override public Double readDoubleNullable(String fieldName) throws BinaryObjectException {
+        try {
+            return findFieldByName(fieldName) && checkFlagNoHandles(DOUBLE) == Flag.NORMAL ? in.readDouble() : null;
+        }
+        catch (Exception ex) {
+            throw wrapFieldException(fieldName, ex);
+        }
+    }
+
     /**
      * @param fieldId Field ID.
      * @return Value.
@@ -1053,6 +1135,12 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
 
     /** {@inheritDoc} */
     @Override @Nullable public String readString() throws BinaryObjectException {
+        if (in.readBytePositioned(in.position()) == STRING_DICT) {
+            in.readByte();
+
+            return ctx.stringDictionary().value((int)BinaryUtils.doReadVarLong(in));
+        }
+
         return checkFlagNoHandles(STRING) == Flag.NORMAL ? BinaryUtils.doReadString(in) : null;
     }
 
@@ -1677,6 +1765,64 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
             ", actual=" + fieldFlagName(flag) + ']');
     }
 
+    /**
+     * Reads int field value written with either fixed or variable length encoding.
+     *
+     * @return Value or {@code 0} if field is {@code null}.
+     * @throws BinaryObjectException If field has unexpected type.
+     */
+    private int readIntField() {
+        byte flag = in.readByte();
+
+        if (flag == INT)
+            return in.readInt();
+        else if (flag == VARINT)
+            return (int)BinaryUtils.doReadVarLong(in);
+        else if (flag == NULL)
+            return 0;
+
+        int pos = BinaryUtils.positionForHandle(in);
+
+        throw new BinaryObjectException("Unexpected field type [pos=" + pos + ", expected=" + fieldFlagName(INT) +
+            ", actual=" + fieldFlagName(flag) + ']');
+    }
+
+    /**
+     * Reads long field value written with either fixed or variable length encoding.
+     *
+     * @return Value or {@code 0} if field is {@code null}.
+     * @throws BinaryObjectException If field has unexpected type.
+     */
+    private long readLongField() {
+        byte flag = in.readByte();
+
+        if (flag == LONG)
+            return in.readLong();
+        else if (flag == VARLONG)
+            return BinaryUtils.doReadVarLong(in);
+        else if (flag == NULL)
+            return 0;
+
+        int pos = BinaryUtils.positionForHandle(in);
+
+        throw new BinaryObjectException("Unexpected field type [pos=" + pos + ", expected=" + fieldFlagName(LONG) +
+            ", actual=" + fieldFlagName(flag) + ']');
+    }
+
+    /**
+     * Skips field type byte if it is {@code null}.
+     *
+     * @return {@code True} if field is {@code null}.
+     */
+    private boolean skipNull() {
+        if (in.readBytePositioned(in.position()) != NULL)
+            return false;
+
+        in.readByte();
+
+        return true;
+    }
+
     /**
      * Gets a flag name
      *
@@ -1785,6 +1931,16 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
 
                 break;
 
+            case VARINT:
+                obj = (int)BinaryUtils.doReadVarLong(in);
+
+                break;
+
+            case VARLONG:
+                obj = BinaryUtils.doReadVarLong(in);
+
+                break;
+
             case FLOAT:
                 obj = in.readFloat();
 
@@ -1815,6 +1971,11 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
 
                 break;
 
+            case STRING_DICT:
+                obj = ctx.stringDictionary().value((int)BinaryUtils.doReadVarLong(in));
+
+                break;
+
             case UUID:
                 obj = BinaryUtils.doReadUuid(in);
 
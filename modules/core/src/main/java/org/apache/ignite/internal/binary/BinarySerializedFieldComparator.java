@@ -204,7 +204,8 @@ public class BinarySerializedFieldComparator {
         byte typ = c1.fieldType();
 
         if (typ != c2.fieldType())
-            return false;
+            return (isVarIntPair(typ, c2.fieldType()) || isStringPair(typ, c2.fieldType())) &&
+                F.eq(c1.currentField(), c2.currentField());
 
         // Switch by type and compare.
         switch (typ) {
@@ -251,6 +252,28 @@ public class BinarySerializedFieldComparator {
         }
     }
 
+    /**
+     * @param typ1 Type of the first field.
+     * @param typ2 Type of the second field.
+     * @return {@code True} if the same numeric type is written with fixed and variable length encodings.
+     */
+    private static boolean isVarIntPair(byte typ1, byte typ2) {
+        return (typ1 == GridBinaryMarshaller.INT || typ1 == GridBinaryMarshaller.VARINT) &&
+            (typ2 == GridBinaryMarshaller.INT || typ2 == GridBinaryMarshaller.VARINT) ||
+            (typ1 == GridBinaryMarshaller.LONG || typ1 == GridBinaryMarshaller.VARLONG) &&
+            (typ2 == GridBinaryMarshaller.LONG || typ2 == GridBinaryMarshaller.VARLONG);
+    }
+
+    /**
+     * @param typ1 Type of the first field.
+     * @param typ2 Type of the second field.
+     * @return {@code True} if strings are written as is and with the string dictionary.
+     */
+    private static boolean isStringPair(byte typ1, byte typ2) {
+        return (typ1 == GridBinaryMarshaller.STRING || typ1 == GridBinaryMarshaller.STRING_DICT) &&
+            (typ2 == GridBinaryMarshaller.STRING || typ2 == GridBinaryMarshaller.STRING_DICT);
+    }
+
     /**
      * Compare arrays.
      *
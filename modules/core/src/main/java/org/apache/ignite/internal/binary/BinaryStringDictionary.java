@@ -0,0 +1,271 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.binary;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.binary.BinaryObjectException;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.lang.IgniteInClosure;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_BINARY_STRING_DICTIONARY_FIELD_CARDINALITY;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_BINARY_STRING_DICTIONARY_SIZE;
+
+/**
+ * Cluster-wide dictionary of repeated string field values.
+ * <p>
+ * String fields of cache values whose value is in the dictionary are written as {@link GridBinaryMarshaller#STRING_DICT}
+ * followed by the variable length encoded id. A value becomes a candidate when it is seen twice in a field that has
+ * not exceeded {@link IgniteSystemProperties#IGNITE_BINARY_STRING_DICTIONARY_FIELD_CARDINALITY} distinct values.
+ * Candidates are handed to the registrar, which publishes them in two steps: the value is first made known to
+ * all nodes for decoding and only then marked ready for encoding.
+ */
+public class BinaryStringDictionary {
+    /** Maximum length of a value that can be added to the dictionary. */
+    public static final int MAX_VALUE_LEN = 128;
+
+    /** Marker of a field with too many distinct values. */
+    private static final Set<String> HIGH_CARDINALITY = Collections.emptySet();
+
+    /** Maximum number of dictionary entries, {@code 0} if encoding is disabled. */
+    private final int maxSize = IgniteSystemProperties.getInteger(IGNITE_BINARY_STRING_DICTIONARY_SIZE, 0);
+
+    /** Maximum number of distinct values of a field which values are added to the dictionary. */
+    private final int fieldCardinality =
+        IgniteSystemProperties.getInteger(IGNITE_BINARY_STRING_DICTIONARY_FIELD_CARDINALITY, 64);
+
+    /** Values by ids, used for decoding. */
+    private final ConcurrentMap<Integer, String> vals = new ConcurrentHashMap<>();
+
+    /** Ids of values known to all nodes, used for encoding. */
+    private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+
+    /** Distinct values observed by field ID. */
+    private final ConcurrentMap<Integer, Set<String>> fieldVals = new ConcurrentHashMap<>();
+
+    /** Values being registered. */
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    /** Largest known id. */
+    private final AtomicInteger maxId = new AtomicInteger(-1);
+
+    /** Registrar of new values, {@code null} if values can't be registered at the moment. */
+    private volatile IgniteInClosure<String> registrar;
+
+    /**
+     * @return {@code True} if string fields of cache values marshalled on this node should be encoded.
+     */
+    public boolean encodingEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * @param registrar Registrar of new values or {@code null} to stop registration.
+     */
+    public void registrar(@Nullable IgniteInClosure<String> registrar) {
+        this.registrar = registrar;
+    }
+
+    /**
+     * Gets id to write instead of the value and tracks the value as a candidate if it is not in the dictionary.
+     *
+     * @param fieldId Field ID.
+     * @param val Value.
+     * @return Id or {@code -1} if the value must be written as is.
+     */
+    public int id(int fieldId, String val) {
+        Integer id = ids.get(val);
+
+        if (id != null)
+            return id;
+
+        if (val.length() <= MAX_VALUE_LEN)
+            onMiss(fieldId, val);
+
+        return -1;
+    }
+
+    /**
+     * @param fieldId Field ID.
+     * @param val Value which is not in the dictionary.
+     */
+    private void onMiss(int fieldId, String val) {
+        IgniteInClosure<String> registrar0 = registrar;
+
+        if (registrar0 == null || vals.size() >= maxSize)
+            return;
+
+        Set<String> seen = fieldVals.computeIfAbsent(fieldId, k -> ConcurrentHashMap.newKeySet());
+
+        if (seen == HIGH_CARDINALITY)
+            return;
+
+        if (seen.add(val)) {
+            if (seen.size() > fieldCardinality)
+                fieldVals.put(fieldId, HIGH_CARDINALITY);
+
+            return;
+        }
+
+        if (pending.add(val))
+            registrar0.apply(val);
+    }
+
+    /**
+     * @param id Id.
+     * @return Value.
+     * @throws BinaryObjectException If id is unknown.
+     */
+    public String value(int id) throws BinaryObjectException {
+        String val = vals.get(id);
+
+        if (val == null)
+            throw new BinaryObjectException("Unknown string dictionary id [id=" + id + ']');
+
+        return val;
+    }
+
+    /**
+     * @return Id to try for the next value.
+     */
+    public int nextId() {
+        return maxId.get() + 1;
+    }
+
+    /**
+     * Called when value is published for decoding.
+     *
+     * @param id Id.
+     * @param val Value.
+     */
+    public void onValueAdded(int id, String val) {
+        vals.put(id, val);
+
+        while (true) {
+            int max = maxId.get();
+
+            if (max >= id || maxId.compareAndSet(max, id))
+                break;
+        }
+    }
+
+    /**
+     * Called when value is known to all nodes and can be used for encoding.
+     *
+     * @param id Id.
+     * @param val Value.
+     */
+    public void onValueReady(int id, String val) {
+        onValueAdded(id, val);
+
+        ids.putIfAbsent(val, id);
+
+        pending.remove(val);
+    }
+
+    /**
+     * @param val Value which could not be registered.
+     */
+    public void onRegistrationFailed(String val) {
+        pending.remove(val);
+    }
+
+    /**
+     * @return Number of values in the dictionary.
+     */
+    public int size() {
+        return vals.size();
+    }
+
+    /**
+     * Clears local state. Called when the node is disconnected from the cluster.
+     */
+    public void clear() {
+        vals.clear();
+        ids.clear();
+        fieldVals.clear();
+        pending.clear();
+
+        maxId.set(-1);
+    }
+
+    /**
+     * Compares objects field by field decoding dictionary encoded strings. The same value can be written with
+     * and without the dictionary depending on when it was marshalled, so byte-wise equality is not enough.
+     *
+     * @param o1 First object.
+     * @param o2 Second object.
+     * @return {@code True} if both objects are of the same type with the same schema, have no raw data and all
+     *      their fields are equal.
+     */
+    public static boolean equalsDecoded(Object o1, Object o2) {
+        if (!(o1 instanceof BinaryObjectExImpl) || !(o2 instanceof BinaryObjectExImpl))
+            return false;
+
+        BinaryObjectExImpl obj1 = (BinaryObjectExImpl)o1;
+        BinaryObjectExImpl obj2 = (BinaryObjectExImpl)o2;
+
+        if (obj1.context().stringDictionary().size() == 0)
+            return false;
+
+        if (obj1.typeId() != obj2.typeId() || !obj1.hasSchema() || !obj2.hasSchema() || hasRaw(obj1) || hasRaw(obj2))
+            return false;
+
+        int[] fieldIds = obj1.createSchema().fieldIds();
+
+        if (!Arrays.equals(fieldIds, obj2.createSchema().fieldIds()))
+            return false;
+
+        BinarySerializedFieldComparator c1 = obj1.createFieldComparator();
+        BinarySerializedFieldComparator c2 = obj2.createFieldComparator();
+
+        for (int i = 0; i < fieldIds.length; i++) {
+            c1.findField(i);
+            c2.findField(i);
+
+            if (!BinarySerializedFieldComparator.equals(c1, c2))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @param obj Object.
+     * @return {@code True} if object has raw data.
+     */
+    private static boolean hasRaw(BinaryObjectExImpl obj) {
+        int off = obj.start() + GridBinaryMarshaller.FLAGS_POS;
+
+        short flags = obj.hasArray() ?
+            BinaryPrimitives.readShort(obj.array(), off) :
+            BinaryPrimitives.readShort(obj.offheapAddress(), off);
+
+        return BinaryUtils.hasRaw(flags);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(BinaryStringDictionary.class, this, "size", size());
+    }
+}
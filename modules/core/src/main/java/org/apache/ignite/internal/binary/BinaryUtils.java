@@ -27,6 +27,7 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.ArrayList;
@@ -57,8 +58,13 @@ import org.apache.ignite.binary.BinaryRawReader;
 import org.apache.ignite.binary.BinaryRawWriter;
 import org.apache.ignite.binary.BinaryType;
 import org.apache.ignite.binary.Binarylizable;
+import org.apache.ignite.configuration.BinaryConfiguration;
 import org.apache.ignite.internal.binary.builder.BinaryLazyValue;
+import org.apache.ignite.internal.binary.streams.BinaryByteBufferInputStream;
+import org.apache.ignite.internal.binary.streams.BinaryHeapInputStream;
 import org.apache.ignite.internal.binary.streams.BinaryInputStream;
+import org.apache.ignite.internal.binary.streams.BinaryOffheapInputStream;
+import org.apache.ignite.internal.binary.streams.BinaryOutputStream;
 import org.apache.ignite.internal.processors.cache.CacheObjectByteArrayImpl;
 import org.apache.ignite.internal.processors.cache.CacheObjectImpl;
 import org.apache.ignite.internal.processors.cache.KeyCacheObjectImpl;
@@ -143,6 +149,16 @@ public class BinaryUtils {
     public static final boolean FIELDS_SORTED_ORDER =
         IgniteSystemProperties.getBoolean(IgniteSystemProperties.IGNITE_BINARY_SORT_OBJECT_FIELDS);
 
+    /**
+     * Whether to write int and long fields with variable length encoding when binary configuration is not set
+     * (see {@link BinaryConfiguration#isVarintFields()}).
+     */
+    public static final boolean VARINT_FIELDS =
+        IgniteSystemProperties.getBoolean(IgniteSystemProperties.IGNITE_BINARY_VARINT_FIELDS);
+
+    /** Maximum length of variable length encoded value. */
+    public static final int VARLONG_MAX_LEN = 10;
+
     /** Field type names. */
     private static final String[] FIELD_TYPE_NAMES;
 
@@ -203,7 +219,8 @@ public class BinaryUtils {
             GridBinaryMarshaller.CHAR, GridBinaryMarshaller.BOOLEAN, GridBinaryMarshaller.DECIMAL, GridBinaryMarshaller.STRING, GridBinaryMarshaller.UUID, GridBinaryMarshaller.DATE, GridBinaryMarshaller.TIMESTAMP, GridBinaryMarshaller.TIME,
             GridBinaryMarshaller.BYTE_ARR, GridBinaryMarshaller.SHORT_ARR, GridBinaryMarshaller.INT_ARR, GridBinaryMarshaller.LONG_ARR, GridBinaryMarshaller.FLOAT_ARR, GridBinaryMarshaller.DOUBLE_ARR, GridBinaryMarshaller.TIME_ARR,
             GridBinaryMarshaller.CHAR_ARR, GridBinaryMarshaller.BOOLEAN_ARR, GridBinaryMarshaller.DECIMAL_ARR, GridBinaryMarshaller.STRING_ARR, GridBinaryMarshaller.UUID_ARR, GridBinaryMarshaller.DATE_ARR, GridBinaryMarshaller.TIMESTAMP_ARR,
-            GridBinaryMarshaller.ENUM, GridBinaryMarshaller.ENUM_ARR, GridBinaryMarshaller.NULL}) {
+            GridBinaryMarshaller.ENUM, GridBinaryMarshaller.ENUM_ARR, GridBinaryMarshaller.NULL,
+            GridBinaryMarshaller.VARINT, GridBinaryMarshaller.VARLONG}) {
 
             PLAIN_TYPE_FLAG[b] = true;
         }
@@ -243,6 +260,9 @@ public class BinaryUtils {
         FIELD_TYPE_NAMES[GridBinaryMarshaller.SHORT] = "short";
         FIELD_TYPE_NAMES[GridBinaryMarshaller.INT] = "int";
         FIELD_TYPE_NAMES[GridBinaryMarshaller.LONG] = "long";
+        FIELD_TYPE_NAMES[GridBinaryMarshaller.VARINT] = "int";
+        FIELD_TYPE_NAMES[GridBinaryMarshaller.VARLONG] = "long";
+        FIELD_TYPE_NAMES[GridBinaryMarshaller.STRING_DICT] = "String";
         FIELD_TYPE_NAMES[GridBinaryMarshaller.BOOLEAN] = "boolean";
         FIELD_TYPE_NAMES[GridBinaryMarshaller.FLOAT] = "float";
         FIELD_TYPE_NAMES[GridBinaryMarshaller.DOUBLE] = "double";
@@ -1319,6 +1339,90 @@ public class BinaryUtils {
         return res;
     }
 
+    /**
+     * Writes value with zigzag variable length encoding: 7 bits per byte starting from the lowest ones, high bit
+     * is set on all bytes but the last. Small positive and negative values take a single byte. The stream must
+     * have at least {@link #VARLONG_MAX_LEN} bytes of free space.
+     *
+     * @param out Output stream.
+     * @param val Value.
+     */
+    public static void unsafeWriteVarLong(BinaryOutputStream out, long val) {
+        long v = (val << 1) ^ (val >> 63);
+
+        while ((v & ~0x7FL) != 0) {
+            out.unsafeWriteByte((byte)(v | 0x80));
+
+            v >>>= 7;
+        }
+
+        out.unsafeWriteByte((byte)v);
+    }
+
+    /**
+     * Reads value written by {@link #unsafeWriteVarLong(BinaryOutputStream, long)} and moves the stream past it.
+     *
+     * @param in Input stream.
+     * @return Value.
+     */
+    public static long doReadVarLong(BinaryInputStream in) {
+        long v = 0;
+
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.readByte();
+
+            v |= (long)(b & 0x7F) << shift;
+
+            if (b >= 0)
+                break;
+
+            if (shift > 56)
+                throw new BinaryObjectException("Malformed variable length value.");
+        }
+
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    /**
+     * @param arr Array.
+     * @param off Offset of the first byte of the value.
+     * @return Value written by {@link #unsafeWriteVarLong(BinaryOutputStream, long)}.
+     */
+    public static long readVarLong(byte[] arr, int off) {
+        return doReadVarLong(BinaryHeapInputStream.create(arr, off));
+    }
+
+    /**
+     * @param ptr Pointer.
+     * @param off Offset of the first byte of the value.
+     * @return Value written by {@link #unsafeWriteVarLong(BinaryOutputStream, long)}.
+     */
+    public static long readVarLong(long ptr, int off) {
+        return doReadVarLong(new BinaryOffheapInputStream(ptr + off, VARLONG_MAX_LEN));
+    }
+
+    /**
+     * @param buf Buffer positioned at the first byte of the value, positioned after the value on return.
+     * @return Value written by {@link #unsafeWriteVarLong(BinaryOutputStream, long)}.
+     */
+    public static long readVarLong(ByteBuffer buf) {
+        return doReadVarLong(BinaryByteBufferInputStream.create(buf));
+    }
+
+    /**
+     * @param arr Array.
+     * @param off Offset of the first byte of the value.
+     * @return Length in bytes of the variable length encoded value.
+     */
+    public static int varLongLength(byte[] arr, int off) {
+        int len = 1;
+
+        while (arr[off++] < 0)
+            len++;
+
+        return len;
+    }
+
     /**
      * @return Value.
      */
@@ -1887,6 +1991,12 @@ public class BinaryUtils {
             case GridBinaryMarshaller.LONG:
                 return in.readLong();
 
+            case GridBinaryMarshaller.VARINT:
+                return (int)doReadVarLong(in);
+
+            case GridBinaryMarshaller.VARLONG:
+                return doReadVarLong(in);
+
             case GridBinaryMarshaller.FLOAT:
                 return in.readFloat();
 
@@ -1905,6 +2015,9 @@ public class BinaryUtils {
             case GridBinaryMarshaller.STRING:
                 return doReadString(in);
 
+            case GridBinaryMarshaller.STRING_DICT:
+                return ctx.stringDictionary().value((int)doReadVarLong(in));
+
             case GridBinaryMarshaller.UUID:
                 return doReadUuid(in);
 
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.binary;
+
+import org.apache.ignite.binary.BinaryObjectException;
+import org.apache.ignite.binary.BinaryWriter;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Extended writer interface.
+ * <p>
+ * Adds fields of primitive wrapper types, which are written and described in metadata exactly as wrapper fields
+ * of classes serialized with reflection, including {@code null} values.
+ */
+public interface BinaryWriterEx extends BinaryWriter {
+    /**
+     * @param fieldName Field name.
+     * @param val Value.
+     * @throws BinaryObjectException In case of error.
+     */
+    public void writeByteNullable(String fieldName, @Nullable Byte val) throws BinaryObjectException;
+
+    /**
+     * @param fieldName Field name.
+     * @param val Value.
+     * @throws BinaryObjectException In case of error.
+     */
+    public void writeShortNullable(String fieldName, @Nullable Short val) throws BinaryObjectException;
+
+    /**
+     * @param fieldName Field name.
+     * @param val Value.
+     * @throws BinaryObjectException In case of error.
+     */
+    public void writeIntNullable(String fieldName, @Nullable Integer val) throws BinaryObjectException;
+
+    /**
+     * @param fieldName Field name.
+     * @param val Value.
+     * @throws BinaryObjectException In case of error.
+     */
+    public void writeLongNullable(String fieldName, @Nullable Long val) throws BinaryObjectException;
+
+    /**
+     * @param fieldName Field name.
+     * @param val Value.
+     * @throws BinaryObjectException In case of error.
+     */
+    public void writeFloatNullable(String fieldName, @Nullable Float val) throws BinaryObjectException;
+
+    /**
+     * @param fieldName Field name.
+     * @param val Value.
+     * @throws BinaryObjectException In case of error.
+     */
+    public void writeDoubleNullable(String fieldName, @Nullable Double val) throws BinaryObjectException;
+
+    /**
+     * @param fieldName Field name.
+     * @param val Value.
+     * @throws BinaryObjectException In case of error.
+     */
+    public void writeCharNullable(String fieldName, @Nullable Character val) throws BinaryObjectException;
+
+    /**
+     * @param fieldName Field name.
+     * @param val Value.
+     * @throws BinaryObjectException In case of error.
+     */
+    public void writeBooleanNullable(String fieldName, @Nullable Boolean val) throws BinaryObjectException;
+}
@@ -31,7 +31,6 @@ import java.util.UUID;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.binary.BinaryObjectException;
 import org.apache.ignite.binary.BinaryRawWriter;
-import org.apache.ignite.binary.BinaryWriter;
 import org.apache.ignite.internal.UnregisteredClassException;
 import org.apache.ignite.internal.binary.streams.BinaryHeapOutputStream;
 import org.apache.ignite.internal.binary.streams.BinaryOutputStream;
@@ -45,7 +44,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 /**
  * Binary writer implementation.
  */
-public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, ObjectOutput {
+public class BinaryWriterExImpl implements BinaryWriterEx, BinaryRawWriterEx, ObjectOutput {
     /** Length: integer. */
     private static final int LEN_INT = 4;
 
@@ -85,6 +84,18 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
     /** */
     private boolean failIfUnregistered;
 
+    /** Dictionary to encode string fields with, not propagated to nested objects. */
+    private BinaryStringDictionary strDict;
+
+    /** ID of the last written field. */
+    private int lastFieldId;
+
+    /** Schema the named fields are expected to be written in, {@code null} once a field is written out of order. */
+    private BinarySchema matchingSchema;
+
+    /** Expected order of the next named field in {@link #matchingSchema}. */
+    private int matchingOrder;
+
     /**
      * @param ctx Context.
      */
@@ -129,6 +140,13 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
         this.failIfUnregistered = failIfUnregistered;
     }
 
+    /**
+     * @param strDict Dictionary to encode string fields with or {@code null} to write them as is.
+     */
+    public void stringDictionary(@Nullable BinaryStringDictionary strDict) {
+        this.strDict = strDict;
+    }
+
     /**
      * @param typeId Type ID.
      */
@@ -136,6 +154,16 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
         this.typeId = typeId;
     }
 
+    /**
+     * Sets schema of a previously written object of the same type. While named fields are written in the order of
+     * this schema, their IDs are taken from it without name mapping.
+     *
+     * @param matchingSchema Expected schema or {@code null} to map every field name.
+     */
+    void matchingSchema(@Nullable BinarySchema matchingSchema) {
+        this.matchingSchema = matchingSchema;
+    }
+
     /**
      * Close the writer releasing resources if necessary.
      */
@@ -1036,9 +1064,23 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
     /**
      * @param val Value.
      */
-    void writeIntField(@Nullable Integer val) {
+    public void writeVarIntFieldPrimitive(int val) {
+        out.unsafeEnsure(1 + BinaryUtils.VARLONG_MAX_LEN);
+
+        out.unsafeWriteByte(GridBinaryMarshaller.VARINT);
+        BinaryUtils.unsafeWriteVarLong(out, val);
+    }
+
+    /**
+     * Writes int field of an object with the encoding configured by {@link BinaryContext#isVarintFields()}.
+     *
+     * @param val Value.
+     */
+    public void writeIntField(@Nullable Integer val) {
         if (val == null)
             out.writeByte(GridBinaryMarshaller.NULL);
+        else if (ctx.isVarintFields())
+            writeVarIntFieldPrimitive(val);
         else
             writeIntFieldPrimitive(val);
     }
@@ -1056,9 +1098,23 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
     /**
      * @param val Value.
      */
-    void writeLongField(@Nullable Long val) {
+    public void writeVarLongFieldPrimitive(long val) {
+        out.unsafeEnsure(1 + BinaryUtils.VARLONG_MAX_LEN);
+
+        out.unsafeWriteByte(GridBinaryMarshaller.VARLONG);
+        BinaryUtils.unsafeWriteVarLong(out, val);
+    }
+
+    /**
+     * Writes long field of an object with the encoding configured by {@link BinaryContext#isVarintFields()}.
+     *
+     * @param val Value.
+     */
+    public void writeLongField(@Nullable Long val) {
         if (val == null)
             out.writeByte(GridBinaryMarshaller.NULL);
+        else if (ctx.isVarintFields())
+            writeVarLongFieldPrimitive(val);
         else
             writeLongFieldPrimitive(val);
     }
@@ -1154,7 +1210,16 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
      * @param val Value.
      */
     void writeStringField(@Nullable String val) {
-        doWriteString(val);
+        int id;
+
+        if (val != null && strDict != null && (id = strDict.id(lastFieldId, val)) >= 0) {
+            out.unsafeEnsure(1 + BinaryUtils.VARLONG_MAX_LEN);
+
+            out.unsafeWriteByte(GridBinaryMarshaller.STRING_DICT);
+            BinaryUtils.unsafeWriteVarLong(out, id);
+        }
+        else
+            doWriteString(val);
     }
 
     /**
@@ -1343,6 +1408,12 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
         writeByteField(val);
     }
 
+    /** {@inheritDoc} */
+    @Override public void writeByteNullable(String fieldName, @Nullable Byte val) throws BinaryObjectException {
+        writeFieldId(fieldName);
+        writeByteField(val);
+    }
+
     /** {@inheritDoc} */
     @Override public void writeByte(byte val) throws BinaryObjectException {
         out.writeByte(val);
@@ -1354,6 +1425,12 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
         writeShortField(val);
     }
 
+    /** {@inheritDoc} */
+    @Override public void writeShortNullable(String fieldName, @Nullable Short val) throws BinaryObjectException {
+        writeFieldId(fieldName);
+        writeShortField(val);
+    }
+
     /** {@inheritDoc} */
     @Override public void writeShort(short val) throws BinaryObjectException {
         out.writeShort(val);
@@ -1365,6 +1442,12 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
         writeIntField(val);
     }
 
+    /** {@inheritDoc} */
+    @Override public void writeIntNullable(String fieldName, @Nullable Integer val) throws BinaryObjectException {
+        writeFieldId(fieldName);
+        writeIntField(val);
+    }
+
     /** {@inheritDoc} */
     @Override public void writeInt(int val) throws BinaryObjectException {
         out.writeInt(val);
@@ -1376,6 +1459,36 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
         writeLongField(val);
     }
 
+    /** {@inheritDoc} */
+    @Override public void writeLongNullable(String fieldName, @Nullable Long val) throws BinaryObjectException {
+        writeFieldId(fieldName);
+        writeLongField(val);
+    }
+
+    /**
+     * Writes int field with variable length encoding regardless of {@link BinaryContext#isVarintFields()}.
+     *
+     * @param fieldName Field name.
+     * @param val Value.
+     * @throws BinaryObjectException In case of error.
+     */
+    public void writeVarInt(String fieldName, int val) throws BinaryObjectException {
+        writeFieldId(fieldName);
+        writeVarIntFieldPrimitive(val);
+    }
+
+    /**
+     * Writes long field with variable length encoding regardless of {@link BinaryContext#isVarintFields()}.
+     *
+     * @param fieldName Field name.
+     * @param val Value.
+     * @throws BinaryObjectException In case of error.
+     */
+    public void writeVarLong(String fieldName, long val) throws BinaryObjectException {
+        writeFieldId(fieldName);
+        writeVarLongFieldPrimitive(val);
+    }
+
     /** {@inheritDoc} */
     @Override public void writeLong(long val) throws BinaryObjectException {
         out.writeLong(val);
@@ -1387,6 +1500,12 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
         writeFloatField(val);
     }
 
+    /** {@inheritDoc} */
+    @Override public void writeFloatNullable(String fieldName, @Nullable Float val) throws BinaryObjectException {
+        writeFieldId(fieldName);
+        writeFloatField(val);
+    }
+
     /** {@inheritDoc} */
     @Override public void writeFloat(float val) throws BinaryObjectException {
         out.writeFloat(val);
@@ -1398,6 +1517,12 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
         writeDoubleField(val);
     }
 
+    /** {@inheritDoc} */
+    @Override public void writeDoubleNullable(String fieldName, @Nullable Double val) throws BinaryObjectException {
+        writeFieldId(fieldName);
+        writeDoubleField(val);
+    }
+
     /** {@inheritDoc} */
     @Override public void writeDouble(double val) throws BinaryObjectException {
         out.writeDouble(val);
@@ -1409,6 +1534,12 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
         writeCharField(val);
     }
 
+    /** {@inheritDoc} */
+    @Override public void writeCharNullable(String fieldName, @Nullable Character val) throws BinaryObjectException {
+        writeFieldId(fieldName);
+        writeCharField(val);
+    }
+
     /** {@inheritDoc} */
     @Override public void writeChar(char val) throws BinaryObjectException {
         out.writeChar(val);
@@ -1420,6 +1551,12 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
         writeBooleanField(val);
     }
 
+    /** {@inheritDoc} */
+    @Override public void writeBooleanNullable(String fieldName, @Nullable Boolean val) throws BinaryObjectException {
+        writeFieldId(fieldName);
+        writeBooleanField(val);
+    }
+
     /** {@inheritDoc} */
     @Override public void writeBoolean(boolean val) throws BinaryObjectException {
         out.writeBoolean(val);
@@ -1817,14 +1954,49 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
         if (rawOffPos != 0)
             throw new BinaryObjectException("Individual field can't be written after raw writer is acquired.");
 
+        if (matchingSchema != null) {
+            int expOrder = matchingOrder++;
+
+            BinarySchema.Confirmation confirm = matchingSchema.confirmOrder(expOrder, fieldName);
+
+            if (confirm == BinarySchema.Confirmation.CONFIRMED) {
+                // The best case: got ID without name mapping, the same way the reader confirms field order.
+                writeFieldId(matchingSchema.fieldId(expOrder));
+
+                return;
+            }
+
+            if (confirm == BinarySchema.Confirmation.CLARIFY) {
+                int id = fieldId(fieldName);
+
+                if (id == matchingSchema.fieldId(expOrder))
+                    matchingSchema.clarifyFieldName(expOrder, fieldName);
+                else
+                    matchingSchema = null;
+
+                writeFieldId(id);
+
+                return;
+            }
+
+            // Rejected, no more speculations are possible.
+            matchingSchema = null;
+        }
+
+        writeFieldId(fieldId(fieldName));
+    }
+
+    /**
+     * @param fieldName Field name.
+     * @return Field ID.
+     */
+    private int fieldId(String fieldName) {
         if (mapper == null)
             mapper = ctx.userTypeMapper(typeId);
 
         assert mapper != null;
 
-        int id = mapper.fieldId(typeId, fieldName);
-
-        writeFieldId(id);
+        return mapper.fieldId(typeId, fieldName);
     }
 
     /**
@@ -1840,6 +2012,8 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
         schema.push(fieldId, fieldOff);
 
         fieldCnt++;
+
+        lastFieldId = fieldId;
     }
 
     /**
@@ -1854,6 +2028,8 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
         schema.push(fieldId, fieldOff);
 
         fieldCnt++;
+
+        lastFieldId = fieldId;
     }
 
     /**
@@ -149,6 +149,15 @@ public class GridBinaryMarshaller {
     /** Binary enum */
     public static final byte BINARY_ENUM = 38;
 
+    /** Int field with variable length encoding. */
+    public static final byte VARINT = 39;
+
+    /** Long field with variable length encoding. */
+    public static final byte VARLONG = 40;
+
+    /** String field written as variable length encoded id in {@link BinaryStringDictionary}. */
+    public static final byte STRING_DICT = 41;
+
     /** */
     public static final byte NULL = (byte)101;
 
@@ -238,11 +247,25 @@ public class GridBinaryMarshaller {
      * @throws org.apache.ignite.binary.BinaryObjectException In case of error.
      */
     public byte[] marshal(@Nullable Object obj, boolean failIfUnregistered) throws BinaryObjectException {
+        return marshal(obj, failIfUnregistered, null);
+    }
+
+    /**
+     * @param obj Object to marshal.
+     * @param failIfUnregistered Throw exception if class isn't registered.
+     * @param strDict Dictionary to encode string fields of the top level object with, {@code null} to write
+     *      them as is.
+     * @return Byte array.
+     * @throws org.apache.ignite.binary.BinaryObjectException In case of error.
+     */
+    public byte[] marshal(@Nullable Object obj, boolean failIfUnregistered, @Nullable BinaryStringDictionary strDict)
+        throws BinaryObjectException {
         if (obj == null)
             return new byte[] { NULL };
 
         try (BinaryWriterExImpl writer = new BinaryWriterExImpl(ctx)) {
             writer.failIfUnregistered(failIfUnregistered);
+            writer.stringDictionary(strDict);
 
             writer.marshal(obj);
 
@@ -261,6 +261,13 @@ public class BinaryBuilderReader implements BinaryPositionReadable {
 
                 break;
 
+            case GridBinaryMarshaller.VARINT:
+            case GridBinaryMarshaller.VARLONG:
+            case GridBinaryMarshaller.STRING_DICT:
+                len = BinaryUtils.varLongLength(arr, pos);
+
+                break;
+
             case GridBinaryMarshaller.BYTE_ARR:
             case GridBinaryMarshaller.BOOLEAN_ARR:
                 len = 4 + readLength();
@@ -417,6 +424,15 @@ public class BinaryBuilderReader implements BinaryPositionReadable {
             case GridBinaryMarshaller.LONG:
                 return BinaryPrimitives.readLong(arr, pos + 1);
 
+            case GridBinaryMarshaller.VARINT:
+                return (int)BinaryUtils.readVarLong(arr, pos + 1);
+
+            case GridBinaryMarshaller.VARLONG:
+                return BinaryUtils.readVarLong(arr, pos + 1);
+
+            case GridBinaryMarshaller.STRING_DICT:
+                return ctx.stringDictionary().value((int)BinaryUtils.readVarLong(arr, pos + 1));
+
             case GridBinaryMarshaller.FLOAT:
                 return BinaryPrimitives.readFloat(arr, pos + 1);
 
@@ -555,6 +571,24 @@ public class BinaryBuilderReader implements BinaryPositionReadable {
             case GridBinaryMarshaller.INT:
                 return readInt();
 
+            case GridBinaryMarshaller.VARINT: {
+                Object res = (int)BinaryUtils.readVarLong(arr, pos);
+                pos += BinaryUtils.varLongLength(arr, pos);
+                return res;
+            }
+
+            case GridBinaryMarshaller.VARLONG: {
+                Object res = BinaryUtils.readVarLong(arr, pos);
+                pos += BinaryUtils.varLongLength(arr, pos);
+                return res;
+            }
+
+            case GridBinaryMarshaller.STRING_DICT: {
+                Object res = ctx.stringDictionary().value((int)BinaryUtils.readVarLong(arr, pos));
+                pos += BinaryUtils.varLongLength(arr, pos);
+                return res;
+            }
+
             case GridBinaryMarshaller.LONG:
                 plainLazyValLen = 8;
 
@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.IdentityHashMap;
 import java.util.Map;
 import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.internal.binary.BinaryContext;
 import org.apache.ignite.internal.binary.BinaryEnumObjectImpl;
 import org.apache.ignite.internal.binary.BinaryObjectExImpl;
 import org.apache.ignite.internal.binary.BinaryUtils;
@@ -53,6 +54,25 @@ class BinaryBuilderSerializer {
         writeValue(writer, val, false, false);
     }
 
+    /**
+     * Writes value of an object field. Int and long values are written with the encoding configured by
+     * {@link BinaryContext#isVarintFields()} like fields of serialized classes, so that an object built by the builder
+     * has the same bytes and hash code as the same object serialized from a class instance.
+     *
+     * @param writer Writer.
+     * @param val Value.
+     */
+    public void writeFieldValue(BinaryWriterExImpl writer, Object val) {
+        Object plainVal = val instanceof BinaryValueWithType ? ((BinaryValueWithType)val).value() : val;
+
+        if (plainVal instanceof Integer)
+            writer.writeIntField((Integer)plainVal);
+        else if (plainVal instanceof Long)
+            writer.writeLongField((Long)plainVal);
+        else
+            writeValue(writer, val);
+    }
+
     /**     *
      * @param writer Writer.
      * @param val Value.
@@ -264,7 +264,7 @@ public class BinaryObjectBuilderImpl implements BinaryObjectBuilder {
                         if (assignedVal != REMOVED_FIELD_MARKER) {
                             writer.writeFieldId(fieldId);
 
-                            serializer.writeValue(writer, assignedVal);
+                            serializer.writeFieldValue(writer, assignedVal);
                         }
                     }
                     else {
@@ -290,7 +290,7 @@ public class BinaryObjectBuilderImpl implements BinaryObjectBuilder {
                             else
                                 val = readCache.get(fieldId);
 
-                            serializer.writeValue(writer, val);
+                            serializer.writeFieldValue(writer, val);
                         }
                     }
 
@@ -314,7 +314,7 @@ public class BinaryObjectBuilderImpl implements BinaryObjectBuilder {
 
                     writer.writeFieldId(fieldId);
 
-                    serializer.writeValue(writer, val);
+                    serializer.writeFieldValue(writer, val);
 
                     if (reader == null)
                         // Metadata has already been checked.
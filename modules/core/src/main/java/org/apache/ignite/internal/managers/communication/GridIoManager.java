@@ -50,6 +50,7 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.events.DiscoveryEvent;
 import org.apache.ignite.events.Event;
@@ -70,8 +71,10 @@ import org.apache.ignite.internal.managers.discovery.CustomEventListener;
 import org.apache.ignite.internal.managers.discovery.IgniteDiscoverySpi;
 import org.apache.ignite.internal.managers.eventstorage.GridEventStorageManager;
 import org.apache.ignite.internal.managers.eventstorage.GridLocalEventListener;
+import org.apache.ignite.internal.processors.cache.GridCacheMessage;
 import org.apache.ignite.internal.processors.cache.mvcc.msg.MvccMessage;
 import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.processors.platform.message.PlatformMessageFilter;
 import org.apache.ignite.internal.processors.pool.PoolProcessor;
 import org.apache.ignite.internal.processors.security.OperationSecurityContext;
@@ -115,6 +118,7 @@ import org.apache.ignite.spi.communication.tcp.internal.TcpInverseConnectionResp
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_CACHE_NIO_THREAD_PROCESSING;
 import static org.apache.ignite.events.EventType.EVT_NODE_FAILED;
 import static org.apache.ignite.events.EventType.EVT_NODE_JOINED;
 import static org.apache.ignite.events.EventType.EVT_NODE_LEFT;
@@ -169,6 +173,9 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Serializa
     /** Received bytes count metric name. */
     public static final String RCVD_BYTES_CNT = "ReceivedBytesCount";
 
+    /** Count of messages processed in communication threads metric name. */
+    public static final String NIO_THREAD_PROCESSED_MSGS_CNT = "NioThreadProcessedMessagesCount";
+
     /** Empty array of message factories. */
     public static final MessageFactory[] EMPTY = {};
 
@@ -199,6 +206,9 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Serializa
     /** Pool processor. */
     private final PoolProcessor pools;
 
+    /** Sampled latency histograms of incoming messages processing. */
+    private final GridIoTimingMetrics timingMetrics;
+
     /** Discovery listener. */
     private GridLocalEventListener discoLsnr;
 
@@ -254,6 +264,13 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Serializa
     /** No-op runnable. */
     private static final IgniteRunnable NOOP = () -> {};
 
+    /** Whether single-key cache requests are processed in communication threads. */
+    private final boolean nioThreadProcessing =
+        IgniteSystemProperties.getBoolean(IGNITE_ATOMIC_CACHE_NIO_THREAD_PROCESSING);
+
+    /** Count of messages processed in communication threads. */
+    private final LongAdderMetric nioThreadProcessedMsgs;
+
     /**
      * @param ctx Grid kernal context.
      */
@@ -288,6 +305,11 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Serializa
             "Received messages count.");
 
         ioMetric.register(RCVD_BYTES_CNT, spi::getReceivedBytesCount, "Received bytes count.");
+
+        nioThreadProcessedMsgs = ioMetric.longAdderMetric(NIO_THREAD_PROCESSED_MSGS_CNT,
+            "Count of messages processed in communication threads without handoff to a thread pool.");
+
+        timingMetrics = new GridIoTimingMetrics(ioMetric);
     }
 
     /**
@@ -1145,8 +1167,12 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Serializa
         final GridIoMessage msg,
         final IgniteRunnable msgC
     ) {
+        final long queuedTs = timingMetrics.sample();
+
         Runnable c = new Runnable() {
             @Override public void run() {
+                long procTs = timingMetrics.onPoolDequeued(P2P_POOL, queuedTs);
+
                 try {
                     threadProcessingMessage(true, msgC);
 
@@ -1164,6 +1190,8 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Serializa
                 finally {
                     threadProcessingMessage(false, null);
 
+                    timingMetrics.onProcessed(msg.message().directType(), procTs);
+
                     msgC.run();
                 }
             }
@@ -1194,8 +1222,12 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Serializa
         final byte plc,
         final IgniteRunnable msgC
     ) throws IgniteCheckedException {
+        final long queuedTs = timingMetrics.sample();
+
         Runnable c = new TraceRunnable(ctx.tracing(), COMMUNICATION_REGULAR_PROCESS) {
             @Override public void execute() {
+                long procTs = timingMetrics.onPoolDequeued(plc, queuedTs);
+
                 try {
                     MTC.span().addTag(SpanTags.MESSAGE, () -> traceName(msg));
 
@@ -1226,6 +1258,8 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Serializa
                 } finally {
                     threadProcessingMessage(false, null);
 
+                    timingMetrics.onProcessed(msg.message().directType(), procTs);
+
                     msgC.run();
                 }
             }
@@ -1261,6 +1295,15 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Serializa
 
         final int part = msg.partition(); // Store partition to avoid possible recalculation.
 
+        if (nioThreadProcessing && plc == GridIoPolicy.SYSTEM_POOL && msg.message() instanceof GridCacheMessage &&
+            ((GridCacheMessage)msg.message()).processFromNioThread(ctx.cache().context())) {
+            nioThreadProcessedMsgs.increment();
+
+            c.run();
+
+            return;
+        }
+
         if (plc == GridIoPolicy.SYSTEM_POOL && part != GridIoMessage.STRIPE_DISABLED_PART) {
             ctx.getStripedExecutorService().execute(part, c);
 
@@ -1624,8 +1667,12 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Serializa
 
         final GridCommunicationMessageSet msgSet0 = set;
 
+        final long queuedTs = timingMetrics.sample();
+
         Runnable c = new Runnable() {
             @Override public void run() {
+                long procTs = timingMetrics.onPoolDequeued(plc, queuedTs);
+
                 try {
                     threadProcessingMessage(true, msgC);
 
@@ -1633,6 +1680,9 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Serializa
                 }
                 finally {
                     threadProcessingMessage(false, null);
+
+                    // Messages of the set queued meanwhile are unwound together with this one and counted here.
+                    timingMetrics.onProcessed(msg.message().directType(), procTs);
                 }
             }
         };
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.managers.communication;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetric;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_IO_TIMING_METRICS_SAMPLE_RATE;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+
+/**
+ * Sampled latency histograms of incoming communication messages processing.
+ * <p>
+ * Only one of {@link #sampleRate} messages is measured, so the cost of not sampled message is a single
+ * {@link ThreadLocalRandom} call. Histograms are created lazily in the {@link GridIoManager#COMM_METRICS}
+ * registry:
+ * <ul>
+ *     <li>{@code PoolWaitTime.<policy>} - time between message dispatch by the NIO thread and the start
+ *     of its processing in the pool of the given {@link GridIoPolicy};</li>
+ *     <li>{@code ProcessingTime.<directType>} - time the listener spent processing message of the given type.</li>
+ * </ul>
+ */
+public class GridIoTimingMetrics {
+    /** Default sample rate. */
+    public static final int DFLT_SAMPLE_RATE = 64;
+
+    /** Pool wait time histogram name prefix. */
+    public static final String POOL_WAIT_TIME = "PoolWaitTime";
+
+    /** Message processing time histogram name prefix. */
+    public static final String PROCESSING_TIME = "ProcessingTime";
+
+    /** Histogram bounds in nanoseconds. */
+    public static final long[] HISTOGRAM_BOUNDS = new long[] {
+        NANOSECONDS.convert(10, MICROSECONDS),
+        NANOSECONDS.convert(50, MICROSECONDS),
+        NANOSECONDS.convert(100, MICROSECONDS),
+        NANOSECONDS.convert(500, MICROSECONDS),
+        NANOSECONDS.convert(1, MILLISECONDS),
+        NANOSECONDS.convert(5, MILLISECONDS),
+        NANOSECONDS.convert(10, MILLISECONDS),
+        NANOSECONDS.convert(50, MILLISECONDS),
+        NANOSECONDS.convert(100, MILLISECONDS),
+        NANOSECONDS.convert(1000, MILLISECONDS)
+    };
+
+    /** Metric registry. */
+    private final MetricRegistry mreg;
+
+    /** One of {@code sampleRate} messages is measured, {@code 0} disables measurements. */
+    private final int sampleRate;
+
+    /** Pool wait time histograms indexed by policy. */
+    private final AtomicReferenceArray<HistogramMetric> poolWaitTime =
+        new AtomicReferenceArray<>(Byte.MAX_VALUE + 1);
+
+    /** Processing time histograms by message direct type. */
+    private final ConcurrentMap<Short, HistogramMetric> processingTime = new ConcurrentHashMap<>();
+
+    /**
+     * @param mreg Metric registry.
+     */
+    public GridIoTimingMetrics(MetricRegistry mreg) {
+        this(mreg, IgniteSystemProperties.getInteger(IGNITE_IO_TIMING_METRICS_SAMPLE_RATE, DFLT_SAMPLE_RATE));
+    }
+
+    /**
+     * @param mreg Metric registry.
+     * @param sampleRate One of {@code sampleRate} messages is measured, {@code 0} disables measurements.
+     */
+    GridIoTimingMetrics(MetricRegistry mreg, int sampleRate) {
+        assert sampleRate >= 0 : sampleRate;
+
+        this.mreg = mreg;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Decides whether current message should be measured.
+     *
+     * @return Start timestamp in nanoseconds if message is sampled, {@code 0} otherwise.
+     */
+    public long sample() {
+        if (sampleRate == 0 || (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0))
+            return 0;
+
+        long ts = System.nanoTime();
+
+        // Zero is reserved for "not sampled".
+        return ts == 0 ? 1 : ts;
+    }
+
+    /**
+     * Records pool wait time of a sampled message.
+     *
+     * @param plc Policy of the pool.
+     * @param startTs Timestamp returned by {@link #sample()}.
+     * @return Current timestamp to be used as processing start or {@code 0} if message is not sampled.
+     */
+    public long onPoolDequeued(byte plc, long startTs) {
+        if (startTs == 0 || plc < 0)
+            return 0;
+
+        long now = System.nanoTime();
+
+        HistogramMetric hist = poolWaitTime.get(plc);
+
+        if (hist == null) {
+            hist = mreg.histogram(metricName(POOL_WAIT_TIME, String.valueOf(plc)), HISTOGRAM_BOUNDS,
+                "Time in nanoseconds messages wait in the queue of the pool with policy " + plc + '.');
+
+            poolWaitTime.compareAndSet(plc, null, hist);
+        }
+
+        hist.value(Math.max(0, now - startTs));
+
+        return now == 0 ? 1 : now;
+    }
+
+    /**
+     * Records processing time of a sampled message.
+     *
+     * @param directType Message direct type.
+     * @param startTs Timestamp returned by {@link #onPoolDequeued(byte, long)}.
+     */
+    public void onProcessed(short directType, long startTs) {
+        if (startTs == 0)
+            return;
+
+        HistogramMetric hist = processingTime.computeIfAbsent(directType, t -> mreg.histogram(
+            metricName(PROCESSING_TIME, String.valueOf(t)), HISTOGRAM_BOUNDS,
+            "Time in nanoseconds spent by listener processing messages of type " + t + '.'));
+
+        hist.value(Math.max(0, System.nanoTime() - startTs));
+    }
+}
@@ -158,6 +158,7 @@ import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_LATE_AFFINITY
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_MACS;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_MARSHALLER_USE_BINARY_STRING_SER_VER_2;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_MARSHALLER_USE_DFLT_SUID;
+import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_MARSHALLER_VARINT_FIELDS;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_OFFHEAP_SIZE;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_PEER_CLASSLOADING;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_SECURITY_COMPATIBILITY_MODE;
@@ -1169,6 +1170,9 @@ public class GridDiscoveryManager extends GridManagerAdapter<DiscoverySpi> {
             false /* turned on and added to the attributes list by default only when BinaryMarshaller is used. */:
             locMarshStrSerVer2;
 
+        Boolean locMarshVarintFields = locNode.attribute(ATTR_MARSHALLER_VARINT_FIELDS);
+        boolean locMarshVarintFieldsBool = locMarshVarintFields != null && locMarshVarintFields;
+
         boolean locDelayAssign = locNode.attribute(ATTR_LATE_AFFINITY_ASSIGNMENT);
 
         Boolean locSrvcProcMode = locNode.attribute(ATTR_EVENT_DRIVEN_SERVICE_PROCESSOR_ENABLED);
@@ -1246,6 +1250,19 @@ public class GridDiscoveryManager extends GridManagerAdapter<DiscoverySpi> {
                     ", locNodeId=" + locNode.id() + ", rmtNodeId=" + n.id() + ", rmtNode=" + U.toShortString(n) + "]");
             }
 
+            Boolean rmtMarshVarintFields = n.attribute(ATTR_MARSHALLER_VARINT_FIELDS);
+            boolean rmtMarshVarintFieldsBool = rmtMarshVarintFields != null && rmtMarshVarintFields;
+
+            if (locMarshVarintFieldsBool != rmtMarshVarintFieldsBool) {
+                throw new IgniteCheckedException("Local node's binary marshaller \"varintFields\" property " +
+                    "differs from the same property on remote node (make sure all nodes in topology have " +
+                    "the same value of \"varintFields\" property) [locMarshVarintFields=" + locMarshVarintFields +
+                    ", rmtMarshVarintFields=" + rmtMarshVarintFields +
+                    ", locNodeAddrs=" + U.addressesAsString(locNode) +
+                    ", rmtNodeAddrs=" + U.addressesAsString(n) +
+                    ", locNodeId=" + locNode.id() + ", rmtNodeId=" + n.id() + ", rmtNode=" + U.toShortString(n) + "]");
+            }
+
             boolean rmtLateAssign = n.attribute(ATTR_LATE_AFFINITY_ASSIGNMENT);
 
             if (locDelayAssign != rmtLateAssign) {
@@ -0,0 +1,420 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.ignite.internal.processors.cache.transactions.IgniteTxKey;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Collects statistics of waits for entry locks handed off from a releasing owner to a waiting candidate.
+ * <p>
+ * Node-wide totals are exposed as metrics. Per-key statistics are kept for at most {@code maxKeys} keys ranked by
+ * contention, the number of waits halved every decay period. The ranking follows the Space-Saving algorithm: when
+ * the limit is reached, a new key takes the place of the least contended one and inherits its contention, so that
+ * a key that is waited for often enough gets to the top even if the table is full, and a key that is no longer hot
+ * gives way to the new ones. Keys are kept in a min-heap by contention, so a wait costs {@code O(log maxKeys)}.
+ */
+public class CacheLockContentionTracker {
+    /** Number of lock handoffs metric name. */
+    public static final String METRIC_LOCK_HANDOFFS = "LockHandoffs";
+
+    /** Total lock wait time metric name. */
+    public static final String METRIC_LOCK_WAIT_TIME = "LockWaitTime";
+
+    /** Default period in milliseconds after which contention of the tracked keys is halved. */
+    public static final long DFLT_DECAY_PERIOD = 60_000;
+
+    /** Maximum number of tracked keys. */
+    private final int maxKeys;
+
+    /** Period in milliseconds after which contention of the tracked keys is halved. */
+    private final long decayPeriod;
+
+    /** Statistics by key. Guarded by {@code this}. */
+    private final Map<IgniteTxKey, KeyStat> keys;
+
+    /** Min-heap of statistics by contention. Guarded by {@code this}. */
+    private final KeyStat[] heap;
+
+    /** Time of the last decay in milliseconds. Guarded by {@code this}. */
+    private long lastDecayTs = U.currentTimeMillis();
+
+    /** Number of lock handoffs. */
+    private final LongAdderMetric handoffs;
+
+    /** Total time waited for handed off locks, in microseconds. */
+    private final LongAdderMetric waitTime;
+
+    /**
+     * @param mreg Metric registry.
+     * @param maxKeys Maximum number of keys to keep statistics for, {@code 0} disables per-key statistics.
+     */
+    public CacheLockContentionTracker(MetricRegistry mreg, int maxKeys) {
+        this(mreg, maxKeys, DFLT_DECAY_PERIOD);
+    }
+
+    /**
+     * @param mreg Metric registry.
+     * @param maxKeys Maximum number of keys to keep statistics for, {@code 0} disables per-key statistics.
+     * @param decayPeriod Period in milliseconds after which contention of the tracked keys is halved.
+     */
+    public CacheLockContentionTracker(MetricRegistry mreg, int maxKeys, long decayPeriod) {
+        assert maxKeys >= 0 : maxKeys;
+        assert decayPeriod > 0 : decayPeriod;
+
+        this.maxKeys = maxKeys;
+        this.decayPeriod = decayPeriod;
+
+        keys = new HashMap<>(maxKeys * 2);
+        heap = new KeyStat[maxKeys];
+
+        handoffs = mreg.longAdderMetric(METRIC_LOCK_HANDOFFS,
+            "Number of entry locks handed off from a releasing owner to a waiting candidate.");
+
+        waitTime = mreg.longAdderMetric(METRIC_LOCK_WAIT_TIME,
+            "Total time candidates waited for handed off entry locks, in microseconds.");
+    }
+
+    /**
+     * Callback invoked when a waiting candidate becomes the lock owner after the previous owner released the lock.
+     *
+     * @param entry Entry.
+     * @param owner New owner.
+     */
+    public void onHandoff(GridCacheEntryEx entry, GridCacheMvccCandidate owner) {
+        onWait(entry.txKey(), Math.max(0, NANOSECONDS.toMicros(System.nanoTime() - owner.addTime())));
+    }
+
+    /**
+     * Records a wait for the lock of the key.
+     *
+     * @param key Key.
+     * @param waitMicros Wait time, in microseconds.
+     */
+    public void onWait(IgniteTxKey key, long waitMicros) {
+        handoffs.increment();
+        waitTime.add(waitMicros);
+
+        if (maxKeys == 0)
+            return;
+
+        long now = U.currentTimeMillis();
+
+        synchronized (this) {
+            decay(now);
+
+            KeyStat stat = keys.get(key);
+
+            if (stat == null) {
+                int idx;
+
+                if (keys.size() < maxKeys) {
+                    idx = keys.size();
+
+                    stat = new KeyStat(key, 0);
+                }
+                else {
+                    // Space-Saving: the new key replaces the least contended one and inherits its contention.
+                    idx = 0;
+
+                    keys.remove(heap[0].key);
+
+                    stat = new KeyStat(key, heap[0].contention);
+                }
+
+                keys.put(key, stat);
+
+                heap[idx] = stat;
+                stat.heapIdx = idx;
+
+                siftUp(idx);
+            }
+
+            stat.onWait(waitMicros, now);
+
+            siftDown(stat.heapIdx);
+        }
+    }
+
+    /**
+     * @param cnt Maximum number of keys to return.
+     * @return Statistics of the most contended keys, in the descending order of contention.
+     */
+    public List<KeyContention> hottestKeys(int cnt) {
+        List<KeyContention> res;
+
+        synchronized (this) {
+            decay(U.currentTimeMillis());
+
+            res = new ArrayList<>(keys.size());
+
+            for (KeyStat stat : keys.values())
+                res.add(stat.snapshot());
+        }
+
+        res.sort((s1, s2) -> Long.compare(s2.contention(), s1.contention()));
+
+        return res.size() > cnt ? new ArrayList<>(res.subList(0, cnt)) : res;
+    }
+
+    /**
+     * Halves contention of the tracked keys for every decay period passed since the previous decay.
+     * Halving keeps the heap order.
+     *
+     * @param now Current time in milliseconds.
+     */
+    private void decay(long now) {
+        long periods = (now - lastDecayTs) / decayPeriod;
+
+        if (periods <= 0)
+            return;
+
+        lastDecayTs += periods * decayPeriod;
+
+        int shift = (int)Math.min(periods, Long.SIZE - 1);
+
+        for (int i = 0; i < keys.size(); i++) {
+            heap[i].contention >>>= shift;
+            heap[i].error >>>= shift;
+        }
+    }
+
+    /**
+     * Restores the heap order after a key is added at the given index.
+     *
+     * @param idx Heap index.
+     */
+    private void siftUp(int idx) {
+        KeyStat stat = heap[idx];
+
+        while (idx > 0) {
+            int parent = (idx - 1) / 2;
+
+            if (heap[parent].contention <= stat.contention)
+                break;
+
+            heap[idx] = heap[parent];
+            heap[idx].heapIdx = idx;
+
+            idx = parent;
+        }
+
+        heap[idx] = stat;
+        stat.heapIdx = idx;
+    }
+
+    /**
+     * Restores the heap order after contention of the key at the given index has grown.
+     *
+     * @param idx Heap index.
+     */
+    private void siftDown(int idx) {
+        int size = keys.size();
+
+        KeyStat stat = heap[idx];
+
+        while (true) {
+            int child = 2 * idx + 1;
+
+            if (child >= size)
+                break;
+
+            if (child + 1 < size && heap[child + 1].contention < heap[child].contention)
+                child++;
+
+            if (heap[child].contention >= stat.contention)
+                break;
+
+            heap[idx] = heap[child];
+            heap[idx].heapIdx = idx;
+
+            idx = child;
+        }
+
+        heap[idx] = stat;
+        stat.heapIdx = idx;
+    }
+
+    /**
+     * Mutable statistics of a tracked key.
+     */
+    private static class KeyStat {
+        /** Key. */
+        private final IgniteTxKey key;
+
+        /** Decaying number of waits, including the contention inherited from the replaced key. */
+        private long contention;
+
+        /** Contention inherited from the replaced key, the maximum overestimation of {@link #contention}. */
+        private long error;
+
+        /** Number of waits since the key is tracked. */
+        private long waits;
+
+        /** Total wait time, in microseconds. */
+        private long totalWaitTime;
+
+        /** Maximum wait time, in microseconds. */
+        private long maxWaitTime;
+
+        /** Time of the last wait end, in milliseconds. */
+        private long lastWaitTs;
+
+        /** Index in the heap. */
+        private int heapIdx;
+
+        /**
+         * @param key Key.
+         * @param error Contention inherited from the replaced key.
+         */
+        private KeyStat(IgniteTxKey key, long error) {
+            this.key = key;
+            this.error = error;
+
+            contention = error;
+        }
+
+        /**
+         * @param waitMicros Wait time, in microseconds.
+         * @param now Current time in milliseconds.
+         */
+        private void onWait(long waitMicros, long now) {
+            contention++;
+            waits++;
+            totalWaitTime += waitMicros;
+            maxWaitTime = Math.max(maxWaitTime, waitMicros);
+            lastWaitTs = now;
+        }
+
+        /**
+         * @return Snapshot of the statistics.
+         */
+        private KeyContention snapshot() {
+            return new KeyContention(key, contention, error, waits, totalWaitTime, maxWaitTime, lastWaitTs);
+        }
+    }
+
+    /**
+     * Lock contention statistics of a key.
+     */
+    public static class KeyContention {
+        /** Key. */
+        private final IgniteTxKey key;
+
+        /** Decaying number of waits, including the contention inherited from the replaced key. */
+        private final long contention;
+
+        /** Maximum overestimation of {@link #contention}. */
+        private final long error;
+
+        /** Number of waits since the key is tracked. */
+        private final long waits;
+
+        /** Total wait time, in microseconds. */
+        private final long totalWaitTime;
+
+        /** Maximum wait time, in microseconds. */
+        private final long maxWaitTime;
+
+        /** Time of the last wait end, in milliseconds. */
+        private final long lastWaitTs;
+
+        /**
+         * @param key Key.
+         * @param contention Decaying number of waits.
+         * @param error Maximum overestimation of the contention.
+         * @param waits Number of waits since the key is tracked.
+         * @param totalWaitTime Total wait time, in microseconds.
+         * @param maxWaitTime Maximum wait time, in microseconds.
+         * @param lastWaitTs Time of the last wait end, in milliseconds.
+         */
+        private KeyContention(IgniteTxKey key, long contention, long error, long waits, long totalWaitTime,
+            long maxWaitTime, long lastWaitTs) {
+            this.key = key;
+            this.contention = contention;
+            this.error = error;
+            this.waits = waits;
+            this.totalWaitTime = totalWaitTime;
+            this.maxWaitTime = maxWaitTime;
+            this.lastWaitTs = lastWaitTs;
+        }
+
+        /**
+         * @return Key.
+         */
+        public IgniteTxKey key() {
+            return key;
+        }
+
+        /**
+         * @return Decaying number of waits the keys are ranked by, including the contention inherited from the key
+         *      this one has replaced.
+         */
+        public long contention() {
+            return contention;
+        }
+
+        /**
+         * @return Maximum overestimation of {@link #contention()}.
+         */
+        public long contentionError() {
+            return error;
+        }
+
+        /**
+         * @return Number of waits since the key is tracked.
+         */
+        public long waits() {
+            return waits;
+        }
+
+        /**
+         * @return Total wait time, in microseconds.
+         */
+        public long totalWaitTime() {
+            return totalWaitTime;
+        }
+
+        /**
+         * @return Maximum wait time, in microseconds.
+         */
+        public long maxWaitTime() {
+            return maxWaitTime;
+        }
+
+        /**
+         * @return Time of the last wait end, in milliseconds.
+         */
+        public long lastWaitTimestamp() {
+            return lastWaitTs;
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(KeyContention.class, this);
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.apache.ignite.internal.processors.cache.store.GridCacheWriteBehindSto
 import org.apache.ignite.internal.processors.metric.MetricRegistry;
 import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
 import org.apache.ignite.internal.processors.metric.impl.HistogramMetric;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.processors.metric.impl.HitRateMetric;
 import org.apache.ignite.internal.processors.metric.impl.MetricUtils;
 import org.apache.ignite.internal.util.collection.ImmutableIntSet;
@@ -79,19 +80,19 @@ public class CacheMetricsImpl implements CacheMetrics {
     };
 
     /** Number of reads. */
-    private final AtomicLongMetric reads;
+    private final LongAdderMetric reads;
 
     /** Number of invocations caused update. */
-    private final AtomicLongMetric entryProcessorPuts;
+    private final LongAdderMetric entryProcessorPuts;
 
     /** Number of invocations caused removal. */
-    private final AtomicLongMetric entryProcessorRemovals;
+    private final LongAdderMetric entryProcessorRemovals;
 
     /** Number of invocations caused update. */
-    private final AtomicLongMetric entryProcessorReadOnlyInvocations;
+    private final LongAdderMetric entryProcessorReadOnlyInvocations;
 
     /** Entry processor invoke time taken nanos. */
-    private final AtomicLongMetric entryProcessorInvokeTimeNanos;
+    private final LongAdderMetric entryProcessorInvokeTimeNanos;
 
     /** So far, the minimum time to execute cache invokes. */
     private final AtomicLongMetric entryProcessorMinInvocationTime;
@@ -100,70 +101,70 @@ public class CacheMetricsImpl implements CacheMetrics {
     private final AtomicLongMetric entryProcessorMaxInvocationTime;
 
     /** Number of entry processor invokes on keys, which exist in cache. */
-    private final AtomicLongMetric entryProcessorHits;
+    private final LongAdderMetric entryProcessorHits;
 
     /** Number of entry processor invokes on keys, which don't exist in cache. */
-    private final AtomicLongMetric entryProcessorMisses;
+    private final LongAdderMetric entryProcessorMisses;
 
     /** Number of writes. */
-    private final AtomicLongMetric writes;
+    private final LongAdderMetric writes;
 
     /** Number of hits. */
-    private final AtomicLongMetric hits;
+    private final LongAdderMetric hits;
 
     /** Number of misses. */
-    private final AtomicLongMetric misses;
+    private final LongAdderMetric misses;
 
     /** Number of transaction commits. */
-    private final AtomicLongMetric txCommits;
+    private final LongAdderMetric txCommits;
 
     /** Number of transaction rollbacks. */
-    private final AtomicLongMetric txRollbacks;
+    private final LongAdderMetric txRollbacks;
 
     /** Number of evictions. */
-    private final AtomicLongMetric evictCnt;
+    private final LongAdderMetric evictCnt;
 
     /** Number of removed entries. */
-    private final AtomicLongMetric rmCnt;
+    private final LongAdderMetric rmCnt;
 
     /** Total put time taken nanos. */
-    private final AtomicLongMetric putTimeTotal;
+    private final LongAdderMetric putTimeTotal;
 
     /** Total get time taken nanos. */
-    private final AtomicLongMetric getTimeTotal;
+    private final LongAdderMetric getTimeTotal;
 
     /** Total remove time taken nanos. */
-    private final AtomicLongMetric rmvTimeTotal;
+    private final LongAdderMetric rmvTimeTotal;
 
     /** Total commit transaction time taken nanos. */
-    private final AtomicLongMetric commitTimeTotal;
+    private final LongAdderMetric commitTimeTotal;
 
     /** Total rollback transaction time taken nanos. */
-    private final AtomicLongMetric rollbackTimeTotal;
+    private final LongAdderMetric rollbackTimeTotal;
 
     /** Number of reads from off-heap memory. */
-    private final AtomicLongMetric offHeapGets;
+    private final LongAdderMetric offHeapGets;
 
     /** Number of writes to off-heap memory. */
-    private final AtomicLongMetric offHeapPuts;
+    private final LongAdderMetric offHeapPuts;
 
     /** Number of removed entries from off-heap memory. */
-    private final AtomicLongMetric offHeapRemoves;
+    private final LongAdderMetric offHeapRemoves;
 
     /** Number of evictions from off-heap memory. */
-    private final AtomicLongMetric offHeapEvicts;
+    private final LongAdderMetric offHeapEvicts;
 
     /** Number of off-heap hits. */
-    private final AtomicLongMetric offHeapHits;
+    private final LongAdderMetric offHeapHits;
 
     /** Number of off-heap misses. */
-    private final AtomicLongMetric offHeapMisses;
+    private final LongAdderMetric offHeapMisses;
 
     /** Rebalanced keys count. */
-    private final AtomicLongMetric rebalancedKeys;
+    private final LongAdderMetric rebalancedKeys;
 
     /** Total rebalanced bytes count. */
-    private final AtomicLongMetric totalRebalancedBytes;
+    private final LongAdderMetric totalRebalancedBytes;
 
     /** Rebalanced start time. */
     private final AtomicLongMetric rebalanceStartTime;
@@ -195,6 +196,9 @@ public class CacheMetricsImpl implements CacheMetrics {
     /** Rollback time. */
     private final HistogramMetric rollbackTime;
 
+    /** Invoke time. */
+    private final HistogramMetric invokeTime;
+
     /** Cache metrics. */
     @GridToStringExclude
     private transient CacheMetricsImpl delegate;
@@ -241,19 +245,19 @@ public class CacheMetricsImpl implements CacheMetrics {
 
         MetricRegistry mreg = cctx.kernalContext().metric().registry(cacheMetricsRegistryName(cctx.name(), isNear));
 
-        reads = mreg.longMetric("CacheGets",
+        reads = mreg.longAdderMetric("CacheGets",
             "The total number of gets to the cache.");
 
-        entryProcessorPuts = mreg.longMetric("EntryProcessorPuts",
+        entryProcessorPuts = mreg.longAdderMetric("EntryProcessorPuts",
             "The total number of cache invocations, caused update.");
 
-        entryProcessorRemovals = mreg.longMetric("EntryProcessorRemovals",
+        entryProcessorRemovals = mreg.longAdderMetric("EntryProcessorRemovals",
             "The total number of cache invocations, caused removals.");
 
-        entryProcessorReadOnlyInvocations = mreg.longMetric("EntryProcessorReadOnlyInvocations",
+        entryProcessorReadOnlyInvocations = mreg.longAdderMetric("EntryProcessorReadOnlyInvocations",
             "The total number of cache invocations, caused no updates.");
 
-        entryProcessorInvokeTimeNanos = mreg.longMetric("EntryProcessorInvokeTimeNanos",
+        entryProcessorInvokeTimeNanos = mreg.longAdderMetric("EntryProcessorInvokeTimeNanos",
             "The total time of cache invocations, in nanoseconds.");
 
         entryProcessorMinInvocationTime = mreg.longMetric("EntryProcessorMinInvocationTime",
@@ -262,69 +266,69 @@ public class CacheMetricsImpl implements CacheMetrics {
         entryProcessorMaxInvocationTime = mreg.longMetric("EntryProcessorMaxInvocationTime",
             "So far, the maximum time to execute cache invokes.");
 
-        entryProcessorHits = mreg.longMetric("EntryProcessorHits",
+        entryProcessorHits = mreg.longAdderMetric("EntryProcessorHits",
             "The total number of invocations on keys, which exist in cache.");
 
-        entryProcessorMisses = mreg.longMetric("EntryProcessorMisses",
+        entryProcessorMisses = mreg.longAdderMetric("EntryProcessorMisses",
             "The total number of invocations on keys, which don't exist in cache.");
 
-        writes = mreg.longMetric("CachePuts",
+        writes = mreg.longAdderMetric("CachePuts",
             "The total number of puts to the cache.");
 
-        hits = mreg.longMetric("CacheHits",
+        hits = mreg.longAdderMetric("CacheHits",
             "The number of get requests that were satisfied by the cache.");
 
-        misses = mreg.longMetric("CacheMisses",
+        misses = mreg.longAdderMetric("CacheMisses",
             "A miss is a get request that is not satisfied.");
 
-        txCommits = mreg.longMetric("CacheTxCommits",
+        txCommits = mreg.longAdderMetric("CacheTxCommits",
             "Total number of transaction commits.");
 
-        txRollbacks = mreg.longMetric("CacheTxRollbacks",
+        txRollbacks = mreg.longAdderMetric("CacheTxRollbacks",
             "Total number of transaction rollbacks.");
 
-        evictCnt = mreg.longMetric("CacheEvictions",
+        evictCnt = mreg.longAdderMetric("CacheEvictions",
             "The total number of evictions from the cache.");
 
-        rmCnt = mreg.longMetric("CacheRemovals", "The total number of removals from the cache.");
+        rmCnt = mreg.longAdderMetric("CacheRemovals", "The total number of removals from the cache.");
 
-        putTimeTotal = mreg.longMetric("PutTimeTotal",
+        putTimeTotal = mreg.longAdderMetric("PutTimeTotal",
             "The total time of cache puts, in nanoseconds.");
 
-        getTimeTotal = mreg.longMetric("GetTimeTotal",
+        getTimeTotal = mreg.longAdderMetric("GetTimeTotal",
             "The total time of cache gets, in nanoseconds.");
 
-        rmvTimeTotal = mreg.longMetric("RemoveTimeTotal",
+        rmvTimeTotal = mreg.longAdderMetric("RemoveTimeTotal",
             "The total time of cache removal, in nanoseconds.");
 
-        commitTimeTotal = mreg.longMetric("CommitTimeTotal",
+        commitTimeTotal = mreg.longAdderMetric("CommitTimeTotal",
             "The total time of commit, in nanoseconds.");
 
-        rollbackTimeTotal = mreg.longMetric("RollbackTimeTotal",
+        rollbackTimeTotal = mreg.longAdderMetric("RollbackTimeTotal",
             "The total time of rollback, in nanoseconds.");
 
-        offHeapGets = mreg.longMetric("OffHeapGets",
+        offHeapGets = mreg.longAdderMetric("OffHeapGets",
             "The total number of get requests to the off-heap memory.");
 
-        offHeapPuts = mreg.longMetric("OffHeapPuts",
+        offHeapPuts = mreg.longAdderMetric("OffHeapPuts",
             "The total number of put requests to the off-heap memory.");
 
-        offHeapRemoves = mreg.longMetric("OffHeapRemovals",
+        offHeapRemoves = mreg.longAdderMetric("OffHeapRemovals",
             "The total number of removals from the off-heap memory.");
 
-        offHeapEvicts = mreg.longMetric("OffHeapEvictions",
+        offHeapEvicts = mreg.longAdderMetric("OffHeapEvictions",
             "The total number of evictions from the off-heap memory.");
 
-        offHeapHits = mreg.longMetric("OffHeapHits",
+        offHeapHits = mreg.longAdderMetric("OffHeapHits",
             "The number of get requests that were satisfied by the off-heap memory.");
 
-        offHeapMisses = mreg.longMetric("OffHeapMisses",
+        offHeapMisses = mreg.longAdderMetric("OffHeapMisses",
             "A miss is a get request that is not satisfied by off-heap memory.");
 
-        rebalancedKeys = mreg.longMetric("RebalancedKeys",
+        rebalancedKeys = mreg.longAdderMetric("RebalancedKeys",
             "Number of already rebalanced keys.");
 
-        totalRebalancedBytes = mreg.longMetric("TotalRebalancedBytes",
+        totalRebalancedBytes = mreg.longAdderMetric("TotalRebalancedBytes",
             "Number of already rebalanced bytes.");
 
         rebalanceStartTime = mreg.longMetric("RebalanceStartTime",
@@ -358,6 +362,11 @@ public class CacheMetricsImpl implements CacheMetrics {
 
         rollbackTime = mreg.histogram("RollbackTime", HISTOGRAM_BUCKETS, "Rollback time in nanoseconds.");
 
+        invokeTime = mreg.histogram("InvokeTime", HISTOGRAM_BUCKETS, "Invoke time in nanoseconds.");
+
+        if (store != null && !isNear)
+            store.registerMetrics(mreg);
+
         mreg.register("TxKeyCollisions", this::getTxKeyCollisions, String.class, "Tx key collisions. " +
             "Show keys and collisions queue size. Due transactional payload some keys become hot. Metric shows " +
             "corresponding keys.");
@@ -669,6 +678,7 @@ public class CacheMetricsImpl implements CacheMetrics {
         rmvTime.reset();
         commitTime.reset();
         rollbackTime.reset();
+        invokeTime.reset();
 
         clearRebalanceCounters();
 
@@ -964,6 +974,8 @@ public class CacheMetricsImpl implements CacheMetrics {
     public void addInvokeTimeNanos(long duration) {
         entryProcessorInvokeTimeNanos.add(duration);
 
+        invokeTime.value(duration);
+
         recalculateInvokeMinTimeNanos(duration);
 
         recalculateInvokeMaxTimeNanos(duration);
@@ -20,15 +20,19 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import javax.cache.Cache;
 import javax.cache.integration.CacheLoaderException;
 import javax.cache.integration.CacheWriterException;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.cache.store.CacheStore;
 import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.S;
@@ -37,6 +41,9 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Cache store wrapper that ensures that there will be no more that one thread loading value from underlying store.
+ * <p>
+ * If batch window is set, concurrent single key loads performed via {@link #loadBatched(Object)} during the window
+ * are merged into one {@link CacheStore#loadAll(Iterable)} call of the underlying store.
  */
 public class CacheStoreBalancingWrapper<K, V> implements CacheStore<K, V> {
     /** */
@@ -51,11 +58,32 @@ public class CacheStoreBalancingWrapper<K, V> implements CacheStore<K, V> {
     /** Load all threshold. */
     private int loadAllThreshold = DFLT_LOAD_ALL_THRESHOLD;
 
+    /** Batch window in nanoseconds, {@code 0} if single key loads are not merged. */
+    private final long batchWindow;
+
+    /** Maximum number of keys in a merged load. */
+    private final int batchSize;
+
+    /** Mutex guarding {@link #batch}. */
+    private final Object batchMux = new Object();
+
+    /** Batch collecting single key loads. Guarded by {@link #batchMux}. */
+    private LoadBatch batch;
+
+    /** Number of keys requested to load. */
+    private final LongAdder reqKeys = new LongAdder();
+
+    /** Number of keys loaded from underlying store. */
+    private final LongAdder storeKeys = new LongAdder();
+
+    /** Number of load calls of underlying store. */
+    private final LongAdder storeCalls = new LongAdder();
+
     /**
      * @param delegate Delegate store.
      */
     public CacheStoreBalancingWrapper(CacheStore<K, V> delegate) {
-        this.delegate = delegate;
+        this(delegate, DFLT_LOAD_ALL_THRESHOLD);
     }
 
     /**
@@ -63,8 +91,44 @@ public class CacheStoreBalancingWrapper<K, V> implements CacheStore<K, V> {
      * @param loadAllThreshold Load all threshold.
      */
     public CacheStoreBalancingWrapper(CacheStore<K, V> delegate, int loadAllThreshold) {
+        this(delegate, loadAllThreshold, 0, 0);
+    }
+
+    /**
+     * @param delegate Delegate store.
+     * @param loadAllThreshold Load all threshold.
+     * @param batchWindow Time window in milliseconds to merge single key loads, {@code 0} to disable merging.
+     * @param batchSize Maximum number of keys in a merged load.
+     */
+    public CacheStoreBalancingWrapper(CacheStore<K, V> delegate, int loadAllThreshold, long batchWindow,
+        int batchSize) {
         this.delegate = delegate;
         this.loadAllThreshold = loadAllThreshold;
+        this.batchWindow = batchSize > 1 ? TimeUnit.MILLISECONDS.toNanos(batchWindow) : 0;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @param mreg Metric registry.
+     */
+    public void registerMetrics(MetricRegistry mreg) {
+        mreg.register("StoreLoadRequestedKeys", reqKeys::sum, "Number of keys requested to load from the store.");
+
+        mreg.register("StoreLoadKeys", storeKeys::sum, "Number of keys loaded from the store.");
+
+        mreg.register("StoreLoadCalls", storeCalls::sum, "Number of load and loadAll calls of the store.");
+
+        mreg.register("StoreLoadCoalesceRatio", this::coalesceRatio,
+            "Ratio of keys requested to load to keys actually loaded from the store.");
+    }
+
+    /**
+     * @return Ratio of keys requested to load to keys actually loaded from underlying store.
+     */
+    public double coalesceRatio() {
+        long loaded = storeKeys.sum();
+
+        return loaded == 0 ? 1 : (double)reqKeys.sum() / loaded;
     }
 
     /**
@@ -76,6 +140,8 @@ public class CacheStoreBalancingWrapper<K, V> implements CacheStore<K, V> {
 
     /** {@inheritDoc} */
     @Nullable @Override public V load(K key) {
+        reqKeys.increment();
+
         LoadFuture fut = pendingLoads.get(key);
 
         try {
@@ -93,6 +159,9 @@ public class CacheStoreBalancingWrapper<K, V> implements CacheStore<K, V> {
             throw new CacheLoaderException(e);
         }
 
+        storeCalls.increment();
+        storeKeys.increment();
+
         try {
             V val = delegate.load(key);
 
@@ -110,6 +179,105 @@ public class CacheStoreBalancingWrapper<K, V> implements CacheStore<K, V> {
         }
     }
 
+    /**
+     * Loads value merging concurrent loads of other keys into one {@link CacheStore#loadAll(Iterable)} call if
+     * batch window is set.
+     *
+     * @param key Key.
+     * @return Loaded value.
+     */
+    @Nullable public V loadBatched(K key) {
+        if (batchWindow == 0)
+            return load(key);
+
+        reqKeys.increment();
+
+        LoadFuture fut = pendingLoads.get(key);
+
+        try {
+            if (fut != null)
+                return fut.get(key);
+
+            fut = new LoadFuture();
+
+            LoadFuture old = pendingLoads.putIfAbsent(key, fut);
+
+            if (old != null)
+                return old.get(key);
+        }
+        catch (IgniteCheckedException e) {
+            throw new CacheLoaderException(e);
+        }
+
+        LoadBatch b;
+
+        boolean leader = false;
+
+        synchronized (batchMux) {
+            b = batch;
+
+            if (b == null) {
+                batch = b = new LoadBatch();
+
+                leader = true;
+            }
+
+            b.futs.put(key, fut);
+
+            if (b.futs.size() >= batchSize) {
+                batch = null;
+
+                batchMux.notifyAll();
+            }
+        }
+
+        if (leader) {
+            awaitBatch(b);
+
+            b.load();
+        }
+
+        try {
+            return fut.get(key);
+        }
+        catch (IgniteCheckedException e) {
+            throw new CacheLoaderException(e);
+        }
+    }
+
+    /**
+     * Waits until batch window passes or the batch is full.
+     *
+     * @param b Batch.
+     */
+    private void awaitBatch(LoadBatch b) {
+        long end = System.nanoTime() + batchWindow;
+
+        boolean interrupted = false;
+
+        synchronized (batchMux) {
+            long rem;
+
+            while (batch == b && (rem = end - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(batchMux, rem);
+                }
+                catch (InterruptedException ignored) {
+                    // Other threads wait for the batch, so it is loaded anyway.
+                    interrupted = true;
+
+                    break;
+                }
+            }
+
+            if (batch == b)
+                batch = null;
+        }
+
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
     /** {@inheritDoc} */
     @Override public void loadCache(IgniteBiInClosure<K, V> clo, @Nullable Object... args) {
         delegate.loadCache(clo, args);
@@ -164,10 +332,15 @@ public class CacheStoreBalancingWrapper<K, V> implements CacheStore<K, V> {
             }
         }
 
+        reqKeys.add(keys.size());
+
         if (needLoad != null) {
             assert !needLoad.isEmpty();
             assert span != null;
 
+            storeCalls.increment();
+            storeKeys.add(needLoad.size());
+
             try {
                 Map<K, V> loaded = delegate.loadAll(needLoad);
 
@@ -232,6 +405,57 @@ public class CacheStoreBalancingWrapper<K, V> implements CacheStore<K, V> {
         return S.toString(CacheStoreBalancingWrapper.class, this);
     }
 
+    /**
+     * Single key loads merged into one {@link CacheStore#loadAll(Iterable)} call.
+     */
+    private class LoadBatch {
+        /** Load futures registered in {@link #pendingLoads} by key. */
+        private final Map<K, LoadFuture> futs = new LinkedHashMap<>();
+
+        /**
+         * Loads batch keys and completes their futures.
+         */
+        void load() {
+            Collection<K> keys;
+
+            // Keys may be added concurrently until the batch is detached.
+            synchronized (batchMux) {
+                assert batch != this;
+
+                keys = new ArrayList<>(futs.keySet());
+            }
+
+            storeCalls.increment();
+            storeKeys.add(keys.size());
+
+            Map<K, V> loaded;
+
+            try {
+                loaded = delegate.loadAll(keys);
+            }
+            catch (Throwable e) {
+                for (Map.Entry<K, LoadFuture> e0 : futs.entrySet())
+                    e0.getValue().onError(e0.getKey(), e);
+
+                if (e instanceof Error)
+                    throw e;
+
+                return;
+            }
+
+            for (Map.Entry<K, LoadFuture> e : futs.entrySet()) {
+                K key = e.getKey();
+
+                e.getValue().onComplete(key, loaded == null ? null : loaded.get(key));
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(LoadBatch.class, this);
+        }
+    }
+
     /**
      *
      */
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.pagemem.wal.record.DataEntry;
+import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.StorageException;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.processors.cache.GridCacheOperation.DELETE;
+
+/**
+ * Batch of primary ATOMIC cache updates made by the current thread while all updated entries are locked.
+ * <p>
+ * Row writes of the batched updates are deferred: once the batch reaches {@link #MAX_SIZE} updates or is finished,
+ * the updates are logged to WAL as a single {@link DataRecord} and only then their rows are written, ordered by
+ * partition and key hash to follow the data tree order.
+ */
+public class GridCacheAtomicWalBatch {
+    /** Maximum number of updates logged in a single WAL record. */
+    public static final int MAX_SIZE = 64;
+
+    /** Batch of the current thread. */
+    private static final ThreadLocal<GridCacheAtomicWalBatch> batch = new ThreadLocal<>();
+
+    /** Row writes order. */
+    private static final Comparator<RowUpdate> ROW_UPDATE_CMP = Comparator
+        .comparingInt((RowUpdate upd) -> upd.walEntry.partitionId())
+        .thenComparingInt(upd -> upd.walEntry.key().hashCode());
+
+    /** Cache group. */
+    private final CacheGroupContext grp;
+
+    /** WAL entries of the batched updates. */
+    private final List<DataEntry> walEntries = new ArrayList<>(MAX_SIZE);
+
+    /** Deferred row writes. */
+    private final List<RowUpdate> rowUpdates = new ArrayList<>(MAX_SIZE);
+
+    /**
+     * @param grp Cache group.
+     */
+    private GridCacheAtomicWalBatch(CacheGroupContext grp) {
+        this.grp = grp;
+    }
+
+    /**
+     * Starts a batch for the current thread. Updated entries must stay locked and checkpoint read lock must be held
+     * until the batch is finished by {@link #finish()}.
+     *
+     * @param cctx Cache context.
+     * @param size Number of keys to update.
+     * @return Started batch or {@code null} if updates of the cache are not logged to WAL, there is a single key
+     *      to update or the current thread already has a batch.
+     */
+    @Nullable public static GridCacheAtomicWalBatch start(GridCacheContext cctx, int size) {
+        if (size < 2 || !cctx.group().persistenceEnabled() || !cctx.group().walEnabled() || batch.get() != null)
+            return null;
+
+        GridCacheAtomicWalBatch b = new GridCacheAtomicWalBatch(cctx.group());
+
+        batch.set(b);
+
+        return b;
+    }
+
+    /**
+     * @param entry Updated entry.
+     * @return Batch of the current thread that accepts updates of the given entry, or {@code null} if the update
+     *      should be logged and written immediately.
+     */
+    @Nullable static GridCacheAtomicWalBatch current(GridCacheMapEntry entry) {
+        GridCacheAtomicWalBatch b = batch.get();
+
+        return b != null && !entry.isNear() && b.grp == entry.context().group() ? b : null;
+    }
+
+    /**
+     * Adds an update whose row is written when the batch is flushed.
+     *
+     * @param entry Updated entry.
+     * @param walEntry WAL entry of the update.
+     * @param oldRow Current row of the entry, must not be {@code null} for removal.
+     */
+    void add(GridCacheMapEntry entry, DataEntry walEntry, @Nullable CacheDataRow oldRow) {
+        walEntries.add(walEntry);
+
+        if (walEntry.op() != DELETE || oldRow != null)
+            rowUpdates.add(new RowUpdate(entry, walEntry, oldRow));
+    }
+
+    /**
+     * Flushes the batch if it reached the maximum size. Must not be called while a data tree operation is
+     * in progress.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    void flushIfFull() throws IgniteCheckedException {
+        if (walEntries.size() >= MAX_SIZE)
+            flush();
+    }
+
+    /**
+     * Flushes pending updates and detaches the batch from the current thread.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    public void finish() throws IgniteCheckedException {
+        assert batch.get() == this;
+
+        batch.remove();
+
+        flush();
+    }
+
+    /**
+     * Logs pending updates to WAL and writes their rows.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    private void flush() throws IgniteCheckedException {
+        if (walEntries.isEmpty())
+            return;
+
+        try {
+            grp.shared().wal().log(new DataRecord(new ArrayList<>(walEntries)));
+        }
+        catch (StorageException e) {
+            // Rows of the updates that are not logged must not be written.
+            rowUpdates.clear();
+
+            throw new IgniteCheckedException("Failed to log ATOMIC cache updates [cnt=" + walEntries.size() + ']', e);
+        }
+        finally {
+            walEntries.clear();
+        }
+
+        rowUpdates.sort(ROW_UPDATE_CMP);
+
+        try {
+            for (RowUpdate upd : rowUpdates)
+                upd.apply();
+        }
+        finally {
+            rowUpdates.clear();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridCacheAtomicWalBatch.class, this,
+            "walEntries", walEntries.size(),
+            "rowUpdates", rowUpdates.size());
+    }
+
+    /**
+     * Deferred row write.
+     */
+    private static class RowUpdate {
+        /** */
+        private final GridCacheMapEntry entry;
+
+        /** */
+        private final DataEntry walEntry;
+
+        /** */
+        private final CacheDataRow oldRow;
+
+        /**
+         * @param entry Updated entry.
+         * @param walEntry WAL entry of the update.
+         * @param oldRow Current row of the entry.
+         */
+        RowUpdate(GridCacheMapEntry entry, DataEntry walEntry, @Nullable CacheDataRow oldRow) {
+            this.entry = entry;
+            this.walEntry = walEntry;
+            this.oldRow = oldRow;
+        }
+
+        /**
+         * @throws IgniteCheckedException If failed.
+         */
+        void apply() throws IgniteCheckedException {
+            GridCacheContext cctx = entry.context();
+
+            if (walEntry.op() == DELETE)
+                cctx.offheap().remove(cctx, walEntry.key(), walEntry.partitionId(), entry.localPartition());
+            else {
+                cctx.offheap().update(cctx,
+                    walEntry.key(),
+                    walEntry.value(),
+                    walEntry.writeVersion(),
+                    walEntry.expireTime(),
+                    entry.localPartition(),
+                    oldRow);
+            }
+        }
+    }
+}
@@ -876,6 +876,22 @@ public class GridCacheContext<K, V> implements Externalizable {
         return config().getAtomicityMode() == TRANSACTIONAL_SNAPSHOT;
     }
 
+    /**
+     * Checks whether single-key requests to this cache may be processed in the communication thread which has read
+     * them, see {@link IgniteSystemProperties#IGNITE_ATOMIC_CACHE_NIO_THREAD_PROCESSING}. Such requests must
+     * neither block on disk nor run user code, so the cache has to be ATOMIC and in-memory, without a cache store,
+     * an interceptor or continuous queries.
+     *
+     * @return {@code True} if single-key requests may be processed in the communication thread.
+     */
+    public boolean nioThreadProcessingAllowed() {
+        return atomic() &&
+            !store().configured() &&
+            config().getInterceptor() == null &&
+            !group().persistenceEnabled() &&
+            continuousQueries().updateListeners(false, false) == null;
+    }
+
     /**
      * @return {@code True} if cache interceptor should be skipped in case of conflicts.
      */
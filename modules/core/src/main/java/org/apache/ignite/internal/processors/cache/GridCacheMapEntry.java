@@ -2315,9 +2315,15 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
                 c.call(dataRow);
             }
-            else
+            else {
                 cctx.offheap().invoke(cctx, key, localPartition(), c);
 
+                GridCacheAtomicWalBatch walBatch = GridCacheAtomicWalBatch.current(this);
+
+                if (walBatch != null)
+                    walBatch.flushIfFull();
+            }
+
             GridCacheUpdateAtomicResult updateRes = c.updateRes;
 
             assert updateRes != null : c;
@@ -4330,6 +4336,47 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         }
     }
 
+    /**
+     * Adds ATOMIC cache update to the WAL batch of the current thread, if any. The update is logged and its row is
+     * written when the batch is flushed, see {@link GridCacheAtomicWalBatch}.
+     *
+     * @param op Update operation.
+     * @param val Write value.
+     * @param writeVer Write version.
+     * @param expireTime Expire time.
+     * @param updCntr Update counter.
+     * @param oldRow Current row, or {@code null} if there is no row to replace or remove.
+     * @return {@code True} if the update was added to the batch.
+     */
+    protected boolean batchUpdate(
+        GridCacheOperation op,
+        @Nullable CacheObject val,
+        GridCacheVersion writeVer,
+        long expireTime,
+        long updCntr,
+        @Nullable CacheDataRow oldRow
+    ) {
+        assert cctx.atomic();
+
+        GridCacheAtomicWalBatch walBatch = GridCacheAtomicWalBatch.current(this);
+
+        if (walBatch == null)
+            return false;
+
+        walBatch.add(this, new DataEntry(
+            cctx.cacheId(),
+            key,
+            val,
+            op,
+            null,
+            writeVer,
+            expireTime,
+            partition(),
+            updCntr), oldRow);
+
+        return true;
+    }
+
     /**
      * @param tx Transaction.
      * @param val Value.
@@ -4927,12 +4974,18 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         }
 
         if (owners != null) {
+            // Lock released by the previous owner went to candidates that were waiting for it.
+            boolean handoff = prevOwners != null && !owners.hasCandidate(prevOwners.candidate(0).version());
+
             for (int i = 0; i < owners.size(); i++) {
                 GridCacheMvccCandidate owner = owners.candidate(i);
 
                 boolean locked = prevOwners == null || !prevOwners.hasCandidate(owner.version());
 
                 if (locked) {
+                    if (handoff)
+                        cctx.mvcc().contention().onHandoff(this, owner);
+
                     cctx.mvcc().callback().onOwnerChanged(this, owner);
 
                     if (owner.local() && !inThreadChain)
@@ -6431,22 +6484,26 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
             long updateCntr0 = entry.nextPartitionCounter(topVer, primary, false, updateCntr);
 
-            entry.logUpdate(op, updated, newVer, newExpireTime, updateCntr0);
+            if (entry.batchUpdate(op, updated, newVer, newExpireTime, updateCntr0, oldRow))
+                treeOp = IgniteTree.OperationType.NOOP;
+            else {
+                entry.logUpdate(op, updated, newVer, newExpireTime, updateCntr0);
 
-            if (!entry.isNear()) {
-                newRow = entry.localPartition().dataStore().createRow(
-                    entry.cctx,
-                    entry.key,
-                    updated,
-                    newVer,
-                    newExpireTime,
-                    oldRow);
+                if (!entry.isNear()) {
+                    newRow = entry.localPartition().dataStore().createRow(
+                        entry.cctx,
+                        entry.key,
+                        updated,
+                        newVer,
+                        newExpireTime,
+                        oldRow);
 
-                treeOp = oldRow != null && oldRow.link() == newRow.link() ?
-                    IgniteTree.OperationType.NOOP : IgniteTree.OperationType.PUT;
+                    treeOp = oldRow != null && oldRow.link() == newRow.link() ?
+                        IgniteTree.OperationType.NOOP : IgniteTree.OperationType.PUT;
+                }
+                else
+                    treeOp = IgniteTree.OperationType.PUT;
             }
-            else
-                treeOp = IgniteTree.OperationType.PUT;
 
             entry.update(updated, newExpireTime, newTtl, newVer, true);
 
@@ -6518,7 +6575,10 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
             long updateCntr0 = entry.nextPartitionCounter(topVer, primary, false, updateCntr);
 
-            entry.logUpdate(op, null, newVer, 0, updateCntr0);
+            boolean batched = entry.batchUpdate(op, null, newVer, 0, updateCntr0, readFromStore ? null : oldRow);
+
+            if (!batched)
+                entry.logUpdate(op, null, newVer, 0, updateCntr0);
 
             if (oldVal != null) {
                 assert !entry.deletedUnlocked();
@@ -6542,7 +6602,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
             entry.update(null, CU.TTL_ETERNAL, CU.EXPIRE_TIME_ETERNAL, newVer, true);
 
-            treeOp = (oldRow == null || readFromStore) ? IgniteTree.OperationType.NOOP :
+            treeOp = (batched || oldRow == null || readFromStore) ? IgniteTree.OperationType.NOOP :
                 IgniteTree.OperationType.REMOVE;
 
             UpdateOutcome outcome = oldVal != null ? UpdateOutcome.SUCCESS : UpdateOutcome.REMOVE_NO_VAL;
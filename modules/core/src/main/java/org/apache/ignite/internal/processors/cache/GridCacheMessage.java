@@ -24,6 +24,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import javax.cache.processor.EntryProcessor;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.GridDirectTransient;
 import org.apache.ignite.internal.managers.deployment.GridDeployment;
 import org.apache.ignite.internal.managers.deployment.GridDeploymentInfo;
@@ -144,6 +145,15 @@ public abstract class GridCacheMessage implements Message {
         return -1;
     }
 
+    /**
+     * @param ctx Context.
+     * @return {@code True} if message can be processed in the communication thread which has read it,
+     *      see {@link IgniteSystemProperties#IGNITE_ATOMIC_CACHE_NIO_THREAD_PROCESSING}.
+     */
+    public boolean processFromNioThread(GridCacheSharedContext<?, ?> ctx) {
+        return false;
+    }
+
     /**
      * If class loading error occurred during unmarshalling and {@link #ignoreClassErrors()} is
      * set to {@code true}, then the error will be passed into this method.
@@ -120,6 +120,9 @@ public class GridCacheMvccCandidate implements Externalizable,
     /** */
     private GridCacheVersion serOrder;
 
+    /** Time this candidate was added, in nanoseconds. */
+    private transient long addTime;
+
     /**
      * Empty constructor required by {@link Externalizable}.
      */
@@ -180,6 +183,8 @@ public class GridCacheMvccCandidate implements Externalizable,
         mask(READ, read);
 
         id = IDGEN.incrementAndGet();
+
+        addTime = System.nanoTime();
     }
 
     /**
@@ -383,6 +388,13 @@ public class GridCacheMvccCandidate implements Externalizable,
         return ownerVer;
     }
 
+    /**
+     * @return Time this candidate was added, in nanoseconds.
+     */
+    public long addTime() {
+        return addTime;
+    }
+
     /**
      * @return Thread ID. Can be outdated for explicit transactions.
      * @see Thread#getId()
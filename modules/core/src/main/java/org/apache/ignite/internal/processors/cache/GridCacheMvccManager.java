@@ -68,10 +68,14 @@ import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.util.deque.FastSizeDeque;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_LOCK_CONTENTION_TRACKED_KEYS;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_LOCK_QUEUED_HANDOFF;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_MAX_NESTED_LISTENER_CALLS;
+import static org.apache.ignite.IgniteSystemProperties.getBoolean;
 import static org.apache.ignite.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.events.EventType.EVT_NODE_FAILED;
 import static org.apache.ignite.events.EventType.EVT_NODE_LEFT;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.TX_METRICS;
 import static org.apache.ignite.internal.util.GridConcurrentFactory.newMap;
 import static org.jsr166.ConcurrentLinkedHashMap.QueuePolicy.PER_SEGMENT_Q;
 
@@ -139,6 +143,12 @@ public class GridCacheMvccManager extends GridCacheSharedManagerAdapter {
     /** */
     private volatile boolean stopping;
 
+    /** Lock contention tracker. */
+    private CacheLockContentionTracker contention;
+
+    /** Whether lock futures trust the lock ownership handed off to them. */
+    private final boolean queuedHandoff = getBoolean(IGNITE_LOCK_QUEUED_HANDOFF);
+
     /** Global atomic id counter. */
     protected final AtomicLong globalAtomicCnt = new AtomicLong();
 
@@ -275,6 +285,9 @@ public class GridCacheMvccManager extends GridCacheSharedManagerAdapter {
 
         pendingExplicit = GridConcurrentFactory.newMap();
 
+        contention = new CacheLockContentionTracker(cctx.kernalContext().metric().registry(TX_METRICS),
+            getInteger(IGNITE_LOCK_CONTENTION_TRACKED_KEYS, 128));
+
         cctx.gridEvents().addLocalEventListener(discoLsnr, EVT_NODE_FAILED, EVT_NODE_LEFT);
     }
 
@@ -290,6 +303,21 @@ public class GridCacheMvccManager extends GridCacheSharedManagerAdapter {
         return cb;
     }
 
+    /**
+     * @return Lock contention tracker.
+     */
+    public CacheLockContentionTracker contention() {
+        return contention;
+    }
+
+    /**
+     * @return {@code True} if lock futures trust the lock ownership handed off to them and check only the entries
+     *      they have not been handed yet.
+     */
+    public boolean queuedHandoff() {
+        return queuedHandoff;
+    }
+
     /**
      * @return Collection of pending explicit locks.
      */
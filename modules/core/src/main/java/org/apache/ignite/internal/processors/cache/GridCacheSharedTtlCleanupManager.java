@@ -16,24 +16,37 @@
 
 package org.apache.ignite.internal.processors.cache;
 
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.failure.FailureContext;
 import org.apache.ignite.internal.IgniteInterruptedCheckedException;
 import org.apache.ignite.internal.NodeStoppingException;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
 import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.internal.util.worker.GridWorker;
 import org.apache.ignite.thread.IgniteThread;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TTL_CLEANUP_WORKERS_COUNT;
 import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
 import static org.apache.ignite.failure.FailureType.SYSTEM_WORKER_TERMINATION;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.TTL_METRICS;
 
 /**
  * Periodically removes expired entities from caches with {@link CacheConfiguration#isEagerTtl()} flag set.
+ * <p>
+ * Expired entries are removed by {@link IgniteSystemProperties#IGNITE_TTL_CLEANUP_WORKERS_COUNT} workers.
+ * Partitions are distributed between the workers by partition number, so each partition is always cleaned
+ * by the same worker and workers do not contend for the same pending entries.
  */
 public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdapter {
     /** Ttl cleanup worker thread sleep interval, ms. */
@@ -42,15 +55,37 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
     /** Limit of expired entries processed by worker for certain cache in one pass. */
     private static final int CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT = 1000;
 
-    /** Cleanup worker. */
-    private CleanupWorker cleanupWorker;
+    /** Number of cleanup workers. */
+    private final int workersCnt = Math.max(1, IgniteSystemProperties.getInteger(IGNITE_TTL_CLEANUP_WORKERS_COUNT, 1));
+
+    /** Cleanup workers. */
+    private volatile CleanupWorker[] cleanupWorkers;
 
     /** Lock on worker thread creation. */
     private final ReentrantLock lock = new ReentrantLock();
 
+    /**
+     * Prevents the cache from being unregistered and, therefore, stopped while expiration is in progress.
+     * Read lock is held by workers, write lock is held on unregistering.
+     */
+    private final ReadWriteLock mgrsLock = new ReentrantReadWriteLock();
+
     /** Map of registered ttl managers, where the cache id is used as the key. */
     private final Map<Integer, GridCacheTtlManager> mgrs = new ConcurrentHashMap<>();
 
+    /** {@inheritDoc} */
+    @Override protected void start0() throws IgniteCheckedException {
+        MetricRegistry mreg = cctx.kernalContext().metric().registry(TTL_METRICS);
+
+        mreg.register("CleanupWorkersCount", () -> workersCnt, "Number of threads removing expired entries.");
+
+        mreg.register("ExpirationLag", this::expirationLag,
+            "Upper bound of time in milliseconds passed since expiration of the entries not removed yet.");
+
+        mreg.register("PendingEntries", this::pendingEntries,
+            "Number of entries with expire policy waiting for removal on the local node.");
+    }
+
     /** {@inheritDoc} */
     @Override protected void onKernalStop0(boolean cancel) {
         stopCleanupWorker();
@@ -74,7 +109,14 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
      * @param mgr ttl manager of cache.
      * */
     public void unregister(GridCacheTtlManager mgr) {
-        mgrs.remove(mgr.context().cacheId());
+        mgrsLock.writeLock().lock();
+
+        try {
+            mgrs.remove(mgr.context().cacheId());
+        }
+        finally {
+            mgrsLock.writeLock().unlock();
+        }
 
         if (mgrs.isEmpty())
             stopCleanupWorker();
@@ -89,13 +131,69 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
         lock.lock();
 
         try {
-            return cleanupWorker != null;
+            return cleanupWorkers != null;
         }
         finally {
             lock.unlock();
         }
     }
 
+    /**
+     * @return Number of cleanup workers, partition {@code p} is cleaned by the worker {@code p % workersCount()}.
+     */
+    public int workersCount() {
+        return workersCnt;
+    }
+
+    /**
+     * @return Upper bound of time in milliseconds passed since expiration of the entries not removed yet, that is
+     *      the time since the slowest worker started its last pass which has removed all the expired entries.
+     */
+    public long expirationLag() {
+        CleanupWorker[] workers = cleanupWorkers;
+
+        if (workers == null)
+            return 0;
+
+        long now = U.currentTimeMillis();
+
+        long lag = 0;
+
+        for (CleanupWorker worker : workers)
+            lag = Math.max(lag, now - worker.caughtUpTs);
+
+        return lag;
+    }
+
+    /**
+     * @return Number of entries with expire policy waiting for removal or {@code -1} if failed to get it.
+     */
+    public long pendingEntries() {
+        long size = 0;
+
+        Set<Integer> grpIds = new HashSet<>();
+
+        try {
+            for (GridCacheTtlManager mgr : mgrs.values()) {
+                GridCacheContext cctx = mgr.context();
+
+                size += mgr.trackedSize();
+
+                // Pending trees belong to the cache group, so count each group once.
+                if (grpIds.add(cctx.groupId()))
+                    size += cctx.offheap().expiredSize();
+            }
+        }
+        catch (IgniteCheckedException | IgniteException e) {
+            if (log.isDebugEnabled())
+                log.debug("Failed to get number of pending entries: " + e);
+
+            return -1;
+        }
+
+        return size;
+    }
+
     /**
      *
      */
@@ -103,12 +201,18 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
         lock.lock();
 
         try {
-            if (cleanupWorker != null)
+            if (cleanupWorkers != null)
                 return;
 
-            cleanupWorker = new CleanupWorker();
+            CleanupWorker[] workers = new CleanupWorker[workersCnt];
+
+            for (int i = 0; i < workersCnt; i++)
+                workers[i] = new CleanupWorker(i);
 
-            new IgniteThread(cleanupWorker).start();
+            for (CleanupWorker worker : workers)
+                new IgniteThread(worker).start();
+
+            cleanupWorkers = workers;
         }
         finally {
             lock.unlock();
@@ -122,11 +226,14 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
         lock.lock();
 
         try {
-            if (null != cleanupWorker) {
-                U.cancel(cleanupWorker);
-                U.join(cleanupWorker, log);
+            if (null != cleanupWorkers) {
+                for (CleanupWorker worker : cleanupWorkers)
+                    U.cancel(worker);
+
+                for (CleanupWorker worker : cleanupWorkers)
+                    U.join(worker, log);
 
-                cleanupWorker = null;
+                cleanupWorkers = null;
             }
         }
         finally {
@@ -138,12 +245,22 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
      * Entry cleanup worker.
      */
     private class CleanupWorker extends GridWorker {
+        /** Index of the worker, equals to the index of the partitions stripe cleaned by the worker. */
+        private final int idx;
+
+        /** Start time of the last pass which has removed all the expired entries. */
+        private volatile long caughtUpTs = U.currentTimeMillis();
+
         /**
          * Creates cleanup worker.
+         *
+         * @param idx Index of the worker.
          */
-        CleanupWorker() {
-            super(cctx.igniteInstanceName(), "ttl-cleanup-worker", cctx.logger(GridCacheSharedTtlCleanupManager.class),
-                cctx.kernalContext().workersRegistry());
+        CleanupWorker(int idx) {
+            super(cctx.igniteInstanceName(), workersCnt > 1 ? "ttl-cleanup-worker-" + idx : "ttl-cleanup-worker",
+                cctx.logger(GridCacheSharedTtlCleanupManager.class), cctx.kernalContext().workersRegistry());
+
+            this.idx = idx;
         }
 
         /** {@inheritDoc} */
@@ -162,24 +279,27 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
 
                 assert !cctx.kernalContext().recoveryMode();
 
-                final AtomicBoolean expiredRemains = new AtomicBoolean();
-
                 while (!isCancelled()) {
-                    expiredRemains.set(false);
+                    boolean expiredRemains = false;
+
+                    long passStartTs = U.currentTimeMillis();
 
                     for (Map.Entry<Integer, GridCacheTtlManager> mgr : mgrs.entrySet()) {
                         updateHeartbeat();
 
-                        Integer processedCacheID = mgr.getKey();
-
                         // Need to be sure that the cache to be processed will not be unregistered and,
                         // therefore, stopped during the process of expiration is in progress.
-                        mgrs.computeIfPresent(processedCacheID, (id, m) -> {
-                            if (m.expire(CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT))
-                                expiredRemains.set(true);
+                        mgrsLock.readLock().lock();
 
-                            return m;
-                        });
+                        try {
+                            GridCacheTtlManager m = mgrs.get(mgr.getKey());
+
+                            if (m != null && m.expire(CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT, idx, workersCnt))
+                                expiredRemains = true;
+                        }
+                        finally {
+                            mgrsLock.readLock().unlock();
+                        }
 
                         if (isCancelled())
                             return;
@@ -187,8 +307,11 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
 
                     updateHeartbeat();
 
-                    if (!expiredRemains.get())
+                    if (!expiredRemains) {
+                        caughtUpTs = passStartTs;
+
                         U.sleep(CLEANUP_WORKER_SLEEP_INTERVAL);
+                    }
 
                     onIdle();
                 }
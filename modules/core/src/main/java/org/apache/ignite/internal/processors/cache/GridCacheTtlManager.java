@@ -55,6 +55,12 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
     /** Timestamp when next clean try will be allowed. Used for throttling on per-cache basis. */
     protected volatile long nextCleanTime;
 
+    /**
+     * Timestamps when next clean try of the partitions stripe will be allowed. Each element is accessed by the
+     * cleanup worker of the stripe only.
+     */
+    private long[] stripeNextCleanTime;
+
     /** See {@link CacheConfiguration#isEagerTtl()}. */
     private volatile boolean eagerTtlEnabled;
 
@@ -104,6 +110,8 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
 
         eagerTtlEnabled = true;
 
+        stripeNextCleanTime = new long[cctx.shared().ttl().workersCount()];
+
         cctx.shared().ttl().register(this);
 
         pendingEntries = (!cctx.isLocal() && cctx.config().getNearConfiguration() != null) ? new GridConcurrentSkipListSetEx() : null;
@@ -160,7 +168,14 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
      * @throws IgniteCheckedException If failed.
      */
     public long pendingSize() throws IgniteCheckedException {
-        return (pendingEntries != null ? pendingEntries.sizex() : 0) + cctx.offheap().expiredSize();
+        return trackedSize() + cctx.offheap().expiredSize();
+    }
+
+    /**
+     * @return The number of near cache entries tracked on heap, not including the cache group pending tree.
+     */
+    long trackedSize() {
+        return pendingEntries != null ? pendingEntries.sizex() : 0;
     }
 
     /**
@@ -199,16 +214,33 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
      * @return {@code True} if unprocessed expired entries remains.
      */
     public boolean expire(int amount) {
+        return expire(amount, 0, 1);
+    }
+
+    /**
+     * Processes specified amount of expired entries of partitions belonging to the given stripe. Near cache entries
+     * are processed by a single stripe chosen by the cache ID.
+     *
+     * @param amount Limit of processed entries by single call, {@code -1} for no limit.
+     * @param stripe Stripe index.
+     * @param stripes Number of stripes, partition {@code p} belongs to stripe {@code p % stripes}.
+     * @return {@code True} if unprocessed expired entries remains.
+     * @see IgniteCacheOffheapManager#expire(GridCacheContext, IgniteInClosure2X, int, int, int)
+     */
+    public boolean expire(int amount, int stripe, int stripes) {
         // TTL manager is not initialized or eagerTtl disabled for cache.
         if (!eagerTtlEnabled)
             return false;
 
         assert cctx != null;
+        assert stripe >= 0 && stripe < stripes : "stripe=" + stripe + ", stripes=" + stripes;
 
         long now = U.currentTimeMillis();
 
+        boolean nearStripe = stripes == 1 || U.safeAbs(cctx.cacheId()) % stripes == stripe;
+
         try {
-            if (pendingEntries != null) {
+            if (pendingEntries != null && nearStripe) {
                 GridNearCacheAdapter nearCache = cctx.near();
 
                 GridCacheVersion obsoleteVer = null;
@@ -236,18 +268,27 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
             if(!cctx.affinityNode())
                 return false;  /* Pending tree never contains entries for that cache */
 
-            if (!hasPendingEntries || nextCleanTime > U.currentTimeMillis())
+            // Stripes are throttled separately, since other stripes still may have entries to clean.
+            boolean striped = stripes > 1;
+
+            assert !striped || stripes == stripeNextCleanTime.length : stripes;
+
+            if (!hasPendingEntries || (striped ? stripeNextCleanTime[stripe] : nextCleanTime) > U.currentTimeMillis())
                 return false;
 
-            boolean more = cctx.offheap().expire(dhtCtx, expireC, amount);
+            boolean more = striped ? cctx.offheap().expire(dhtCtx, expireC, amount, stripe, stripes) :
+                cctx.offheap().expire(dhtCtx, expireC, amount);
 
             if (more)
                 return true;
 
             // There is nothing to clean, so the next clean up can be postponed.
-            nextCleanTime = U.currentTimeMillis() + unwindThrottlingTimeout;
+            if (striped)
+                stripeNextCleanTime[stripe] = U.currentTimeMillis() + unwindThrottlingTimeout;
+            else
+                nextCleanTime = U.currentTimeMillis() + unwindThrottlingTimeout;
 
-            if (amount != -1 && pendingEntries != null) {
+            if (amount != -1 && pendingEntries != null && nearStripe) {
                 EntryWrapper e = pendingEntries.firstx();
 
                 return e != null && e.expireTime <= now;
@@ -171,6 +171,26 @@ public interface IgniteCacheOffheapManager {
     public boolean expire(GridCacheContext cctx, IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c, int amount)
         throws IgniteCheckedException;
 
+    /**
+     * Removes expired entries of partitions belonging to the given stripe only. Partition {@code p} belongs
+     * to stripe {@code p % stripes}, so different stripes can be processed concurrently.
+     *
+     * @param cctx Cache context.
+     * @param c Closure.
+     * @param amount Limit of processed entries by single call, {@code -1} for no limit.
+     * @param stripe Stripe index.
+     * @param stripes Number of stripes.
+     * @return {@code True} if unprocessed expired entries remains.
+     * @throws IgniteCheckedException If failed.
+     */
+    public boolean expire(
+        GridCacheContext cctx,
+        IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
+        int amount,
+        int stripe,
+        int stripes
+    ) throws IgniteCheckedException;
+
     /**
      * Gets the number of entries pending expire.
      *
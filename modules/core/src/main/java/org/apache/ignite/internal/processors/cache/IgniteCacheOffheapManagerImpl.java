@@ -166,8 +166,11 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
     /** */
     protected final ConcurrentMap<Integer, CacheDataStore> partDataStores = new ConcurrentHashMap<>();
 
-    /** */
-    private PendingEntriesTree pendingEntries;
+    /**
+     * Pending entries trees of the TTL cleanup stripes, partition {@code p} belongs to the tree {@code p % length},
+     * see {@link GridCacheSharedTtlCleanupManager#workersCount()}.
+     */
+    private PendingEntriesTree[] pendingEntries;
 
     /** */
     private final GridAtomicLong globalRmvId = new GridAtomicLong(U.currentTimeMillis() * 1000_000);
@@ -222,21 +225,29 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         assert !cctx.group().persistenceEnabled();
 
         if (cctx.affinityNode() && cctx.ttl().eagerTtlEnabled() && pendingEntries == null) {
-            String pendingEntriesTreeName = cctx.name() + "##PendingEntries";
+            // A tree per cleanup stripe, so that each cleanup worker walks only the entries it removes.
+            PendingEntriesTree[] trees = new PendingEntriesTree[ctx.ttl().workersCount()];
 
-            long rootPage = allocateForTree();
+            for (int i = 0; i < trees.length; i++) {
+                String pendingEntriesTreeName = cctx.name() + "##PendingEntries" + (i == 0 ? "" : "-" + i);
 
-            PageLockListener lsnr = ctx.diagnostic().pageLockTracker().createPageLockTracker(pendingEntriesTreeName);
+                long rootPage = allocateForTree();
 
-            pendingEntries = new PendingEntriesTree(
-                grp,
-                pendingEntriesTreeName,
-                grp.dataRegion().pageMemory(),
-                rootPage,
-                grp.reuseList(),
-                true,
-                lsnr
-            );
+                PageLockListener lsnr = ctx.diagnostic().pageLockTracker()
+                    .createPageLockTracker(pendingEntriesTreeName);
+
+                trees[i] = new PendingEntriesTree(
+                    grp,
+                    pendingEntriesTreeName,
+                    grp.dataRegion().pageMemory(),
+                    rootPage,
+                    grp.reuseList(),
+                    true,
+                    lsnr
+                );
+            }
+
+            pendingEntries = trees;
         }
     }
 
@@ -259,8 +270,10 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
             for (CacheDataStore store : cacheDataStores())
                 destroyCacheDataStore(store);
 
-            if (pendingEntries != null)
-                pendingEntries.destroy();
+            if (pendingEntries != null) {
+                for (PendingEntriesTree tree : pendingEntries)
+                    tree.destroy();
+            }
         }
         catch (IgniteCheckedException e) {
             throw new IgniteException(e.getMessage(), e);
@@ -294,12 +307,14 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                 if (pendingEntries != null) {
                     PendingRow row = new PendingRow(cacheId);
 
-                    GridCursor<PendingRow> cursor = pendingEntries.find(row, row, PendingEntriesTree.WITHOUT_KEY);
+                    for (PendingEntriesTree tree : pendingEntries) {
+                        GridCursor<PendingRow> cursor = tree.find(row, row, PendingEntriesTree.WITHOUT_KEY);
 
-                    while (cursor.next()) {
-                        boolean res = pendingEntries.removex(cursor.get());
+                        while (cursor.next()) {
+                            boolean res = tree.removex(cursor.get());
 
-                        assert res;
+                            assert res;
+                        }
                     }
                 }
             }
@@ -1320,7 +1335,32 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
         assert pendingEntries != null;
 
-        int cleared = expireInternal(cctx, c, amount);
+        int cleared = 0;
+
+        for (PendingEntriesTree tree : pendingEntries) {
+            cleared += expireInternal(cctx, c, tree, amount == -1 ? -1 : amount - cleared);
+
+            if (amount != -1 && cleared >= amount)
+                return true;
+        }
+
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean expire(
+        GridCacheContext cctx,
+        IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
+        int amount,
+        int stripe,
+        int stripes
+    ) throws IgniteCheckedException {
+        assert !cctx.isNear() : cctx.name();
+
+        assert pendingEntries != null;
+        assert stripes == pendingEntries.length : "stripes=" + stripes + ", trees=" + pendingEntries.length;
+
+        int cleared = expireInternal(cctx, c, pendingEntries[stripe], amount);
 
         return amount != -1 && cleared >= amount;
     }
@@ -1328,6 +1368,7 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
     /**
      * @param cctx Cache context.
      * @param c Closure.
+     * @param pendingEntries Pending entries tree.
      * @param amount Limit of processed entries by single call, {@code -1} for no limit.
      * @return cleared entries count.
      * @throws IgniteCheckedException If failed.
@@ -1335,6 +1376,7 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
     private int expireInternal(
         GridCacheContext cctx,
         IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
+        PendingEntriesTree pendingEntries,
         int amount
     ) throws IgniteCheckedException {
         long now = U.currentTimeMillis();
@@ -1391,7 +1433,15 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
     /** {@inheritDoc} */
     @Override public long expiredSize() throws IgniteCheckedException {
-        return pendingEntries != null ? pendingEntries.size() : 0;
+        if (pendingEntries == null)
+            return 0;
+
+        long size = 0;
+
+        for (PendingEntriesTree tree : pendingEntries)
+            size += tree.rowCount();
+
+        return size;
     }
 
     /**
@@ -2972,7 +3022,9 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
         /** {@inheritDoc} */
         @Override public PendingEntriesTree pendingTree() {
-            return pendingEntries;
+            PendingEntriesTree[] trees = pendingEntries;
+
+            return trees != null ? trees[partId % trees.length] : null;
         }
 
         /** {@inheritDoc} */
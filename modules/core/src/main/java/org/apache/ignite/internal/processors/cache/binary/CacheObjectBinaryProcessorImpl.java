@@ -64,6 +64,7 @@ import org.apache.ignite.internal.binary.BinaryMetadataHandler;
 import org.apache.ignite.internal.binary.BinaryObjectEx;
 import org.apache.ignite.internal.binary.BinaryObjectImpl;
 import org.apache.ignite.internal.binary.BinaryObjectOffheapImpl;
+import org.apache.ignite.internal.binary.BinaryStringDictionary;
 import org.apache.ignite.internal.binary.BinaryTypeImpl;
 import org.apache.ignite.internal.binary.BinaryUtils;
 import org.apache.ignite.internal.binary.GridBinaryMarshaller;
@@ -88,6 +89,9 @@ import org.apache.ignite.internal.processors.cacheobject.IgniteCacheObjectProces
 import org.apache.ignite.internal.processors.cacheobject.UserCacheObjectByteArrayImpl;
 import org.apache.ignite.internal.processors.cacheobject.UserCacheObjectImpl;
 import org.apache.ignite.internal.processors.cacheobject.UserKeyCacheObjectImpl;
+import org.apache.ignite.internal.processors.metastorage.DistributedMetaStorage;
+import org.apache.ignite.internal.processors.metastorage.DistributedMetastorageLifecycleListener;
+import org.apache.ignite.internal.processors.metastorage.ReadableDistributedMetaStorage;
 import org.apache.ignite.internal.processors.query.QueryUtils;
 import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.IgniteUtils;
@@ -120,6 +124,7 @@ import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAIT_SCHEMA_UPDATE
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
 import static org.apache.ignite.internal.GridComponent.DiscoveryDataExchangeType.BINARY_PROC;
 import static org.apache.ignite.internal.binary.BinaryUtils.mergeMetadata;
+import static org.apache.ignite.internal.processors.metastorage.DistributedMetaStorage.IGNITE_INTERNAL_KEY_PREFIX;
 
 /**
  * Binary processor implementation.
@@ -128,6 +133,18 @@ public class CacheObjectBinaryProcessorImpl extends GridProcessorAdapter impleme
     /** Immutable classes. */
     private static final Collection<Class<?>> IMMUTABLE_CLS = new HashSet<>();
 
+    /** Prefix of distributed metastorage keys of string dictionary values. */
+    private static final String STR_DICT_PREFIX = IGNITE_INTERNAL_KEY_PREFIX + "binary.strDict.";
+
+    /** Prefix of keys of values published for decoding. */
+    private static final String STR_DICT_VAL_PREFIX = STR_DICT_PREFIX + "val.";
+
+    /** Prefix of keys of values known to all nodes and ready for encoding. */
+    private static final String STR_DICT_READY_PREFIX = STR_DICT_PREFIX + "ready.";
+
+    /** Number of attempts to find a free id for a string dictionary value. */
+    private static final int STR_DICT_REG_ATTEMPTS = 10;
+
     /** */
     private volatile boolean discoveryStarted;
 
@@ -304,6 +321,89 @@ public class CacheObjectBinaryProcessorImpl extends GridProcessorAdapter impleme
 
             if (!ctx.clientNode())
                 metadataFileStore.restoreMetadata();
+
+            ctx.internalSubscriptionProcessor().registerDistributedMetastorageListener(
+                new DistributedMetastorageLifecycleListener() {
+                    @Override public void onReadyForRead(ReadableDistributedMetaStorage metastorage) {
+                        metastorage.listen(
+                            key -> key.startsWith(STR_DICT_PREFIX),
+                            (String key, Serializable oldVal, Serializable newVal) ->
+                                onStringDictionaryUpdate(key, newVal)
+                        );
+
+                        try {
+                            metastorage.iterate(STR_DICT_PREFIX, (key, val) -> onStringDictionaryUpdate(key, val));
+                        }
+                        catch (IgniteCheckedException e) {
+                            U.error(log, "Failed to read string dictionary from distributed metastorage.", e);
+                        }
+                    }
+
+                    @Override public void onReadyForWrite(DistributedMetaStorage metastorage) {
+                        BinaryStringDictionary strDict = binaryCtx.stringDictionary();
+
+                        if (strDict.encodingEnabled())
+                            strDict.registrar(val -> registerStringDictionaryValue(metastorage, val, 0));
+                    }
+                });
+        }
+    }
+
+    /**
+     * Updates local string dictionary.
+     *
+     * @param key Distributed metastorage key.
+     * @param val Value or {@code null} if removed.
+     */
+    private void onStringDictionaryUpdate(String key, @Nullable Serializable val) {
+        if (!(val instanceof String))
+            return;
+
+        BinaryStringDictionary strDict = binaryCtx.stringDictionary();
+
+        if (key.startsWith(STR_DICT_READY_PREFIX))
+            strDict.onValueReady(Integer.parseInt(key.substring(STR_DICT_READY_PREFIX.length())), (String)val);
+        else if (key.startsWith(STR_DICT_VAL_PREFIX))
+            strDict.onValueAdded(Integer.parseInt(key.substring(STR_DICT_VAL_PREFIX.length())), (String)val);
+    }
+
+    /**
+     * Adds value to the string dictionary. The value is stored under a free id first and is marked as ready only
+     * after the first update is acknowledged, i.e. has been received by all nodes. This way no node can get an
+     * encoded value before it is able to decode it.
+     *
+     * @param metastorage Distributed metastorage.
+     * @param val Value.
+     * @param attempt Attempt number.
+     */
+    private void registerStringDictionaryValue(DistributedMetaStorage metastorage, String val, int attempt) {
+        BinaryStringDictionary strDict = binaryCtx.stringDictionary();
+
+        int id = strDict.nextId();
+
+        try {
+            metastorage.compareAndSetAsync(STR_DICT_VAL_PREFIX + id, null, val).listen(fut -> {
+                try {
+                    if (fut.get())
+                        metastorage.writeAsync(STR_DICT_READY_PREFIX + id, val);
+                    else if (attempt < STR_DICT_REG_ATTEMPTS)
+                        registerStringDictionaryValue(metastorage, val, attempt + 1);
+                    else
+                        strDict.onRegistrationFailed(val);
+                }
+                catch (IgniteCheckedException e) {
+                    strDict.onRegistrationFailed(val);
+
+                    if (log.isDebugEnabled())
+                        log.debug("Failed to add value to string dictionary [id=" + id + ", err=" + e + ']');
+                }
+            });
+        }
+        catch (IgniteCheckedException e) {
+            strDict.onRegistrationFailed(val);
+
+            if (log.isDebugEnabled())
+                log.debug("Failed to add value to string dictionary [id=" + id + ", err=" + e + ']');
         }
     }
 
@@ -333,6 +433,7 @@ public class CacheObjectBinaryProcessorImpl extends GridProcessorAdapter impleme
 
         binaryContext().unregisterUserTypeDescriptors();
         binaryContext().unregisterBinarySchemas();
+        binaryContext().stringDictionary().clear();
 
         metadataLocCache.clear();
     }
@@ -422,6 +523,22 @@ public class CacheObjectBinaryProcessorImpl extends GridProcessorAdapter impleme
     @Override public Object marshalToBinary(
         @Nullable Object obj,
         boolean failIfUnregistered
+    ) throws BinaryObjectException {
+        return marshalToBinary(obj, failIfUnregistered, null);
+    }
+
+    /**
+     * @param obj Object.
+     * @param failIfUnregistered Throw exception if class isn't registered.
+     * @param strDict Dictionary to encode string fields of a user object with, not applied to elements of
+     *      collections, maps and arrays.
+     * @return Binary object.
+     * @throws BinaryObjectException In case of error.
+     */
+    private Object marshalToBinary(
+        @Nullable Object obj,
+        boolean failIfUnregistered,
+        @Nullable BinaryStringDictionary strDict
     ) throws BinaryObjectException {
         if (obj == null)
             return null;
@@ -488,7 +605,7 @@ public class CacheObjectBinaryProcessorImpl extends GridProcessorAdapter impleme
         if (binaryMarsh.mustDeserialize(obj))
             return obj; // No need to go through marshal-unmarshal because result will be the same as initial object.
 
-        byte[] arr = binaryMarsh.marshal(obj, failIfUnregistered);
+        byte[] arr = binaryMarsh.marshal(obj, failIfUnregistered, strDict);
 
         assert arr.length > 0;
 
@@ -1141,7 +1258,13 @@ public class CacheObjectBinaryProcessorImpl extends GridProcessorAdapter impleme
         if (obj == null || obj instanceof CacheObject)
             return (CacheObject)obj;
 
-        obj = toBinary(obj, failIfUnregistered);
+        BinaryStringDictionary strDict = binaryCtx.stringDictionary();
+
+        // Keys are never encoded since they are compared and hashed in serialized form.
+        if (strDict.encodingEnabled() && !isBinaryObject(obj))
+            obj = marshalToBinary(obj, failIfUnregistered, strDict);
+        else
+            obj = toBinary(obj, failIfUnregistered);
 
         if (obj instanceof CacheObject)
             return (CacheObject)obj;
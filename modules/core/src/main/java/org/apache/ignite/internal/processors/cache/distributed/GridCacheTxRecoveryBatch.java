@@ -0,0 +1,151 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.internal.IgniteFeatures;
+import org.apache.ignite.internal.cluster.ClusterTopologyCheckedException;
+import org.apache.ignite.internal.processors.cache.GridCacheFuture;
+import org.apache.ignite.internal.processors.cache.GridCacheMessage;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+import static org.apache.ignite.internal.managers.communication.GridIoPolicy.SYSTEM_POOL;
+
+/**
+ * Collects transaction recovery requests or responses sent while many transactions are recovered at once,
+ * e.g. on node failure, and sends them on {@link #flush()} as few {@link GridCacheTxRecoveryBatchMessage}s
+ * per node instead of a message per transaction.
+ * <p>
+ * Messages added after the flush are rejected, so that a recovery step that completes asynchronously sends its
+ * message directly.
+ */
+public class GridCacheTxRecoveryBatch {
+    /** */
+    private final GridCacheSharedContext<?, ?> cctx;
+
+    /** */
+    private final IgniteLogger log;
+
+    /** Maximum number of messages in a batch. */
+    private final int maxBatchSize;
+
+    /** Messages by node ID, {@code null} once flushed. */
+    private Map<UUID, List<GridCacheMessage>> msgs = new HashMap<>();
+
+    /**
+     * @param cctx Context.
+     * @param maxBatchSize Maximum number of messages in a batch, values less than {@code 2} disable batching.
+     */
+    public GridCacheTxRecoveryBatch(GridCacheSharedContext<?, ?> cctx, int maxBatchSize) {
+        this.cctx = cctx;
+        this.maxBatchSize = maxBatchSize;
+
+        log = cctx.txRecoveryMessageLogger();
+    }
+
+    /**
+     * @param nodeId Node ID.
+     * @param msg Recovery request or response.
+     * @param plc IO policy.
+     * @return {@code True} if the message is added to the batch, {@code false} if it has to be sent directly.
+     */
+    public synchronized boolean add(UUID nodeId, GridCacheMessage msg, byte plc) {
+        if (msgs == null || maxBatchSize < 2 || plc != SYSTEM_POOL || cctx.deploymentEnabled())
+            return false;
+
+        ClusterNode node = cctx.discovery().node(nodeId);
+
+        if (node == null || !IgniteFeatures.nodeSupports(cctx.kernalContext(), node, IgniteFeatures.TX_RECOVERY_BATCH))
+            return false;
+
+        msgs.computeIfAbsent(nodeId, id -> new ArrayList<>()).add(msg);
+
+        return true;
+    }
+
+    /**
+     * Sends collected messages, messages added after this call are rejected.
+     */
+    public void flush() {
+        Map<UUID, List<GridCacheMessage>> msgs0;
+
+        synchronized (this) {
+            msgs0 = msgs;
+
+            msgs = null;
+        }
+
+        if (msgs0 == null)
+            return;
+
+        for (Map.Entry<UUID, List<GridCacheMessage>> e : msgs0.entrySet()) {
+            UUID nodeId = e.getKey();
+            List<GridCacheMessage> nodeMsgs = e.getValue();
+
+            for (int from = 0; from < nodeMsgs.size(); from += maxBatchSize) {
+                List<GridCacheMessage> batch = nodeMsgs.subList(from, Math.min(from + maxBatchSize, nodeMsgs.size()));
+
+                try {
+                    cctx.io().send(nodeId, batch.size() == 1 ? batch.get(0) :
+                        new GridCacheTxRecoveryBatchMessage(new ArrayList<>(batch)), SYSTEM_POOL);
+
+                    if (log.isInfoEnabled())
+                        log.info("Sent tx recovery batch [node=" + nodeId + ", size=" + batch.size() + ']');
+                }
+                catch (IgniteCheckedException err) {
+                    onSendFailed(nodeId, batch, err);
+                }
+            }
+        }
+    }
+
+    /**
+     * Notifies recovery futures of the requests that weren't sent.
+     *
+     * @param nodeId Node ID.
+     * @param batch Messages.
+     * @param err Error.
+     */
+    private void onSendFailed(UUID nodeId, List<GridCacheMessage> batch, IgniteCheckedException err) {
+        if (err instanceof ClusterTopologyCheckedException) {
+            if (log.isDebugEnabled())
+                log.debug("Failed to send tx recovery batch, node left [node=" + nodeId + ']');
+        }
+        else
+            U.error(log, "Failed to send tx recovery batch [node=" + nodeId + ", size=" + batch.size() + ']', err);
+
+        for (GridCacheMessage msg : batch) {
+            if (!(msg instanceof GridCacheTxRecoveryRequest))
+                continue;
+
+            GridCacheTxRecoveryRequest req = (GridCacheTxRecoveryRequest)msg;
+
+            GridCacheFuture<?> fut = cctx.mvcc().future(req.futureId());
+
+            if (fut instanceof GridCacheTxRecoveryFuture)
+                ((GridCacheTxRecoveryFuture)fut).onSendFailed(nodeId, req.miniId(), err);
+        }
+    }
+}
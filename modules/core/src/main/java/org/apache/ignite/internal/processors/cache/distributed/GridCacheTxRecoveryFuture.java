@@ -86,6 +86,9 @@ public class GridCacheTxRecoveryFuture extends GridCacheCompoundIdentityFuture<B
     /** */
     private final boolean nearTxCheck;
 
+    /** Batch collecting requests of transactions recovered together with this one. */
+    @Nullable private GridCacheTxRecoveryBatch batch;
+
     /**
      * @param cctx Context.
      * @param tx Transaction.
@@ -136,6 +139,17 @@ public class GridCacheTxRecoveryFuture extends GridCacheCompoundIdentityFuture<B
      * Initializes future.
      */
     public void prepare() {
+        prepare(null);
+    }
+
+    /**
+     * Initializes future.
+     *
+     * @param batch Batch to send requests with, {@code null} to send them separately.
+     */
+    public void prepare(@Nullable GridCacheTxRecoveryBatch batch) {
+        this.batch = batch;
+
         if (nearTxCheck) {
             UUID nearNodeId = tx.eventNodeId();
 
@@ -167,7 +181,7 @@ public class GridCacheTxRecoveryFuture extends GridCacheCompoundIdentityFuture<B
                     tx.activeCachesDeploymentEnabled());
 
                 try {
-                    cctx.io().send(nearNodeId, req, tx.ioPolicy());
+                    send(nearNodeId, req);
 
                     if (msgLog.isInfoEnabled()) {
                         msgLog.info("Recovery fut, sent request near tx [txId=" + tx.nearXidVersion() +
@@ -286,7 +300,7 @@ public class GridCacheTxRecoveryFuture extends GridCacheCompoundIdentityFuture<B
                         tx.activeCachesDeploymentEnabled());
 
                     try {
-                        cctx.io().send(id, req, tx.ioPolicy());
+                        send(id, req);
 
                         if (msgLog.isInfoEnabled()) {
                             msgLog.info("Recovery fut, sent request to backup [txId=" + tx.nearXidVersion() +
@@ -325,7 +339,7 @@ public class GridCacheTxRecoveryFuture extends GridCacheCompoundIdentityFuture<B
                     tx.activeCachesDeploymentEnabled());
 
                 try {
-                    cctx.io().send(nodeId, req, tx.ioPolicy());
+                    send(nodeId, req);
 
                     if (msgLog.isInfoEnabled()) {
                         msgLog.info("Recovery fut, sent request to primary [txId=" + tx.nearXidVersion() +
@@ -354,6 +368,16 @@ public class GridCacheTxRecoveryFuture extends GridCacheCompoundIdentityFuture<B
         markInitialized();
     }
 
+    /**
+     * @param nodeId Node ID.
+     * @param req Request.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void send(UUID nodeId, GridCacheTxRecoveryRequest req) throws IgniteCheckedException {
+        if (batch == null || !batch.add(nodeId, req, tx.ioPolicy()))
+            cctx.io().send(nodeId, req, tx.ioPolicy());
+    }
+
     /**
      * @param nodeId Node ID.
      * @return Number of transactions on node.
@@ -408,6 +432,25 @@ public class GridCacheTxRecoveryFuture extends GridCacheCompoundIdentityFuture<B
         }
     }
 
+    /**
+     * Handles failure to send a batched request.
+     *
+     * @param nodeId Node ID.
+     * @param miniId Mini future ID.
+     * @param e Error.
+     */
+    public void onSendFailed(UUID nodeId, IgniteUuid miniId, IgniteCheckedException e) {
+        MiniFuture mini = miniFuture(miniId);
+
+        if (mini == null)
+            return;
+
+        if (e instanceof ClusterTopologyCheckedException)
+            mini.onNodeLeft(nodeId);
+        else
+            mini.onError(e);
+    }
+
     /**
      * Finds pending mini future by the given mini ID.
      *
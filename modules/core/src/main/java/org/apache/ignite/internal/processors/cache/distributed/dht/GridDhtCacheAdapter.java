@@ -77,6 +77,7 @@ import org.apache.ignite.internal.processors.cache.mvcc.MvccUtils;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
 import org.apache.ignite.internal.processors.platform.cache.PlatformCacheEntryFilter;
+import org.apache.ignite.internal.transactions.IgniteTxOptimisticCheckedException;
 import org.apache.ignite.internal.util.future.GridEmbeddedFuture;
 import org.apache.ignite.internal.util.future.GridFinishedFuture;
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
@@ -101,6 +102,7 @@ import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.events.EventType.EVT_NODE_FAILED;
 import static org.apache.ignite.events.EventType.EVT_NODE_LEFT;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.OWNING;
 import static org.apache.ignite.internal.processors.dr.GridDrType.DR_LOAD;
 import static org.apache.ignite.internal.processors.dr.GridDrType.DR_NONE;
 import static org.apache.ignite.internal.util.GridConcurrentFactory.newMap;
@@ -1173,7 +1175,20 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
                 try {
                     GridCacheEntryInfo info = fut.get();
 
-                    if (F.isEmpty(fut.invalidPartitions())) {
+                    IgniteTxOptimisticCheckedException conflict =
+                        checkReadVersions(req.versionCheckKeys(), req.versionCheckVersions());
+
+                    if (conflict != null) {
+                        res = new GridNearSingleGetResponse(ctx.cacheId(),
+                            req.futureId(),
+                            req.topologyVersion(),
+                            null,
+                            false,
+                            req.addDeploymentInfo());
+
+                        res.error(conflict);
+                    }
+                    else if (F.isEmpty(fut.invalidPartitions())) {
                         Message res0 = null;
 
                         if (info != null) {
@@ -1284,7 +1299,13 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
                 try {
                     Collection<GridCacheEntryInfo> entries = fut.get();
 
-                    res.entries(entries);
+                    IgniteTxOptimisticCheckedException conflict =
+                        checkReadVersions(req.versionCheckKeys(), req.versionCheckVersions());
+
+                    if (conflict != null)
+                        res.error(conflict);
+                    else
+                        res.entries(entries);
                 }
                 catch (NodeStoppingException ignored) {
                     return;
@@ -1314,6 +1335,65 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
         });
     }
 
+    /**
+     * Validates read versions of keys an optimistic serializable transaction read earlier. Keys of partitions
+     * not owned by the local node are skipped, prepare validates them anyway.
+     *
+     * @param keys Keys.
+     * @param vers Read versions.
+     * @return Read/write conflict error or {@code null} if no conflict was found.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Nullable private IgniteTxOptimisticCheckedException checkReadVersions(
+        @Nullable List<KeyCacheObject> keys,
+        @Nullable List<GridCacheVersion> vers
+    ) throws IgniteCheckedException {
+        if (keys == null)
+            return null;
+
+        assert vers != null && vers.size() == keys.size();
+
+        for (int i = 0; i < keys.size(); i++) {
+            KeyCacheObject key = keys.get(i);
+
+            GridDhtLocalPartition part = ctx.topology().localPartition(ctx.affinity().partition(key));
+
+            if (part == null || part.state() != OWNING)
+                continue;
+
+            while (true) {
+                GridCacheEntryEx entry = null;
+
+                try {
+                    entry = entryEx(key);
+
+                    entry.unswap();
+
+                    if (!entry.checkSerializableReadVersion(vers.get(i))) {
+                        return new IgniteTxOptimisticCheckedException(S.toString(
+                            "Failed to read value, read/write conflict on a key read by the transaction earlier",
+                            "key", key.value(ctx.cacheObjectContext(), false), true,
+                            "cache", ctx.name(), false));
+                    }
+
+                    break;
+                }
+                catch (GridCacheEntryRemovedException ignored) {
+                    // Retry.
+                }
+                catch (GridDhtInvalidPartitionException ignored) {
+                    break;
+                }
+                finally {
+                    if (entry != null)
+                        entry.touch();
+                }
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Initiates process of notifying all interested nodes that TTL was changed.
      * Directly sends requests to primary nodes and {@link IgniteCacheExpiryPolicy#readers()}.
@@ -55,9 +55,11 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.topology.Grid
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionTopology;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearGetRequest;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearGetRequestV2;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearLockRequest;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearLockResponse;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearSingleGetRequest;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearSingleGetRequestV2;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTransactionalCache;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxEnlistFuture;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxEnlistRequest;
@@ -152,6 +154,19 @@ public abstract class GridDhtTransactionalCacheAdapter<K, V> extends GridDhtCach
             }
         });
 
+        ctx.io().addCacheHandler(ctx.cacheId(), GridNearGetRequestV2.class, new CI2<UUID, GridNearGetRequestV2>() {
+            @Override public void apply(UUID nodeId, GridNearGetRequestV2 req) {
+                processNearGetRequest(nodeId, req);
+            }
+        });
+
+        ctx.io().addCacheHandler(ctx.cacheId(), GridNearSingleGetRequestV2.class,
+            new CI2<UUID, GridNearSingleGetRequestV2>() {
+                @Override public void apply(UUID nodeId, GridNearSingleGetRequestV2 req) {
+                    processNearSingleGetRequest(nodeId, req);
+                }
+            });
+
         ctx.io().addCacheHandler(ctx.cacheId(), GridNearLockRequest.class, new CI2<UUID, GridNearLockRequest>() {
             @Override public void apply(UUID nodeId, GridNearLockRequest req) {
                 processNearLockRequest(nodeId, req);
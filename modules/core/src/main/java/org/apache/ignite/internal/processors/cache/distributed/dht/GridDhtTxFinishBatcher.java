@@ -0,0 +1,201 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.internal.IgniteFeatures;
+import org.apache.ignite.internal.cluster.ClusterTopologyCheckedException;
+import org.apache.ignite.internal.processors.cache.GridCacheMessage;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+import static org.apache.ignite.internal.managers.communication.GridIoPolicy.SYSTEM_POOL;
+
+/**
+ * Combines DHT transaction finish messages sent concurrently to the same node into
+ * {@link GridDhtTxFinishBatchMessage}s.
+ * <p>
+ * A message is queued for its node and the thread that finds no send to the node in progress drains the queue.
+ * Messages queued by other threads meanwhile are sent by the draining thread as a single batch, so batching
+ * doesn't delay messages and a message sent with no concurrent ones goes as is. A thread drains at most the messages
+ * queued before it has taken the queue, messages queued later and left behind are drained in the system pool, so
+ * the thread isn't held sending messages of others while they keep coming.
+ * <p>
+ * Send errors are logged rather than propagated, so only messages whose sender doesn't wait for the send
+ * outcome may be sent through the batcher.
+ */
+public class GridDhtTxFinishBatcher {
+    /** */
+    private final GridCacheSharedContext<?, ?> cctx;
+
+    /** */
+    private final IgniteLogger log;
+
+    /** Maximum number of messages in a batch. */
+    private final int maxBatchSize;
+
+    /** Queues by node ID. */
+    private final ConcurrentMap<UUID, NodeQueue> queues = new ConcurrentHashMap<>();
+
+    /**
+     * @param cctx Context.
+     * @param maxBatchSize Maximum number of messages in a batch, values less than {@code 2} disable batching.
+     */
+    public GridDhtTxFinishBatcher(GridCacheSharedContext<?, ?> cctx, int maxBatchSize) {
+        this.cctx = cctx;
+        this.maxBatchSize = maxBatchSize;
+
+        log = cctx.logger(GridDhtTxFinishBatcher.class);
+    }
+
+    /**
+     * @param node Node.
+     * @param plc IO policy.
+     * @return {@code True} if a message to the node can be sent through the batcher.
+     */
+    public boolean batchable(ClusterNode node, byte plc) {
+        return maxBatchSize > 1 && plc == SYSTEM_POOL && !cctx.deploymentEnabled() &&
+            IgniteFeatures.nodeSupports(cctx.kernalContext(), node, IgniteFeatures.TX_FINISH_BATCH);
+    }
+
+    /**
+     * Sends the message alone or together with messages concurrently sent to the same node.
+     *
+     * @param node Node.
+     * @param msg Message.
+     */
+    public void send(ClusterNode node, GridCacheMessage msg) {
+        NodeQueue q = queues.computeIfAbsent(node.id(), id -> new NodeQueue());
+
+        q.add(msg);
+
+        q.drain(node);
+    }
+
+    /**
+     * @param nodeId Left node ID.
+     */
+    public void onNodeLeft(UUID nodeId) {
+        queues.remove(nodeId);
+    }
+
+    /**
+     * @param node Node.
+     * @param msg Message.
+     */
+    private void send0(ClusterNode node, GridCacheMessage msg) {
+        try {
+            cctx.io().send(node, msg, SYSTEM_POOL);
+        }
+        catch (ClusterTopologyCheckedException ignored) {
+            if (log.isDebugEnabled())
+                log.debug("Failed to send transaction finish message, node left [node=" + node.id() + ']');
+        }
+        catch (IgniteCheckedException e) {
+            U.error(log, "Failed to send transaction finish message [node=" + node.id() + ", msg=" + msg + ']', e);
+        }
+    }
+
+    /**
+     * Messages to a node.
+     */
+    private class NodeQueue {
+        /** Messages. */
+        private final Queue<GridCacheMessage> msgs = new ConcurrentLinkedQueue<>();
+
+        /** Whether some thread drains the queue. */
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        /** Number of queued messages, {@link ConcurrentLinkedQueue#size()} is linear. */
+        private final AtomicInteger size = new AtomicInteger();
+
+        /**
+         * @param msg Message.
+         */
+        private void add(GridCacheMessage msg) {
+            msgs.add(msg);
+
+            size.incrementAndGet();
+        }
+
+        /**
+         * @return Queued message or {@code null} if there is none.
+         */
+        private GridCacheMessage poll() {
+            GridCacheMessage msg = msgs.poll();
+
+            if (msg != null)
+                size.decrementAndGet();
+
+            return msg;
+        }
+
+        /**
+         * @param node Node.
+         */
+        private void drain(ClusterNode node) {
+            if (!draining.compareAndSet(false, true))
+                return;
+
+            try {
+                // The own message of the thread is queued already, so it is among the ones counted here.
+                int left = size.get();
+
+                for (GridCacheMessage msg; left > 0 && (msg = poll()) != null; ) {
+                    left--;
+
+                    List<GridCacheMessage> batch = null;
+
+                    for (GridCacheMessage next; left > 0 && (next = poll()) != null; ) {
+                        left--;
+
+                        if (batch == null) {
+                            batch = new ArrayList<>();
+
+                            batch.add(msg);
+                        }
+
+                        batch.add(next);
+
+                        if (batch.size() == maxBatchSize)
+                            break;
+                    }
+
+                    send0(node, batch == null ? msg : new GridDhtTxFinishBatchMessage(batch));
+                }
+            }
+            finally {
+                draining.set(false);
+            }
+
+            // Messages queued meanwhile by threads that found the queue taken are not sent by anyone else.
+            if (!msgs.isEmpty())
+                cctx.kernalContext().closure().runLocalSafe(() -> drain(node), SYSTEM_POOL);
+        }
+    }
+}
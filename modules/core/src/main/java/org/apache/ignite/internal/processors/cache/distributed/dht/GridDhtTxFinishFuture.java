@@ -529,7 +529,13 @@ public final class GridDhtTxFinishFuture<K, V> extends GridCacheCompoundIdentity
                         + n.id()));
                 }
                 else {
-                    cctx.io().send(n, req, tx.ioPolicy());
+                    GridDhtTxFinishBatcher batcher = cctx.tm().finishBatcher();
+
+                    // Nobody waits for the outcome of asynchronous commit, so it can be sent in a batch.
+                    if (!sync && commit && batcher.batchable(n, tx.ioPolicy()))
+                        batcher.send(n, req);
+                    else
+                        cctx.io().send(n, req, tx.ioPolicy());
 
                     if (msgLog.isDebugEnabled()) {
                         msgLog.debug("DHT finish fut, sent request dht [txId=" + tx.nearXidVersion() +
@@ -42,6 +42,8 @@ import org.apache.ignite.internal.processors.cache.KeyCacheObject;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsExchangeFuture;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtInvalidPartitionException;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearGetRequest;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearGetRequestV2;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxReadChecks;
 import org.apache.ignite.internal.processors.cache.mvcc.MvccSnapshot;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
@@ -66,6 +68,9 @@ public class GridPartitionedGetFuture<K, V> extends CacheDistributedGetFutureAda
     /** */
     protected final MvccSnapshot mvccSnapshot;
 
+    /** Read versions to validate on primary nodes. */
+    private GridNearTxReadChecks readChecks;
+
     /**
      * @param cctx Context.
      * @param keys Keys.
@@ -130,6 +135,13 @@ public class GridPartitionedGetFuture<K, V> extends CacheDistributedGetFutureAda
         return mvccSnapshot;
     }
 
+    /**
+     * @param readChecks Read versions of keys read by the transaction earlier to validate on primary nodes.
+     */
+    public void readChecks(@Nullable GridNearTxReadChecks readChecks) {
+        this.readChecks = readChecks;
+    }
+
     /**
      * Initializes future.
      *
@@ -668,6 +680,32 @@ public class GridPartitionedGetFuture<K, V> extends CacheDistributedGetFutureAda
 
         /** {@inheritDoc} */
         @Override protected GridNearGetRequest createGetRequest0(IgniteUuid rootFutId, IgniteUuid futId) {
+            if (readChecks != null && readChecks.supported(node)) {
+                GridNearGetRequestV2 req = new GridNearGetRequestV2(
+                    cctx.cacheId(),
+                    rootFutId,
+                    futId,
+                    null,
+                    keys,
+                    readThrough,
+                    topVer,
+                    subjId,
+                    taskName == null ? 0 : taskName.hashCode(),
+                    expiryPlc != null ? expiryPlc.forCreate() : -1L,
+                    expiryPlc != null ? expiryPlc.forAccess() : -1L,
+                    false,
+                    skipVals,
+                    cctx.deploymentEnabled(),
+                    recovery,
+                    txLbl,
+                    mvccSnapshot()
+                );
+
+                readChecks.forEach(node, topVer, req::addVersionCheck);
+
+                return req;
+            }
+
             return new GridNearGetRequest(
                 cctx.cacheId(),
                 rootFutId,
@@ -42,7 +42,6 @@ import org.apache.ignite.internal.processors.cache.GridCacheEntryInfo;
 import org.apache.ignite.internal.processors.cache.GridCacheEntryRemovedException;
 import org.apache.ignite.internal.processors.cache.GridCacheFuture;
 import org.apache.ignite.internal.processors.cache.GridCacheFutureAdapter;
-import org.apache.ignite.internal.processors.cache.GridCacheMessage;
 import org.apache.ignite.internal.processors.cache.GridCacheUtils.BackupPostProcessingClosure;
 import org.apache.ignite.internal.processors.cache.IgniteCacheExpiryPolicy;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
@@ -51,7 +50,9 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.topology.Grid
 import org.apache.ignite.internal.processors.cache.distributed.near.CacheVersionedValue;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearGetResponse;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearSingleGetRequest;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearSingleGetRequestV2;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearSingleGetResponse;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxReadChecks;
 import org.apache.ignite.internal.processors.cache.mvcc.MvccSnapshot;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
@@ -152,6 +153,9 @@ public class GridPartitionedSingleGetFuture extends GridCacheFutureAdapter<Objec
     /** Transaction label. */
     private final String txLbl;
 
+    /** Read versions to validate on the primary node. */
+    private GridNearTxReadChecks readChecks;
+
     /** Invalid mappened nodes. */
     private Set<ClusterNode> invalidNodes = Collections.emptySet();
 
@@ -226,6 +230,13 @@ public class GridPartitionedSingleGetFuture extends GridCacheFutureAdapter<Objec
             log = U.logger(cctx.kernalContext(), logRef, GridPartitionedSingleGetFuture.class);
     }
 
+    /**
+     * @param readChecks Read versions of keys read by the transaction earlier to validate on the primary node.
+     */
+    public void readChecks(@Nullable GridNearTxReadChecks readChecks) {
+        this.readChecks = readChecks;
+    }
+
     /**
      * Initialize future.
      */
@@ -353,24 +364,52 @@ public class GridPartitionedSingleGetFuture extends GridCacheFutureAdapter<Objec
                 postProcessingClos = postClos;
             }
 
-            GridCacheMessage req = new GridNearSingleGetRequest(
-                cctx.cacheId(),
-                futId.localId(),
-                key,
-                readThrough,
-                topVer,
-                subjId,
-                taskName == null ? 0 : taskName.hashCode(),
-                expiryPlc != null ? expiryPlc.forCreate() : -1L,
-                expiryPlc != null ? expiryPlc.forAccess() : -1L,
-                skipVals,
-                /*add reader*/false,
-                needVer,
-                cctx.deploymentEnabled(),
-                recovery,
-                txLbl,
-                mvccSnapshot
-            );
+            GridNearSingleGetRequest req;
+
+            if (readChecks != null && readChecks.supported(node)) {
+                GridNearSingleGetRequestV2 req0 = new GridNearSingleGetRequestV2(
+                    cctx.cacheId(),
+                    futId.localId(),
+                    key,
+                    readThrough,
+                    topVer,
+                    subjId,
+                    taskName == null ? 0 : taskName.hashCode(),
+                    expiryPlc != null ? expiryPlc.forCreate() : -1L,
+                    expiryPlc != null ? expiryPlc.forAccess() : -1L,
+                    skipVals,
+                    /*add reader*/false,
+                    needVer,
+                    cctx.deploymentEnabled(),
+                    recovery,
+                    txLbl,
+                    mvccSnapshot
+                );
+
+                readChecks.forEach(node, topVer, req0::addVersionCheck);
+
+                req = req0;
+            }
+            else {
+                req = new GridNearSingleGetRequest(
+                    cctx.cacheId(),
+                    futId.localId(),
+                    key,
+                    readThrough,
+                    topVer,
+                    subjId,
+                    taskName == null ? 0 : taskName.hashCode(),
+                    expiryPlc != null ? expiryPlc.forCreate() : -1L,
+                    expiryPlc != null ? expiryPlc.forAccess() : -1L,
+                    skipVals,
+                    /*add reader*/false,
+                    needVer,
+                    cctx.deploymentEnabled(),
+                    recovery,
+                    txLbl,
+                    mvccSnapshot
+                );
+            }
 
             try {
                 cctx.io().send(node, req, cctx.ioPolicy());
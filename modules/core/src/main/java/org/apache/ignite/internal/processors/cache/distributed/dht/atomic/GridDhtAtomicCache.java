@@ -36,6 +36,7 @@ import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.binary.BinaryInvalidTypeException;
 import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.internal.IgniteFeatures;
 import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.NodeStoppingException;
 import org.apache.ignite.internal.UnregisteredBinaryTypeException;
@@ -53,6 +54,7 @@ import org.apache.ignite.internal.processors.cache.CacheOperationContext;
 import org.apache.ignite.internal.processors.cache.CacheStoppedException;
 import org.apache.ignite.internal.processors.cache.CacheStorePartialUpdateException;
 import org.apache.ignite.internal.processors.cache.EntryGetResult;
+import org.apache.ignite.internal.processors.cache.GridCacheAtomicWalBatch;
 import org.apache.ignite.internal.processors.cache.GridCacheConcurrentMap;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.GridCacheEntryEx;
@@ -124,6 +126,7 @@ import static org.apache.ignite.cache.CacheWriteSynchronizationMode.PRIMARY_SYNC
 import static org.apache.ignite.events.EventType.EVT_CACHE_OBJECT_PUT;
 import static org.apache.ignite.events.EventType.EVT_CACHE_OBJECT_READ;
 import static org.apache.ignite.events.EventType.EVT_CACHE_OBJECT_REMOVED;
+import static org.apache.ignite.internal.IgniteFeatures.NEAR_EVICTED_BATCH;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_VALIDATE_CACHE_REQUESTS;
 import static org.apache.ignite.internal.processors.cache.GridCacheOperation.DELETE;
 import static org.apache.ignite.internal.processors.cache.GridCacheOperation.TRANSFORM;
@@ -357,6 +360,11 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                 }
             });
 
+        ctx.io().addCacheHandler(
+            ctx.cacheId(),
+            GridDhtAtomicNearEvictedMessage.class,
+            (CI2<UUID, GridDhtAtomicNearEvictedMessage>)this::processDhtAtomicNearEvictedMessage);
+
         ctx.io().addCacheHandler(
             ctx.cacheId(),
             GridDhtAtomicNearResponse.class,
@@ -1876,7 +1884,17 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                                     }
                                 }
 
-                                update(node, locked, req, res, updDhtRes, taskName);
+                                // All entries stay locked till the end of update, so their WAL records and
+                                // row writes can be batched.
+                                GridCacheAtomicWalBatch walBatch = GridCacheAtomicWalBatch.start(ctx, req.size());
+
+                                try {
+                                    update(node, locked, req, res, updDhtRes, taskName);
+                                }
+                                finally {
+                                    if (walBatch != null)
+                                        walBatch.finish();
+                                }
 
                                 dhtFut = updDhtRes.dhtFuture();
                                 deleted = updDhtRes.deleted();
@@ -3450,6 +3468,8 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
 
         GridDhtAtomicUpdateResponse dhtRes = null;
 
+        List<KeyCacheObject> defNearEvicted = null;
+
         if (req.nearSize() > 0 || req.obsoleteNearKeysSize() > 0) {
             List<KeyCacheObject> nearEvicted = null;
 
@@ -3463,12 +3483,17 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
             }
 
             if (nearEvicted != null) {
-                dhtRes = new GridDhtAtomicUpdateResponse(ctx.cacheId(),
-                    req.partition(),
-                    req.futureId(),
-                    ctx.deploymentEnabled());
+                // Readers are removed asynchronously anyway, so evicted keys can wait for the deferred response.
+                if (!req.replyWithoutDelay() && nearEvictedBatchSupported(nodeId))
+                    defNearEvicted = nearEvicted;
+                else {
+                    dhtRes = new GridDhtAtomicUpdateResponse(ctx.cacheId(),
+                        req.partition(),
+                        req.futureId(),
+                        ctx.deploymentEnabled());
 
-                dhtRes.nearEvicted(nearEvicted);
+                    dhtRes.nearEvicted(nearEvicted);
+                }
             }
         }
 
@@ -3506,7 +3531,7 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
         if (dhtRes != null)
             sendDhtPrimaryResponse(nodeId, req, dhtRes);
         else
-            sendDeferredUpdateResponse(req.partition(), nodeId, req.futureId());
+            sendDeferredUpdateResponse(req.partition(), nodeId, req.futureId(), defNearEvicted);
     }
 
     /**
@@ -3540,12 +3565,28 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
         }
     }
 
+    /**
+     * @param primaryId Primary ID.
+     * @return {@code True} if the primary node accepts near evicted keys batched with deferred responses.
+     */
+    private boolean nearEvictedBatchSupported(UUID primaryId) {
+        ClusterNode node = ctx.discovery().node(primaryId);
+
+        return node != null && IgniteFeatures.nodeSupports(ctx.kernalContext(), node, NEAR_EVICTED_BATCH);
+    }
+
     /**
      * @param part Partition.
      * @param primaryId Primary ID.
      * @param futId Future ID.
+     * @param nearEvicted Near evicted keys to send with the response.
      */
-    private void sendDeferredUpdateResponse(int part, UUID primaryId, long futId) {
+    private void sendDeferredUpdateResponse(
+        int part,
+        UUID primaryId,
+        long futId,
+        @Nullable List<KeyCacheObject> nearEvicted
+    ) {
         Map<UUID, GridDhtAtomicDeferredUpdateResponse> resMap = defRes.get();
 
         GridDhtAtomicDeferredUpdateResponse msg = resMap.get(primaryId);
@@ -3571,7 +3612,20 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
 
         futIds.add(futId);
 
-        if (futIds.size() >= DEFERRED_UPDATE_RESPONSE_BUFFER_SIZE) {
+        boolean evictedFull = false;
+
+        if (nearEvicted != null) {
+            GridDhtAtomicNearEvictedMessage evictedMsg = msg.nearEvicted();
+
+            if (evictedMsg == null)
+                msg.nearEvicted(evictedMsg = new GridDhtAtomicNearEvictedMessage(ctx.cacheId(), ctx.io().nextIoId()));
+
+            evictedMsg.addKeys(nearEvicted);
+
+            evictedFull = evictedMsg.keys().size() >= DEFERRED_UPDATE_RESPONSE_BUFFER_SIZE;
+        }
+
+        if (futIds.size() >= DEFERRED_UPDATE_RESPONSE_BUFFER_SIZE || evictedFull) {
             resMap.remove(primaryId);
 
             sendDeferredUpdateResponse(primaryId, msg);
@@ -3595,6 +3649,17 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                 msgLog.debug("Sent deferred DHT update response [futIds=" + msg.futureIds() +
                     ", node=" + primaryId + ']');
             }
+
+            GridDhtAtomicNearEvictedMessage evictedMsg = msg.nearEvicted();
+
+            if (evictedMsg != null) {
+                ctx.io().send(primaryId, evictedMsg, ctx.ioPolicy());
+
+                if (msgLog.isDebugEnabled()) {
+                    msgLog.debug("Sent near evicted keys [keys=" + evictedMsg.keys().size() +
+                        ", node=" + primaryId + ']');
+                }
+            }
         }
         catch (ClusterTopologyCheckedException ignored) {
             if (msgLog.isDebugEnabled()) {
@@ -3693,6 +3758,30 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
         }
     }
 
+    /**
+     * @param nodeId Reader node ID.
+     * @param msg Near evicted keys.
+     */
+    private void processDhtAtomicNearEvictedMessage(UUID nodeId, GridDhtAtomicNearEvictedMessage msg) {
+        if (msgLog.isDebugEnabled()) {
+            msgLog.debug("Received near evicted keys [keys=" + msg.keys().size() +
+                ", node=" + nodeId + ']');
+        }
+
+        for (KeyCacheObject key : msg.keys()) {
+            try {
+                GridDhtCacheEntry entry = (GridDhtCacheEntry)ctx.cache().peekEx(key);
+
+                if (entry != null)
+                    entry.removeReader(nodeId, msg.readerMessageId());
+            }
+            catch (GridCacheEntryRemovedException e) {
+                if (log.isDebugEnabled())
+                    log.debug("Entry with evicted reader was removed [key=" + key + ", err=" + e + ']');
+            }
+        }
+    }
+
     /**
      * @param nodeId Sender node ID.
      * @param res Deferred atomic update response.
@@ -49,6 +49,11 @@ public class GridDhtAtomicDeferredUpdateResponse extends GridCacheIdMessage impl
     @GridToStringExclude
     private GridTimeoutObject timeoutSnd;
 
+    /** Near evicted keys to send together with the response. */
+    @GridDirectTransient
+    @GridToStringExclude
+    private GridDhtAtomicNearEvictedMessage nearEvicted;
+
     /**
      * Empty constructor required by {@link Externalizable}
      */
@@ -81,6 +86,20 @@ public class GridDhtAtomicDeferredUpdateResponse extends GridCacheIdMessage impl
         return timeoutSnd;
     }
 
+    /**
+     * @param nearEvicted Near evicted keys to send together with the response.
+     */
+    void nearEvicted(@Nullable GridDhtAtomicNearEvictedMessage nearEvicted) {
+        this.nearEvicted = nearEvicted;
+    }
+
+    /**
+     * @return Near evicted keys to send together with the response.
+     */
+    @Nullable GridDhtAtomicNearEvictedMessage nearEvicted() {
+        return nearEvicted;
+    }
+
     /** {@inheritDoc} */
     @Override public int lookupIndex() {
         return CACHE_MSG_IDX;
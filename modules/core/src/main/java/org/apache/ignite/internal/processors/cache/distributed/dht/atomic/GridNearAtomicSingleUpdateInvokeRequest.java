@@ -165,6 +165,12 @@ public class GridNearAtomicSingleUpdateInvokeRequest extends GridNearAtomicSingl
         return null;
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean processFromNioThread(GridCacheSharedContext<?, ?> ctx) {
+        // Entry processor is an arbitrary user code.
+        return false;
+    }
+
     /** {@inheritDoc} */
     @Nullable @Override public Object[] invokeArguments() {
         return invokeArgs;
@@ -109,6 +109,13 @@ public class GridNearAtomicSingleUpdateRequest extends GridNearAtomicAbstractSin
         return key.partition();
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean processFromNioThread(GridCacheSharedContext<?, ?> ctx) {
+        GridCacheContext<?, ?> cctx = ctx.cacheContext(cacheId);
+
+        return cctx != null && cctx.nioThreadProcessingAllowed();
+    }
+
     /**
      * @param key Key to add.
      * @param val Optional update value.
@@ -57,6 +57,7 @@ import org.apache.ignite.internal.processors.cache.distributed.near.GridNearLock
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearSingleGetResponse;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTransactionalCache;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxLocal;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxReadChecks;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearUnlockRequest;
 import org.apache.ignite.internal.processors.cache.mvcc.MvccQueryTracker;
 import org.apache.ignite.internal.processors.cache.mvcc.MvccSnapshot;
@@ -410,6 +411,7 @@ public class GridDhtColocatedCache<K, V> extends GridDhtTransactionalCacheAdapte
      * @param needVer If {@code true} returns values as tuples containing value and version.
      * @param keepCacheObj Keep cache objects flag.
      * @param txLbl Transaction label.
+     * @param readChecks Read versions of keys read by the transaction earlier to validate on the primary node.
      * @return Load future.
      */
     public final IgniteInternalFuture<Object> loadAsync(
@@ -426,7 +428,8 @@ public class GridDhtColocatedCache<K, V> extends GridDhtTransactionalCacheAdapte
         boolean keepCacheObj,
         boolean recovery,
         @Nullable MvccSnapshot mvccSnapshot,
-        @Nullable String txLbl
+        @Nullable String txLbl,
+        @Nullable GridNearTxReadChecks readChecks
     ) {
         GridPartitionedSingleGetFuture fut = new GridPartitionedSingleGetFuture(ctx,
             ctx.toCacheKeyObject(key),
@@ -444,6 +447,8 @@ public class GridDhtColocatedCache<K, V> extends GridDhtTransactionalCacheAdapte
             txLbl,
             mvccSnapshot);
 
+        fut.readChecks(readChecks);
+
         fut.init();
 
         return fut;
@@ -463,6 +468,7 @@ public class GridDhtColocatedCache<K, V> extends GridDhtTransactionalCacheAdapte
      * @param keepCacheObj Keep cache objects flag.
      * @param txLbl Transaction label.
      * @param mvccSnapshot Mvcc snapshot.
+     * @param readChecks Read versions of keys read by the transaction earlier to validate on primary nodes.
      * @return Load future.
      */
     public final IgniteInternalFuture<Map<K, V>> loadAsync(
@@ -479,7 +485,8 @@ public class GridDhtColocatedCache<K, V> extends GridDhtTransactionalCacheAdapte
         boolean needVer,
         boolean keepCacheObj,
         @Nullable String txLbl,
-        @Nullable MvccSnapshot mvccSnapshot
+        @Nullable MvccSnapshot mvccSnapshot,
+        @Nullable GridNearTxReadChecks readChecks
     ) {
         assert (mvccSnapshot == null) == !ctx.mvccEnabled();
 
@@ -672,6 +679,8 @@ public class GridDhtColocatedCache<K, V> extends GridDhtTransactionalCacheAdapte
             txLbl,
             mvccSnapshot);
 
+        fut.readChecks(readChecks);
+
         fut.init(topVer);
 
         return fut;
@@ -57,6 +57,7 @@ import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgnitePredicate;
 import org.apache.ignite.spi.IgniteSpiException;
+import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.events.EventType.EVT_CACHE_REBALANCE_PART_MISSED;
 import static org.apache.ignite.events.EventType.EVT_CACHE_REBALANCE_PART_SUPPLIED;
@@ -89,6 +90,12 @@ public class GridDhtPartitionSupplier {
     private long rebalanceThrottleOverride =
         IgniteSystemProperties.getLong(IgniteSystemProperties.IGNITE_REBALANCE_THROTTLE_OVERRIDE, 0);
 
+    /** Whether the next supply batch should be prepared while the previous one is being processed by demander. */
+    private final boolean prefetch;
+
+    /** Supply settings controller. */
+    private final RebalanceSupplyController ctrl;
+
     /**
      * @param grp Cache group.
      */
@@ -101,6 +108,12 @@ public class GridDhtPartitionSupplier {
 
         top = grp.topology();
 
+        // Mvcc entry history must not be split between batches, that is not tracked across demand requests.
+        prefetch = !grp.mvccEnabled() &&
+            !IgniteSystemProperties.getBoolean(IgniteSystemProperties.IGNITE_DISABLE_REBALANCE_SUPPLY_PREFETCH);
+
+        ctrl = new RebalanceSupplyController(grp);
+
         if (rebalanceThrottleOverride > 0)
             LT.info(log, "Using rebalance throttle override: " + rebalanceThrottleOverride);
     }
@@ -186,6 +199,11 @@ public class GridDhtPartitionSupplier {
      * method sends this message to demand node and saves partial state of iterated entries to supply context,
      * then restores the context again after new demand message with the same context id is arrived.
      *
+     * Unless prefetch is disabled, the next batch is prepared right after the last allowed message is sent and is kept
+     * in the supply context, so disk reads overlap with network transfer and entries processing on the demander.
+     * The prepared batch is sent immediately when the next demand message arrives. Demand messages of the same
+     * context are processed sequentially, so the context is never accessed concurrently.
+     *
      * @param topicId Id of the topic is used for the supply-demand communication.
      * @param nodeId Id of the node which sent the demand message.
      * @param demandMsg Demand message.
@@ -280,7 +298,7 @@ public class GridDhtPartitionSupplier {
             if (rmtThreadPoolSize == null)
                 rmtThreadPoolSize = 1;
 
-            long maxBatchesCnt = grp.preloader().batchesPrefetchCount() * rmtThreadPoolSize;
+            long maxBatchesCnt = ctrl.batchesPrefetchCount() * rmtThreadPoolSize;
 
             if (sctx == null) {
                 if (log.isDebugEnabled())
@@ -345,12 +363,28 @@ public class GridDhtPartitionSupplier {
                 remainingParts = sctx.remainingParts;
 
                 initUpdateCntrs = sctx.initUpdateCntrs;
+
+                if (sctx.sentTs != 0)
+                    ctrl.onDemandRoundTrip(System.nanoTime() - sctx.sentTs);
+
+                if (sctx.prefetched != null) {
+                    assert sctx.prefetched.rebalanceId() == demandMsg.rebalanceId() :
+                        "sctx=" + sctx + ", demandMsg=" + demandMsg;
+
+                    supplyMsg = sctx.prefetched;
+                }
             }
 
-            final int msgMaxSize = grp.preloader().batchSize();
+            final int msgMaxSize = ctrl.batchSize();
 
             long batchesCnt = 0;
 
+            // Whether all allowed messages are sent and the current one is prepared for the next demand request.
+            boolean prefetching = false;
+
+            // Time when the last message was sent.
+            long sentTs = 0;
+
             CacheDataRow prevRow = null;
 
             while (iter.hasNext()) {
@@ -362,21 +396,42 @@ public class GridDhtPartitionSupplier {
                         !row.key().equals(prevRow.key()));
 
                 if (canFlushHistory && supplyMsg.messageSize() >= msgMaxSize) {
-                    if (++batchesCnt >= maxBatchesCnt) {
+                    if (prefetching) {
                         saveSupplyContext(ctxId,
                             iter,
                             remainingParts,
                             demandMsg.rebalanceId(),
-                            initUpdateCntrs
+                            initUpdateCntrs,
+                            supplyMsg
+                        ).sentTs = sentTs;
+
+                        return;
+                    }
+
+                    if (++batchesCnt >= maxBatchesCnt && !prefetch) {
+                        SupplyContext newCtx = saveSupplyContext(ctxId,
+                            iter,
+                            remainingParts,
+                            demandMsg.rebalanceId(),
+                            initUpdateCntrs,
+                            null
                         );
 
-                        reply(topicId, demanderNode, demandMsg, supplyMsg, ctxId);
+                        if (reply(topicId, demanderNode, demandMsg, supplyMsg, ctxId))
+                            newCtx.sentTs = System.nanoTime();
 
                         return;
                     }
                     else {
-                        if (!reply(topicId, demanderNode, demandMsg, supplyMsg, ctxId))
+                        if (!reply(topicId, demanderNode, demandMsg, supplyMsg, ctxId)) {
+                            iter.close();
+
                             return;
+                        }
+
+                        sentTs = System.nanoTime();
+
+                        prefetching = batchesCnt >= maxBatchesCnt;
 
                         supplyMsg = new GridDhtPartitionSupplyMessage(demandMsg.rebalanceId(),
                             grp.groupId(),
@@ -624,11 +679,15 @@ public class GridDhtPartitionSupplier {
 
             grp.shared().io().sendOrderedMessage(demander, demandMsg.topic(), supplyMsg, grp.ioPolicy(), demandMsg.timeout());
 
+            ctrl.onBatchSupplied(supplyMsg.messageSize());
+
             // Throttle preloading.
+            long throttle = ctrl.throttle();
+
             if (rebalanceThrottleOverride > 0)
                 U.sleep(rebalanceThrottleOverride);
-            else if (grp.preloader().throttle() > 0)
-                U.sleep(grp.preloader().throttle());
+            else if (throttle > 0)
+                U.sleep(throttle);
 
             return true;
         }
@@ -666,18 +725,25 @@ public class GridDhtPartitionSupplier {
      * @param remainingParts Set of partitions that weren't sent yet.
      * @param rebalanceId Rebalance id.
      * @param initUpdateCntrs Collection of update counters that corresponds to the beginning of rebalance.
+     * @param prefetched Prepared supply message to be sent on the next demand request.
+     * @return Saved supply context.
      */
-    private void saveSupplyContext(
+    private SupplyContext saveSupplyContext(
         T3<UUID, Integer, AffinityTopologyVersion> ctxId,
         IgniteRebalanceIterator entryIt,
         Set<Integer> remainingParts,
         long rebalanceId,
-        Map<Integer, Long> initUpdateCntrs
+        Map<Integer, Long> initUpdateCntrs,
+        @Nullable GridDhtPartitionSupplyMessage prefetched
     ) {
         synchronized (scMap) {
             assert scMap.get(ctxId) == null;
 
-            scMap.put(ctxId, new SupplyContext(entryIt, remainingParts, rebalanceId, initUpdateCntrs));
+            SupplyContext sctx = new SupplyContext(entryIt, remainingParts, rebalanceId, initUpdateCntrs, prefetched);
+
+            scMap.put(ctxId, sctx);
+
+            return sctx;
         }
     }
 
@@ -698,6 +764,13 @@ public class GridDhtPartitionSupplier {
         /** Update counters for rebalanced partitions. */
         private final Map<Integer, Long> initUpdateCntrs;
 
+        /** Supply message prepared ahead to be sent on the next demand request. */
+        @GridToStringExclude
+        private final GridDhtPartitionSupplyMessage prefetched;
+
+        /** Time in nanoseconds when the last message was sent, {@code 0} if unknown. */
+        private volatile long sentTs;
+
         /**
          * Constructor.
          *
@@ -705,17 +778,20 @@ public class GridDhtPartitionSupplier {
          * @param remainingParts Set of partitions which weren't sent yet.
          * @param rebalanceId Rebalance id.
          * @param initUpdateCntrs Collection of update counters that corresponds to the beginning of rebalance.
+         * @param prefetched Supply message prepared ahead to be sent on the next demand request.
          */
         SupplyContext(
             IgniteRebalanceIterator iterator,
             Set<Integer> remainingParts,
             long rebalanceId,
-            Map<Integer, Long> initUpdateCntrs
+            Map<Integer, Long> initUpdateCntrs,
+            @Nullable GridDhtPartitionSupplyMessage prefetched
         ) {
             this.iterator = iterator;
             this.remainingParts = remainingParts;
             this.rebalanceId = rebalanceId;
             this.initUpdateCntrs = initUpdateCntrs;
+            this.prefetched = prefetched;
         }
 
         /** {@inheritDoc} */
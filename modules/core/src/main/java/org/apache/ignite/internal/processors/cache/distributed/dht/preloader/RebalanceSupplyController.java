@@ -0,0 +1,385 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.preloader;
+
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.CacheMetricsImpl;
+import org.apache.ignite.internal.processors.cache.GridCacheAdapter;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.persistence.DataRegion;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.HitRateMetric;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_REBALANCE_SUPPLY_AUTO_TUNING;
+import static org.apache.ignite.internal.processors.cache.CacheGroupMetricsImpl.CACHE_GROUP_METRICS_PREFIX;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+
+/**
+ * Controls batch size, batches prefetch count and throttle used by {@link GridDhtPartitionSupplier}.
+ * <p>
+ * When auto-tuning is disabled (default) configured values are used as is. Otherwise settings are adjusted at
+ * runtime using additive increase and multiplicative decrease:
+ * <ul>
+ *     <li>if checkpoint dirty pages ratio of the group data region is high or latency of foreground puts to the
+ *     group caches has grown, batches are made smaller and supplying is throttled;</li>
+ *     <li>if the time demander needs to request the next batch has grown, current settings are kept;</li>
+ *     <li>otherwise batches and prefetch count grow and throttle returns back to the configured value.</li>
+ * </ul>
+ * Growth of latencies is detected against slow moving averages, so that a latency that stays at a new level
+ * becomes the baseline after a while rather than being compared to the best value ever seen.
+ * Current settings and supply rates are exposed as metrics of the cache group.
+ */
+class RebalanceSupplyController {
+    /** Minimal interval between adjustments in milliseconds. */
+    static final long ADJUST_INTERVAL = 500;
+
+    /** Dirty pages ratio considered as checkpoint pressure. */
+    static final double DIRTY_RATIO_THRESHOLD = 2.0 / 3;
+
+    /** Foreground put latency growth factor considered as pressure. */
+    static final int PUT_LATENCY_FACTOR = 2;
+
+    /** Demand round trip time growth factor considered as demander saturation. */
+    static final int ROUND_TRIP_FACTOR = 2;
+
+    /** Minimal batch size in bytes. */
+    static final int MIN_BATCH_SIZE = 16 * 1024;
+
+    /** Batch size and prefetch count may grow up to configured value multiplied by this factor. */
+    static final int MAX_GROWTH_FACTOR = 8;
+
+    /** Maximal throttle in milliseconds. */
+    static final long MAX_THROTTLE = 1000;
+
+    /** Rate time interval in milliseconds. */
+    private static final long RATE_TIME_INTERVAL = 1000;
+
+    /** Number of rate sub intervals. */
+    private static final int RATE_SUB_INTS = 5;
+
+    /** Weight of a new sample of the latency baselines is {@code 1 / 2^BASELINE_WEIGHT_SHIFT}. */
+    static final int BASELINE_WEIGHT_SHIFT = 4;
+
+    /** */
+    private static final String BATCH_SIZE_METRIC = "RebalanceBatchSize";
+
+    /** */
+    private static final String PREFETCH_METRIC = "RebalanceBatchesPrefetchCount";
+
+    /** */
+    private static final String THROTTLE_METRIC = "RebalanceThrottle";
+
+    /** */
+    private static final String ROUND_TRIP_METRIC = "RebalanceDemandRoundTripTime";
+
+    /** */
+    private static final String BYTES_RATE_METRIC = "RebalanceSuppliedBytesRate";
+
+    /** */
+    private static final String BATCHES_RATE_METRIC = "RebalanceSuppliedBatchesRate";
+
+    /** Whether settings are adjusted at runtime. */
+    private final boolean enabled;
+
+    /** Configured batch size. */
+    private final int cfgBatchSize;
+
+    /** Configured batches prefetch count. */
+    private final long cfgPrefetch;
+
+    /** Configured throttle. */
+    private final long cfgThrottle;
+
+    /** Dirty pages ratio of the data region. */
+    private final DoubleSupplier dirtyRatio;
+
+    /** Average foreground put latency in nanoseconds since the previous call or {@code -1} if unknown. */
+    private final LongSupplier putLatency;
+
+    /** Current batch size. */
+    private volatile int batchSize;
+
+    /** Current batches prefetch count. */
+    private volatile long prefetch;
+
+    /** Current throttle. */
+    private volatile long throttle;
+
+    /** Moving average of demand round trip time in nanoseconds. */
+    private volatile long roundTrip;
+
+    /** Baseline demand round trip time in nanoseconds, {@code 0} if unknown. Guarded by {@code this}. */
+    private long roundTripBaseline;
+
+    /** Baseline foreground put latency in nanoseconds, {@code 0} if unknown. Guarded by {@code this}. */
+    private long putLatencyBaseline;
+
+    /** Timestamp of the last adjustment in milliseconds. Guarded by {@code this}. */
+    private long lastAdjustTs;
+
+    /** Supplied bytes rate. */
+    private final HitRateMetric bytesRate;
+
+    /** Supplied batches rate. */
+    private final HitRateMetric batchesRate;
+
+    /**
+     * @param grp Cache group.
+     */
+    RebalanceSupplyController(CacheGroupContext grp) {
+        this(
+            IgniteSystemProperties.getBoolean(IGNITE_REBALANCE_SUPPLY_AUTO_TUNING),
+            grp.preloader().batchSize(),
+            grp.preloader().batchesPrefetchCount(),
+            grp.preloader().throttle(),
+            () -> dirtyRatio(grp),
+            new PutLatency(grp),
+            grp.shared().kernalContext().metric().registry(
+                metricName(CACHE_GROUP_METRICS_PREFIX, grp.cacheOrGroupName()))
+        );
+    }
+
+    /**
+     * @param enabled Whether settings are adjusted at runtime.
+     * @param cfgBatchSize Configured batch size.
+     * @param cfgPrefetch Configured batches prefetch count.
+     * @param cfgThrottle Configured throttle.
+     * @param dirtyRatio Dirty pages ratio of the data region.
+     * @param putLatency Average foreground put latency in nanoseconds since the previous call or {@code -1}.
+     * @param mreg Metric registry.
+     */
+    RebalanceSupplyController(
+        boolean enabled,
+        int cfgBatchSize,
+        long cfgPrefetch,
+        long cfgThrottle,
+        DoubleSupplier dirtyRatio,
+        LongSupplier putLatency,
+        MetricRegistry mreg
+    ) {
+        this.enabled = enabled;
+        this.cfgBatchSize = cfgBatchSize;
+        this.cfgPrefetch = cfgPrefetch;
+        this.cfgThrottle = cfgThrottle;
+        this.dirtyRatio = dirtyRatio;
+        this.putLatency = putLatency;
+
+        batchSize = cfgBatchSize;
+        prefetch = cfgPrefetch;
+        throttle = cfgThrottle;
+
+        // Registry outlives the controller when the group is restarted, metrics of the previous one are replaced.
+        for (String name : new String[] {BATCH_SIZE_METRIC, PREFETCH_METRIC, THROTTLE_METRIC, ROUND_TRIP_METRIC,
+            BYTES_RATE_METRIC, BATCHES_RATE_METRIC})
+            mreg.remove(name);
+
+        mreg.register(BATCH_SIZE_METRIC, this::batchSize, "Current size in bytes of supplied rebalance batches.");
+
+        mreg.register(PREFETCH_METRIC, this::batchesPrefetchCount,
+            "Current number of rebalance batches supplied in response to the first demand request.");
+
+        mreg.register(THROTTLE_METRIC, this::throttle,
+            "Current pause in milliseconds between supplied rebalance batches.");
+
+        mreg.register(ROUND_TRIP_METRIC, () -> roundTrip,
+            "Moving average time in nanoseconds between the supplied rebalance batch and the next demand request.");
+
+        bytesRate = mreg.hitRateMetric(BYTES_RATE_METRIC,
+            "Number of rebalance bytes supplied during the last second.", RATE_TIME_INTERVAL, RATE_SUB_INTS);
+
+        batchesRate = mreg.hitRateMetric(BATCHES_RATE_METRIC,
+            "Number of rebalance batches supplied during the last second.", RATE_TIME_INTERVAL, RATE_SUB_INTS);
+    }
+
+    /**
+     * @return Batch size in bytes.
+     */
+    int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return Number of batches supplied in response to the first demand request of each rebalance thread.
+     */
+    long batchesPrefetchCount() {
+        return prefetch;
+    }
+
+    /**
+     * @return Pause in milliseconds after each supplied batch.
+     */
+    long throttle() {
+        return throttle;
+    }
+
+    /**
+     * @param bytes Size of the supplied batch.
+     */
+    void onBatchSupplied(int bytes) {
+        bytesRate.add(bytes);
+        batchesRate.increment();
+    }
+
+    /**
+     * Called when demand request arrives for the previously supplied batch.
+     *
+     * @param nanos Time since the batch was supplied in nanoseconds.
+     */
+    void onDemandRoundTrip(long nanos) {
+        long prev = roundTrip;
+
+        // Exponential moving average, new sample weight is 1/4.
+        roundTrip = prev == 0 ? nanos : prev - (prev >> 2) + (nanos >> 2);
+
+        if (enabled)
+            adjust(false);
+    }
+
+    /**
+     * Adjusts settings if adjustment interval has passed since the previous one.
+     *
+     * @param force Adjust regardless of the interval.
+     */
+    synchronized void adjust(boolean force) {
+        long now = U.currentTimeMillis();
+
+        if (!force && now - lastAdjustTs < ADJUST_INTERVAL)
+            return;
+
+        lastAdjustTs = now;
+
+        long rtt = roundTrip;
+
+        boolean slowDemander = false;
+
+        if (rtt > 0) {
+            slowDemander = roundTripBaseline > 0 && rtt > roundTripBaseline * ROUND_TRIP_FACTOR;
+
+            roundTripBaseline = baseline(roundTripBaseline, rtt);
+        }
+
+        long putLat = putLatency.getAsLong();
+
+        boolean putPressure = false;
+
+        if (putLat > 0) {
+            putPressure = putLatencyBaseline > 0 && putLat > putLatencyBaseline * PUT_LATENCY_FACTOR;
+
+            putLatencyBaseline = baseline(putLatencyBaseline, putLat);
+        }
+
+        if (putPressure || dirtyRatio.getAsDouble() > DIRTY_RATIO_THRESHOLD) {
+            batchSize = Math.max(Math.min(MIN_BATCH_SIZE, cfgBatchSize), batchSize / 2);
+            prefetch = Math.max(1, prefetch / 2);
+            throttle = Math.min(MAX_THROTTLE, Math.max(1, throttle * 2));
+        }
+        else if (slowDemander) {
+            // Demander does not keep up, growing batches would not help.
+            throttle = Math.max(cfgThrottle, throttle / 2);
+        }
+        else {
+            batchSize = (int)Math.min((long)cfgBatchSize * MAX_GROWTH_FACTOR, batchSize + cfgBatchSize / 2);
+            prefetch = Math.min(cfgPrefetch * MAX_GROWTH_FACTOR, prefetch + 1);
+            throttle = Math.max(cfgThrottle, throttle / 2);
+        }
+    }
+
+    /**
+     * @param baseline Current baseline, {@code 0} if unknown.
+     * @param sample New sample.
+     * @return Exponential moving average of the samples.
+     */
+    private static long baseline(long baseline, long sample) {
+        if (baseline == 0)
+            return sample;
+
+        return baseline + ((sample - baseline) >> BASELINE_WEIGHT_SHIFT);
+    }
+
+    /**
+     * @param grp Cache group.
+     * @return Dirty pages ratio of the group data region.
+     */
+    private static double dirtyRatio(CacheGroupContext grp) {
+        DataRegion region = grp.dataRegion();
+
+        PageMemory pageMem = region == null ? null : region.pageMemory();
+
+        return pageMem instanceof PageMemoryImpl ? ((PageMemoryImpl)pageMem).getDirtyPagesRatio() : 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(RebalanceSupplyController.class, this);
+    }
+
+    /**
+     * Average latency of puts to the group caches with enabled statistics since the previous call.
+     */
+    private static class PutLatency implements LongSupplier {
+        /** Cache group. */
+        private final CacheGroupContext grp;
+
+        /** Total puts on the previous call. */
+        private long puts;
+
+        /** Total put time in nanoseconds on the previous call. */
+        private long time;
+
+        /**
+         * @param grp Cache group.
+         */
+        PutLatency(CacheGroupContext grp) {
+            this.grp = grp;
+        }
+
+        /** {@inheritDoc} */
+        @Override public long getAsLong() {
+            long puts = 0;
+            long time = 0;
+
+            for (GridCacheContext cctx : grp.caches()) {
+                GridCacheAdapter cache = cctx.cache();
+
+                if (cache == null || !cctx.statisticsEnabled())
+                    continue;
+
+                CacheMetricsImpl metrics = cache.metrics0();
+
+                long cachePuts = metrics.getCachePuts();
+
+                puts += cachePuts;
+                time += (long)(metrics.getAveragePutTime() * 1000 * cachePuts);
+            }
+
+            long dPuts = puts - this.puts;
+            long dTime = time - this.time;
+
+            this.puts = puts;
+            this.time = time;
+
+            return dPuts > 0 && dTime > 0 ? dTime / dPuts : -1;
+        }
+    }
+}
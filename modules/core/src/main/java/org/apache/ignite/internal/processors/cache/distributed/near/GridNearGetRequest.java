@@ -271,6 +271,21 @@ public class GridNearGetRequest extends GridCacheIdMessage implements GridCacheD
         return (flags & RECOVERY_FLAG_MASK) != 0;
     }
 
+    /**
+     * @return Keys read by the transaction earlier whose read versions are to be validated on the node,
+     *      or {@code null} if there are none.
+     */
+    @Nullable public List<KeyCacheObject> versionCheckKeys() {
+        return null;
+    }
+
+    /**
+     * @return Read versions to validate.
+     */
+    @Nullable public List<GridCacheVersion> versionCheckVersions() {
+        return null;
+    }
+
     public boolean addReaders() {
         return (flags & ADD_READER_FLAG_MASK) != 0;
     }
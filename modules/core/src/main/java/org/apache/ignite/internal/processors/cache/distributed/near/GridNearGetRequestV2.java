@@ -0,0 +1,243 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.near;
+
+import java.io.Externalizable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.GridDirectCollection;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.mvcc.MvccSnapshot;
+import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.lang.IgniteUuid;
+import org.apache.ignite.plugin.extensions.communication.MessageCollectionItemType;
+import org.apache.ignite.plugin.extensions.communication.MessageReader;
+import org.apache.ignite.plugin.extensions.communication.MessageWriter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Get request with read versions of keys an optimistic serializable transaction has read from the node earlier.
+ * Sent only to nodes supporting early validation of read versions.
+ */
+public class GridNearGetRequestV2 extends GridNearGetRequest {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Keys the transaction read from the node earlier, whose read versions are to be validated. */
+    @GridDirectCollection(KeyCacheObject.class)
+    private List<KeyCacheObject> verCheckKeys;
+
+    /** Read versions of the keys to validate. */
+    @GridDirectCollection(GridCacheVersion.class)
+    private List<GridCacheVersion> verCheckVers;
+
+    /**
+     * Empty constructor required for {@link Externalizable}.
+     */
+    public GridNearGetRequestV2() {
+        // No-op.
+    }
+
+    /**
+     * @param cacheId Cache ID.
+     * @param futId Future ID.
+     * @param miniId Sub ID.
+     * @param ver Version.
+     * @param keys Keys.
+     * @param readThrough Read through flag.
+     * @param topVer Topology version.
+     * @param subjId Subject ID.
+     * @param taskNameHash Task name hash.
+     * @param createTtl New TTL to set after entry is created, -1 to leave unchanged.
+     * @param accessTtl New TTL to set after entry is accessed, -1 to leave unchanged.
+     * @param addReader Add reader flag.
+     * @param skipVals Skip values flag.
+     * @param addDepInfo Deployment info.
+     * @param recovery Recovery flag.
+     * @param txLbl Transaction label.
+     * @param mvccSnapshot Mvcc snapshot.
+     */
+    public GridNearGetRequestV2(
+        int cacheId,
+        IgniteUuid futId,
+        IgniteUuid miniId,
+        GridCacheVersion ver,
+        Map<KeyCacheObject, Boolean> keys,
+        boolean readThrough,
+        @NotNull AffinityTopologyVersion topVer,
+        UUID subjId,
+        int taskNameHash,
+        long createTtl,
+        long accessTtl,
+        boolean addReader,
+        boolean skipVals,
+        boolean addDepInfo,
+        boolean recovery,
+        @Nullable String txLbl,
+        @Nullable MvccSnapshot mvccSnapshot
+    ) {
+        super(cacheId,
+            futId,
+            miniId,
+            ver,
+            keys,
+            readThrough,
+            topVer,
+            subjId,
+            taskNameHash,
+            createTtl,
+            accessTtl,
+            addReader,
+            skipVals,
+            addDepInfo,
+            recovery,
+            txLbl,
+            mvccSnapshot);
+    }
+
+    /**
+     * Adds a key read by the transaction earlier, whose read version is to be validated on the node.
+     *
+     * @param key Key.
+     * @param ver Read version.
+     */
+    public void addVersionCheck(KeyCacheObject key, GridCacheVersion ver) {
+        if (verCheckKeys == null) {
+            verCheckKeys = new ArrayList<>();
+            verCheckVers = new ArrayList<>();
+        }
+
+        verCheckKeys.add(key);
+        verCheckVers.add(ver);
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public List<KeyCacheObject> versionCheckKeys() {
+        return verCheckKeys;
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public List<GridCacheVersion> versionCheckVersions() {
+        return verCheckVers;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void prepareMarshal(GridCacheSharedContext ctx) throws IgniteCheckedException {
+        super.prepareMarshal(ctx);
+
+        GridCacheContext cctx = ctx.cacheContext(cacheId);
+
+        prepareMarshalCacheObjects(verCheckKeys, cctx);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void finishUnmarshal(GridCacheSharedContext ctx, ClassLoader ldr) throws IgniteCheckedException {
+        super.finishUnmarshal(ctx, ldr);
+
+        GridCacheContext cctx = ctx.cacheContext(cacheId);
+
+        finishUnmarshalCacheObjects(verCheckKeys, cctx, ldr);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean writeTo(ByteBuffer buf, MessageWriter writer) {
+        writer.setBuffer(buf);
+
+        if (!super.writeTo(buf, writer))
+            return false;
+
+        if (!writer.isHeaderWritten()) {
+            if (!writer.writeHeader(directType(), fieldsCount()))
+                return false;
+
+            writer.onHeaderWritten();
+        }
+
+        switch (writer.state()) {
+            case 17:
+                if (!writer.writeCollection("verCheckKeys", verCheckKeys, MessageCollectionItemType.MSG))
+                    return false;
+
+                writer.incrementState();
+
+            case 18:
+                if (!writer.writeCollection("verCheckVers", verCheckVers, MessageCollectionItemType.MSG))
+                    return false;
+
+                writer.incrementState();
+
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean readFrom(ByteBuffer buf, MessageReader reader) {
+        reader.setBuffer(buf);
+
+        if (!reader.beforeMessageRead())
+            return false;
+
+        if (!super.readFrom(buf, reader))
+            return false;
+
+        switch (reader.state()) {
+            case 17:
+                verCheckKeys = reader.readCollection("verCheckKeys", MessageCollectionItemType.MSG);
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 18:
+                verCheckVers = reader.readCollection("verCheckVers", MessageCollectionItemType.MSG);
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+        }
+
+        return reader.afterMessageRead(GridNearGetRequestV2.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override public short directType() {
+        return 180;
+    }
+
+    /** {@inheritDoc} */
+    @Override public byte fieldsCount() {
+        return 19;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridNearGetRequestV2.class, this, "super", super.toString());
+    }
+}
@@ -46,6 +46,7 @@ import org.apache.ignite.internal.processors.cache.GridCacheEntryEx;
 import org.apache.ignite.internal.processors.cache.GridCacheEntryRemovedException;
 import org.apache.ignite.internal.processors.cache.GridCacheLockTimeoutException;
 import org.apache.ignite.internal.processors.cache.GridCacheMvccCandidate;
+import org.apache.ignite.internal.processors.cache.GridCacheMvccManager;
 import org.apache.ignite.internal.processors.cache.GridCacheVersionedFuture;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
 import org.apache.ignite.internal.processors.cache.distributed.GridDistributedCacheEntry;
@@ -177,6 +178,17 @@ public final class GridNearLockFuture extends GridCacheCompoundIdentityFuture<Bo
     /** */
     private int miniId;
 
+    /**
+     * Local candidates added by this future, {@code null} unless handed off ownership is trusted, see
+     * {@link GridCacheMvccManager#queuedHandoff()}.
+     */
+    @GridToStringExclude
+    private final Map<KeyCacheObject, GridCacheMvccCandidate> cands;
+
+    /** Local candidates the entry lock has been handed off to, {@code null} unless {@link #cands} is set. */
+    @GridToStringExclude
+    private final Map<KeyCacheObject, GridCacheMvccCandidate> handedOff;
+
     /**
      * @param cctx Registry.
      * @param keys Keys to lock.
@@ -238,6 +250,15 @@ public final class GridNearLockFuture extends GridCacheCompoundIdentityFuture<Bo
 
         valMap = new ConcurrentHashMap<>();
 
+        if (cctx.mvcc().queuedHandoff() && F.isEmptyOrNulls(filter)) {
+            cands = new ConcurrentHashMap<>();
+            handedOff = new ConcurrentHashMap<>();
+        }
+        else {
+            cands = null;
+            handedOff = null;
+        }
+
         if (tx != null && !tx.updateLockFuture(null, this)) {
             err = tx.timedOut() ? tx.timeoutException() : tx.rollbackException();
 
@@ -319,6 +340,22 @@ public final class GridNearLockFuture extends GridCacheCompoundIdentityFuture<Bo
         return cached.lockedLocallyByIdOrThread(lockVer, threadId) && filter(cached);
     }
 
+    /**
+     * Checks whether the entry lock has been handed off to the candidate added by this future, so that the entry
+     * doesn't need to be checked again each time the owner of another entry changes.
+     *
+     * @param cached Entry.
+     * @return {@code True} if the entry lock is known to be owned by this future.
+     */
+    private boolean handedOff(GridCacheEntryEx cached) {
+        if (cands == null)
+            return false;
+
+        GridCacheMvccCandidate c = cands.get(cached.key());
+
+        return c != null && handedOff.get(cached.key()) == c;
+    }
+
     /**
      * Adds entry to future.
      *
@@ -376,6 +413,13 @@ public final class GridNearLockFuture extends GridCacheCompoundIdentityFuture<Bo
             return null;
         }
 
+        if (cands != null && c != null) {
+            cands.put(entry.key(), c);
+
+            if (c.owner())
+                handedOff.put(entry.key(), c);
+        }
+
         return c;
     }
 
@@ -386,6 +430,11 @@ public final class GridNearLockFuture extends GridCacheCompoundIdentityFuture<Bo
      * @param rollback {@code True} if should rollback tx.
      */
     private void undoLocks(boolean dist, boolean rollback) {
+        if (cands != null) {
+            cands.clear();
+            handedOff.clear();
+        }
+
         // Transactions will undo during rollback.
         if (dist && tx == null)
             cctx.nearTx().removeLocks(lockVer, keys);
@@ -642,6 +691,9 @@ public final class GridNearLockFuture extends GridCacheCompoundIdentityFuture<Bo
      */
     @Override public boolean onOwnerChanged(GridCacheEntryEx entry, GridCacheMvccCandidate owner) {
         if (owner != null && owner.nearLocal() && owner.version().equals(lockVer)) {
+            if (handedOff != null)
+                handedOff.put(entry.key(), owner);
+
             onDone(true);
 
             return true;
@@ -661,7 +713,7 @@ public final class GridNearLockFuture extends GridCacheCompoundIdentityFuture<Bo
                         GridCacheEntryEx cached = entries.get(i);
 
                         try {
-                            if (!locked(cached)) {
+                            if (!handedOff(cached) && !locked(cached)) {
                                 if (log.isDebugEnabled())
                                     log.debug("Lock is still not acquired for entry (will keep waiting) [entry=" +
                                         cached + ", fut=" + this + ']');
@@ -677,6 +729,9 @@ public final class GridNearLockFuture extends GridCacheCompoundIdentityFuture<Bo
                             if (log.isDebugEnabled())
                                 log.debug("Got removed entry in onOwnerChanged method (will retry): " + cached);
 
+                            if (cands != null)
+                                cands.remove(cached.key());
+
                             // Replace old entry with new one.
                             entries.set(
                                 i,
@@ -26,6 +26,7 @@ import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.cluster.ClusterTopologyException;
+import org.apache.ignite.internal.IgniteFeatures;
 import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.cluster.ClusterTopologyCheckedException;
 import org.apache.ignite.internal.cluster.ClusterTopologyServerNotFoundException;
@@ -547,26 +548,51 @@ public class GridNearOptimisticSerializableTxPrepareFuture extends GridNearOptim
         Collection<IgniteTxEntry> writes) {
         GridDistributedTxMapping m = fut.mapping();
 
-        GridNearTxPrepareRequest req = new GridNearTxPrepareRequest(
-            futId,
-            tx.topologyVersion(),
-            tx,
-            timeout,
-            reads,
-            writes,
-            m.hasNearCacheEntries(),
-            txNodes,
-            m.last(),
-            tx.onePhaseCommit(),
-            tx.needReturnValue() && tx.implicit(),
-            tx.implicitSingle(),
-            m.explicitLock(),
-            tx.subjectId(),
-            tx.taskNameHash(),
-            m.clientFirst(),
-            txNodes.size() == 1,
-            tx.activeCachesDeploymentEnabled(),
-            tx.txState().recovery());
+        // Read versions are sent in compact form only to a remote node that restores them.
+        boolean compactReads = !m.primary().isLocal() &&
+            IgniteFeatures.nodeSupports(cctx.kernalContext(), m.primary(), IgniteFeatures.TX_SERIALIZABLE_READ_CHECKS);
+
+        GridNearTxPrepareRequest req = compactReads ?
+            new GridNearTxPrepareRequestV2(
+                futId,
+                tx.topologyVersion(),
+                tx,
+                timeout,
+                reads,
+                writes,
+                m.hasNearCacheEntries(),
+                txNodes,
+                m.last(),
+                tx.onePhaseCommit(),
+                tx.needReturnValue() && tx.implicit(),
+                tx.implicitSingle(),
+                m.explicitLock(),
+                tx.subjectId(),
+                tx.taskNameHash(),
+                m.clientFirst(),
+                txNodes.size() == 1,
+                tx.activeCachesDeploymentEnabled(),
+                tx.txState().recovery()) :
+            new GridNearTxPrepareRequest(
+                futId,
+                tx.topologyVersion(),
+                tx,
+                timeout,
+                reads,
+                writes,
+                m.hasNearCacheEntries(),
+                txNodes,
+                m.last(),
+                tx.onePhaseCommit(),
+                tx.needReturnValue() && tx.implicit(),
+                tx.implicitSingle(),
+                m.explicitLock(),
+                tx.subjectId(),
+                tx.taskNameHash(),
+                m.clientFirst(),
+                txNodes.size() == 1,
+                tx.activeCachesDeploymentEnabled(),
+                tx.txState().recovery());
 
         for (IgniteTxEntry txEntry : writes) {
             if (txEntry.op() == TRANSFORM)
@@ -17,6 +17,7 @@
 package org.apache.ignite.internal.processors.cache.distributed.near;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.UUID;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
@@ -26,6 +27,7 @@ import org.apache.ignite.internal.processors.cache.GridCacheIdMessage;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
 import org.apache.ignite.internal.processors.cache.mvcc.MvccSnapshot;
+import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
 import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.plugin.extensions.communication.Message;
 import org.apache.ignite.plugin.extensions.communication.MessageReader;
@@ -226,6 +228,13 @@ public class GridNearSingleGetRequest extends GridCacheIdMessage implements Grid
         return key.partition();
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean processFromNioThread(GridCacheSharedContext<?, ?> ctx) {
+        GridCacheContext<?, ?> cctx = ctx.cacheContext(cacheId);
+
+        return cctx != null && cctx.nioThreadProcessingAllowed();
+    }
+
     /**
      * Get transaction label (may be null).
      *
@@ -277,6 +286,21 @@ public class GridNearSingleGetRequest extends GridCacheIdMessage implements Grid
         return (flags & RECOVERY_FLAG_MASK) != 0;
     }
 
+    /**
+     * @return Keys read by the transaction earlier whose read versions are to be validated on the node,
+     *      or {@code null} if there are none.
+     */
+    @Nullable public List<KeyCacheObject> versionCheckKeys() {
+        return null;
+    }
+
+    /**
+     * @return Read versions to validate.
+     */
+    @Nullable public List<GridCacheVersion> versionCheckVersions() {
+        return null;
+    }
+
     /** {@inheritDoc} */
     @Override public void prepareMarshal(GridCacheSharedContext ctx) throws IgniteCheckedException {
         super.prepareMarshal(ctx);
@@ -3067,6 +3067,10 @@ public class GridNearTxLocal extends GridDhtTxLocalAdapter implements GridTimeou
             });
         }
         else if (cacheCtx.isColocated()) {
+            // Let the primary nodes validate what has been read so far to fail on a conflict early.
+            GridNearTxReadChecks readChecks = optimistic() && serializable() ?
+                GridNearTxReadChecks.create(cacheCtx, allEntries()) : null;
+
             if (keys.size() == 1) {
                 final KeyCacheObject key = F.first(keys);
 
@@ -3084,7 +3088,8 @@ public class GridNearTxLocal extends GridDhtTxLocalAdapter implements GridTimeou
                     /*keepCacheObject*/true,
                     recovery,
                     null,
-                    label()
+                    label(),
+                    readChecks
                 ).chain(new C1<IgniteInternalFuture<Object>, Void>() {
                     @Override public Void apply(IgniteInternalFuture<Object> f) {
                         try {
@@ -3117,7 +3122,8 @@ public class GridNearTxLocal extends GridDhtTxLocalAdapter implements GridTimeou
                     needVer,
                     /*keepCacheObject*/true,
                     label(),
-                    null
+                    null,
+                    readChecks
                 ).chain(new C1<IgniteInternalFuture<Map<Object, Object>>, Void>() {
                     @Override public Void apply(IgniteInternalFuture<Map<Object, Object>> f) {
                         try {
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.near;
+
+import java.io.Externalizable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.GridDirectCollection;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.internal.processors.cache.transactions.IgniteTxEntry;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.T2;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.lang.IgniteUuid;
+import org.apache.ignite.plugin.extensions.communication.MessageCollectionItemType;
+import org.apache.ignite.plugin.extensions.communication.MessageReader;
+import org.apache.ignite.plugin.extensions.communication.MessageWriter;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Near transaction prepare request that sends read entries of an optimistic serializable transaction which carry
+ * nothing but a read version as per-partition read versions ({@link GridNearTxReadVersions}). The primary node
+ * restores them as regular read entries on unmarshalling. Sent only to nodes supporting early validation of
+ * read versions.
+ */
+public class GridNearTxPrepareRequestV2 extends GridNearTxPrepareRequest {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Read versions of compact read entries. */
+    @GridDirectCollection(GridNearTxReadVersions.class)
+    private List<GridNearTxReadVersions> readVers;
+
+    /**
+     * Empty constructor required for {@link Externalizable}.
+     */
+    public GridNearTxPrepareRequestV2() {
+        // No-op.
+    }
+
+    /**
+     * @param futId Future ID.
+     * @param topVer Topology version.
+     * @param tx Transaction.
+     * @param timeout Transaction timeout.
+     * @param reads Read entries.
+     * @param writes Write entries.
+     * @param near {@code True} if mapping is for near caches.
+     * @param txNodes Transaction nodes mapping.
+     * @param last {@code True} if this last prepare request for node.
+     * @param onePhaseCommit One phase commit flag.
+     * @param retVal Return value flag.
+     * @param implicitSingle Implicit single flag.
+     * @param explicitLock Explicit lock flag.
+     * @param subjId Subject ID.
+     * @param taskNameHash Task name hash.
+     * @param firstClientReq {@code True} if first optimistic tx prepare request sent from client node.
+     * @param allowWaitTopFut {@code True} if it is safe for first client request to wait for topology future.
+     * @param addDepInfo Deployment info flag.
+     * @param recovery Recovery flag.
+     */
+    public GridNearTxPrepareRequestV2(
+        IgniteUuid futId,
+        AffinityTopologyVersion topVer,
+        GridNearTxLocal tx,
+        long timeout,
+        Collection<IgniteTxEntry> reads,
+        Collection<IgniteTxEntry> writes,
+        boolean near,
+        Map<UUID, Collection<UUID>> txNodes,
+        boolean last,
+        boolean onePhaseCommit,
+        boolean retVal,
+        boolean implicitSingle,
+        boolean explicitLock,
+        @Nullable UUID subjId,
+        int taskNameHash,
+        boolean firstClientReq,
+        boolean allowWaitTopFut,
+        boolean addDepInfo,
+        boolean recovery
+    ) {
+        super(futId,
+            topVer,
+            tx,
+            timeout,
+            reads,
+            writes,
+            near,
+            txNodes,
+            last,
+            onePhaseCommit,
+            retVal,
+            implicitSingle,
+            explicitLock,
+            subjId,
+            taskNameHash,
+            firstClientReq,
+            allowWaitTopFut,
+            addDepInfo,
+            recovery);
+
+        // Keys of compact reads are not prepared for deployment.
+        if (!addDepInfo)
+            compactReads();
+    }
+
+    /**
+     * Moves compact read entries to per-partition read versions.
+     */
+    private void compactReads() {
+        Collection<IgniteTxEntry> reads = reads();
+
+        if (F.isEmpty(reads))
+            return;
+
+        List<IgniteTxEntry> fullReads = new ArrayList<>();
+        Map<T2<Integer, Integer>, GridNearTxReadVersions> lastVers = new HashMap<>();
+
+        for (IgniteTxEntry e : reads) {
+            if (!e.compactRead()) {
+                fullReads.add(e);
+
+                continue;
+            }
+
+            int part = e.context().affinity().partition(e.key());
+
+            T2<Integer, Integer> partKey = new T2<>(e.cacheId(), part);
+
+            GridNearTxReadVersions vers = lastVers.get(partKey);
+
+            if (vers == null || !vers.add(part, e)) {
+                vers = new GridNearTxReadVersions(part, e);
+
+                lastVers.put(partKey, vers);
+
+                if (readVers == null)
+                    readVers = new ArrayList<>();
+
+                readVers.add(vers);
+            }
+        }
+
+        if (readVers != null)
+            reads(fullReads);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void prepareMarshal(GridCacheSharedContext ctx) throws IgniteCheckedException {
+        super.prepareMarshal(ctx);
+
+        if (readVers != null) {
+            for (GridNearTxReadVersions vers : readVers)
+                prepareMarshalCacheObjects(vers.keys(), ctx.cacheContext(vers.cacheId()));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void finishUnmarshal(GridCacheSharedContext ctx, ClassLoader ldr) throws IgniteCheckedException {
+        super.finishUnmarshal(ctx, ldr);
+
+        if (readVers != null) {
+            List<IgniteTxEntry> compactReads = new ArrayList<>();
+
+            for (GridNearTxReadVersions vers : readVers)
+                vers.entries(compactReads);
+
+            unmarshalTx(compactReads, false, ctx, ldr);
+
+            Collection<IgniteTxEntry> reads = reads();
+
+            if (reads != null)
+                compactReads.addAll(reads);
+
+            reads(compactReads);
+
+            readVers = null;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean writeTo(ByteBuffer buf, MessageWriter writer) {
+        writer.setBuffer(buf);
+
+        if (!super.writeTo(buf, writer))
+            return false;
+
+        if (!writer.isHeaderWritten()) {
+            if (!writer.writeHeader(directType(), fieldsCount()))
+                return false;
+
+            writer.onHeaderWritten();
+        }
+
+        switch (writer.state()) {
+            case 28:
+                if (!writer.writeCollection("readVers", readVers, MessageCollectionItemType.MSG))
+                    return false;
+
+                writer.incrementState();
+
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean readFrom(ByteBuffer buf, MessageReader reader) {
+        reader.setBuffer(buf);
+
+        if (!reader.beforeMessageRead())
+            return false;
+
+        if (!super.readFrom(buf, reader))
+            return false;
+
+        switch (reader.state()) {
+            case 28:
+                readVers = reader.readCollection("readVers", MessageCollectionItemType.MSG);
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+        }
+
+        return reader.afterMessageRead(GridNearTxPrepareRequestV2.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override public short directType() {
+        return 182;
+    }
+
+    /** {@inheritDoc} */
+    @Override public byte fieldsCount() {
+        return 29;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridNearTxPrepareRequestV2.class, this,
+            "readVers", readVers != null ? readVers.size() : 0,
+            "super", super.toString());
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.near;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.internal.IgniteFeatures;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.transactions.IgniteTxEntry;
+import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.lang.IgniteBiInClosure;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Read versions of keys an optimistic serializable transaction has read from a cache so far and not sent for
+ * validation yet.
+ * <p>
+ * The versions are sent together with subsequent get requests ({@link GridNearSingleGetRequestV2} and
+ * {@link GridNearGetRequestV2}) to nodes that support them, so that the primary node validates them
+ * and a transaction that has already read stale data fails without waiting for the prepare phase. Each version
+ * is sent once, a request that is remapped or fails loses its checks, since prepare still validates the whole
+ * read set and the early validation is best effort.
+ */
+public class GridNearTxReadChecks {
+    /** Cache context. */
+    @GridToStringExclude
+    private final GridCacheContext<?, ?> cctx;
+
+    /** Maximum number of read versions sent with a request. */
+    private final int maxChecks;
+
+    /** Entries with read versions not sent yet. */
+    @GridToStringExclude
+    private final List<IgniteTxEntry> entries;
+
+    /**
+     * @param cctx Cache context.
+     * @param maxChecks Maximum number of read versions sent with a request.
+     * @param entries Entries with read versions not sent yet.
+     */
+    private GridNearTxReadChecks(GridCacheContext<?, ?> cctx, int maxChecks, List<IgniteTxEntry> entries) {
+        this.cctx = cctx;
+        this.maxChecks = maxChecks;
+        this.entries = entries;
+    }
+
+    /**
+     * @param cctx Cache context.
+     * @param entries Transaction entries.
+     * @return Read versions of the entries read from the cache and not sent yet, or {@code null} if there are none
+     *      to validate or early validation is disabled.
+     */
+    @Nullable public static GridNearTxReadChecks create(GridCacheContext<?, ?> cctx, Iterable<IgniteTxEntry> entries) {
+        int maxChecks = cctx.tm().serializableReadChecks();
+
+        if (maxChecks == 0)
+            return null;
+
+        List<IgniteTxEntry> entries0 = null;
+
+        for (IgniteTxEntry e : entries) {
+            if (e.entryReadVersion() == null || e.entryReadVersionSent() || e.cacheId() != cctx.cacheId())
+                continue;
+
+            if (entries0 == null)
+                entries0 = new ArrayList<>();
+
+            entries0.add(e);
+        }
+
+        return entries0 != null ? new GridNearTxReadChecks(cctx, maxChecks, entries0) : null;
+    }
+
+    /**
+     * @param node Node.
+     * @return {@code True} if the node accepts read versions with get requests.
+     */
+    public boolean supported(ClusterNode node) {
+        return IgniteFeatures.nodeSupports(cctx.kernalContext(), node, IgniteFeatures.TX_SERIALIZABLE_READ_CHECKS);
+    }
+
+    /**
+     * Applies the closure to keys primary on the node and their read versions and marks the versions as sent.
+     *
+     * @param node Node the request is sent to, must be {@link #supported(ClusterNode) supported}.
+     * @param topVer Topology version the request is mapped on.
+     * @param c Closure.
+     */
+    public void forEach(ClusterNode node, AffinityTopologyVersion topVer,
+        IgniteBiInClosure<KeyCacheObject, GridCacheVersion> c) {
+        assert supported(node) : node;
+
+        int cnt = 0;
+
+        for (int i = 0; i < entries.size() && cnt < maxChecks; i++) {
+            IgniteTxEntry e = entries.get(i);
+
+            if (e.entryReadVersionSent())
+                continue;
+
+            ClusterNode primary = cctx.affinity().primaryByKey(e.key(), topVer);
+
+            if (primary != null && primary.id().equals(node.id())) {
+                c.apply(e.key(), e.entryReadVersion());
+
+                e.onEntryReadVersionSent();
+
+                cnt++;
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridNearTxReadChecks.class, this, "size", entries.size());
+    }
+}
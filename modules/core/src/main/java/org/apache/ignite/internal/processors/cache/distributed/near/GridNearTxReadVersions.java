@@ -0,0 +1,282 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.near;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.apache.ignite.internal.GridDirectCollection;
+import org.apache.ignite.internal.GridDirectTransient;
+import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.transactions.IgniteTxEntry;
+import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
+import org.apache.ignite.internal.util.GridLongList;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.plugin.extensions.communication.Message;
+import org.apache.ignite.plugin.extensions.communication.MessageCollectionItemType;
+import org.apache.ignite.plugin.extensions.communication.MessageReader;
+import org.apache.ignite.plugin.extensions.communication.MessageWriter;
+
+/**
+ * Read versions of keys of one partition read by an optimistic serializable transaction, sent with
+ * {@link GridNearTxPrepareRequestV2} instead of full read entries.
+ * <p>
+ * Versions of the keys share topology version and node order, only their orders are sent. Reads with versions
+ * created by another topology version or node go to another instance for the same partition.
+ */
+public class GridNearTxReadVersions implements Message {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Cache ID. */
+    private int cacheId;
+
+    /** Partition, keys carry it on their own. */
+    @GridDirectTransient
+    private int part;
+
+    /** Flags of the read entries. */
+    private byte flags;
+
+    /** Topology version of the read versions. */
+    private int topVer;
+
+    /** Node order and DR ID of the read versions. */
+    private int nodeOrderDrId;
+
+    /** Keys. */
+    @GridToStringExclude
+    @GridDirectCollection(KeyCacheObject.class)
+    private List<KeyCacheObject> keys;
+
+    /** Orders of the read versions. */
+    @GridToStringExclude
+    private GridLongList orders;
+
+    /**
+     * Empty constructor required for {@link Message}.
+     */
+    public GridNearTxReadVersions() {
+        // No-op.
+    }
+
+    /**
+     * @param part Partition.
+     * @param e First read entry, must be a {@link IgniteTxEntry#compactRead() compact read}.
+     */
+    GridNearTxReadVersions(int part, IgniteTxEntry e) {
+        GridCacheVersion ver = e.entryReadVersion();
+
+        cacheId = e.cacheId();
+        flags = e.flags();
+        topVer = ver.topologyVersion();
+        nodeOrderDrId = ver.nodeOrderAndDrIdRaw();
+
+        this.part = part;
+
+        keys = new ArrayList<>();
+        orders = new GridLongList();
+
+        keys.add(e.key());
+        orders.add(ver.order());
+    }
+
+    /**
+     * @return Cache ID.
+     */
+    public int cacheId() {
+        return cacheId;
+    }
+
+    /**
+     * @return Keys.
+     */
+    public List<KeyCacheObject> keys() {
+        return keys;
+    }
+
+    /**
+     * Adds the read entry if it belongs to this instance.
+     *
+     * @param part Partition.
+     * @param e Read entry, must be a {@link IgniteTxEntry#compactRead() compact read}.
+     * @return {@code False} if the entry belongs to another instance.
+     */
+    boolean add(int part, IgniteTxEntry e) {
+        GridCacheVersion ver = e.entryReadVersion();
+
+        if (this.part != part || cacheId != e.cacheId() || flags != e.flags() ||
+            topVer != ver.topologyVersion() || nodeOrderDrId != ver.nodeOrderAndDrIdRaw())
+            return false;
+
+        keys.add(e.key());
+        orders.add(ver.order());
+
+        return true;
+    }
+
+    /**
+     * Restores the read entries.
+     *
+     * @param to Collection to add the entries to.
+     */
+    void entries(Collection<IgniteTxEntry> to) {
+        assert keys.size() == orders.size();
+
+        for (int i = 0; i < keys.size(); i++) {
+            GridCacheVersion ver = new GridCacheVersion(topVer, nodeOrderDrId, orders.get(i));
+
+            to.add(new IgniteTxEntry(cacheId, keys.get(i), ver, flags));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onAckReceived() {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean writeTo(ByteBuffer buf, MessageWriter writer) {
+        writer.setBuffer(buf);
+
+        if (!writer.isHeaderWritten()) {
+            if (!writer.writeHeader(directType(), fieldsCount()))
+                return false;
+
+            writer.onHeaderWritten();
+        }
+
+        switch (writer.state()) {
+            case 0:
+                if (!writer.writeInt("cacheId", cacheId))
+                    return false;
+
+                writer.incrementState();
+
+            case 1:
+                if (!writer.writeByte("flags", flags))
+                    return false;
+
+                writer.incrementState();
+
+            case 2:
+                if (!writer.writeCollection("keys", keys, MessageCollectionItemType.MSG))
+                    return false;
+
+                writer.incrementState();
+
+            case 3:
+                if (!writer.writeInt("nodeOrderDrId", nodeOrderDrId))
+                    return false;
+
+                writer.incrementState();
+
+            case 4:
+                if (!writer.writeMessage("orders", orders))
+                    return false;
+
+                writer.incrementState();
+
+            case 5:
+                if (!writer.writeInt("topVer", topVer))
+                    return false;
+
+                writer.incrementState();
+
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean readFrom(ByteBuffer buf, MessageReader reader) {
+        reader.setBuffer(buf);
+
+        if (!reader.beforeMessageRead())
+            return false;
+
+        switch (reader.state()) {
+            case 0:
+                cacheId = reader.readInt("cacheId");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 1:
+                flags = reader.readByte("flags");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 2:
+                keys = reader.readCollection("keys", MessageCollectionItemType.MSG);
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 3:
+                nodeOrderDrId = reader.readInt("nodeOrderDrId");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 4:
+                orders = reader.readMessage("orders");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 5:
+                topVer = reader.readInt("topVer");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+        }
+
+        return reader.afterMessageRead(GridNearTxReadVersions.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override public short directType() {
+        return 181;
+    }
+
+    /** {@inheritDoc} */
+    @Override public byte fieldsCount() {
+        return 6;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridNearTxReadVersions.class, this, "size", keys != null ? keys.size() : 0);
+    }
+}
@@ -20,6 +20,7 @@ import org.apache.ignite.DataRegionMetrics;
 import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
 import org.apache.ignite.internal.processors.metric.GridMetricManager;
 import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetric;
 import org.apache.ignite.internal.processors.metric.impl.HitRateMetric;
 import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
 import org.apache.ignite.internal.util.typedef.F;
@@ -27,6 +28,10 @@ import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteOutClosure;
 import org.apache.ignite.mxbean.DataStorageMetricsMXBean;
 
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
 /**
  *
  */
@@ -34,6 +39,20 @@ public class DataStorageMetricsImpl implements DataStorageMetricsMXBean {
     /** Prefix for all data storage metrics. */
     public static final String DATASTORAGE_METRIC_PREFIX = "io.datastorage";
 
+    /** Bounds of WAL fsync time histogram in nanoseconds. */
+    public static final long[] WAL_FSYNC_TIME_BOUNDS = new long[] {
+        NANOSECONDS.convert(100, MICROSECONDS),
+        NANOSECONDS.convert(500, MICROSECONDS),
+        NANOSECONDS.convert(1, MILLISECONDS),
+        NANOSECONDS.convert(5, MILLISECONDS),
+        NANOSECONDS.convert(10, MILLISECONDS),
+        NANOSECONDS.convert(50, MILLISECONDS),
+        NANOSECONDS.convert(100, MILLISECONDS)
+    };
+
+    /** Bounds of WAL fsync group size histogram. */
+    public static final long[] WAL_FSYNC_BATCH_BOUNDS = new long[] {1, 2, 4, 8, 16, 32, 64, 128};
+
     /** */
     private final HitRateMetric walLoggingRate;
 
@@ -46,6 +65,12 @@ public class DataStorageMetricsImpl implements DataStorageMetricsMXBean {
     /** */
     private final HitRateMetric walFsyncTimeNum;
 
+    /** */
+    private final HistogramMetric walFsyncTime;
+
+    /** */
+    private final HistogramMetric walFsyncBatchSize;
+
     /** */
     private final HitRateMetric walBuffPollSpinsNum;
 
@@ -144,6 +169,12 @@ public class DataStorageMetricsImpl implements DataStorageMetricsMXBean {
             rateTimeInterval,
             subInts);
 
+        walFsyncTime = mreg.histogram("WalFsyncTime", WAL_FSYNC_TIME_BOUNDS,
+            "Histogram of WAL fsync duration in nanoseconds.");
+
+        walFsyncBatchSize = mreg.histogram("WalFsyncBatchSize", WAL_FSYNC_BATCH_BOUNDS,
+            "Histogram of the number of WAL fsync requests served by a single fsync in FSYNC mode.");
+
         walBuffPollSpinsNum = mreg.hitRateMetric(
             "WalBuffPollSpinsRate",
             "WAL buffer poll spins number over the last time interval.",
@@ -640,6 +671,15 @@ public class DataStorageMetricsImpl implements DataStorageMetricsMXBean {
 
         walFsyncTimeDuration.add(microseconds);
         walFsyncTimeNum.increment();
+
+        walFsyncTime.value(nanoTime);
+    }
+
+    /**
+     * @param reqs Number of fsync requests served by a single fsync.
+     */
+    public void onFsyncBatch(int reqs) {
+        walFsyncBatchSize.value(reqs);
     }
 
     /**
@@ -1061,6 +1061,17 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
         GridCacheContext cctx,
         IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
         int amount
+    ) throws IgniteCheckedException {
+        return expire(cctx, c, amount, 0, 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean expire(
+        GridCacheContext cctx,
+        IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
+        int amount,
+        int stripe,
+        int stripes
     ) throws IgniteCheckedException {
         assert !cctx.isNear() : cctx.name();
 
@@ -1072,6 +1083,9 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             int cleared = 0;
 
             for (CacheDataStore store : cacheDataStores()) {
+                if (store.partId() % stripes != stripe)
+                    continue;
+
                 cleared += ((GridCacheDataStore)store).purgeExpired(cctx, c, amount - cleared);
 
                 if (amount != -1 && cleared >= amount)
@@ -2677,7 +2691,7 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
         public long expiredSize() throws IgniteCheckedException {
             CacheDataStore delegate0 = init0(true);
 
-            return delegate0 == null ? 0 : pendingTree.size();
+            return delegate0 == null ? 0 : pendingTree.rowCount();
         }
 
         /**
@@ -1093,7 +1093,7 @@ public class PageMemoryImpl implements PageMemoryEx {
     /**
      * @return Max dirty ratio from the segments.
      */
-    double getDirtyPagesRatio() {
+    public double getDirtyPagesRatio() {
         if (segments == null)
             return 0;
 
@@ -1885,7 +1885,7 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
      * @throws IgniteCheckedException If failed.
      * @return {@code True} if removed row.
      */
-    public final boolean removex(L row) throws IgniteCheckedException {
+    public boolean removex(L row) throws IgniteCheckedException {
         Boolean res = (Boolean)doRemove(row, false);
 
         return res != null ? res : false;
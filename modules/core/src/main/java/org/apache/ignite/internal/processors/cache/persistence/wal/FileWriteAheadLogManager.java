@@ -279,6 +279,9 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     /** */
     private File walWorkDir;
 
+    /** WAL work directories: {@link #walWorkDir} followed by stripe directories. */
+    private File[] walWorkDirs;
+
     /** WAL archive directory (including consistent ID as subfolder) */
     private File walArchiveDir;
 
@@ -440,6 +443,30 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                 "write ahead log archive directory"
             );
 
+            String[] stripePaths = dsCfg.getWalStripePaths();
+
+            final File[] walWorkDirs0 = walWorkDirs = new File[1 + (stripePaths == null ? 0 : stripePaths.length)];
+
+            walWorkDirs0[0] = walWorkDir0;
+
+            for (int i = 1; i < walWorkDirs0.length; i++) {
+                File dir = walWorkDirs0[i] = initDirectory(
+                    stripePaths[i - 1],
+                    null,
+                    resolveFolders.folderName(),
+                    "write ahead log stripe directory"
+                );
+
+                for (int j = 0; j < i; j++) {
+                    if (dir.equals(walWorkDirs0[j]))
+                        throw new IgniteCheckedException("WAL stripe directories must be unique [dir=" + dir + ']');
+                }
+
+                if (dir.equals(walArchiveDir0))
+                    throw new IgniteCheckedException("WAL stripe directory must differ from WAL archive directory " +
+                        "[dir=" + dir + ']');
+            }
+
             serializer = new RecordSerializerFactoryImpl(cctx).createSerializer(serializerVer);
 
             GridCacheDatabaseSharedManager dbMgr = (GridCacheDatabaseSharedManager)cctx.database();
@@ -453,8 +480,10 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                     @Override public Long apply() {
                         long size = 0;
 
-                        for (File f : walWorkDir0.listFiles())
-                            size += f.length();
+                        for (File dir : walWorkDirs0) {
+                            for (File f : dir.listFiles())
+                                size += f.length();
+                        }
 
                         for (File f : walArchiveDir0.listFiles())
                             size += f.length();
@@ -478,7 +507,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             else
                 archiver = null;
 
-            segmentRouter = new SegmentRouter(walWorkDir, walArchiveDir, segmentAware, dsCfg);
+            segmentRouter = new SegmentRouter(walWorkDirs, walArchiveDir, segmentAware, dsCfg);
 
             fileHandleManager = fileHandleManagerFactory.build(
                 cctx, metrics, mmap, serializer, this::currentHandle
@@ -600,6 +629,21 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                     ", walArchivePath = " + dsCfg.getWalArchivePath() + "]"
             );
         }
+
+        if (!F.isEmpty(dsCfg.getWalStripePaths())) {
+            if (!isArchiverEnabled()) {
+                throw new IgniteCheckedException(
+                    "WAL stripe directories require WAL archive to be enabled " +
+                        "[walStorePath = " + dsCfg.getWalPath() +
+                        ", walArchivePath = " + dsCfg.getWalArchivePath() + "]"
+                );
+            }
+
+            for (String path : dsCfg.getWalStripePaths()) {
+                if (path == null)
+                    throw new IgniteCheckedException("WAL stripe directory path must not be null.");
+            }
+        }
     }
 
     /**
@@ -1308,9 +1352,8 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
 
         @Nullable FileArchiver archiver0 = archiver;
 
-        long segNo = archiver0 == null ? absIdx : absIdx % dsCfg.getWalSegments();
-
-        File curFile = new File(walWorkDir, FileDescriptor.fileName(segNo));
+        File curFile = archiver0 == null ? new File(walWorkDir, FileDescriptor.fileName(absIdx)) :
+            SegmentRouter.workSegmentFile(walWorkDirs, absIdx % dsCfg.getWalSegments());
 
         int off = lastReadPtr == null ? 0 : lastReadPtr.fileOffset();
         int len = lastReadPtr == null ? 0 : lastReadPtr.length();
@@ -1453,8 +1496,8 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
      */
     private void checkOrPrepareFiles() throws StorageException {
         // Clean temp files.
-        {
-            File[] tmpFiles = walWorkDir.listFiles(WAL_SEGMENT_TEMP_FILE_FILTER);
+        for (File dir : walWorkDirs) {
+            File[] tmpFiles = dir.listFiles(WAL_SEGMENT_TEMP_FILE_FILTER);
 
             if (!F.isEmpty(tmpFiles)) {
                 for (File tmp : tmpFiles) {
@@ -1467,15 +1510,36 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             }
         }
 
-        File[] allFiles = walWorkDir.listFiles(WAL_SEGMENT_FILE_FILTER);
+        List<File> allFiles = new ArrayList<>();
+
+        for (File dir : walWorkDirs)
+            Collections.addAll(allFiles, dir.listFiles(WAL_SEGMENT_FILE_FILTER));
+
+        // Segments written before the stripe directories were changed are moved to their new places.
+        if (walWorkDirs.length > 1) {
+            for (File file : allFiles) {
+                File dst = SegmentRouter.workSegmentFile(walWorkDirs, new FileDescriptor(file).idx());
+
+                if (dst.equals(file))
+                    continue;
+
+                if (dst.exists())
+                    throw new StorageException("Failed to initialize WAL (work segment is present in several " +
+                        "directories) [file=" + file.getAbsolutePath() + ", dst=" + dst.getAbsolutePath() + ']');
+
+                moveWorkSegment(file, dst);
+            }
+        }
+
+        int filesCnt = allFiles.size();
 
         if (isArchiverEnabled())
-            if (allFiles.length != 0 && allFiles.length > dsCfg.getWalSegments())
+            if (filesCnt != 0 && filesCnt > dsCfg.getWalSegments())
                 throw new StorageException("Failed to initialize wal (work directory contains " +
-                    "incorrect number of segments) [cur=" + allFiles.length + ", expected=" + dsCfg.getWalSegments() + ']');
+                    "incorrect number of segments) [cur=" + filesCnt + ", expected=" + dsCfg.getWalSegments() + ']');
 
         // Allocate the first segment synchronously. All other segments will be allocated by archiver in background.
-        if (allFiles.length == 0) {
+        if (filesCnt == 0) {
             File first = new File(walWorkDir, FileDescriptor.fileName(0));
 
             createFile(first);
@@ -1484,6 +1548,37 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             checkFiles(0, false, null, null);
     }
 
+    /**
+     * Moves work segment to another WAL work directory.
+     *
+     * @param file Segment file.
+     * @param dst Destination file.
+     * @throws StorageException If failed.
+     */
+    private void moveWorkSegment(File file, File dst) throws StorageException {
+        if (log.isInfoEnabled())
+            log.info("Moving WAL work segment [file=" + file.getAbsolutePath() +
+                ", dst=" + dst.getAbsolutePath() + ']');
+
+        File tmp = new File(dst.getParent(), dst.getName() + TMP_SUFFIX);
+
+        try {
+            Files.copy(file.toPath(), tmp.toPath());
+
+            try (FileIO fileIO = ioFactory.create(tmp, READ, WRITE)) {
+                fileIO.force();
+            }
+
+            Files.move(tmp.toPath(), dst.toPath());
+
+            Files.delete(file.toPath());
+        }
+        catch (IOException e) {
+            throw new StorageException("Failed to move WAL work segment [file=" + file.getAbsolutePath() +
+                ", dst=" + dst.getAbsolutePath() + ']', e);
+        }
+    }
+
     /**
      * Clears whole the file, fills with zeros for Default mode.
      *
@@ -1589,7 +1684,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
 
         long segmentIdx = absNextIdx % dsCfg.getWalSegments();
 
-        return new File(walWorkDir, FileDescriptor.fileName(segmentIdx));
+        return SegmentRouter.workSegmentFile(walWorkDirs, segmentIdx);
     }
 
     /**
@@ -1763,11 +1858,13 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             // If WAL archive is empty, try to find last not archived segment in work directory and copy to WAL archive.
             TreeMap<Long, FileDescriptor> workIndices = new TreeMap<>();
 
-            for (File file : walWorkDir.listFiles(WAL_SEGMENT_COMPACTED_OR_RAW_FILE_FILTER)) {
-                FileDescriptor desc = readFileDescriptor(file, ioFactory);
+            for (File dir : walWorkDirs) {
+                for (File file : dir.listFiles(WAL_SEGMENT_COMPACTED_OR_RAW_FILE_FILTER)) {
+                    FileDescriptor desc = readFileDescriptor(file, ioFactory);
 
-                if (desc != null)
-                    workIndices.put(desc.idx(), desc);
+                    if (desc != null)
+                        workIndices.put(desc.idx(), desc);
+                }
             }
 
             if (!workIndices.isEmpty()) {
@@ -1962,7 +2059,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
         public SegmentArchiveResult archiveSegment(long absIdx) throws StorageException {
             long segIdx = absIdx % dsCfg.getWalSegments();
 
-            File origFile = new File(walWorkDir, FileDescriptor.fileName(segIdx));
+            File origFile = SegmentRouter.workSegmentFile(walWorkDirs, segIdx);
 
             String name = FileDescriptor.fileName(absIdx);
 
@@ -2518,7 +2615,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
         @Nullable IgniteInClosure<Integer> completionCallback
     ) throws StorageException {
         for (int i = startWith; i < dsCfg.getWalSegments() && (p == null || p.apply(i)); i++) {
-            File checkFile = new File(walWorkDir, FileDescriptor.fileName(i));
+            File checkFile = SegmentRouter.workSegmentFile(walWorkDirs, i);
 
             if (checkFile.exists()) {
                 if (checkFile.isDirectory())
@@ -2847,7 +2944,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                 else {
                     // Log only when no segments were read. This will help us avoiding logging on the end of the WAL.
                     if (curRec == null && curWalSegment == null) {
-                        File workDirFile = new File(walWorkDir, fileName(curWalSegmIdx % dsCfg.getWalSegments()));
+                        File workDirFile = segmentRouter.workSegmentFile(curWalSegmIdx % dsCfg.getWalSegments());
                         File archiveDirFile = new File(walArchiveDir, fileName(curWalSegmIdx));
 
                         U.warn(
@@ -2857,8 +2954,8 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                                 + ", start=" + start
                                 + ", end=" + end
                                 + ", filePath=" + (fd == null ? "<empty>" : fd.file.getAbsolutePath())
-                                + ", walWorkDir=" + walWorkDir
-                                + ", walWorkDirContent=" + listFileNames(walWorkDir)
+                                + ", walWorkDir=" + workDirFile.getParentFile()
+                                + ", walWorkDirContent=" + listFileNames(workDirFile.getParentFile())
                                 + ", walArchiveDir=" + walArchiveDir
                                 + ", walArchiveDirContent=" + listFileNames(walArchiveDir)
                                 + ", workDirFile=" + workDirFile.getName()
@@ -2965,7 +3062,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             @NotNull Exception e,
             @Nullable FileWALPointer ptr) {
             FileDescriptor fd = new FileDescriptor(
-                new File(walWorkDir, FileDescriptor.fileName(workIdx)),
+                segmentRouter.workSegmentFile(workIdx),
                 walSegmentIdx
             );
 
@@ -32,6 +32,9 @@ public class SegmentRouter {
     /** */
     private File walWorkDir;
 
+    /** WAL work directories, the first one is {@link #walWorkDir}. */
+    private File[] walWorkDirs;
+
     /** WAL archive directory (including consistent ID as subfolder) */
     private File walArchiveDir;
 
@@ -52,7 +55,23 @@ public class SegmentRouter {
         File walArchiveDir,
         SegmentAware segmentAware,
         DataStorageConfiguration dsCfg) {
-        this.walWorkDir = walWorkDir;
+        this(new File[] {walWorkDir}, walArchiveDir, segmentAware, dsCfg);
+    }
+
+    /**
+     * @param walWorkDirs WAL work directories, the first one is the WAL work directory, others are stripe
+     *      directories, see {@link DataStorageConfiguration#getWalStripePaths()}.
+     * @param walArchiveDir WAL archive directory.
+     * @param segmentAware Holder of actual information of latest manipulation on WAL segments.
+     * @param dsCfg Data storage configuration.
+     */
+    public SegmentRouter(
+        File[] walWorkDirs,
+        File walArchiveDir,
+        SegmentAware segmentAware,
+        DataStorageConfiguration dsCfg) {
+        this.walWorkDir = walWorkDirs[0];
+        this.walWorkDirs = walWorkDirs;
         this.walArchiveDir = walArchiveDir;
         this.segmentAware = segmentAware;
         this.dsCfg = dsCfg;
@@ -71,7 +90,7 @@ public class SegmentRouter {
         if (segmentAware.lastArchivedAbsoluteIndex() >= segmentId || !isArchiverEnabled())
             fd = new FileDescriptor(new File(walArchiveDir, fileName(segmentId)));
         else
-            fd = new FileDescriptor(new File(walWorkDir, fileName(segmentId % dsCfg.getWalSegments())), segmentId);
+            fd = new FileDescriptor(workSegmentFile(segmentId % dsCfg.getWalSegments()), segmentId);
 
         if (!fd.file().exists()) {
             FileDescriptor zipFile = new FileDescriptor(new File(walArchiveDir, fileName(fd.idx()) + ZIP_SUFFIX));
@@ -101,6 +120,32 @@ public class SegmentRouter {
         return walWorkDir;
     }
 
+    /**
+     * @return WAL work directories, the first one is {@link #getWalWorkDir()}.
+     */
+    public File[] getWalWorkDirs() {
+        return walWorkDirs;
+    }
+
+    /**
+     * @param workIdx Work segment index.
+     * @return Work segment file.
+     */
+    public File workSegmentFile(long workIdx) {
+        return workSegmentFile(walWorkDirs, workIdx);
+    }
+
+    /**
+     * Work segments are spread round-robin across WAL work directories.
+     *
+     * @param walWorkDirs WAL work directories.
+     * @param workIdx Work segment index.
+     * @return Work segment file.
+     */
+    public static File workSegmentFile(File[] walWorkDirs, long workIdx) {
+        return new File(walWorkDirs[(int)(workIdx % walWorkDirs.length)], fileName(workIdx));
+    }
+
     /**
      * @return WAL archive directory.
      */
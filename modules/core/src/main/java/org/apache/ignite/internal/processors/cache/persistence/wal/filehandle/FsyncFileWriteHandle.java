@@ -84,8 +84,22 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
     private final Lock lock = new ReentrantLock();
     /** Condition activated each time writeBuffer() completes. Used to wait previously flushed write to complete */
     private final Condition writeComplete = lock.newCondition();
-    /** Condition for timed wait of several threads, see {@link DataStorageConfiguration#getWalFsyncDelayNanos()} */
-    private final Condition fsync = lock.newCondition();
+    /** Group commit lock. When both locks are needed it is acquired before {@link #lock}. */
+    private final Lock fsyncLock = new ReentrantLock();
+    /** Condition activated each time a thread requests fsync while the leader collects the group. */
+    private final Condition fsyncRequested = fsyncLock.newCondition();
+    /** Condition activated each time group fsync completes. */
+    private final Condition fsyncComplete = fsyncLock.newCondition();
+    /** Whether some thread performs fsync for the group. Guarded by {@link #fsyncLock}. */
+    private boolean fsyncLeader;
+    /** Number of fsync requests since the last group was taken. Guarded by {@link #fsyncLock}. */
+    private int fsyncReqs;
+    /** Max requested file offset since the last group was taken. Guarded by {@link #fsyncLock}. */
+    private int fsyncReqOff;
+    /** Time of the last fsync request. Guarded by {@link #fsyncLock}. */
+    private long lastFsyncReqTime;
+    /** Average interval between fsync requests in nanoseconds. Guarded by {@link #fsyncLock}. */
+    private long avgFsyncReqInterval = Long.MAX_VALUE;
     /**
      * Next segment available condition. Protection from "spurious wakeup" is provided by predicate {@link
      * #fileIO}=<code>null</code>
@@ -101,7 +115,10 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
     private final DataStorageMetricsImpl metrics;
     /** Logger. */
     protected final IgniteLogger log;
-    /** Fsync delay. */
+    /**
+     * Max time the leader waits for other threads to join the group fsync, see
+     * {@link DataStorageConfiguration#getWalFsyncDelayNanos()}.
+     */
     private final long fsyncDelay;
     /** Switch segment record offset. */
     private int switchSegmentRecordOffset;
@@ -544,35 +561,71 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
     }
 
     /**
+     * Group commit. The first thread that needs fsync becomes the leader, other threads wait for it. The leader
+     * waits for more threads to join while they keep coming at the average rate, but no longer than
+     * {@link #fsyncDelay}. Then it writes records of the whole group and does a single fsync without holding
+     * {@link #lock}, so that records of the next group can be written meanwhile.
+     *
      * @param ptr Pointer to sync.
      * @throws StorageException If failed.
      * @throws IgniteInterruptedCheckedException If interrupted.
      */
     protected void fsync(FileWALPointer ptr, boolean stop) throws StorageException, IgniteInterruptedCheckedException {
-        lock.lock();
+        if (ptr != null && !needFsync(ptr))
+            return;
+
+        FileWALPointer flushPtr;
+
+        int batch;
+
+        fsyncLock.lock();
 
         try {
-            if (ptr != null) {
-                if (!needFsync(ptr))
+            onFsyncRequest(ptr);
+
+            while (fsyncLeader) {
+                U.await(fsyncComplete);
+
+                if (ptr != null && !needFsync(ptr))
                     return;
+            }
 
-                if (fsyncDelay > 0 && !stopped()) {
-                    // Delay fsync to collect as many updates as possible: trade latency for throughput.
-                    U.await(fsync, fsyncDelay, TimeUnit.NANOSECONDS);
+            if (ptr != null && !needFsync(ptr))
+                return;
 
-                    if (!needFsync(ptr))
-                        return;
-                }
+            fsyncLeader = true;
+
+            try {
+                if (ptr != null && fsyncDelay > 0 && !stopped())
+                    awaitGroup();
+            }
+            catch (IgniteInterruptedCheckedException e) {
+                releaseLeadership(-1);
+
+                throw e;
             }
 
-            flushOrWait(ptr, stop);
+            flushPtr = ptr == null ? null :
+                new FileWALPointer(getSegmentId(), Math.max(fsyncReqOff, ptr.fileOffset()), 0);
 
-            if (stopped())
-                return;
+            batch = fsyncReqs;
+
+            fsyncReqs = 0;
+            fsyncReqOff = 0;
+        }
+        finally {
+            fsyncLock.unlock();
+        }
+
+        long syncedPos = -1;
+
+        try {
+            flushOrWait(flushPtr, stop);
 
-            if (lastFsyncPos != written) {
-                assert lastFsyncPos < written; // Fsync position must be behind.
+            // Close waits for the leader, so the file can't be closed here.
+            long pos = written;
 
+            if (lastFsyncPos < pos) {
                 boolean metricsEnabled = metrics.metricsEnabled();
 
                 long start = metricsEnabled ? System.nanoTime() : 0;
@@ -584,86 +637,179 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
                     throw new StorageException(e);
                 }
 
-                lastFsyncPos = written;
-
-                if (fsyncDelay > 0)
-                    fsync.signalAll();
+                syncedPos = pos;
 
                 long end = metricsEnabled ? System.nanoTime() : 0;
 
-                if (metricsEnabled)
+                if (metricsEnabled) {
                     metrics.onFsync(end - start);
+                    metrics.onFsyncBatch(batch);
+                }
             }
         }
         finally {
-            lock.unlock();
+            fsyncLock.lock();
+
+            try {
+                releaseLeadership(syncedPos);
+            }
+            finally {
+                fsyncLock.unlock();
+            }
         }
     }
 
+    /**
+     * Registers fsync request. Must be called under {@link #fsyncLock}.
+     *
+     * @param ptr Pointer to sync.
+     */
+    private void onFsyncRequest(@Nullable FileWALPointer ptr) {
+        long now = System.nanoTime();
+
+        if (lastFsyncReqTime != 0) {
+            long interval = Math.min(now - lastFsyncReqTime, TimeUnit.SECONDS.toNanos(1));
+
+            avgFsyncReqInterval = avgFsyncReqInterval == Long.MAX_VALUE ? interval :
+                avgFsyncReqInterval + ((interval - avgFsyncReqInterval) >> 3);
+        }
+
+        lastFsyncReqTime = now;
+
+        fsyncReqs++;
+
+        if (ptr != null && ptr.index() == getSegmentId())
+            fsyncReqOff = Math.max(fsyncReqOff, ptr.fileOffset());
+
+        if (fsyncLeader)
+            fsyncRequested.signal();
+    }
+
+    /**
+     * Waits for other threads to join the group while they arrive within twice the average interval between
+     * requests. Doesn't wait at all if no request is expected within {@link #fsyncDelay}. Must be called
+     * by the leader under {@link #fsyncLock}.
+     *
+     * @throws IgniteInterruptedCheckedException If interrupted.
+     */
+    private void awaitGroup() throws IgniteInterruptedCheckedException {
+        long interval = avgFsyncReqInterval;
+
+        if (interval >= fsyncDelay)
+            return;
+
+        long deadline = System.nanoTime() + fsyncDelay;
+
+        long timeout = Math.max(2 * interval, 1);
+
+        for (long rem = fsyncDelay; rem > 0; rem = deadline - System.nanoTime()) {
+            int reqs = fsyncReqs;
+
+            U.await(fsyncRequested, Math.min(rem, timeout), TimeUnit.NANOSECONDS);
+
+            if (fsyncReqs == reqs)
+                break;
+        }
+    }
+
+    /**
+     * Finishes group fsync and wakes up waiting threads. Must be called by the leader under {@link #fsyncLock}.
+     *
+     * @param syncedPos Synced position or {@code -1} if fsync was not done.
+     */
+    private void releaseLeadership(long syncedPos) {
+        if (syncedPos > lastFsyncPos)
+            lastFsyncPos = syncedPos;
+
+        fsyncLeader = false;
+
+        fsyncComplete.signalAll();
+    }
+
     /**
      * @return {@code true} If this thread actually closed the segment.
      * @throws StorageException If failed.
      */
     @Override public boolean close(boolean rollOver) throws StorageException {
         if (stop.compareAndSet(false, true)) {
-            lock.lock();
+            fsyncLock.lock();
 
             try {
-                flushOrWait(null, true);
+                // The file must not be closed under a group fsync.
+                while (fsyncLeader)
+                    U.awaitQuiet(fsyncComplete);
 
-                assert stopped() : "Segment is not closed after close flush: " + head.get();
+                return close0(rollOver);
+            }
+            finally {
+                fsyncLock.unlock();
+            }
+        }
+        else
+            return false;
+    }
 
-                try {
-                    try {
-                        RecordSerializer backwardSerializer = new RecordSerializerFactoryImpl(cctx)
-                            .createSerializer(serializerVersion);
+    /**
+     * @param rollOver Whether to write switch segment record.
+     * @return {@code true}.
+     * @throws StorageException If failed.
+     */
+    private boolean close0(boolean rollOver) throws StorageException {
+        lock.lock();
 
-                        SwitchSegmentRecord segmentRecord = new SwitchSegmentRecord();
+        try {
+            flushOrWait(null, true);
 
-                        int switchSegmentRecSize = backwardSerializer.size(segmentRecord);
+            assert stopped() : "Segment is not closed after close flush: " + head.get();
 
-                        if (rollOver && written + switchSegmentRecSize < maxSegmentSize) {
-                            final ByteBuffer buf = ByteBuffer.allocate(switchSegmentRecSize);
+            try {
+                try {
+                    RecordSerializer backwardSerializer = new RecordSerializerFactoryImpl(cctx)
+                        .createSerializer(serializerVersion);
 
-                            segmentRecord.position(new FileWALPointer(getSegmentId(), (int)written, switchSegmentRecSize));
-                            backwardSerializer.writeRecord(segmentRecord, buf);
+                    SwitchSegmentRecord segmentRecord = new SwitchSegmentRecord();
 
-                            buf.rewind();
+                    int switchSegmentRecSize = backwardSerializer.size(segmentRecord);
 
-                            written += fileIO.writeFully(buf, written);
+                    if (rollOver && written + switchSegmentRecSize < maxSegmentSize) {
+                        final ByteBuffer buf = ByteBuffer.allocate(switchSegmentRecSize);
 
-                            switchSegmentRecordOffset = (int)written;
-                        }
-                    }
-                    catch (IgniteCheckedException e) {
-                        throw new IOException(e);
-                    }
-                    finally {
-                        assert mode == WALMode.FSYNC;
+                        segmentRecord.position(new FileWALPointer(getSegmentId(), (int)written, switchSegmentRecSize));
+                        backwardSerializer.writeRecord(segmentRecord, buf);
 
-                        // Do the final fsync.
-                        fileIO.force();
+                        buf.rewind();
 
-                        lastFsyncPos = written;
+                        written += fileIO.writeFully(buf, written);
 
-                        fileIO.close();
+                        switchSegmentRecordOffset = (int)written;
                     }
                 }
-                catch (IOException e) {
-                    throw new StorageException("Failed to close WAL write handle [idx=" + getSegmentId() + "]", e);
+                catch (IgniteCheckedException e) {
+                    throw new IOException(e);
                 }
+                finally {
+                    assert mode == WALMode.FSYNC;
+
+                    // Do the final fsync.
+                    fileIO.force();
 
-                if (log.isDebugEnabled())
-                    log.debug("Closed WAL write handle [idx=" + getSegmentId() + "]");
+                    lastFsyncPos = written;
 
-                return true;
+                    fileIO.close();
+                }
             }
-            finally {
-                lock.unlock();
+            catch (IOException e) {
+                throw new StorageException("Failed to close WAL write handle [idx=" + getSegmentId() + "]", e);
             }
+
+            if (log.isDebugEnabled())
+                log.debug("Closed WAL write handle [idx=" + getSegmentId() + "]");
+
+            return true;
+        }
+        finally {
+            lock.unlock();
         }
-        else
-            return false;
     }
 
     /** {@inheritDoc} */
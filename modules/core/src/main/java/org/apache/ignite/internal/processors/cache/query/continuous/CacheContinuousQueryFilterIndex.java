@@ -0,0 +1,164 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.query.continuous;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.cache.query.FieldEqualsEventFilter;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Index of continuous query listeners with {@link FieldEqualsEventFilter} remote filters by filter field value.
+ * Allows to find out which indexed listeners may be interested in an update without visiting the others.
+ */
+class CacheContinuousQueryFilterIndex {
+    /** Field name -> field value -> indexed listeners. */
+    private final ConcurrentMap<String, ConcurrentMap<Object, ConcurrentMap<UUID, CacheContinuousQueryListener>>> idx =
+        new ConcurrentHashMap<>();
+
+    /** Filters of indexed listeners. */
+    private final ConcurrentMap<UUID, FieldEqualsEventFilter> filters = new ConcurrentHashMap<>();
+
+    /** Indexed listeners. */
+    private final ConcurrentMap<UUID, CacheContinuousQueryListener> lsnrs = new ConcurrentHashMap<>();
+
+    /**
+     * @param lsnrId Listener ID.
+     * @param filter Filter.
+     * @param lsnr Listener.
+     */
+    void add(UUID lsnrId, FieldEqualsEventFilter filter, CacheContinuousQueryListener lsnr) {
+        if (filters.putIfAbsent(lsnrId, filter) != null)
+            return;
+
+        idx.computeIfAbsent(filter.fieldName(), k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(filter.value(), k -> new ConcurrentHashMap<>())
+            .put(lsnrId, lsnr);
+
+        lsnrs.put(lsnrId, lsnr);
+    }
+
+    /**
+     * @param lsnrId Listener ID.
+     */
+    void remove(UUID lsnrId) {
+        FieldEqualsEventFilter filter = filters.remove(lsnrId);
+
+        if (filter == null)
+            return;
+
+        lsnrs.remove(lsnrId);
+
+        ConcurrentMap<Object, ConcurrentMap<UUID, CacheContinuousQueryListener>> vals = idx.get(filter.fieldName());
+
+        if (vals != null) {
+            vals.computeIfPresent(filter.value(), (k, ids) -> {
+                ids.remove(lsnrId);
+
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * @return {@code True} if there are no indexed listeners.
+     */
+    boolean isEmpty() {
+        return filters.isEmpty();
+    }
+
+    /**
+     * Creates a lookup of listeners that may match the given value. Each indexed field of the value is read once.
+     *
+     * @param val Updated value.
+     * @return Lookup.
+     */
+    Lookup lookup(BinaryObject val) {
+        return new Lookup(val);
+    }
+
+    /**
+     * Matching listeners lookup for a single update.
+     */
+    class Lookup {
+        /** Field name -> indexed listeners whose filters match the value. */
+        private final Map<String, Map<UUID, CacheContinuousQueryListener>> matched = new HashMap<>();
+
+        /**
+         * @param val Value.
+         */
+        private Lookup(BinaryObject val) {
+            for (Map.Entry<String, ConcurrentMap<Object, ConcurrentMap<UUID, CacheContinuousQueryListener>>> e :
+                idx.entrySet()) {
+                Object fieldVal = val.field(e.getKey());
+
+                Map<UUID, CacheContinuousQueryListener> m = fieldVal != null ? e.getValue().get(fieldVal) : null;
+
+                if (m != null)
+                    matched.put(e.getKey(), m);
+            }
+        }
+
+        /**
+         * @return Indexed listeners whose filters may pass the value.
+         */
+        Collection<CacheContinuousQueryListener> candidates() {
+            if (matched.size() == 1)
+                return matched.values().iterator().next().values();
+
+            List<CacheContinuousQueryListener> res = new ArrayList<>();
+
+            for (Map<UUID, CacheContinuousQueryListener> m : matched.values())
+                res.addAll(m.values());
+
+            return res;
+        }
+
+        /**
+         * @return Indexed listeners whose filters definitely reject the value.
+         */
+        Collection<CacheContinuousQueryListener> filtered() {
+            List<CacheContinuousQueryListener> res = new ArrayList<>(lsnrs.size());
+
+            for (Map.Entry<UUID, FieldEqualsEventFilter> e : filters.entrySet()) {
+                Map<UUID, CacheContinuousQueryListener> m = matched.get(e.getValue().fieldName());
+
+                if (m != null && m.containsKey(e.getKey()))
+                    continue;
+
+                CacheContinuousQueryListener lsnr = lsnrs.get(e.getKey());
+
+                if (lsnr != null)
+                    res.add(lsnr);
+            }
+
+            return res;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(CacheContinuousQueryFilterIndex.class, this);
+    }
+}
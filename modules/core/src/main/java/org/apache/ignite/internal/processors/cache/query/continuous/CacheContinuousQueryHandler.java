@@ -613,6 +613,13 @@ public class CacheContinuousQueryHandler<K, V> implements GridContinuousHandler
                 return locOnly && !skipPrimaryCheck;
             }
 
+            @Override public CacheEntryEventFilter remoteFilter() {
+                if (!initFut.isDone() || initFut.error() != null)
+                    return null;
+
+                return getEventFilter0();
+            }
+
             /**
              * Checks whether it is need to notify listeners.
              *
@@ -653,9 +660,13 @@ public class CacheContinuousQueryHandler<K, V> implements GridContinuousHandler
 
         RegisterStatus regStatus = mgr.registerListener(routineId, lsnr, internal);
 
-        if (regStatus == RegisterStatus.REGISTERED)
+        if (regStatus == RegisterStatus.REGISTERED) {
             initFut.listen(res -> sendQueryExecutedEvent());
 
+            if (!internal)
+                initFut.listen(res -> mgr.onRemoteFilterInitialized(routineId));
+        }
+
         return regStatus;
     }
 
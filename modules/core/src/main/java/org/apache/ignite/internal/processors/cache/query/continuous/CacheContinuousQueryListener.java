@@ -17,6 +17,7 @@
 package org.apache.ignite.internal.processors.cache.query.continuous;
 
 import java.util.Map;
+import javax.cache.event.CacheEntryEventFilter;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.CacheGroupContext;
@@ -131,4 +132,9 @@ public interface CacheContinuousQueryListener<K, V> {
      * @return {@code True} if this listener should be called on events on primary partitions only.
      */
     public boolean isPrimaryOnly();
+
+    /**
+     * @return Remote filter or {@code null} if there is no filter or it is not initialized yet.
+     */
+    @Nullable public CacheEntryEventFilter remoteFilter();
 }
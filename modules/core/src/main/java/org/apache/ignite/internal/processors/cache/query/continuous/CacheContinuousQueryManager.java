@@ -25,6 +25,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.UUID;
@@ -46,11 +47,13 @@ import javax.cache.event.EventType;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.binary.BinaryObject;
 import org.apache.ignite.cache.CacheEntryEventSerializableFilter;
 import org.apache.ignite.cache.CacheMode;
 import org.apache.ignite.cache.query.CacheQueryEntryEvent;
 import org.apache.ignite.cache.query.ContinuousQuery;
 import org.apache.ignite.cache.query.ContinuousQueryWithTransformer.EventListener;
+import org.apache.ignite.cache.query.FieldEqualsEventFilter;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.NodeStoppingException;
@@ -68,6 +71,7 @@ import org.apache.ignite.internal.processors.cache.transactions.IgniteInternalTx
 import org.apache.ignite.internal.processors.continuous.GridContinuousHandler;
 import org.apache.ignite.internal.processors.timeout.GridTimeoutProcessor;
 import org.apache.ignite.internal.util.GridLongList;
+import org.apache.ignite.internal.util.lang.GridPlainRunnable;
 import org.apache.ignite.internal.util.tostring.GridToStringInclude;
 import org.apache.ignite.internal.util.typedef.CI2;
 import org.apache.ignite.internal.util.typedef.F;
@@ -112,6 +116,12 @@ public class CacheContinuousQueryManager extends GridCacheManagerAdapter {
     /** Listeners count. */
     private final AtomicInteger lsnrCnt = new AtomicInteger();
 
+    /** Index of listeners by values of filter fields. */
+    private final CacheContinuousQueryFilterIndex filterIdx = new CacheContinuousQueryFilterIndex();
+
+    /** Listeners that are not in {@link #filterIdx}. */
+    private final ConcurrentMap<UUID, CacheContinuousQueryListener> unindexedLsnrs = new ConcurrentHashMap<>();
+
     /** Internal entries listeners. */
     private final ConcurrentMap<UUID, CacheContinuousQueryListener> intLsnrs = new ConcurrentHashMap<>();
 
@@ -402,7 +412,14 @@ public class CacheContinuousQueryManager extends GridCacheManagerAdapter {
 
         boolean recordIgniteEvt = primary && !internal && cctx.events().isRecordable(EVT_CACHE_QUERY_OBJECT_READ);
 
-        for (CacheContinuousQueryListener lsnr : lsnrCol.values()) {
+        // Filters of indexed listeners are checked against the new value once for all listeners.
+        CacheContinuousQueryFilterIndex.Lookup idxLookup = lsnrCol == lsnrs && evtType != REMOVED &&
+            newVal instanceof BinaryObject && !filterIdx.isEmpty() ? filterIdx.lookup((BinaryObject)newVal) : null;
+
+        Collection<CacheContinuousQueryListener> notifyLsnrs = idxLookup != null ?
+            F.concat(false, unindexedLsnrs.values(), idxLookup.candidates()) : lsnrCol.values();
+
+        for (CacheContinuousQueryListener lsnr : notifyLsnrs) {
             if (preload && !lsnr.notifyExisting() || lsnr.isPrimaryOnly() && !primary)
                 continue;
 
@@ -443,6 +460,49 @@ public class CacheContinuousQueryManager extends GridCacheManagerAdapter {
 
             lsnr.onEntryUpdated(evt, primary, recordIgniteEvt, fut);
         }
+
+        if (idxLookup != null)
+            skipFilteredUpdate(idxLookup.filtered(), partId, updateCntr, primary, preload, topVer);
+    }
+
+    /**
+     * Passes update counter to the listeners whose filters reject the update. The listeners share a single
+     * filtered entry, and neither events nor values are created for them.
+     *
+     * @param lsnrCol Listeners.
+     * @param partId Partition.
+     * @param updateCntr Update counter.
+     * @param primary {@code True} if called on primary node.
+     * @param preload Whether update happened during preloading.
+     * @param topVer Topology version.
+     */
+    private void skipFilteredUpdate(
+        Collection<CacheContinuousQueryListener> lsnrCol,
+        int partId,
+        long updateCntr,
+        boolean primary,
+        boolean preload,
+        AffinityTopologyVersion topVer
+    ) {
+        CounterSkipContext skipCtx = null;
+
+        for (CacheContinuousQueryListener lsnr : lsnrCol) {
+            if (preload && !lsnr.notifyExisting() || lsnr.isPrimaryOnly() && !primary)
+                continue;
+
+            skipCtx = lsnr.skipUpdateCounter(cctx, skipCtx, partId, updateCntr, topVer, primary);
+        }
+
+        final List<Runnable> procC = skipCtx != null ? skipCtx.processClosures() : null;
+
+        if (procC != null) {
+            cctx.kernalContext().closure().runLocalSafe(new GridPlainRunnable() {
+                @Override public void run() {
+                    for (Runnable c : procC)
+                        c.run();
+                }
+            });
+        }
     }
 
     /**
@@ -949,6 +1009,11 @@ public class CacheContinuousQueryManager extends GridCacheManagerAdapter {
                     if (added) {
                         lsnrCnt.incrementAndGet();
 
+                        if (lsnr.remoteFilter() instanceof FieldEqualsEventFilter)
+                            filterIdx.add(lsnrId, (FieldEqualsEventFilter)lsnr.remoteFilter(), lsnr);
+                        else
+                            unindexedLsnrs.put(lsnrId, lsnr);
+
                         lsnr.onRegister();
 
                         if (lsnrCnt.get() == 1) {
@@ -970,6 +1035,29 @@ public class CacheContinuousQueryManager extends GridCacheManagerAdapter {
             : GridContinuousHandler.RegisterStatus.NOT_REGISTERED;
     }
 
+    /**
+     * Indexes a listener whose remote filter was not initialized at registration, for example because
+     * its class was being loaded by peer class loading.
+     *
+     * @param lsnrId Listener ID.
+     */
+    void onRemoteFilterInitialized(UUID lsnrId) {
+        cctx.group().listenerLock().writeLock().lock();
+
+        try {
+            CacheContinuousQueryListener lsnr = unindexedLsnrs.get(lsnrId);
+
+            if (lsnr != null && lsnr.remoteFilter() instanceof FieldEqualsEventFilter) {
+                unindexedLsnrs.remove(lsnrId);
+
+                filterIdx.add(lsnrId, (FieldEqualsEventFilter)lsnr.remoteFilter(), lsnr);
+            }
+        }
+        finally {
+            cctx.group().listenerLock().writeLock().unlock();
+        }
+    }
+
     /**
      * @param internal Internal flag.
      * @param id Listener ID.
@@ -991,6 +1079,10 @@ public class CacheContinuousQueryManager extends GridCacheManagerAdapter {
                 if ((lsnr = lsnrs.remove(id)) != null) {
                     int cnt = lsnrCnt.decrementAndGet();
 
+                    filterIdx.remove(id);
+
+                    unindexedLsnrs.remove(id);
+
                     if (cctx.group().sharedGroup() && cnt == 0 && !cctx.isLocal())
                         cctx.group().removeCacheWithContinuousQuery(cctx);
                 }
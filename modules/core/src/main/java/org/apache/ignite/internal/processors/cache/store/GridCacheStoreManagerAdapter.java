@@ -32,6 +32,7 @@ import javax.cache.integration.CacheLoaderException;
 import javax.cache.integration.CacheWriterException;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cache.store.CacheStore;
 import org.apache.ignite.cache.store.CacheStoreSession;
 import org.apache.ignite.cache.store.CacheStoreSessionListener;
@@ -75,11 +76,18 @@ import org.apache.ignite.transactions.TransactionState;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_STORE_LOAD_BATCH_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_STORE_LOAD_BATCH_WINDOW;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.cacheMetricsRegistryName;
+
 /**
  * Store manager.
  */
 @SuppressWarnings({"AssignmentToCatchBlockParameter", "unchecked"})
 public abstract class GridCacheStoreManagerAdapter extends GridCacheManagerAdapter implements CacheStoreManager {
+    /** Default maximum number of keys merged into one load. */
+    private static final int DFLT_LOAD_BATCH_SIZE = 256;
+
     /** */
     private static final int SES_ATTR = GridMetadataAwareAdapter.EntryKey.CACHE_STORE_MANAGER_KEY.key();
 
@@ -131,7 +139,9 @@ public abstract class GridCacheStoreManagerAdapter extends GridCacheManagerAdapt
         store = cacheStoreWrapper(ctx, cfgStore, cfg);
 
         singleThreadGate = store == null ? null : new CacheStoreBalancingWrapper<>(store,
-            cfg.getStoreConcurrentLoadAllThreshold());
+            cfg.getStoreConcurrentLoadAllThreshold(),
+            IgniteSystemProperties.getLong(IGNITE_CACHE_STORE_LOAD_BATCH_WINDOW, 0),
+            IgniteSystemProperties.getInteger(IGNITE_CACHE_STORE_LOAD_BATCH_SIZE, DFLT_LOAD_BATCH_SIZE));
 
         ThreadLocal<SessionData> sesHolder0 = null;
 
@@ -237,6 +247,10 @@ public abstract class GridCacheStoreManagerAdapter extends GridCacheManagerAdapt
                     "storage upon restarts. Consult documentation for more details.");
         }
 
+        if (singleThreadGate != null)
+            singleThreadGate.registerMetrics(cctx.kernalContext().metric().registry(
+                cacheMetricsRegistryName(cctx.name(), cctx.isNear())));
+
         sesLsnrs = CU.startStoreSessionListeners(cctx.kernalContext(), cfg.getCacheStoreSessionListenerFactories());
 
         if (sesLsnrs == null) {
@@ -323,7 +337,8 @@ public abstract class GridCacheStoreManagerAdapter extends GridCacheManagerAdapt
             Object val = null;
 
             try {
-                val = singleThreadGate.load(storeKey);
+                // Loads of different transactions are not merged since the store may bind them to the session.
+                val = tx == null ? singleThreadGate.loadBatched(storeKey) : singleThreadGate.load(storeKey);
 
                 threwEx = false;
             }
@@ -27,6 +27,7 @@ import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.LockSupport;
@@ -38,6 +39,8 @@ import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.cache.store.CacheStore;
 import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.internal.IgniteInterruptedCheckedException;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetric;
 import org.apache.ignite.internal.util.tostring.GridToStringInclude;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.LT;
@@ -53,6 +56,7 @@ import org.jetbrains.annotations.Nullable;
 import org.jsr166.ConcurrentLinkedHashMap;
 
 import static javax.cache.Cache.Entry;
+import static org.apache.ignite.internal.processors.cache.CacheMetricsImpl.HISTOGRAM_BUCKETS;
 
 /**
  * Internal wrapper for a {@link CacheStore} that enables write-behind logic.
@@ -70,6 +74,13 @@ import static javax.cache.Cache.Entry;
  * Since write operations to the cache store are deferred, transaction support is lost; no
  * transaction objects are passed to the underlying store.
  * <p/>
+ * When write buffer size exceeds critical size, writers are blocked until flushers free the space up
+ * (back-pressure), so store updates are never performed in the writer threads.
+ * <p/>
+ * Store batch size is adjusted at runtime between {@code 1/}{@link #BATCH_SIZE_ADJUST_RATIO} of the configured
+ * batch size and the configured batch size: it is decreased if store update fails or takes longer than flush
+ * frequency and is increased otherwise.
+ * <p/>
  * {@link GridCacheWriteBehindStore} doesn't support concurrent modifications of the same key.
  */
 public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, LifecycleAware {
@@ -82,6 +93,9 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
     /** Default concurrency level of write cache. */
     public static final int DFLT_CONCUR_LVL = 64;
 
+    /** Store batch size is adjusted by this part of the configured batch size and can't become smaller than it. */
+    public static final int BATCH_SIZE_ADJUST_RATIO = 16;
+
     /** Write cache initial capacity. */
     private int initCap = DFLT_INITIAL_CAPACITY;
 
@@ -106,6 +120,12 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
     /** Maximum batch size for put and remove operations */
     private int batchSize = CacheConfiguration.DFLT_WRITE_BEHIND_BATCH_SIZE;
 
+    /**
+     * Current batch size for put and remove operations. Concurrent adjustments by several flushers may be lost,
+     * which is fine for the heuristic.
+     */
+    private volatile int curBatchSize = batchSize;
+
     /** Ignite instance name. */
     private final String igniteInstanceName;
 
@@ -136,6 +156,15 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
     /** Variable for counting key-value pairs that are in {@link ValueStatus#RETRY} state. */
     private AtomicInteger retryEntriesCnt = new AtomicInteger();
 
+    /** Number of updates received by the store. */
+    private final LongAdder updatesCnt = new LongAdder();
+
+    /** Number of entries passed to the underlying store. */
+    private final LongAdder storedCnt = new LongAdder();
+
+    /** Underlying store update time in nanoseconds. */
+    private volatile HistogramMetric storeTime;
+
     /** Log. */
     private final IgniteLogger log;
 
@@ -148,6 +177,9 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
     /** Condition to determine records available for flush. */
     private Condition canFlush = flushLock.newCondition();
 
+    /** Condition to determine available space in write cache. */
+    private Condition canWrite = flushLock.newCondition();
+
     /**
      * Creates a write-behind cache store for the given store.
      *
@@ -279,6 +311,8 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
      */
     public void setBatchSize(int batchSize) {
         this.batchSize = batchSize;
+
+        curBatchSize = batchSize;
     }
 
     /**
@@ -309,6 +343,51 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
         }
     }
 
+    /**
+     * Gets the current count of similar operations grouped to a single batch. It is adjusted at runtime and
+     * never exceeds {@link #getWriteBehindStoreBatchSize()}.
+     *
+     * @return Current size of batch.
+     */
+    public int getWriteBehindCurrentStoreBatchSize() {
+        return curBatchSize;
+    }
+
+    /**
+     * Gets ratio of the number of updates received by the write-behind store to the number of entries
+     * passed to the underlying store. The more updates of the same keys are coalesced, the higher the ratio.
+     *
+     * @return Coalesce ratio or {@code 0} if nothing has been passed to the underlying store yet.
+     */
+    public double getWriteBehindCoalesceRatio() {
+        long stored = storedCnt.sum();
+
+        return stored == 0 ? 0 : (double)updatesCnt.sum() / stored;
+    }
+
+    /**
+     * Registers write-behind store metrics.
+     *
+     * @param mreg Metric registry of the cache.
+     */
+    public void registerMetrics(MetricRegistry mreg) {
+        mreg.register("WriteBehindBufferSize", this::getWriteBehindBufferSize,
+            "Number of entries waiting to be flushed to the underlying store.");
+
+        mreg.register("WriteBehindCurrentStoreBatchSize", this::getWriteBehindCurrentStoreBatchSize,
+            "Current number of entries passed to the underlying store by a single batch operation.");
+
+        mreg.register("WriteBehindCoalesceRatio", this::getWriteBehindCoalesceRatio,
+            "Ratio of the number of updates received by the write-behind store to the number of entries " +
+                "passed to the underlying store.");
+
+        mreg.register("WriteBehindCriticalOverflowCount", this::getWriteBehindCriticalOverflowCount,
+            "Number of writers waiting for the space in the write-behind buffer.");
+
+        storeTime = mreg.histogram("WriteBehindStoreTime", HISTOGRAM_BUCKETS,
+            "Underlying store batch update time in nanoseconds.");
+    }
+
     /**
      * @return Underlying store.
      */
@@ -346,8 +425,8 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
     }
 
     /**
-     * Gets count of write buffer overflow events since initialization. Each overflow event causes
-     * the ongoing flush operation to be performed synchronously.
+     * Gets count of write buffer overflow events since initialization. Each overflow event blocks
+     * the writer until flushers free the space up.
      *
      * @return Count of cache overflow events since start.
      */
@@ -356,8 +435,8 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
     }
 
     /**
-     * Gets count of write buffer overflow events in progress at the moment. Each overflow event causes
-     * the ongoing flush operation to be performed synchronously.
+     * Gets count of write buffer overflow events in progress at the moment, that is the number of writers
+     * waiting for the space in the write buffer.
      *
      * @return Count of cache overflow events since start.
      */
@@ -595,6 +674,8 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
         throws IgniteInterruptedCheckedException {
         StatefulValue<K, V> newVal = new StatefulValue<>(val, operation);
 
+        updatesCnt.increment();
+
         if (writeCoalescing)
             putToWriteCache(key, newVal);
         else
@@ -651,79 +732,132 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
         int cacheSize = getWriteBehindBufferSize();
 
         if (cacheSize > cacheCriticalSize)
-            // Perform single store update in the same thread.
-            flushSingleValue();
+            awaitWriteCacheSpace();
         else if (cacheMaxSize > 0 && cacheSize > cacheMaxSize)
             wakeUp();
     }
 
     /**
-     * Return flusher by by key.
+     * Blocks the writer until flushers decrease write cache size below the critical one. Called from
+     * {@link #updateCache(Object, Entry, StoreOperation)} method in case when current map size exceeds
+     * critical size.
+     * <p>
+     * The writer waits at most for the flush frequency (or {@link CacheConfiguration#DFLT_WRITE_BEHIND_FLUSH_FREQUENCY}
+     * if it is disabled). If flushers do not free the space up in time, for example because the underlying store
+     * is stalled, the writer flushes a single value in its own thread, so that writers are never parked for good.
      *
-     * @param key Key for search.
-     * @return flusher.
+     * @throws IgniteInterruptedCheckedException If interrupted.
      */
-    private Flusher flusher(K key) {
-        int h, idx;
+    private void awaitWriteCacheSpace() throws IgniteInterruptedCheckedException {
+        cacheOverflowCntr.incrementAndGet();
 
-        if (flushThreadCntIsPowerOfTwo)
-            idx = ((h = key.hashCode()) ^ (h >>> 16)) & (flushThreadCnt - 1);
-        else
-            idx = ((h = key.hashCode()) ^ (h >>> 16)) % flushThreadCnt;
+        try {
+            long timeout = cacheFlushFreq > 0 ? cacheFlushFreq : CacheConfiguration.DFLT_WRITE_BEHIND_FLUSH_FREQUENCY;
 
-        return flushThreads[idx];
+            long deadline = System.nanoTime() + U.millisToNanos(timeout);
+
+            boolean overflow;
+
+            flushLock.lock();
+
+            try {
+                long remaining;
+
+                while ((overflow = writeCache.sizex() > cacheCriticalSize && !stopping.get()) &&
+                    (remaining = deadline - System.nanoTime()) > 0) {
+                    canFlush.signalAll();
+
+                    // Timed wait guards against missed signals of flushers racing with this check.
+                    canWrite.await(Math.min(remaining, U.millisToNanos(100)), TimeUnit.NANOSECONDS);
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new IgniteInterruptedCheckedException(e);
+            }
+            finally {
+                flushLock.unlock();
+            }
+
+            if (overflow)
+                flushSingleValue();
+
+            cacheTotalOverflowCntr.incrementAndGet();
+        }
+        finally {
+            cacheOverflowCntr.decrementAndGet();
+        }
     }
 
     /**
-     * Flushes one upcoming value to the underlying store. Called from
-     * {@link #updateCache(Object, Entry, StoreOperation)} method in case when current map size exceeds
-     * critical size.
+     * Flushes one upcoming value to the underlying store in the writer thread. Called from
+     * {@link #awaitWriteCacheSpace()} if flushers have not freed the space up in time.
      */
     private void flushSingleValue() {
-        cacheOverflowCntr.incrementAndGet();
-
-        try {
-            Map<K, StatefulValue<K, V>> batch;
+        for (Map.Entry<K, StatefulValue<K, V>> e : writeCache.entrySet()) {
+            StatefulValue<K, V> val = e.getValue();
 
-            for (Map.Entry<K, StatefulValue<K, V>> e : writeCache.entrySet()) {
-                StatefulValue<K, V> val = e.getValue();
+            val.writeLock().lock();
 
-                val.writeLock().lock();
+            try {
+                ValueStatus status = val.status();
 
-                try {
-                    ValueStatus status = val.status();
+                if (acquired(status))
+                    // Another thread is helping us, continue to the next entry.
+                    continue;
 
-                    if (acquired(status))
-                        // Another thread is helping us, continue to the next entry.
-                        continue;
+                if (status == ValueStatus.RETRY)
+                    retryEntriesCnt.decrementAndGet();
 
-                    if (val.status() == ValueStatus.RETRY)
-                        retryEntriesCnt.decrementAndGet();
+                assert retryEntriesCnt.get() >= 0;
 
-                    assert retryEntriesCnt.get() >= 0;
+                val.status(ValueStatus.PENDING);
+            }
+            finally {
+                val.writeLock().unlock();
+            }
 
-                    val.status(ValueStatus.PENDING);
+            applyBatch(Collections.singletonMap(e.getKey(), val), false, null);
 
-                    batch = Collections.singletonMap(e.getKey(), val);
-                }
-                finally {
-                    val.writeLock().unlock();
-                }
+            return;
+        }
+    }
 
-                if (!batch.isEmpty()) {
-                    applyBatch(batch, false, null);
+    /**
+     * Wakes up writers waiting for the space in write cache.
+     */
+    private void signalWriters() {
+        if (cacheOverflowCntr.get() == 0)
+            return;
 
-                    cacheTotalOverflowCntr.incrementAndGet();
+        flushLock.lock();
 
-                    return;
-                }
-            }
+        try {
+            canWrite.signalAll();
         }
         finally {
-            cacheOverflowCntr.decrementAndGet();
+            flushLock.unlock();
         }
     }
 
+    /**
+     * Return flusher by by key.
+     *
+     * @param key Key for search.
+     * @return flusher.
+     */
+    private Flusher flusher(K key) {
+        int h, idx;
+
+        if (flushThreadCntIsPowerOfTwo)
+            idx = ((h = key.hashCode()) ^ (h >>> 16)) & (flushThreadCnt - 1);
+        else
+            idx = ((h = key.hashCode()) ^ (h >>> 16)) % flushThreadCnt;
+
+        return flushThreads[idx];
+    }
+
     /**
      * Performs batch operation on underlying store.
      *
@@ -827,6 +961,9 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
             }
         }
 
+        if (writeCoalescing)
+            signalWriters();
+
         return result;
     }
 
@@ -863,6 +1000,8 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
 
             boolean threwEx = true;
 
+            long start = System.nanoTime();
+
             try {
                 switch (operation) {
                     case PUT:
@@ -881,6 +1020,17 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
 
                 threwEx = false;
 
+                long time = System.nanoTime() - start;
+
+                HistogramMetric storeTime0 = storeTime;
+
+                if (storeTime0 != null)
+                    storeTime0.value(time);
+
+                storedCnt.add(vals.size());
+
+                adjustBatchSize(cacheFlushFreq > 0 && U.nanosToMillis(time) > cacheFlushFreq);
+
                 return true;
             }
             finally {
@@ -891,6 +1041,8 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
         catch (Exception e) {
             LT.error(log, e, "Unable to update underlying store: " + store);
 
+            adjustBatchSize(true);
+
             boolean overflow;
 
             if (writeCoalescing)
@@ -914,6 +1066,21 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
         }
     }
 
+    /**
+     * Adjusts current batch size after the underlying store update. The batch size is halved if the update has
+     * failed or took longer than flush frequency, since the update delays flushing of all the entries in the batch.
+     * Otherwise it is increased by {@code 1/}{@link #BATCH_SIZE_ADJUST_RATIO} of the configured batch size.
+     *
+     * @param decrease {@code True} if batch size should be decreased.
+     */
+    private void adjustBatchSize(boolean decrease) {
+        int step = Math.max(1, batchSize / BATCH_SIZE_ADJUST_RATIO);
+
+        int size = curBatchSize;
+
+        curBatchSize = decrease ? Math.max(step, size / 2) : Math.min(batchSize, size + step);
+    }
+
     /**
      * Wakes up flushing threads if map size exceeded maximum value or in case of shutdown.
      */
@@ -1305,7 +1472,7 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
 
             assert retryEntriesCnt.get() >= 0;
 
-            if (pending.size() == batchSize)
+            if (pending.size() >= curBatchSize)
                 return BatchingResult.NEW_BATCH;
 
             // We scan for the next operation and apply batch on operation change. Null means new batch.
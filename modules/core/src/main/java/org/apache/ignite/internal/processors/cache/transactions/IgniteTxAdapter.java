@@ -122,6 +122,7 @@ import static org.apache.ignite.transactions.TransactionState.PREPARING;
 import static org.apache.ignite.transactions.TransactionState.ROLLED_BACK;
 import static org.apache.ignite.transactions.TransactionState.ROLLING_BACK;
 import static org.apache.ignite.transactions.TransactionState.SUSPENDED;
+import static org.apache.ignite.transactions.TransactionState.UNKNOWN;
 
 /**
  * Managed transaction adapter.
@@ -1227,6 +1228,11 @@ public abstract class IgniteTxAdapter extends GridMetadataAwareAdapter implement
 
                     ptr = cctx.tm().logTxRecord(this);
                 }
+
+                if (state == PREPARED)
+                    cctx.tm().preparedIndex().onPrepared(this);
+                else if (state == COMMITTED || state == ROLLED_BACK || state == UNKNOWN)
+                    cctx.tm().preparedIndex().onFinished(this);
             }
         }
 
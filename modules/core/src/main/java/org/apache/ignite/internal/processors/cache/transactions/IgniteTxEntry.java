@@ -214,6 +214,10 @@ public class IgniteTxEntry implements GridPeerDeployAware, Message {
     /** */
     private GridCacheVersion serReadVer;
 
+    /** Whether {@link #serReadVer} has been sent to the primary node for early validation. */
+    @GridDirectTransient
+    private transient boolean serReadVerSent;
+
     /** */
     @GridDirectTransient
     @GridToStringExclude
@@ -326,6 +330,29 @@ public class IgniteTxEntry implements GridPeerDeployAware, Message {
         cacheId = entry.context().cacheId();
     }
 
+    /**
+     * This constructor is meant for read entries of serializable transactions received in compact form,
+     * see {@link #compactRead()}.
+     *
+     * @param cacheId Cache ID.
+     * @param key Key.
+     * @param serReadVer Read version.
+     * @param flags Entry flags.
+     */
+    public IgniteTxEntry(int cacheId, KeyCacheObject key, GridCacheVersion serReadVer, byte flags) {
+        assert key != null;
+        assert serReadVer != null;
+
+        this.cacheId = cacheId;
+        this.key = key;
+        this.serReadVer = serReadVer;
+        this.flags = flags;
+
+        ttl = CU.TTL_NOT_CHANGED;
+
+        val.op(READ);
+    }
+
     /**
      * @return Cache context for this tx entry.
      */
@@ -1031,6 +1058,46 @@ public class IgniteTxEntry implements GridPeerDeployAware, Message {
         serReadVer = null;
     }
 
+    /**
+     * @return {@code True} if the read version has been sent to the primary node for early validation.
+     */
+    public boolean entryReadVersionSent() {
+        return serReadVerSent;
+    }
+
+    /**
+     * Marks the read version as sent to the primary node for early validation.
+     */
+    public void onEntryReadVersionSent() {
+        serReadVerSent = true;
+    }
+
+    /**
+     * @return {@code True} if this is a read entry of a serializable transaction that is fully described by
+     *      its cache ID, key, read version and flags, so it can be sent to the primary node in compact form.
+     */
+    public boolean compactRead() {
+        return op() == READ &&
+            !val.hasWriteValue() &&
+            !oldVal.hasValue() &&
+            serReadVer != null &&
+            serReadVer.getClass() == GridCacheVersion.class &&
+            ttl == CU.TTL_NOT_CHANGED &&
+            conflictExpireTime == CU.EXPIRE_TIME_CALCULATE &&
+            conflictVer == null &&
+            explicitVer == null &&
+            expiryPlc == null &&
+            F.isEmpty(entryProcessorsCol) &&
+            F.isEmptyOrNulls(filters);
+    }
+
+    /**
+     * @return Entry flags.
+     */
+    public byte flags() {
+        return flags;
+    }
+
     /** {@inheritDoc} */
     @Override public void onAckReceived() {
         // No-op.
@@ -18,7 +18,9 @@ package org.apache.ignite.internal.processors.cache.transactions;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import javax.cache.processor.EntryProcessor;
 import org.apache.ignite.IgniteCheckedException;
@@ -45,6 +47,8 @@ import org.apache.ignite.internal.processors.cache.GridCacheReturnCompletableWra
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.GridCacheUpdateTxResult;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.distributed.GridCacheTxRecoveryBatch;
+import org.apache.ignite.internal.processors.cache.distributed.GridCacheTxRecoveryBatchMessage;
 import org.apache.ignite.internal.processors.cache.distributed.GridCacheTxRecoveryFuture;
 import org.apache.ignite.internal.processors.cache.distributed.GridCacheTxRecoveryRequest;
 import org.apache.ignite.internal.processors.cache.distributed.GridCacheTxRecoveryResponse;
@@ -52,6 +56,8 @@ import org.apache.ignite.internal.processors.cache.distributed.GridDistributedTx
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtCacheAdapter;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtCacheEntry;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTopologyFuture;
+import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTxFinishBatchMessage;
+import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTxFinishBatcher;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTxFinishFuture;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTxFinishRequest;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTxFinishResponse;
@@ -73,6 +79,7 @@ import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxFi
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxLocal;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxPrepareFutureAdapter;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxPrepareRequest;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxPrepareRequestV2;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxPrepareResponse;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxRemote;
 import org.apache.ignite.internal.processors.cache.mvcc.MvccSnapshot;
@@ -87,6 +94,7 @@ import org.apache.ignite.internal.transactions.IgniteTxHeuristicCheckedException
 import org.apache.ignite.internal.transactions.IgniteTxOptimisticCheckedException;
 import org.apache.ignite.internal.transactions.IgniteTxRollbackCheckedException;
 import org.apache.ignite.internal.transactions.IgniteTxTimeoutCheckedException;
+import org.apache.ignite.internal.util.StripedExecutor;
 import org.apache.ignite.internal.util.future.GridCompoundFuture;
 import org.apache.ignite.internal.util.future.GridFinishedFuture;
 import org.apache.ignite.internal.util.typedef.C1;
@@ -218,6 +226,12 @@ public class IgniteTxHandler {
             }
         });
 
+        ctx.io().addCacheHandler(0, GridNearTxPrepareRequestV2.class, new CI2<UUID, GridCacheMessage>() {
+            @Override public void apply(UUID nodeId, GridCacheMessage msg) {
+                processNearTxPrepareRequest(nodeId, (GridNearTxPrepareRequest)msg);
+            }
+        });
+
         ctx.io().addCacheHandler(0, GridNearTxPrepareResponse.class, new CI2<UUID, GridCacheMessage>() {
             @Override public void apply(UUID nodeId, GridCacheMessage msg) {
                 processNearTxPrepareResponse(nodeId, (GridNearTxPrepareResponse)msg);
@@ -254,6 +268,12 @@ public class IgniteTxHandler {
             }
         });
 
+        ctx.io().addCacheHandler(0, GridDhtTxFinishBatchMessage.class, new CI2<UUID, GridCacheMessage>() {
+            @Override public void apply(UUID nodeId, GridCacheMessage msg) {
+                processDhtTxFinishBatch(nodeId, (GridDhtTxFinishBatchMessage)msg);
+            }
+        });
+
         ctx.io().addCacheHandler(0, GridDhtTxOnePhaseCommitAckRequest.class, new CI2<UUID, GridCacheMessage>() {
             @Override public void apply(UUID nodeId, GridCacheMessage msg) {
                 processDhtTxOnePhaseCommitAckRequest(nodeId, (GridDhtTxOnePhaseCommitAckRequest)msg);
@@ -280,6 +300,13 @@ public class IgniteTxHandler {
                 }
             });
 
+        ctx.io().addCacheHandler(0, GridCacheTxRecoveryBatchMessage.class,
+            new CI2<UUID, GridCacheTxRecoveryBatchMessage>() {
+                @Override public void apply(UUID nodeId, GridCacheTxRecoveryBatchMessage batch) {
+                    processTxRecoveryBatch(nodeId, batch);
+                }
+            });
+
         ctx.io().addCacheHandler(0, PartitionCountersNeighborcastRequest.class,
             new CI2<UUID, PartitionCountersNeighborcastRequest>() {
                 @Override public void apply(UUID nodeId, PartitionCountersNeighborcastRequest req) {
@@ -850,6 +877,43 @@ public class IgniteTxHandler {
         }
     }
 
+    /**
+     * Processes batched finish messages in the stripes they would be processed in if they were sent separately.
+     *
+     * @param nodeId Node ID.
+     * @param batch Batch message.
+     */
+    private void processDhtTxFinishBatch(UUID nodeId, GridDhtTxFinishBatchMessage batch) {
+        StripedExecutor stripedExec = ctx.kernalContext().getStripedExecutorService();
+
+        Map<Integer, List<GridCacheMessage>> byStripe = new HashMap<>();
+
+        for (GridCacheMessage msg : batch.messages()) {
+            int stripe = U.safeAbs(msg.partition()) % stripedExec.stripes();
+
+            byStripe.computeIfAbsent(stripe, k -> new ArrayList<>()).add(msg);
+        }
+
+        for (Map.Entry<Integer, List<GridCacheMessage>> e : byStripe.entrySet()) {
+            List<GridCacheMessage> msgs = e.getValue();
+
+            stripedExec.execute(e.getKey(), () -> {
+                for (GridCacheMessage msg : msgs) {
+                    try {
+                        if (msg instanceof GridDhtTxFinishRequest)
+                            processDhtTxFinishRequest(nodeId, (GridDhtTxFinishRequest)msg);
+                        else
+                            processDhtTxFinishResponse(nodeId, (GridDhtTxFinishResponse)msg);
+                    }
+                    catch (Exception ex) {
+                        U.error(log, "Failed to process batched transaction finish message [node=" + nodeId +
+                            ", msg=" + msg + ']', ex);
+                    }
+                }
+            });
+        }
+    }
+
     /**
      * @param nodeId Node ID.
      * @param res Response.
@@ -1660,7 +1724,14 @@ public class IgniteTxHandler {
             }
 
             try {
-                ctx.io().send(nodeId, res, req.policy());
+                GridDhtTxFinishBatcher batcher = ctx.tm().finishBatcher();
+
+                ClusterNode node = req.checkCommitted() ? null : ctx.discovery().node(nodeId);
+
+                if (node != null && batcher.batchable(node, req.policy()))
+                    batcher.send(node, res);
+                else
+                    ctx.io().send(nodeId, res, req.policy());
 
                 if (txFinishMsgLog.isDebugEnabled()) {
                     txFinishMsgLog.debug("Sent dht tx finish response [txId=" + nearTxId +
@@ -2146,12 +2217,44 @@ public class IgniteTxHandler {
         return null;
     }
 
+    /**
+     * Processes batched recovery requests and sends responses of the ones checked right away in a batch as well.
+     *
+     * @param nodeId Node ID.
+     * @param batch Batch message.
+     */
+    private void processTxRecoveryBatch(UUID nodeId, GridCacheTxRecoveryBatchMessage batch) {
+        GridCacheTxRecoveryBatch resBatch = ctx.tm().recoveryBatch();
+
+        try {
+            for (GridCacheMessage msg : batch.messages()) {
+                if (msg instanceof GridCacheTxRecoveryRequest)
+                    processCheckPreparedTxRequest(nodeId, (GridCacheTxRecoveryRequest)msg, resBatch);
+                else
+                    processCheckPreparedTxResponse(nodeId, (GridCacheTxRecoveryResponse)msg);
+            }
+        }
+        finally {
+            resBatch.flush();
+        }
+    }
+
     /**
      * @param nodeId Node ID.
      * @param req Request.
      */
+    private void processCheckPreparedTxRequest(UUID nodeId, GridCacheTxRecoveryRequest req) {
+        processCheckPreparedTxRequest(nodeId, req, null);
+    }
+
+    /**
+     * @param nodeId Node ID.
+     * @param req Request.
+     * @param resBatch Batch to send the response with, {@code null} to send it separately.
+     */
     private void processCheckPreparedTxRequest(final UUID nodeId,
-        final GridCacheTxRecoveryRequest req) {
+        final GridCacheTxRecoveryRequest req,
+        @Nullable final GridCacheTxRecoveryBatch resBatch) {
         if (txRecoveryMsgLog.isDebugEnabled()) {
             txRecoveryMsgLog.debug("Received tx recovery request [txId=" + req.nearXidVersion() +
                 ", node=" + nodeId + ']');
@@ -2172,7 +2275,7 @@ public class IgniteTxHandler {
                 prepared = false;
             }
 
-            sendCheckPreparedResponse(nodeId, req, prepared);
+            sendCheckPreparedResponse(nodeId, req, prepared, resBatch);
         }
         else {
             fut.listen(new CI1<IgniteInternalFuture<Boolean>>() {
@@ -2188,7 +2291,8 @@ public class IgniteTxHandler {
                         prepared = false;
                     }
 
-                    sendCheckPreparedResponse(nodeId, req, prepared);
+                    // The batch has most likely been flushed by now, then the response is sent separately.
+                    sendCheckPreparedResponse(nodeId, req, prepared, resBatch);
                 }
             });
         }
@@ -2198,18 +2302,23 @@ public class IgniteTxHandler {
      * @param nodeId Node ID.
      * @param req Request.
      * @param prepared {@code True} if all transaction prepared or committed.
+     * @param resBatch Batch to send the response with, {@code null} to send it separately.
      */
     private void sendCheckPreparedResponse(UUID nodeId,
         GridCacheTxRecoveryRequest req,
-        boolean prepared) {
+        boolean prepared,
+        @Nullable GridCacheTxRecoveryBatch resBatch) {
         GridCacheTxRecoveryResponse res = new GridCacheTxRecoveryResponse(req.version(),
             req.futureId(),
             req.miniId(),
             prepared,
             req.deployInfo() != null);
 
+        byte plc = req.system() ? UTILITY_CACHE_POOL : SYSTEM_POOL;
+
         try {
-            ctx.io().send(nodeId, res, req.system() ? UTILITY_CACHE_POOL : SYSTEM_POOL);
+            if (resBatch == null || !resBatch.add(nodeId, res, plc))
+                ctx.io().send(nodeId, res, plc);
 
             if (txRecoveryMsgLog.isDebugEnabled()) {
                 txRecoveryMsgLog.debug("Sent tx recovery response [txId=" + req.nearXidVersion() +
@@ -69,10 +69,12 @@ import org.apache.ignite.internal.processors.cache.LongRunningTxTimeDumpSettings
 import org.apache.ignite.internal.processors.cache.TxOwnerDumpRequestAllowedSettingClosure;
 import org.apache.ignite.internal.processors.cache.TxTimeoutOnPartitionMapExchangeChangeMessage;
 import org.apache.ignite.internal.processors.cache.distributed.GridCacheMappedVersion;
+import org.apache.ignite.internal.processors.cache.distributed.GridCacheTxRecoveryBatch;
 import org.apache.ignite.internal.processors.cache.distributed.GridCacheTxRecoveryFuture;
 import org.apache.ignite.internal.processors.cache.distributed.GridDistributedCacheEntry;
 import org.apache.ignite.internal.processors.cache.distributed.GridDistributedLockCancelledException;
 import org.apache.ignite.internal.processors.cache.distributed.GridDistributedTxMapping;
+import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTxFinishBatcher;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTxLocal;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTxOnePhaseCommitAckRequest;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTxRemote;
@@ -125,6 +127,9 @@ import static org.apache.ignite.IgniteSystemProperties.IGNITE_SLOW_TX_WARN_TIMEO
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_TRANSACTION_TIME_DUMP_SAMPLES_COEFFICIENT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_TRANSACTION_TIME_DUMP_SAMPLES_PER_SECOND_LIMIT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_TX_DEADLOCK_DETECTION_MAX_ITERS;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TX_FINISH_BATCH_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TX_RECOVERY_BATCH_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TX_SERIALIZABLE_READ_CHECKS;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_TX_OWNER_DUMP_REQUESTS_ALLOWED;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_LOG_TX_RECORDS;
 import static org.apache.ignite.IgniteSystemProperties.getLong;
@@ -176,6 +181,12 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
     private static final int DEFERRED_ONE_PHASE_COMMIT_ACK_REQUEST_BUFFER_SIZE =
         Integer.getInteger(IGNITE_DEFERRED_ONE_PHASE_COMMIT_ACK_REQUEST_BUFFER_SIZE, 256);
 
+    /** Maximum number of DHT finish messages in a batch. */
+    private static final int TX_FINISH_BATCH_SIZE = Integer.getInteger(IGNITE_TX_FINISH_BATCH_SIZE, 64);
+
+    /** Maximum number of transaction recovery messages in a batch. */
+    private static final int TX_RECOVERY_BATCH_SIZE = Integer.getInteger(IGNITE_TX_RECOVERY_BATCH_SIZE, 1024);
+
     /** Node left rollback message. */
     static final String NODE_LEFT_ROLLBACK_MSG = "Primary owner [nodeId=%s, consistentId=%s] of an affected partition " +
         "has left the topology. The transaction was rolled back.";
@@ -262,6 +273,15 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
     /** Pending one phase commit ack requests sender. */
     private GridDeferredAckMessageSender deferredAckMsgSnd;
 
+    /** DHT finish messages batcher. */
+    private GridDhtTxFinishBatcher finishBatcher;
+
+    /** Prepared transactions by near version. */
+    private final IgniteTxPreparedIndex preparedIdx = new IgniteTxPreparedIndex();
+
+    /** Maximum number of read versions validated together with a read of a serializable transaction. */
+    private final int serReadChecks = Integer.getInteger(IGNITE_TX_SERIALIZABLE_READ_CHECKS, 0);
+
     /** Slow tx warn timeout. */
     private int slowTxWarnTimeout = SLOW_TX_WARN_TIMEOUT;
 
@@ -346,10 +366,14 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
             }
         };
 
+        finishBatcher = new GridDhtTxFinishBatcher(cctx, TX_FINISH_BATCH_SIZE);
+
         cctx.gridEvents().addDiscoveryEventListener((evt, discoCache) -> {
                 if (evt.type() == EVT_NODE_FAILED || evt.type() == EVT_NODE_LEFT) {
                     UUID nodeId = evt.eventNode().id();
 
+                    finishBatcher.onNodeLeft(nodeId);
+
                     cctx.kernalContext().closure().runLocalSafe(
                         new TxRecoveryInitRunnable(evt.eventNode(), cctx.coordinators().currentCoordinator()));
 
@@ -2140,9 +2164,46 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
      * @return Future for flag indicating if transactions were prepared or committed or {@code null} for success future.
      */
     @Nullable public IgniteInternalFuture<Boolean> txsPreparedOrCommitted(GridCacheVersion nearVer, int txNum) {
+        if (indexedTxsPrepared(nearVer, txNum))
+            return null;
+
         return txsPreparedOrCommitted(nearVer, txNum, null, null);
     }
 
+    /**
+     * Checks transactions with given near version ID using the index of prepared transactions.
+     *
+     * @param nearVer Near version ID.
+     * @param txNum Number of transactions.
+     * @return {@code True} if all transactions are prepared or committed, {@code false} if active transactions
+     *      have to be scanned to find out.
+     */
+    private boolean indexedTxsPrepared(GridCacheVersion nearVer, int txNum) {
+        Collection<IgniteInternalTx> txs = preparedIdx.transactions(nearVer);
+
+        if (txs.size() < txNum)
+            return false;
+
+        for (IgniteInternalTx tx : txs) {
+            IgniteInternalFuture<?> prepFut = tx.currentPrepareFuture();
+
+            if (prepFut != null && !prepFut.isDone())
+                return false;
+
+            TransactionState state = tx.state();
+
+            if (state != PREPARED && state != COMMITTING && state != COMMITTED)
+                return false;
+        }
+
+        for (IgniteInternalTx tx : txs) {
+            if (tx.state() == PREPARED)
+                tx.markFinalizing(RECOVERY_FINISH); // Prevents concurrent rollback.
+        }
+
+        return true;
+    }
+
     /**
      * @param xidVer Version.
      * @return Future for flag indicating if transactions was committed.
@@ -2399,6 +2460,22 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
      * @param failedNodeIds Failed nodes IDs.
      */
     public void commitIfPrepared(IgniteInternalTx tx, Set<UUID> failedNodeIds) {
+        commitIfPrepared(tx, failedNodeIds, null);
+    }
+
+    /**
+     * Commits transaction in case when node started transaction failed, but all related
+     * transactions were prepared (invalidates transaction if it is not fully prepared).
+     *
+     * @param tx Transaction.
+     * @param failedNodeIds Failed nodes IDs.
+     * @param batch Batch to send recovery requests with, {@code null} to send them separately.
+     */
+    private void commitIfPrepared(
+        IgniteInternalTx tx,
+        Set<UUID> failedNodeIds,
+        @Nullable GridCacheTxRecoveryBatch batch
+    ) {
         assert tx instanceof GridDhtTxLocal || tx instanceof GridDhtTxRemote  : tx;
         assert !F.isEmpty(tx.transactionNodes()) : tx;
         assert tx.nearXidVersion() != null : tx;
@@ -2418,7 +2495,7 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
         if (log.isInfoEnabled())
             log.info("Checking optimistic transaction state on remote nodes [tx=" + tx + ", fut=" + fut + ']');
 
-        fut.prepare();
+        fut.prepare(batch);
     }
 
     /**
@@ -2650,6 +2727,35 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
         deferredAckMsgSnd.sendDeferredAckMessage(nodeId, ver);
     }
 
+    /**
+     * @return DHT finish messages batcher.
+     */
+    public GridDhtTxFinishBatcher finishBatcher() {
+        return finishBatcher;
+    }
+
+    /**
+     * @return New batch of transaction recovery messages.
+     */
+    public GridCacheTxRecoveryBatch recoveryBatch() {
+        return new GridCacheTxRecoveryBatch(cctx, TX_RECOVERY_BATCH_SIZE);
+    }
+
+    /**
+     * @return Prepared transactions index.
+     */
+    public IgniteTxPreparedIndex preparedIndex() {
+        return preparedIdx;
+    }
+
+    /**
+     * @return Maximum number of read versions an optimistic serializable transaction sends for validation
+     *      together with a read, {@code 0} if early validation is disabled.
+     */
+    public int serializableReadChecks() {
+        return serReadChecks;
+    }
+
     /**
      * @return Collection of active transaction deadlock detection futures.
      */
@@ -3195,6 +3301,9 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
                     log.debug("Processing node failed event [locNodeId=" + cctx.localNodeId() +
                         ", failedNodeId=" + evtNodeId + ']');
 
+                // Recovery requests of all transactions are sent to each node together.
+                GridCacheTxRecoveryBatch batch = recoveryBatch();
+
                 // Null means that recovery voting is not needed.
                 GridCompoundFuture<IgniteInternalTx, Void> allTxFinFut =
                     node.isClient() && mvccCrd != null && mvccCrd.nodeId() != null
@@ -3209,14 +3318,14 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
                         // Check prepare only if originating node ID failed. Otherwise parent node will finish this tx.
                         if (tx.originatingNodeId().equals(evtNodeId)) {
                             if (tx.state() == PREPARED)
-                                commitIfPrepared(tx, Collections.singleton(evtNodeId));
+                                commitIfPrepared(tx, Collections.singleton(evtNodeId), batch);
                             else {
                                 IgniteInternalFuture<?> prepFut = tx.currentPrepareFuture();
 
                                 if (prepFut != null) {
                                     prepFut.listen(fut -> {
                                         if (tx.state() == PREPARED)
-                                            commitIfPrepared(tx, Collections.singleton(evtNodeId));
+                                            commitIfPrepared(tx, Collections.singleton(evtNodeId), batch);
                                             // If we could not mark tx as rollback, it means that transaction is being committed.
                                         else if (tx.setRollbackOnly())
                                             tx.rollbackAsync();
@@ -3245,6 +3354,8 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
                     }
                 }
 
+                batch.flush();
+
                 if (allTxFinFut == null)
                     return;
 
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.transactions;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ignite.internal.pagemem.wal.record.TxRecord;
+import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+import static org.apache.ignite.internal.util.GridConcurrentFactory.newMap;
+
+/**
+ * Index of transactions prepared on the local node and not finished yet by near transaction version.
+ * <p>
+ * The index is updated on the same transaction state changes that are logged to WAL as {@link TxRecord}s and lets
+ * transaction recovery check that transactions of a near transaction are prepared without scanning all active
+ * transactions, which makes recovery of many transactions on node failure linear rather than quadratic.
+ */
+public class IgniteTxPreparedIndex {
+    /** Transactions by near version, values are never modified. */
+    private final ConcurrentMap<GridCacheVersion, IgniteInternalTx[]> txs = newMap();
+
+    /**
+     * @param tx Prepared transaction.
+     */
+    void onPrepared(IgniteInternalTx tx) {
+        GridCacheVersion nearVer = tx.nearXidVersion();
+
+        if (nearVer == null)
+            return;
+
+        txs.compute(nearVer, (ver, txs0) -> {
+            if (txs0 == null)
+                return new IgniteInternalTx[] {tx};
+
+            IgniteInternalTx[] res = new IgniteInternalTx[txs0.length + 1];
+
+            System.arraycopy(txs0, 0, res, 0, txs0.length);
+
+            res[txs0.length] = tx;
+
+            return res;
+        });
+    }
+
+    /**
+     * @param tx Committed or rolled back transaction.
+     */
+    void onFinished(IgniteInternalTx tx) {
+        GridCacheVersion nearVer = tx.nearXidVersion();
+
+        if (nearVer == null)
+            return;
+
+        txs.computeIfPresent(nearVer, (ver, txs0) -> {
+            int idx = -1;
+
+            for (int i = 0; i < txs0.length; i++) {
+                if (txs0[i] == tx) {
+                    idx = i;
+
+                    break;
+                }
+            }
+
+            if (idx < 0)
+                return txs0;
+
+            if (txs0.length == 1)
+                return null;
+
+            IgniteInternalTx[] res = new IgniteInternalTx[txs0.length - 1];
+
+            System.arraycopy(txs0, 0, res, 0, idx);
+            System.arraycopy(txs0, idx + 1, res, idx, res.length - idx);
+
+            return res;
+        });
+    }
+
+    /**
+     * @param nearVer Near transaction version.
+     * @return Transactions prepared and not finished yet, must not be modified.
+     */
+    Collection<IgniteInternalTx> transactions(GridCacheVersion nearVer) {
+        IgniteInternalTx[] txs0 = txs.get(nearVer);
+
+        return txs0 == null ? Collections.emptyList() : Arrays.asList(txs0);
+    }
+
+    /**
+     * @return Number of near transactions with prepared transactions.
+     */
+    public int size() {
+        return txs.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(IgniteTxPreparedIndex.class, this, "size", size());
+    }
+}
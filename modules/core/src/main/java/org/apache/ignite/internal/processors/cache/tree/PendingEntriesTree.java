@@ -16,6 +16,7 @@
 
 package org.apache.ignite.internal.processors.cache.tree;
 
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.pagemem.PageMemory;
 import org.apache.ignite.internal.processors.cache.CacheGroupContext;
@@ -24,6 +25,7 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseList;
 import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageLockListener;
 import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.jetbrains.annotations.Nullable;
 
 /**
  *
@@ -35,6 +37,9 @@ public class PendingEntriesTree extends BPlusTree<PendingRow, PendingRow> {
     /** */
     private final CacheGroupContext grp;
 
+    /** Number of rows, maintained on insert and remove so that it can be read without a tree walk. */
+    private final LongAdder rowCnt = new LongAdder();
+
     /**
      * @param grp Cache group.
      * @param name Tree name.
@@ -73,6 +78,60 @@ public class PendingEntriesTree extends BPlusTree<PendingRow, PendingRow> {
         assert !grp.dataRegion().config().isPersistenceEnabled()  || grp.shared().database().checkpointLockIsHeldByThread();
 
         initTree(initNew);
+
+        if (!initNew)
+            rowCnt.add(size());
+    }
+
+    /**
+     * @return Number of rows in the tree.
+     */
+    public long rowCount() {
+        return rowCnt.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean putx(PendingRow row) throws IgniteCheckedException {
+        boolean replaced = super.putx(row);
+
+        if (!replaced)
+            rowCnt.increment();
+
+        return replaced;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean removex(PendingRow row) throws IgniteCheckedException {
+        boolean rmvd = super.removex(row);
+
+        if (rmvd)
+            rowCnt.decrement();
+
+        return rmvd;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void invoke(PendingRow row, Object z, InvokeClosure<PendingRow> c) throws IgniteCheckedException {
+        CountingClosure c0 = new CountingClosure(c);
+
+        super.invoke(row, z, c0);
+
+        switch (c.operationType()) {
+            case PUT:
+                if (!c0.found)
+                    rowCnt.increment();
+
+                break;
+
+            case REMOVE:
+                if (c0.found)
+                    rowCnt.decrement();
+
+                break;
+
+            default:
+                break;
+        }
     }
 
     /** {@inheritDoc} */
@@ -122,4 +181,39 @@ public class PendingEntriesTree extends BPlusTree<PendingRow, PendingRow> {
 
         return flag == WITHOUT_KEY ? row : row.initKey(grp);
     }
+
+    /**
+     * Remembers whether the invoked row was present in the tree.
+     */
+    private static class CountingClosure implements InvokeClosure<PendingRow> {
+        /** */
+        private final InvokeClosure<PendingRow> delegate;
+
+        /** */
+        private boolean found;
+
+        /**
+         * @param delegate Delegate closure.
+         */
+        CountingClosure(InvokeClosure<PendingRow> delegate) {
+            this.delegate = delegate;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void call(@Nullable PendingRow oldRow) throws IgniteCheckedException {
+            found = oldRow != null;
+
+            delegate.call(oldRow);
+        }
+
+        /** {@inheritDoc} */
+        @Override public PendingRow newRow() {
+            return delegate.newRow();
+        }
+
+        /** {@inheritDoc} */
+        @Override public OperationType operationType() {
+            return delegate.operationType();
+        }
+    }
 }
@@ -120,6 +120,9 @@ public class GridMetricManager extends GridManagerAdapter<MetricExporterSpi> imp
     /** Transaction metrics prefix. */
     public static final String TX_METRICS = "tx";
 
+    /** Expired entries cleanup metrics prefix. */
+    public static final String TTL_METRICS = "ttl";
+
     /** System metrics prefix. */
     public static final String DIAGNOSTIC_METRICS = "diagnostic";
 
@@ -499,6 +502,18 @@ public class GridMetricManager extends GridManagerAdapter<MetricExporterSpi> imp
             svc::stripesQueueSizes,
             int[].class,
             "Size of queue per stripe.");
+
+        mreg.register("StripesQueueImbalance",
+            (IntSupplier)svc::queueImbalance,
+            "Difference between the longest and the shortest stripe queues.");
+
+        mreg.register("StolenTasksCount",
+            svc::stolenTasks,
+            "Number of tasks executed by idle stripes instead of the stripes they were submitted to.");
+
+        mreg.register("LongRunningTasksCount",
+            svc::longRunningTasks,
+            "Number of tasks which ran longer than IGNITE_STRIPED_POOL_LONG_TASK_THRESHOLD.");
     }
 
     /**
@@ -16,7 +16,7 @@
 
 package org.apache.ignite.internal.processors.metric.impl;
 
-import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.ignite.internal.processors.metric.AbstractMetric;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.spi.metric.ObjectMetric;
@@ -26,6 +26,8 @@ import org.jetbrains.annotations.Nullable;
  * Histogram metric that will calculate counts of measurements that gets into each bounds interval.
  * Note, that {@link #value()} will return array length of {@code bounds.length + 1}.
  * Last element will contains count of measurements bigger then most right value of bounds.
+ * <p>
+ * Counts are striped, so concurrent measurements do not contend on the same bucket and are summed on read.
  */
 public class HistogramMetric extends AbstractMetric implements ObjectMetric<long[]> {
     /** Holder of measurements. */
@@ -55,13 +57,13 @@ public class HistogramMetric extends AbstractMetric implements ObjectMetric<long
         //Expect arrays of few elements.
         for (int i = 0; i < h.bounds.length; i++) {
             if (x <= h.bounds[i]) {
-                h.measurements.incrementAndGet(i);
+                h.measurements[i].increment();
 
                 return;
             }
         }
 
-        h.measurements.incrementAndGet(h.bounds.length);
+        h.measurements[h.bounds.length].increment();
     }
 
     /**
@@ -82,10 +84,10 @@ public class HistogramMetric extends AbstractMetric implements ObjectMetric<long
     @Override public long[] value() {
         HistogramHolder h = holder;
 
-        long[] res = new long[h.measurements.length()];
+        long[] res = new long[h.measurements.length];
 
-        for (int i = 0; i < h.measurements.length(); i++)
-            res[i] = h.measurements.get(i);
+        for (int i = 0; i < h.measurements.length; i++)
+            res[i] = h.measurements[i].sum();
 
         return res;
     }
@@ -103,7 +105,7 @@ public class HistogramMetric extends AbstractMetric implements ObjectMetric<long
     /** Histogram holder. */
     private static class HistogramHolder {
         /** Count of measurement for each bound. */
-        public final AtomicLongArray measurements;
+        public final LongAdder[] measurements;
 
         /** Bounds of measurements. */
         public final long[] bounds;
@@ -116,7 +118,10 @@ public class HistogramMetric extends AbstractMetric implements ObjectMetric<long
 
             this.bounds = bounds;
 
-            this.measurements = new AtomicLongArray(bounds.length + 1);
+            this.measurements = new LongAdder[bounds.length + 1];
+
+            for (int i = 0; i < measurements.length; i++)
+                measurements[i] = new LongAdder();
         }
     }
 }
@@ -54,6 +54,9 @@ import static java.util.stream.IntStream.range;
  * Striped executor.
  */
 public class StripedExecutor implements ExecutorService {
+    /** Default number of queue polls before an idle stripe parks. */
+    public static final int DFLT_SPIN_CNT = 2048;
+
     /** Stripes. */
     private final Stripe[] stripes;
 
@@ -101,8 +104,35 @@ public class StripedExecutor implements ExecutorService {
         boolean stealTasks,
         GridWorkerListener gridWorkerLsnr,
         long failureDetectionTimeout
+    ) {
+        this(cnt, igniteInstanceName, poolName, log, errHnd, stealTasks, gridWorkerLsnr, failureDetectionTimeout,
+            DFLT_SPIN_CNT);
+    }
+
+    /**
+     * @param cnt Count.
+     * @param igniteInstanceName Node name.
+     * @param poolName Pool name.
+     * @param log Logger.
+     * @param errHnd Critical failure handler.
+     * @param stealTasks {@code True} to steal any tasks, otherwise only tasks submitted without stripe index
+     *      are stolen by idle stripes.
+     * @param gridWorkerLsnr listener to link with every stripe worker.
+     * @param spinCnt Number of queue polls before an idle stripe parks.
+     */
+    public StripedExecutor(
+        int cnt,
+        String igniteInstanceName,
+        String poolName,
+        final IgniteLogger log,
+        IgniteInClosure<Throwable> errHnd,
+        boolean stealTasks,
+        GridWorkerListener gridWorkerLsnr,
+        long failureDetectionTimeout,
+        int spinCnt
     ) {
         A.ensure(cnt > 0, "cnt > 0");
+        A.ensure(spinCnt >= 0, "spinCnt >= 0");
 
         boolean success = false;
 
@@ -114,9 +144,8 @@ public class StripedExecutor implements ExecutorService {
 
         try {
             for (int i = 0; i < cnt; i++) {
-                stripes[i] = stealTasks
-                    ? new StripeConcurrentQueue(igniteInstanceName, poolName, i, log, stripes, errHnd, gridWorkerLsnr)
-                    : new StripeConcurrentQueue(igniteInstanceName, poolName, i, log, errHnd, gridWorkerLsnr);
+                stripes[i] = new StripeConcurrentQueue(igniteInstanceName, poolName, i, log, stripes, stealTasks,
+                    spinCnt, errHnd, gridWorkerLsnr);
             }
 
             for (int i = 0; i < cnt; i++)
@@ -206,9 +235,13 @@ public class StripedExecutor implements ExecutorService {
         signalStop();
     }
 
-    /** {@inheritDoc} */
+    /**
+     * Executes command which does not require ordering with other commands, so it may be stolen by an idle stripe.
+     *
+     * @param cmd Command.
+     */
     @Override public void execute(@NotNull Runnable cmd) {
-        stripes[ThreadLocalRandom.current().nextInt(stripes.length)].execute(cmd);
+        stripes[ThreadLocalRandom.current().nextInt(stripes.length)].executeUnordered(cmd);
     }
 
     /**
@@ -311,6 +344,47 @@ public class StripedExecutor implements ExecutorService {
         return cnt;
     }
 
+    /**
+     * @return Count of tasks executed by stripes other than the ones they were submitted to.
+     */
+    public long stolenTasks() {
+        long cnt = 0;
+
+        for (Stripe stripe : stripes)
+            cnt += stripe.stolenCnt;
+
+        return cnt;
+    }
+
+    /**
+     * @return Count of tasks which ran longer than {@link IgniteSystemProperties#IGNITE_STRIPED_POOL_LONG_TASK_THRESHOLD}.
+     */
+    public long longRunningTasks() {
+        long cnt = 0;
+
+        for (Stripe stripe : stripes)
+            cnt += stripe.longRunningCnt;
+
+        return cnt;
+    }
+
+    /**
+     * @return Difference between the longest and the shortest stripe queues.
+     */
+    public int queueImbalance() {
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+
+        for (Stripe stripe : stripes) {
+            int size = stripe.queueSize();
+
+            min = Math.min(min, size);
+            max = Math.max(max, size);
+        }
+
+        return max - min;
+    }
+
     /**
      * @return Completed tasks per stripe count.
      */
@@ -425,7 +499,7 @@ public class StripedExecutor implements ExecutorService {
 
     /**
      * Method for await all task completion in some specific striped indexes or all.
-     * The method guarantees what all tasks which were passed before this call
+     * The method guarantees what all tasks which were passed with stripe index before this call
      * will be completed before method return control.
      *
      * @param stripes Striped idxs for await. Empty params means await all stripes.
@@ -470,6 +544,10 @@ public class StripedExecutor implements ExecutorService {
      * Stripe.
      */
     private abstract static class Stripe extends GridWorker {
+        /** */
+        private static final long LONG_TASK_THRESHOLD =
+            IgniteSystemProperties.getLong(IgniteSystemProperties.IGNITE_STRIPED_POOL_LONG_TASK_THRESHOLD, 500);
+
         /** */
         private final String igniteInstanceName;
 
@@ -488,6 +566,12 @@ public class StripedExecutor implements ExecutorService {
         /** */
         private volatile long lastStartedTs;
 
+        /** Count of tasks stolen from other stripes, updated by stripe thread only. */
+        protected volatile long stolenCnt;
+
+        /** Count of long-running tasks, updated by stripe thread only. */
+        private volatile long longRunningCnt;
+
         /** Thread executing the loop. */
         protected Thread thread;
 
@@ -561,6 +645,9 @@ public class StripedExecutor implements ExecutorService {
                         finally {
                             active = false;
                             completedCnt++;
+
+                            if (U.currentTimeMillis() - lastStartedTs >= LONG_TASK_THRESHOLD)
+                                longRunningCnt++;
                         }
                     }
 
@@ -591,6 +678,15 @@ public class StripedExecutor implements ExecutorService {
          */
         abstract void execute(Runnable cmd);
 
+        /**
+         * Execute the command which does not require ordering with other commands of the stripe.
+         *
+         * @param cmd Command.
+         */
+        void executeUnordered(Runnable cmd) {
+            execute(cmd);
+        }
+
         /**
          * @return Next runnable.
          * @throws InterruptedException If interrupted.
@@ -625,10 +721,22 @@ public class StripedExecutor implements ExecutorService {
         /** Queue. */
         private final Queue<Runnable> queue;
 
-        /** */
+        /** Queue of tasks which may be executed by any stripe. */
+        private final Queue<Runnable> unorderedQueue = new ConcurrentLinkedQueue<>();
+
+        /** All stripes of the pool. */
         @GridToStringExclude
         private final Stripe[] others;
 
+        /** {@code True} to steal any tasks from other stripes, not only unordered ones. */
+        private final boolean stealTasks;
+
+        /** Number of queue polls before parking. */
+        private final int spinCnt;
+
+        /** Count of taken tasks, used to alternate between queues. */
+        private int takeCnt;
+
         /** */
         private volatile boolean parked;
 
@@ -637,25 +745,9 @@ public class StripedExecutor implements ExecutorService {
          * @param poolName Pool name.
          * @param idx Stripe index.
          * @param log Logger.
-         * @param errHnd Critical failure handler.
-         * @param gridWorkerLsnr listener to link with stripe worker.
-         */
-        StripeConcurrentQueue(
-            String igniteInstanceName,
-            String poolName,
-            int idx,
-            IgniteLogger log,
-            IgniteInClosure<Throwable> errHnd,
-            GridWorkerListener gridWorkerLsnr
-        ) {
-            this(igniteInstanceName, poolName, idx, log, null, errHnd, gridWorkerLsnr);
-        }
-
-        /**
-         * @param igniteInstanceName Ignite instance name.
-         * @param poolName Pool name.
-         * @param idx Stripe index.
-         * @param log Logger.
+         * @param others All stripes of the pool.
+         * @param stealTasks {@code True} to steal any tasks from other stripes.
+         * @param spinCnt Number of queue polls before parking.
          * @param errHnd Critical failure handler.
          * @param gridWorkerLsnr listener to link with stripe worker.
          */
@@ -665,6 +757,8 @@ public class StripedExecutor implements ExecutorService {
             int idx,
             IgniteLogger log,
             Stripe[] others,
+            boolean stealTasks,
+            int spinCnt,
             IgniteInClosure<Throwable> errHnd,
             GridWorkerListener gridWorkerLsnr
         ) {
@@ -677,16 +771,18 @@ public class StripedExecutor implements ExecutorService {
                 gridWorkerLsnr);
 
             this.others = others;
+            this.stealTasks = stealTasks;
+            this.spinCnt = spinCnt;
 
-            this.queue = others == null ? new ConcurrentLinkedQueue<Runnable>() : new ConcurrentLinkedDeque<Runnable>();
+            this.queue = stealTasks ? new ConcurrentLinkedDeque<Runnable>() : new ConcurrentLinkedQueue<Runnable>();
         }
 
         /** {@inheritDoc} */
         @Override Runnable take() throws InterruptedException {
             Runnable r;
 
-            for (int i = 0; i < 2048; i++) {
-                r = queue.poll();
+            for (int i = 0; i < spinCnt; i++) {
+                r = poll();
 
                 if (r != null)
                     return r;
@@ -696,27 +792,17 @@ public class StripedExecutor implements ExecutorService {
 
             try {
                 for (;;) {
-                    r = queue.poll();
+                    r = poll();
 
                     if (r != null)
                         return r;
 
-                    if(others != null) {
-                        int len = others.length;
-                        int init = ThreadLocalRandom.current().nextInt(len);
-                        int cur = init;
+                    r = steal();
 
-                        while (true) {
-                            if(cur != idx) {
-                                Deque<Runnable> queue = (Deque<Runnable>) ((StripeConcurrentQueue) others[cur]).queue;
+                    if (r != null) {
+                        stolenCnt++;
 
-                                if(queue.size() > IGNITE_TASKS_STEALING_THRESHOLD && (r = queue.pollLast()) != null)
-                                    return r;
-                            }
-
-                            if ((cur = (cur + 1) % len) == init)
-                                break;
-                        }
+                        return r;
                     }
 
                     LockSupport.park();
@@ -730,6 +816,56 @@ public class StripedExecutor implements ExecutorService {
             }
         }
 
+        /**
+         * Polls own queues, alternating between ordered and unordered tasks so that none of them starves.
+         *
+         * @return Task or {@code null} if queues are empty.
+         */
+        private Runnable poll() {
+            Runnable r;
+
+            if ((takeCnt++ & 1) == 0) {
+                r = queue.poll();
+
+                return r != null ? r : unorderedQueue.poll();
+            }
+            else {
+                r = unorderedQueue.poll();
+
+                return r != null ? r : queue.poll();
+            }
+        }
+
+        /**
+         * @return Task stolen from other stripe or {@code null} if there is nothing to steal.
+         */
+        private Runnable steal() {
+            int len = others.length;
+            int init = ThreadLocalRandom.current().nextInt(len);
+            int cur = init;
+
+            do {
+                if (cur != idx) {
+                    StripeConcurrentQueue other = (StripeConcurrentQueue)others[cur];
+
+                    Runnable r = other.unorderedQueue.poll();
+
+                    if (r != null)
+                        return r;
+
+                    if (stealTasks) {
+                        Deque<Runnable> queue = (Deque<Runnable>)other.queue;
+
+                        if (queue.size() > IGNITE_TASKS_STEALING_THRESHOLD && (r = queue.pollLast()) != null)
+                            return r;
+                    }
+                }
+            }
+            while ((cur = (cur + 1) % len) != init);
+
+            return null;
+        }
+
         /** {@inheritDoc} */
         @Override void execute(Runnable cmd) {
             queue.add(cmd);
@@ -737,22 +873,42 @@ public class StripedExecutor implements ExecutorService {
             if (parked)
                 LockSupport.unpark(thread);
 
-            if(others != null && queueSize() > IGNITE_TASKS_STEALING_THRESHOLD) {
+            if (stealTasks && queueSize() > IGNITE_TASKS_STEALING_THRESHOLD) {
                 for (Stripe other : others) {
-                    if(((StripeConcurrentQueue)other).parked)
+                    if (((StripeConcurrentQueue)other).parked)
                         LockSupport.unpark(other.thread);
                 }
             }
         }
 
+        /** {@inheritDoc} */
+        @Override void executeUnordered(Runnable cmd) {
+            unorderedQueue.add(cmd);
+
+            if (parked) {
+                LockSupport.unpark(thread);
+
+                return;
+            }
+
+            // This stripe is busy, wake up an idle one to steal the task.
+            for (Stripe other : others) {
+                if (((StripeConcurrentQueue)other).parked) {
+                    LockSupport.unpark(other.thread);
+
+                    break;
+                }
+            }
+        }
+
         /** {@inheritDoc} */
         @Override String queueToString() {
-            return String.valueOf(queue);
+            return queue + ", unordered=" + unorderedQueue;
         }
 
         /** {@inheritDoc} */
         @Override int queueSize() {
-            return queue.size();
+            return queue.size() + unorderedQueue.size();
         }
 
         /** {@inheritDoc} */
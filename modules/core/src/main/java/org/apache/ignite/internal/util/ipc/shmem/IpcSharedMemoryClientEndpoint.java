@@ -34,6 +34,12 @@ import org.apache.ignite.internal.util.typedef.internal.U;
  * IPC endpoint based on shared memory space.
  */
 public class IpcSharedMemoryClientEndpoint implements IpcEndpoint {
+    /**
+     * Heartbeat timeout for memory-mapped spaces. Heartbeats are updated by the alive checkers of both parties
+     * (client endpoint checker and server GC worker), both of them run every 10 seconds.
+     */
+    private static final long HEARTBEAT_TIMEOUT = 60_000;
+
     /** In space. */
     private final IpcSharedMemorySpace inSpace;
 
@@ -119,7 +125,7 @@ public class IpcSharedMemoryClientEndpoint implements IpcEndpoint {
         boolean clear = true;
 
         try {
-            IpcSharedMemoryNativeLoader.load(log);
+            boolean mappedOnly = IpcSharedMemoryUtils.mappedFiles(log);
 
             sock.connect(new InetSocketAddress("127.0.0.1", port), timeout);
 
@@ -128,7 +134,7 @@ public class IpcSharedMemoryClientEndpoint implements IpcEndpoint {
 
             int pid = IpcSharedMemoryUtils.pid();
 
-            out.writeObject(new IpcSharedMemoryInitRequest(pid));
+            out.writeObject(new IpcSharedMemoryInitRequest(pid, mappedOnly));
 
             ObjectInputStream in = new ObjectInputStream(sock.getInputStream());
 
@@ -141,15 +147,30 @@ public class IpcSharedMemoryClientEndpoint implements IpcEndpoint {
 
                 assert inTokFileName != null;
 
-                inSpace = new IpcSharedMemorySpace(inTokFileName, res.pid(), pid, res.size(), true,
-                    res.inSharedMemoryId(), log);
-
                 String outTokFileName = res.outTokenFileName();
 
                 assert outTokFileName != null;
 
-                outSpace = new IpcSharedMemorySpace(outTokFileName, pid, res.pid(), res.size(), false,
-                    res.outSharedMemoryId(), log);
+                // Server of a previous version ignores the flag of the request.
+                if (mappedOnly && !res.mapped()) {
+                    throw new IgniteCheckedException("Shared memory server endpoint doesn't support " +
+                        "memory-mapped spaces and native library can't be loaded: " + port);
+                }
+
+                if (res.mapped()) {
+                    inSpace = new IpcSharedMemorySpace(inTokFileName, res.pid(), pid, res.size(), true,
+                        false, log);
+
+                    outSpace = new IpcSharedMemorySpace(outTokFileName, pid, res.pid(), res.size(), false,
+                        false, log);
+                }
+                else {
+                    inSpace = new IpcSharedMemorySpace(inTokFileName, res.pid(), pid, res.size(), true,
+                        res.inSharedMemoryId(), log);
+
+                    outSpace = new IpcSharedMemorySpace(outTokFileName, pid, res.pid(), res.size(), false,
+                        res.outSharedMemoryId(), log);
+                }
 
                 // This is success ACK.
                 out.writeBoolean(true);
@@ -263,6 +284,24 @@ public class IpcSharedMemoryClientEndpoint implements IpcEndpoint {
         if (!checkIn && !checkOut)
             return false;
 
+        if (inSpace.mapped()) {
+            inSpace.heartbeat();
+            outSpace.heartbeat();
+
+            if (!inSpace.otherPartyAlive(HEARTBEAT_TIMEOUT) || !outSpace.otherPartyAlive(HEARTBEAT_TIMEOUT) ||
+                !IpcSharedMemoryUtils.aliveNoNative(inSpace.otherPartyPid())) {
+                U.warn(log, "Remote process is considered to be dead (memory-mapped space will be forcibly " +
+                    "closed): " + inSpace.otherPartyPid());
+
+                closeSpace(inSpace);
+                closeSpace(outSpace);
+
+                return false;
+            }
+
+            return true;
+        }
+
         if (!IpcSharedMemoryUtils.alive(inSpace.otherPartyPid())) {
             U.warn(log, "Remote process is considered to be dead (shared memory space will be forcibly closed): " +
                 inSpace.otherPartyPid());
@@ -303,6 +342,10 @@ public class IpcSharedMemoryClientEndpoint implements IpcEndpoint {
 
         File tokFile = new File(space.tokenFileName());
 
+        // Memory-mapped space removes its token file on close and does not hold any other system resources.
+        if (space.mapped())
+            return;
+
         // Space is not usable at this point and all local threads
         // are guaranteed to leave its methods (other party is not alive).
         // So, we can cleanup resources without additional synchronization.
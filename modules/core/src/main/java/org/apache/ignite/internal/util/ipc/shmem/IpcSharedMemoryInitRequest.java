@@ -16,6 +16,7 @@
 
 package org.apache.ignite.internal.util.ipc.shmem;
 
+import java.io.EOFException;
 import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
@@ -31,11 +32,23 @@ public class IpcSharedMemoryInitRequest implements Externalizable {
     /** */
     private int pid;
 
+    /** {@code True} if {@code client} party supports only memory-mapped spaces. */
+    private boolean mapped;
+
     /**
      * @param pid PID of the {@code client} party.
      */
     public IpcSharedMemoryInitRequest(int pid) {
+        this(pid, false);
+    }
+
+    /**
+     * @param pid PID of the {@code client} party.
+     * @param mapped {@code True} if {@code client} party supports only memory-mapped spaces.
+     */
+    public IpcSharedMemoryInitRequest(int pid, boolean mapped) {
         this.pid = pid;
+        this.mapped = mapped;
     }
 
     /**
@@ -52,18 +65,36 @@ public class IpcSharedMemoryInitRequest implements Externalizable {
         return pid;
     }
 
+    /**
+     * @return {@code True} if {@code client} party supports only memory-mapped spaces.
+     */
+    public boolean mapped() {
+        return mapped;
+    }
+
     /** {@inheritDoc} */
     @Override public void writeExternal(ObjectOutput out) throws IOException {
         out.writeInt(pid);
+
+        // Appended, so that parties of previous versions skip it.
+        out.writeBoolean(mapped);
     }
 
     /** {@inheritDoc} */
     @Override public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
         pid = in.readInt();
+
+        try {
+            mapped = in.readBoolean();
+        }
+        catch (EOFException ignored) {
+            // Party of a previous version, it supports native spaces only.
+            mapped = false;
+        }
     }
 
     /** {@inheritDoc} */
     @Override public String toString() {
-        return "IpcSharedMemoryInitRequest [pid=" + pid + ']';
+        return "IpcSharedMemoryInitRequest [pid=" + pid + ", mapped=" + mapped + ']';
     }
 }
\ No newline at end of file
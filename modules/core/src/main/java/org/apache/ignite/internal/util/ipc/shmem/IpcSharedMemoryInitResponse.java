@@ -16,6 +16,7 @@
 
 package org.apache.ignite.internal.util.ipc.shmem;
 
+import java.io.EOFException;
 import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
@@ -48,6 +49,9 @@ public class IpcSharedMemoryInitResponse implements Externalizable {
     /** */
     private int size;
 
+    /** {@code True} if spaces are backed by memory-mapped token files. */
+    private boolean mapped;
+
     /** */
     private Exception err;
 
@@ -63,6 +67,23 @@ public class IpcSharedMemoryInitResponse implements Externalizable {
      */
     public IpcSharedMemoryInitResponse(String inTokFileName, int inSharedMemId, String outTokFileName,
                                        int outSharedMemId, int pid, int size) {
+        this(inTokFileName, inSharedMemId, outTokFileName, outSharedMemId, pid, size, false);
+    }
+
+    /**
+     * Constructs a successful response.
+     *
+     * @param inTokFileName In token.
+     * @param inSharedMemId In  shared memory ID.
+     * @param outTokFileName Out token.
+     * @param outSharedMemId Out shared memory ID.
+     * @param pid PID of the {@code server} party.
+     * @param size Size.
+     * @param mapped {@code True} if spaces are backed by memory-mapped token files.
+     */
+    public IpcSharedMemoryInitResponse(String inTokFileName, int inSharedMemId, String outTokFileName,
+                                       int outSharedMemId, int pid, int size, boolean mapped) {
+        this.mapped = mapped;
         this.inTokFileName = inTokFileName;
         this.inSharedMemId = inSharedMemId;
         this.outTokFileName = outTokFileName;
@@ -129,6 +150,13 @@ public class IpcSharedMemoryInitResponse implements Externalizable {
         return size;
     }
 
+    /**
+     * @return {@code True} if spaces are backed by memory-mapped token files.
+     */
+    public boolean mapped() {
+        return mapped;
+    }
+
     /**
      * @return Error message or {@code null}, if this is
      *         a successful response.
@@ -146,6 +174,9 @@ public class IpcSharedMemoryInitResponse implements Externalizable {
         out.writeObject(err);
         out.writeInt(pid);
         out.writeInt(size);
+
+        // Appended, so that parties of previous versions skip it.
+        out.writeBoolean(mapped);
     }
 
     /** {@inheritDoc} */
@@ -157,6 +188,14 @@ public class IpcSharedMemoryInitResponse implements Externalizable {
         err = (Exception)in.readObject();
         pid = in.readInt();
         size = in.readInt();
+
+        try {
+            mapped = in.readBoolean();
+        }
+        catch (EOFException ignored) {
+            // Party of a previous version, it supports native spaces only.
+            mapped = false;
+        }
     }
 
     /** {@inheritDoc} */
@@ -167,6 +206,7 @@ public class IpcSharedMemoryInitResponse implements Externalizable {
             ", outTokFileName=" + outTokFileName +
             ", outSharedMemId=" + outSharedMemId +
             ", pid=" + pid +
-            ", size=" + size + ']';
+            ", size=" + size +
+            ", mapped=" + mapped + ']';
     }
 }
\ No newline at end of file
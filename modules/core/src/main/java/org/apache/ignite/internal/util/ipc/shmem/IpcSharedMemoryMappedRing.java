@@ -0,0 +1,355 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.ipc.shmem;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+/**
+ * Lock-free single producer single consumer ring buffer placed in a memory-mapped file.
+ * <p>
+ * The file is shared by two processes on the same host: one of them only writes and the other one only reads.
+ * Positions are monotonically growing byte counters published with volatile stores, so no locks or
+ * OS semaphores are required. A blocked party spins for a short while and then parks with growing
+ * intervals until the other party makes progress, the ring gets closed or the operation times out.
+ * <p>
+ * File layout (every header field occupies its own cache line to avoid false sharing):
+ * <pre>
+ * +--------------+--------------+--------+------------------+------------------+------------------+
+ * | write pos(8) | read pos (8) | closed | writer heartbeat | reader heartbeat | data (capacity)  |
+ * +--------------+--------------+--------+------------------+------------------+------------------+
+ * </pre>
+ */
+public class IpcSharedMemoryMappedRing {
+    /** Cache line size used for header padding. */
+    private static final int LINE = 64;
+
+    /** Offset of write position. */
+    private static final int WRITE_POS_OFF = 0;
+
+    /** Offset of read position. */
+    private static final int READ_POS_OFF = LINE;
+
+    /** Offset of closed flag. */
+    private static final int CLOSED_OFF = 2 * LINE;
+
+    /** Offset of writer heartbeat timestamp. */
+    private static final int WRITER_HB_OFF = 3 * LINE;
+
+    /** Offset of reader heartbeat timestamp. */
+    private static final int READER_HB_OFF = 4 * LINE;
+
+    /** Header size. */
+    static final int HDR_SIZE = 5 * LINE;
+
+    /** Number of busy spins before yielding. */
+    private static final int SPIN_CNT = 1024;
+
+    /** Number of yields before parking. */
+    private static final int YIELD_CNT = 64;
+
+    /** Minimal park interval in nanoseconds. */
+    private static final long MIN_PARK_NANOS = 1_000;
+
+    /** Maximal park interval in nanoseconds. */
+    private static final long MAX_PARK_NANOS = 1_000_000;
+
+    /** Mapped buffer. */
+    private final MappedByteBuffer buf;
+
+    /** Address of the mapped region. */
+    private final long addr;
+
+    /** Address of the data region. */
+    private final long dataAddr;
+
+    /** Data capacity. */
+    private final int cap;
+
+    /** {@code True} if this party is a reader. */
+    private final boolean reader;
+
+    /** Local copy of the own position (only this party modifies it). */
+    private long pos;
+
+    /**
+     * @param tokFile Token file to map.
+     * @param cap Data capacity in bytes.
+     * @param reader {@code True} if this party is a reader.
+     * @param create {@code True} if ring should be created, {@code false} to attach to existing one.
+     * @throws IgniteCheckedException If failed to map the file.
+     */
+    public IpcSharedMemoryMappedRing(File tokFile, int cap, boolean reader, boolean create)
+        throws IgniteCheckedException {
+        assert cap > 0 : cap;
+
+        this.cap = cap;
+        this.reader = reader;
+
+        try (RandomAccessFile raf = new RandomAccessFile(tokFile, "rw")) {
+            long len = HDR_SIZE + (long)cap;
+
+            if (create)
+                raf.setLength(len);
+            else if (raf.length() < len) {
+                throw new IgniteCheckedException("Shared memory file is smaller than expected [file=" +
+                    tokFile.getAbsolutePath() + ", expected=" + len + ", actual=" + raf.length() + ']');
+            }
+
+            buf = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, len);
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Failed to map shared memory file: " + tokFile.getAbsolutePath(), e);
+        }
+
+        addr = GridUnsafe.bufferAddress(buf);
+        dataAddr = addr + HDR_SIZE;
+
+        if (create) {
+            GridUnsafe.setMemory(addr, HDR_SIZE, (byte)0);
+
+            long now = U.currentTimeMillis();
+
+            GridUnsafe.putLongVolatile(null, addr + WRITER_HB_OFF, now);
+            GridUnsafe.putLongVolatile(null, addr + READER_HB_OFF, now);
+        }
+
+        pos = GridUnsafe.getLongVolatile(null, addr + (reader ? READ_POS_OFF : WRITE_POS_OFF));
+    }
+
+    /**
+     * Writes bytes to the ring blocking until all of them are written.
+     *
+     * @param srcBase Source base object ({@code null} for off-heap source).
+     * @param srcOff Source offset (absolute address for off-heap source).
+     * @param len Length.
+     * @param timeout Operation timeout in milliseconds ({@code 0} to wait forever).
+     * @throws IgniteCheckedException If ring has been closed.
+     * @throws IpcSharedMemoryOperationTimedoutException If operation times out.
+     */
+    public void write(Object srcBase, long srcOff, int len, long timeout) throws IgniteCheckedException {
+        assert !reader;
+
+        long deadline = deadline(timeout);
+
+        int waits = 0;
+
+        while (len > 0) {
+            if (closed())
+                throw new IgniteCheckedException("Shared memory ring has been closed.");
+
+            long free = cap - (pos - GridUnsafe.getLongVolatile(null, addr + READ_POS_OFF));
+
+            if (free == 0) {
+                waitForProgress(waits++, deadline);
+
+                continue;
+            }
+
+            waits = 0;
+
+            int cnt = (int)Math.min(free, len);
+
+            copy(srcBase, srcOff, null, 0, cnt, false);
+
+            pos += cnt;
+
+            GridUnsafe.putLongVolatile(null, addr + WRITE_POS_OFF, pos);
+
+            srcOff += cnt;
+            len -= cnt;
+        }
+    }
+
+    /**
+     * Reads bytes from the ring blocking until at least one byte is available.
+     *
+     * @param dstBase Destination base object ({@code null} for off-heap destination).
+     * @param dstOff Destination offset (absolute address for off-heap destination).
+     * @param len Maximum number of bytes to read.
+     * @param timeout Operation timeout in milliseconds ({@code 0} to wait forever).
+     * @return Number of bytes read or {@code -1} if ring has been closed and fully drained.
+     * @throws IpcSharedMemoryOperationTimedoutException If operation times out.
+     */
+    public int read(Object dstBase, long dstOff, int len, long timeout)
+        throws IpcSharedMemoryOperationTimedoutException {
+        assert reader;
+        assert len > 0;
+
+        long deadline = deadline(timeout);
+
+        int waits = 0;
+
+        while (true) {
+            long avail = GridUnsafe.getLongVolatile(null, addr + WRITE_POS_OFF) - pos;
+
+            if (avail > 0) {
+                int cnt = (int)Math.min(avail, len);
+
+                copy(null, 0, dstBase, dstOff, cnt, true);
+
+                pos += cnt;
+
+                GridUnsafe.putLongVolatile(null, addr + READ_POS_OFF, pos);
+
+                return cnt;
+            }
+
+            if (closed())
+                return -1;
+
+            waitForProgress(waits++, deadline);
+        }
+    }
+
+    /**
+     * @return Number of bytes available for read.
+     */
+    public int unreadCount() {
+        return (int)(GridUnsafe.getLongVolatile(null, addr + WRITE_POS_OFF) -
+            GridUnsafe.getLongVolatile(null, addr + READ_POS_OFF));
+    }
+
+    /**
+     * Updates heartbeat timestamp of this party.
+     */
+    public void heartbeat() {
+        GridUnsafe.putLongVolatile(null, addr + (reader ? READER_HB_OFF : WRITER_HB_OFF), U.currentTimeMillis());
+    }
+
+    /**
+     * @param timeout Heartbeat timeout in milliseconds.
+     * @return {@code True} if other party has updated its heartbeat within the given timeout.
+     */
+    public boolean otherPartyAlive(long timeout) {
+        long hb = GridUnsafe.getLongVolatile(null, addr + (reader ? WRITER_HB_OFF : READER_HB_OFF));
+
+        return U.currentTimeMillis() - hb < timeout;
+    }
+
+    /**
+     * @return {@code True} if ring has been closed by any party.
+     */
+    public boolean closed() {
+        return GridUnsafe.getIntVolatile(null, addr + CLOSED_OFF) != 0;
+    }
+
+    /**
+     * Marks ring as closed for both parties. Blocked reader and writer of the other party will be released.
+     */
+    public void markClosed() {
+        GridUnsafe.putIntVolatile(null, addr + CLOSED_OFF, 1);
+    }
+
+    /**
+     * Unmaps the file. Caller must guarantee that no concurrent operation is in progress.
+     */
+    public void unmap() {
+        GridUnsafe.cleanDirectBuffer(buf);
+    }
+
+    /**
+     * Copies bytes between the ring data region and external memory taking wrap-around into account.
+     *
+     * @param srcBase Source base (used when writing to the ring).
+     * @param srcOff Source offset.
+     * @param dstBase Destination base (used when reading from the ring).
+     * @param dstOff Destination offset.
+     * @param cnt Bytes count.
+     * @param fromRing {@code True} if bytes are copied from the ring.
+     */
+    private void copy(Object srcBase, long srcOff, Object dstBase, long dstOff, int cnt, boolean fromRing) {
+        int idx = (int)(pos % cap);
+
+        int first = Math.min(cnt, cap - idx);
+
+        if (fromRing) {
+            GridUnsafe.copyMemory(null, dataAddr + idx, dstBase, dstOff, first);
+
+            if (first < cnt)
+                GridUnsafe.copyMemory(null, dataAddr, dstBase, dstOff + first, cnt - first);
+        }
+        else {
+            GridUnsafe.copyMemory(srcBase, srcOff, null, dataAddr + idx, first);
+
+            if (first < cnt)
+                GridUnsafe.copyMemory(srcBase, srcOff + first, null, dataAddr, cnt - first);
+        }
+    }
+
+    /**
+     * @param timeout Timeout in milliseconds ({@code 0} for infinite).
+     * @return Deadline in nanoseconds or {@code 0} for infinite.
+     */
+    private static long deadline(long timeout) {
+        return timeout > 0 ? System.nanoTime() + U.millisToNanos(timeout) : 0;
+    }
+
+    /**
+     * Waits for the other party progress: spins first, then yields and finally parks with growing interval.
+     *
+     * @param waits Number of unsuccessful attempts made so far.
+     * @param deadline Deadline in nanoseconds ({@code 0} for infinite).
+     * @throws IpcSharedMemoryOperationTimedoutException If deadline has been reached.
+     */
+    private static void waitForProgress(int waits, long deadline) throws IpcSharedMemoryOperationTimedoutException {
+        if (waits < SPIN_CNT)
+            return;
+
+        if (deadline != 0 && System.nanoTime() - deadline > 0)
+            throw new IpcSharedMemoryOperationTimedoutException("Shared memory operation timed out.");
+
+        if (waits < SPIN_CNT + YIELD_CNT)
+            Thread.yield();
+        else {
+            int shift = Math.min(waits - SPIN_CNT - YIELD_CNT, 10);
+
+            LockSupport.parkNanos(Math.min(MIN_PARK_NANOS << shift, MAX_PARK_NANOS));
+        }
+    }
+
+    /**
+     * @param buf Byte buffer.
+     * @return Base object for unsafe memory access to the buffer.
+     */
+    static Object base(ByteBuffer buf) {
+        return buf.isDirect() ? null : buf.array();
+    }
+
+    /**
+     * @param buf Byte buffer.
+     * @param off Offset in the buffer.
+     * @return Offset (or absolute address) for unsafe memory access to the buffer.
+     */
+    static long offset(ByteBuffer buf, int off) {
+        return buf.isDirect() ? GridUnsafe.bufferAddress(buf) + off : GridUnsafe.BYTE_ARR_OFF + buf.arrayOffset() + off;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(IpcSharedMemoryMappedRing.class, this, "closed", closed());
+    }
+}
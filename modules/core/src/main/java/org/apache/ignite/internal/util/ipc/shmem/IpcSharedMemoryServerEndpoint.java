@@ -134,6 +134,9 @@ public class IpcSharedMemoryServerEndpoint implements IpcServerEndpoint {
     /** Closed flag. */
     private volatile boolean closed;
 
+    /** {@code True} if spaces are backed by memory-mapped files since native library is not available. */
+    private boolean mapped;
+
     /** Spaces opened on with this endpoint. */
     private final Collection<IpcSharedMemoryClientEndpoint> endpoints =
         new GridConcurrentHashSet<>();
@@ -170,7 +173,7 @@ public class IpcSharedMemoryServerEndpoint implements IpcServerEndpoint {
 
     /** {@inheritDoc} */
     @Override public void start() throws IgniteCheckedException {
-        IpcSharedMemoryNativeLoader.load(log);
+        mapped = IpcSharedMemoryUtils.mappedFiles(log);
 
         pid = IpcSharedMemoryUtils.pid();
 
@@ -260,27 +263,36 @@ public class IpcSharedMemoryServerEndpoint implements IpcServerEndpoint {
                     if (log.isDebugEnabled())
                         log.debug("Created token files: " + p);
 
-                    inSpace = new IpcSharedMemorySpace(
-                        file1,
-                        req.pid(),
-                        pid,
-                        size,
-                        true,
-                        log);
+                    boolean mapped0 = mapped || req.mapped();
 
-                    outSpace = new IpcSharedMemorySpace(
-                        file2,
-                        pid,
-                        req.pid(),
-                        size,
-                        false,
-                        log);
+                    if (mapped0) {
+                        inSpace = new IpcSharedMemorySpace(file1, req.pid(), pid, size, true, true, log);
+
+                        outSpace = new IpcSharedMemorySpace(file2, pid, req.pid(), size, false, true, log);
+                    }
+                    else {
+                        inSpace = new IpcSharedMemorySpace(
+                            file1,
+                            req.pid(),
+                            pid,
+                            size,
+                            true,
+                            log);
+
+                        outSpace = new IpcSharedMemorySpace(
+                            file2,
+                            pid,
+                            req.pid(),
+                            size,
+                            false,
+                            log);
+                    }
 
                     IpcSharedMemoryClientEndpoint ret = new IpcSharedMemoryClientEndpoint(inSpace, outSpace,
                         log);
 
                     out.writeObject(new IpcSharedMemoryInitResponse(file2, outSpace.sharedMemoryId(),
-                        file1, inSpace.sharedMemoryId(), pid, size));
+                        file1, inSpace.sharedMemoryId(), pid, size, mapped0));
 
                     err = !in.readBoolean();
 
@@ -636,6 +648,14 @@ public class IpcSharedMemoryServerEndpoint implements IpcServerEndpoint {
             }
         }
 
+        /**
+         * @param pid PID to check.
+         * @return {@code True} if process is alive.
+         */
+        private boolean alive(int pid) {
+            return mapped ? IpcSharedMemoryUtils.aliveNoNative(pid) : IpcSharedMemoryUtils.alive(pid);
+        }
+
         /**
          * @param workTokDir Token directory (common for multiple nodes).
          */
@@ -672,7 +692,7 @@ public class IpcSharedMemoryServerEndpoint implements IpcServerEndpoint {
                 }
 
                 // Is process alive?
-                if (IpcSharedMemoryUtils.alive(pid)) {
+                if (alive(pid)) {
                     if (log.isDebugEnabled())
                         log.debug("Skipping alive node: " + pid);
 
@@ -725,7 +745,7 @@ public class IpcSharedMemoryServerEndpoint implements IpcServerEndpoint {
                             continue;
                         }
 
-                        if (IpcSharedMemoryUtils.alive(pid0)) {
+                        if (alive(pid0)) {
                             if (log.isDebugEnabled())
                                 log.debug("Skipping alive process: " + pid0);
 
@@ -735,7 +755,8 @@ public class IpcSharedMemoryServerEndpoint implements IpcServerEndpoint {
                         if (log.isDebugEnabled())
                             log.debug("Possibly stale token file: " + f0);
 
-                        IpcSharedMemoryUtils.freeSystemResources(f0.getAbsolutePath(), size);
+                        if (!mapped)
+                            IpcSharedMemoryUtils.freeSystemResources(f0.getAbsolutePath(), size);
 
                         if (f0.delete()) {
                             if (log.isDebugEnabled())
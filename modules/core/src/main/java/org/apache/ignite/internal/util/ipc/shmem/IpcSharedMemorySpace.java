@@ -17,13 +17,17 @@
 package org.apache.ignite.internal.util.ipc.shmem;
 
 import java.io.Closeable;
+import java.io.File;
 import java.nio.ByteBuffer;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_IPC_SHMEM_SPACE_DEBUG;
 
@@ -67,6 +71,10 @@ public class IpcSharedMemorySpace implements Closeable {
     /** */
     private final IgniteLogger log;
 
+    /** Ring buffer in memory-mapped file ({@code null} if space is backed by native shared memory segment). */
+    @GridToStringExclude
+    @Nullable private final IpcSharedMemoryMappedRing ring;
+
     /**
      * This will allocate system resources for the space.
      *
@@ -97,6 +105,8 @@ public class IpcSharedMemorySpace implements Closeable {
         this.readerPid = readerPid;
         this.writerPid = writerPid;
 
+        ring = null;
+
         if (DEBUG && log.isDebugEnabled())
             log.debug("Shared memory space has been created: " + this);
     }
@@ -129,6 +139,43 @@ public class IpcSharedMemorySpace implements Closeable {
         shmemPtr = IpcSharedMemoryUtils.attach(shmemId, DEBUG && log.isDebugEnabled());
 
         semId = IpcSharedMemoryUtils.semaphoreId(shmemPtr);
+
+        ring = null;
+    }
+
+    /**
+     * Creates or attaches to the space backed by a memory-mapped token file. Such space does not require
+     * native library and uses lock-free single producer single consumer ring buffer for data exchange.
+     *
+     * @param tokFileName Token file name (the file is mapped into memory).
+     * @param writerPid Writer PID.
+     * @param readerPid Reader PID.
+     * @param size Size in bytes.
+     * @param reader {@code True} if reader.
+     * @param create {@code True} to create the space, {@code false} to attach to the existing one.
+     * @param parent Parent logger.
+     * @throws IgniteCheckedException If failed.
+     */
+    public IpcSharedMemorySpace(String tokFileName, int writerPid, int readerPid, int size, boolean reader,
+        boolean create, IgniteLogger parent) throws IgniteCheckedException {
+        assert size > 0 : "Size cannot be less than 1 byte";
+
+        log = parent.getLogger(IpcSharedMemorySpace.class);
+
+        opSize = size;
+        isReader = reader;
+        this.writerPid = writerPid;
+        this.readerPid = readerPid;
+        this.tokFileName = tokFileName;
+
+        ring = new IpcSharedMemoryMappedRing(new File(tokFileName), size, reader, create);
+
+        shmemPtr = 0;
+        shmemId = -1;
+        semId = -1;
+
+        if (DEBUG && log.isDebugEnabled())
+            log.debug("Memory-mapped shared memory space has been " + (create ? "created: " : "attached: ") + this);
     }
 
     /**
@@ -154,7 +201,10 @@ public class IpcSharedMemorySpace implements Closeable {
             if (closed.get())
                 throw new IgniteCheckedException("Shared memory segment has been closed: " + this);
 
-            IpcSharedMemoryUtils.writeSharedMemory(shmemPtr, buf, off, len, timeout);
+            if (ring != null)
+                ring.write(buf, GridUnsafe.BYTE_ARR_OFF + off, len, timeout);
+            else
+                IpcSharedMemoryUtils.writeSharedMemory(shmemPtr, buf, off, len, timeout);
         }
         finally {
             lock.readLock().unlock();
@@ -183,7 +233,11 @@ public class IpcSharedMemorySpace implements Closeable {
             if (closed.get())
                 throw new IgniteCheckedException("Shared memory segment has been closed: " + this);
 
-            IpcSharedMemoryUtils.writeSharedMemoryByteBuffer(shmemPtr, buf, off, len, timeout);
+            if (ring != null)
+                ring.write(IpcSharedMemoryMappedRing.base(buf), IpcSharedMemoryMappedRing.offset(buf, off), len,
+                    timeout);
+            else
+                IpcSharedMemoryUtils.writeSharedMemoryByteBuffer(shmemPtr, buf, off, len, timeout);
         }
         finally {
             lock.readLock().unlock();
@@ -215,6 +269,9 @@ public class IpcSharedMemorySpace implements Closeable {
             if (closed.get())
                 throw new IgniteCheckedException("Shared memory segment has been closed: " + this);
 
+            if (ring != null)
+                return ring.read(buf, GridUnsafe.BYTE_ARR_OFF + off, len, timeout);
+
             return (int) IpcSharedMemoryUtils.readSharedMemory(shmemPtr, buf, off, len, timeout);
         }
         finally {
@@ -246,6 +303,10 @@ public class IpcSharedMemorySpace implements Closeable {
             if (closed.get())
                 throw new IgniteCheckedException("Shared memory segment has been closed: " + this);
 
+            if (ring != null)
+                return ring.read(IpcSharedMemoryMappedRing.base(buf), IpcSharedMemoryMappedRing.offset(buf, off), len,
+                    timeout);
+
             return (int) IpcSharedMemoryUtils.readSharedMemoryByteBuffer(shmemPtr, buf, off, len, timeout);
         }
         finally {
@@ -290,13 +351,23 @@ public class IpcSharedMemorySpace implements Closeable {
         if (!closed.compareAndSet(false, true))
             return;
 
-        IpcSharedMemoryUtils.ipcClose(shmemPtr);
+        if (ring != null)
+            ring.markClosed();
+        else
+            IpcSharedMemoryUtils.ipcClose(shmemPtr);
 
         // Wait all readers and writes to leave critical section.
         lock.writeLock().lock();
 
         try {
-            IpcSharedMemoryUtils.freeSystemResources(tokFileName, shmemPtr, force);
+            if (ring != null) {
+                ring.unmap();
+
+                // Other party may still have the file mapped, this is safe since mapping outlives the file.
+                new File(tokFileName).delete();
+            }
+            else
+                IpcSharedMemoryUtils.freeSystemResources(tokFileName, shmemPtr, force);
         }
         finally {
             lock.writeLock().unlock();
@@ -317,7 +388,50 @@ public class IpcSharedMemorySpace implements Closeable {
             if (closed.get())
                 throw new IgniteCheckedException("Shared memory segment has been closed: " + this);
 
-            return IpcSharedMemoryUtils.unreadCount(shmemPtr);
+            return ring != null ? ring.unreadCount() : IpcSharedMemoryUtils.unreadCount(shmemPtr);
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return {@code True} if space is backed by memory-mapped file.
+     */
+    public boolean mapped() {
+        return ring != null;
+    }
+
+    /**
+     * Updates heartbeat of this party. Only applicable to memory-mapped spaces.
+     */
+    void heartbeat() {
+        assert ring != null;
+
+        lock.readLock().lock();
+
+        try {
+            if (!closed.get())
+                ring.heartbeat();
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Checks heartbeat of the other party. Only applicable to memory-mapped spaces.
+     *
+     * @param timeout Heartbeat timeout in milliseconds.
+     * @return {@code True} if other party is considered to be alive or space has already been closed.
+     */
+    boolean otherPartyAlive(long timeout) {
+        assert ring != null;
+
+        lock.readLock().lock();
+
+        try {
+            return closed.get() || ring.otherPartyAlive(timeout);
         }
         finally {
             lock.readLock().unlock();
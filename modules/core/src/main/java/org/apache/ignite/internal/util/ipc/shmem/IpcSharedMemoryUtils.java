@@ -17,6 +17,7 @@
 package org.apache.ignite.internal.util.ipc.shmem;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.lang.management.ManagementFactory;
@@ -24,13 +25,20 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.util.typedef.internal.U;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_IPC_SHMEM_MAPPED_FILES;
+
 /**
- * NOTE: Native library should be loaded, before methods of this class are called.
+ * NOTE: Native library should be loaded, before native methods of this class are called.
  * Native library is loaded with: {@link IpcSharedMemoryNativeLoader#load(org.apache.ignite.IgniteLogger)}.
  */
 public class IpcSharedMemoryUtils {
+    /** Cached result of {@link #mappedFiles(IgniteLogger)}. */
+    private static volatile Boolean mappedFiles;
+
     /**
      * Allocates shared memory segment and semaphores for IPC exchange.
      *
@@ -166,6 +174,61 @@ public class IpcSharedMemoryUtils {
      */
     static native boolean alive(int pid);
 
+    /**
+     * Checks whether process is alive without native library. On platforms which do not expose
+     * process information via {@code /proc} the process is always considered to be alive, in this
+     * case liveness of the other party is detected via heartbeats stored in the memory-mapped space.
+     *
+     * @param pid PID to check.
+     * @return {@code True} if process with passed ID is alive or its state can not be determined.
+     */
+    static boolean aliveNoNative(int pid) {
+        File proc = new File("/proc");
+
+        return !proc.isDirectory() || new File(proc, String.valueOf(pid)).exists();
+    }
+
+    /**
+     * Determines whether shared memory spaces should be backed by memory-mapped files. This is the case when
+     * {@link IgniteSystemProperties#IGNITE_IPC_SHMEM_MAPPED_FILES} is set or native library can not be loaded.
+     *
+     * @param log Logger.
+     * @return {@code True} if memory-mapped files should be used.
+     */
+    public static boolean mappedFiles(IgniteLogger log) {
+        Boolean res = mappedFiles;
+
+        if (res != null)
+            return res;
+
+        synchronized (IpcSharedMemoryUtils.class) {
+            if (mappedFiles != null)
+                return mappedFiles;
+
+            if (IgniteSystemProperties.getBoolean(IGNITE_IPC_SHMEM_MAPPED_FILES))
+                res = true;
+            else {
+                try {
+                    IpcSharedMemoryNativeLoader.load(log);
+
+                    res = false;
+                }
+                catch (IgniteCheckedException | LinkageError | IllegalStateException e) {
+                    if (log.isInfoEnabled()) {
+                        log.info("Shared memory native library is not available, memory-mapped files will be used " +
+                            "instead [err=" + e.getMessage() + ']');
+                    }
+
+                    res = true;
+                }
+            }
+
+            mappedFiles = res;
+
+            return res;
+        }
+    }
+
     /**
      * Returns shared memory ids for Mac OS and Linux platforms.
      *
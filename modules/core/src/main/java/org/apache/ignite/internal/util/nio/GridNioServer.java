@@ -56,6 +56,7 @@ import org.apache.ignite.configuration.ConnectorConfiguration;
 import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.IgniteInterruptedCheckedException;
 import org.apache.ignite.internal.managers.communication.GridIoMessage;
+import org.apache.ignite.internal.managers.communication.GridIoTimingMetrics;
 import org.apache.ignite.internal.processors.metric.MetricRegistry;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.processors.tracing.MTC;
@@ -89,6 +90,7 @@ import org.apache.ignite.plugin.extensions.communication.MessageWriter;
 import org.apache.ignite.thread.IgniteThread;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_IO_TIMING_METRICS_SAMPLE_RATE;
 import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
 import static org.apache.ignite.failure.FailureType.SYSTEM_WORKER_TERMINATION;
 import static org.apache.ignite.internal.processors.tracing.messages.TraceableMessagesTable.traceName;
@@ -148,6 +150,17 @@ public class GridNioServer<T> {
     /** */
     public static final String OUTBOUND_MESSAGES_QUEUE_SIZE_METRIC_DESC = "Number of messages waiting to be sent";
 
+    /** */
+    public static final String OUTBOUND_MESSAGES_QUEUE_WAIT_TIME_METRIC_NAME = "outboundMessagesQueueWaitTime";
+
+    /** */
+    public static final String OUTBOUND_MESSAGES_QUEUE_WAIT_TIME_METRIC_DESC =
+        "Sampled time in nanoseconds messages wait in the outbound queue before being written to the socket";
+
+    /** One of this number of outbound messages is measured for queue wait time, {@code 0} disables measurements. */
+    static final int OUTBOUND_MESSAGES_QUEUE_WAIT_SAMPLE_RATE =
+        IgniteSystemProperties.getInteger(IGNITE_IO_TIMING_METRICS_SAMPLE_RATE, GridIoTimingMetrics.DFLT_SAMPLE_RATE);
+
     /** */
     public static final String RECEIVED_BYTES_METRIC_NAME = "receivedBytes";
 
@@ -24,10 +24,13 @@ import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.managers.communication.GridIoTimingMetrics;
 import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetric;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.processors.tracing.MTC;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
@@ -39,6 +42,9 @@ import org.jetbrains.annotations.Nullable;
 import static org.apache.ignite.internal.processors.tracing.messages.TraceableMessagesTable.traceName;
 import static org.apache.ignite.internal.util.nio.GridNioServer.OUTBOUND_MESSAGES_QUEUE_SIZE_METRIC_DESC;
 import static org.apache.ignite.internal.util.nio.GridNioServer.OUTBOUND_MESSAGES_QUEUE_SIZE_METRIC_NAME;
+import static org.apache.ignite.internal.util.nio.GridNioServer.OUTBOUND_MESSAGES_QUEUE_WAIT_SAMPLE_RATE;
+import static org.apache.ignite.internal.util.nio.GridNioServer.OUTBOUND_MESSAGES_QUEUE_WAIT_TIME_METRIC_DESC;
+import static org.apache.ignite.internal.util.nio.GridNioServer.OUTBOUND_MESSAGES_QUEUE_WAIT_TIME_METRIC_NAME;
 
 /**
  * Session implementation bound to selector API and socket API.
@@ -87,6 +93,13 @@ class GridSelectorNioSessionImpl extends GridNioSessionImpl implements GridNioKe
     /** Outbound messages queue size metric. */
     @Nullable private final LongAdderMetric outboundMessagesQueueSizeMetric;
 
+    /** Outbound messages queue wait time metric. */
+    @Nullable private final HistogramMetric outboundMessagesQueueWaitTimeMetric;
+
+    /** Sampled write request used to measure outbound queue wait time ({@code null} if none is in the queue). */
+    @GridToStringExclude
+    private volatile SampledRequest sampledReq;
+
     /**
      * Creates session instance.
      *
@@ -144,6 +157,13 @@ class GridSelectorNioSessionImpl extends GridNioSessionImpl implements GridNioKe
             OUTBOUND_MESSAGES_QUEUE_SIZE_METRIC_NAME,
             OUTBOUND_MESSAGES_QUEUE_SIZE_METRIC_DESC
         );
+
+        outboundMessagesQueueWaitTimeMetric = mreg == null || OUTBOUND_MESSAGES_QUEUE_WAIT_SAMPLE_RATE == 0 ? null :
+            mreg.histogram(
+                OUTBOUND_MESSAGES_QUEUE_WAIT_TIME_METRIC_NAME,
+                GridIoTimingMetrics.HISTOGRAM_BOUNDS,
+                OUTBOUND_MESSAGES_QUEUE_WAIT_TIME_METRIC_DESC
+            );
     }
 
     /** {@inheritDoc} */
@@ -319,6 +339,12 @@ class GridSelectorNioSessionImpl extends GridNioSessionImpl implements GridNioKe
 
         writeFut.messageThread(msgThread);
 
+        // Request must be marked as sampled before it becomes visible to the NIO thread.
+        if (outboundMessagesQueueWaitTimeMetric != null && sampledReq == null &&
+            ThreadLocalRandom.current().nextInt(OUTBOUND_MESSAGES_QUEUE_WAIT_SAMPLE_RATE) == 0) {
+            sampledReq = new SampledRequest(writeFut, System.nanoTime());
+        }
+
         boolean res = queue.offer(writeFut);
 
         MTC.span().addLog(() -> "Added to queue - " + traceName(writeFut.message()));
@@ -341,6 +367,8 @@ class GridSelectorNioSessionImpl extends GridNioSessionImpl implements GridNioKe
 
         assert add;
 
+        sampledReq = null;
+
         if (outboundMessagesQueueSizeMetric != null)
             outboundMessagesQueueSizeMetric.add(futs.size());
     }
@@ -355,6 +383,11 @@ class GridSelectorNioSessionImpl extends GridNioSessionImpl implements GridNioKe
             if (outboundMessagesQueueSizeMetric != null)
                 outboundMessagesQueueSizeMetric.decrement();
 
+            SampledRequest sampledReq0 = clearSampledRequest(last);
+
+            if (sampledReq0 != null)
+                outboundMessagesQueueWaitTimeMetric.value(Math.max(0, System.nanoTime() - sampledReq0.ts));
+
             if (sem != null && !last.messageThread())
                 sem.release();
 
@@ -387,12 +420,34 @@ class GridSelectorNioSessionImpl extends GridNioSessionImpl implements GridNioKe
 
         boolean rmv = queue.removeLastOccurrence(fut);
 
-        if (rmv && outboundMessagesQueueSizeMetric != null)
-            outboundMessagesQueueSizeMetric.decrement();
+        if (rmv) {
+            if (outboundMessagesQueueSizeMetric != null)
+                outboundMessagesQueueSizeMetric.decrement();
+
+            // Otherwise sampling would stop for the session.
+            clearSampledRequest(fut);
+        }
 
         return rmv;
     }
 
+    /**
+     * Clears the sampled request if it is the given one, so that the next request can be sampled.
+     *
+     * @param req Request that left the queue.
+     * @return Sampled request or {@code null} if the given request is not sampled.
+     */
+    @Nullable private SampledRequest clearSampledRequest(SessionWriteRequest req) {
+        SampledRequest sampledReq0 = sampledReq;
+
+        if (sampledReq0 == null || sampledReq0.req != req)
+            return null;
+
+        sampledReq = null;
+
+        return sampledReq0;
+    }
+
     /**
      * Gets number of write requests in a queue that have not been processed yet.
      *
@@ -499,4 +554,24 @@ class GridSelectorNioSessionImpl extends GridNioSessionImpl implements GridNioKe
     @Override public String toString() {
         return S.toString(GridSelectorNioSessionImpl.class, this, super.toString());
     }
+
+    /**
+     * Sampled write request together with its enqueue timestamp, published at once.
+     */
+    private static class SampledRequest {
+        /** Request. */
+        private final SessionWriteRequest req;
+
+        /** Enqueue timestamp in nanoseconds. */
+        private final long ts;
+
+        /**
+         * @param req Request.
+         * @param ts Enqueue timestamp in nanoseconds.
+         */
+        private SampledRequest(SessionWriteRequest req, long ts) {
+            this.req = req;
+            this.ts = ts;
+        }
+    }
 }
@@ -183,6 +183,7 @@ import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_MARSHALLER;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_MARSHALLER_COMPACT_FOOTER;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_MARSHALLER_USE_BINARY_STRING_SER_VER_2;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_MARSHALLER_USE_DFLT_SUID;
+import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_MARSHALLER_VARINT_FIELDS;
 import static org.apache.ignite.internal.managers.discovery.IgniteDiscoverySpi.ALL_NODES;
 import static org.apache.ignite.internal.processors.security.SecurityUtils.nodeSecurityContext;
 import static org.apache.ignite.spi.IgnitePortProtocol.TCP;
@@ -4734,6 +4735,51 @@ class ServerImpl extends TcpDiscoveryImpl {
                     return;
                 }
 
+                // Validate int and long fields encoding used by the BinaryMarshaller.
+                final Boolean locMarshVarintFields = locNode.attribute(ATTR_MARSHALLER_VARINT_FIELDS);
+                final boolean locMarshVarintFieldsBool = locMarshVarintFields != null ? locMarshVarintFields : false;
+
+                final Boolean rmtMarshVarintFields = node.attribute(ATTR_MARSHALLER_VARINT_FIELDS);
+                final boolean rmtMarshVarintFieldsBool = rmtMarshVarintFields != null ? rmtMarshVarintFields : false;
+
+                if (locMarshVarintFieldsBool != rmtMarshVarintFieldsBool) {
+                    utilityPool.execute(
+                        new Runnable() {
+                            @Override public void run() {
+                                String errMsg = "Local node's binary marshaller \"varintFields\" property " +
+                                    "differs from the same property on remote node (make sure all nodes in topology " +
+                                    "have the same value of \"varintFields\" property) " +
+                                    "[locMarshVarintFields=" + locMarshVarintFields +
+                                    ", rmtMarshVarintFields=" + rmtMarshVarintFields +
+                                    ", locNodeAddrs=" + U.addressesAsString(locNode) +
+                                    ", rmtNodeAddrs=" + U.addressesAsString(node) +
+                                    ", locNodeId=" + locNode.id() + ", rmtNodeId=" + msg.creatorNodeId() + ']';
+
+                                String sndMsg = "Local node's binary marshaller \"varintFields\" property " +
+                                    "differs from the same property on remote node (make sure all nodes in topology " +
+                                    "have the same value of \"varintFields\" property) " +
+                                    "[locMarshVarintFields=" + rmtMarshVarintFields +
+                                    ", rmtMarshVarintFields=" + locMarshVarintFields +
+                                    ", locNodeAddrs=" + U.addressesAsString(node) + ", locPort=" + node.discoveryPort() +
+                                    ", rmtNodeAddr=" + U.addressesAsString(locNode) + ", locNodeId=" + node.id() +
+                                    ", rmtNodeId=" + locNode.id() + ']';
+
+                                nodeCheckError(
+                                    node,
+                                    errMsg,
+                                    sndMsg);
+                            }
+                        });
+
+                    // Ignore join request.
+                    msg.spanContainer().span()
+                        .addLog(() -> "Ignored")
+                        .setStatus(SpanStatus.ABORTED)
+                        .end();
+
+                    return;
+                }
+
                 Boolean rmtLateAssign = node.attribute(ATTR_LATE_AFFINITY_ASSIGNMENT);
                 // Can be null only in tests.
                 boolean rmtLateAssignBool = rmtLateAssign != null ? rmtLateAssign : false;
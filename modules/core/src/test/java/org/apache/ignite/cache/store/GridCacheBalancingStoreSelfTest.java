@@ -35,10 +35,13 @@ import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.IgniteInterruptedCheckedException;
 import org.apache.ignite.internal.processors.cache.CacheStoreBalancingWrapper;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
 import org.apache.ignite.internal.util.typedef.CI2;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteBiInClosure;
 import org.apache.ignite.lang.IgniteCallable;
+import org.apache.ignite.spi.metric.DoubleMetric;
+import org.apache.ignite.spi.metric.LongMetric;
 import org.apache.ignite.testframework.GridTestUtils;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.jetbrains.annotations.Nullable;
@@ -242,6 +245,48 @@ public class GridCacheBalancingStoreSelfTest extends GridCommonAbstractTest {
         }, threads, "load-thread");
     }
 
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBatchedLoads() throws Exception {
+        final int threads = 10;
+        final int keys = 5;
+
+        final CyclicBarrier beforeBarrier = new CyclicBarrier(threads);
+
+        ConcurrentVerifyStore store = new ConcurrentVerifyStore(keys);
+
+        final CacheStoreBalancingWrapper<Integer, Integer> wrapper =
+            new CacheStoreBalancingWrapper<>(store, keys, 1000, 100);
+
+        MetricRegistry mreg = new MetricRegistry("test", "test", log);
+
+        wrapper.registerMetrics(mreg);
+
+        final AtomicInteger idx = new AtomicInteger();
+
+        GridTestUtils.runMultiThreaded(new Runnable() {
+            @Override public void run() {
+                int key = idx.getAndIncrement() % keys;
+
+                try {
+                    beforeBarrier.await();
+                }
+                catch (InterruptedException | BrokenBarrierException e) {
+                    throw new RuntimeException(e);
+                }
+
+                assertEquals((Integer)key, wrapper.loadBatched(key));
+            }
+        }, threads, "load-thread");
+
+        assertEquals(threads, ((LongMetric)mreg.findMetric("StoreLoadRequestedKeys")).value());
+        assertEquals(keys, ((LongMetric)mreg.findMetric("StoreLoadKeys")).value());
+        assertEquals(1, ((LongMetric)mreg.findMetric("StoreLoadCalls")).value());
+        assertEquals((double)threads / keys, ((DoubleMetric)mreg.findMetric("StoreLoadCoalesceRatio")).value());
+    }
+
     /**
      *
      */
@@ -27,6 +27,7 @@ import java.sql.Types;
 import java.util.Random;
 import javax.cache.integration.CacheLoaderException;
 import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
 import org.apache.ignite.cache.store.jdbc.dialect.H2Dialect;
 import org.apache.ignite.cache.store.jdbc.model.Gender;
 import org.apache.ignite.cache.store.jdbc.model.Person;
@@ -76,6 +77,18 @@ public abstract class CacheJdbcPojoStoreAbstractSelfTest extends GridCommonAbstr
     /** Batch size to load in parallel. */
     private static int parallelLoadThreshold;
 
+    /** Number of partitions for partition aware load. */
+    private static final int PARTS_CNT = 32;
+
+    /** Partition expression for built in non-negative integer keys matching the affinity function. */
+    private static final String PART_EXPR = "BITAND(BITXOR(ID, ID / 65536), " + (PARTS_CNT - 1) + ")";
+
+    /** Flag indicating that tests should load cache by partitions. */
+    private static boolean partitionAware;
+
+    /** Maximum number of cache load threads, {@code 0} for default. */
+    private static int loadPoolSize;
+
     /**
      * @return Flag indicating that all internal SQL queries should use escaped identifiers.
      */
@@ -131,6 +144,9 @@ public abstract class CacheJdbcPojoStoreAbstractSelfTest extends GridCommonAbstr
     /** {@inheritDoc} */
     @Override protected void afterTest() throws Exception {
         stopAllGrids();
+
+        partitionAware = false;
+        loadPoolSize = 0;
     }
 
     /** {@inheritDoc} */
@@ -168,6 +184,9 @@ public abstract class CacheJdbcPojoStoreAbstractSelfTest extends GridCommonAbstr
         if (builtinKeys) {
             storeTypes[0].setKeyType("java.lang.Long");
             storeTypes[0].setKeyFields(new JdbcTypeField(Types.INTEGER, "ID", Integer.class, "id"));
+
+            if (partitionAware)
+                storeTypes[0].setPartitionExpression(PART_EXPR);
         }
         else {
             storeTypes[0].setKeyType("org.apache.ignite.cache.store.jdbc.model.OrganizationKey" + (noKeyClasses ? "1" : ""));
@@ -191,6 +210,9 @@ public abstract class CacheJdbcPojoStoreAbstractSelfTest extends GridCommonAbstr
         if (builtinKeys) {
             storeTypes[1].setKeyType("java.lang.Integer");
             storeTypes[1].setKeyFields(new JdbcTypeField(Types.INTEGER, "ID", Long.class, "id"));
+
+            if (partitionAware)
+                storeTypes[1].setPartitionExpression(PART_EXPR);
         }
         else {
             storeTypes[1].setKeyType("org.apache.ignite.cache.store.jdbc.model.PersonKey" + (noKeyClasses ? "1" : ""));
@@ -228,11 +250,17 @@ public abstract class CacheJdbcPojoStoreAbstractSelfTest extends GridCommonAbstr
         storeFactory.setSqlEscapeAll(sqlEscapeAll());
         storeFactory.setParallelLoadCacheMinimumThreshold(parallelLoadThreshold);
 
+        if (loadPoolSize > 0)
+            storeFactory.setMaximumPoolSize(loadPoolSize);
+
         cc.setCacheStoreFactory(storeFactory);
         cc.setReadThrough(true);
         cc.setWriteThrough(true);
         cc.setLoadPreviousValue(true);
 
+        if (partitionAware)
+            cc.setAffinity(new RendezvousAffinityFunction(false, PARTS_CNT));
+
         return cc;
     }
 
@@ -455,6 +483,41 @@ public abstract class CacheJdbcPojoStoreAbstractSelfTest extends GridCommonAbstr
         checkCacheLoad();
     }
 
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testLoadCachePartitionAware() throws Exception {
+        partitionAware = true;
+
+        startTestGrid(true, false, false, false, 512);
+
+        startGrid(1);
+
+        awaitPartitionMapExchange();
+
+        checkCacheLoad();
+    }
+
+    /**
+     * Checks that all local partitions are loaded with a single select.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testLoadCachePartitionAwareSingleSelect() throws Exception {
+        partitionAware = true;
+        loadPoolSize = 1;
+
+        startTestGrid(true, false, false, false, 512);
+
+        startGrid(1);
+
+        awaitPartitionMapExchange();
+
+        checkCacheLoad();
+    }
+
     /**
      * Check put in cache and store it in db.
      *
@@ -0,0 +1,413 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.binary;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.binary.BinaryBasicNameMapper;
+import org.apache.ignite.binary.BinaryNameMapper;
+import org.apache.ignite.binary.BinaryObjectException;
+import org.apache.ignite.binary.BinaryReader;
+import org.apache.ignite.binary.BinaryWriter;
+import org.apache.ignite.binary.Binarylizable;
+import org.apache.ignite.configuration.BinaryConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.logger.NullLogger;
+import org.apache.ignite.marshaller.MarshallerContextTestImpl;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.jetbrains.annotations.Nullable;
+import org.junit.Test;
+
+/**
+ * Checks that {@link Binarylizable} code produced by {@code BinarylizableCodeGenerator} keeps
+ * the wire format of the reflection based serialization.
+ */
+public class BinaryGeneratedSerializerSelfTest extends GridCommonAbstractTest {
+    /** Type name shared by reflective and generated values. */
+    private static final String TYPE_NAME = "Value";
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSameWireFormat() throws Exception {
+        checkSameWireFormat(true);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSameWireFormatNonCompactFooter() throws Exception {
+        checkSameWireFormat(false);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSameWireFormatNulls() throws Exception {
+        BinaryMarshaller marsh = marshaller(true);
+
+        ReflectiveValue refl = new ReflectiveValue();
+        GeneratedValue gen = new GeneratedValue();
+
+        assertEquals(toString(withoutTypeId(marsh.marshal(refl))), toString(withoutTypeId(marsh.marshal(gen))));
+
+        GeneratedValue res = marsh.unmarshal(marsh.marshal(gen), null);
+
+        assertNull(res.name);
+        assertNull(res.boxed);
+        assertNull(res.tags);
+        assertNull(res.created);
+        assertNull(res.state);
+        assertNull(res.attrs);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSameTypeNameReflectiveThenGenerated() throws Exception {
+        ReflectiveValue refl = new ReflectiveValue();
+        GeneratedValue gen = new GeneratedValue();
+
+        init(refl, gen);
+
+        checkSameTypeName(refl, gen, false);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSameTypeNameGeneratedThenReflectiveNulls() throws Exception {
+        checkSameTypeName(new ReflectiveValue(), new GeneratedValue(), true);
+    }
+
+    /**
+     * Writes the same type reflectively and with generated code, as nodes with different versions of a class do,
+     * and checks that metadata of both is merged without conflicts.
+     *
+     * @param refl Reflective value.
+     * @param gen Generated value with the same field values.
+     * @param genFirst Whether to write generated value first.
+     * @throws Exception If failed.
+     */
+    private void checkSameTypeName(ReflectiveValue refl, GeneratedValue gen, boolean genFirst) throws Exception {
+        BinaryMetadataHandler metaHnd = BinaryCachingMetadataHandler.create();
+
+        BinaryMarshaller reflMarsh = marshaller(true, metaHnd, ReflectiveValue.class);
+        BinaryMarshaller genMarsh = marshaller(true, metaHnd, GeneratedValue.class);
+
+        byte[] firstBytes = genFirst ? genMarsh.marshal(gen) : reflMarsh.marshal(refl);
+
+        int typeId = BinaryPrimitives.readInt(firstBytes, GridBinaryMarshaller.TYPE_ID_POS);
+
+        BinaryMetadata firstMeta = metaHnd.metadata0(typeId);
+
+        assertEquals(TYPE_NAME, firstMeta.typeName());
+
+        byte[] secondBytes = genFirst ? reflMarsh.marshal(refl) : genMarsh.marshal(gen);
+
+        assertEquals(toString(firstBytes), toString(secondBytes));
+
+        BinaryMetadata mergedMeta = metaHnd.metadata0(typeId);
+
+        assertEquals(firstMeta.fieldsMap().keySet(), mergedMeta.fieldsMap().keySet());
+
+        for (Map.Entry<String, BinaryFieldMetadata> e : firstMeta.fieldsMap().entrySet()) {
+            assertEquals(e.getKey(), e.getValue().typeId(), mergedMeta.fieldsMap().get(e.getKey()).typeId());
+            assertEquals(e.getKey(), e.getValue().fieldId(), mergedMeta.fieldsMap().get(e.getKey()).fieldId());
+        }
+    }
+
+    /**
+     * @param compactFooter Compact footer flag.
+     * @throws Exception If failed.
+     */
+    private void checkSameWireFormat(boolean compactFooter) throws Exception {
+        BinaryMarshaller marsh = marshaller(compactFooter);
+
+        ReflectiveValue refl = new ReflectiveValue();
+        GeneratedValue gen = new GeneratedValue();
+
+        init(refl, gen);
+
+        byte[] reflBytes = marsh.marshal(refl);
+        byte[] genBytes = marsh.marshal(gen);
+
+        assertEquals(toString(withoutTypeId(reflBytes)), toString(withoutTypeId(genBytes)));
+
+        GeneratedValue res = marsh.unmarshal(genBytes, null);
+
+        assertEquals(gen.id, res.id);
+        assertEquals(gen.ts, res.ts);
+        assertEquals(gen.name, res.name);
+        assertEquals(gen.uid, res.uid);
+        assertEquals(gen.boxed, res.boxed);
+        assertTrue(Arrays.equals(gen.data, res.data));
+        assertEquals(gen.tags, res.tags);
+        assertEquals(gen.ratio, res.ratio);
+        assertEquals(gen.created, res.created);
+        assertEquals(gen.state, res.state);
+        assertEquals(gen.attrs, res.attrs);
+        assertEquals(0, res.skipped);
+    }
+
+    /**
+     * @param refl Reflective value.
+     * @param gen Generated value.
+     */
+    private static void init(ReflectiveValue refl, GeneratedValue gen) {
+        refl.id = gen.id = 42;
+        refl.ts = gen.ts = System.currentTimeMillis();
+        refl.name = gen.name = "name";
+        refl.uid = gen.uid = UUID.randomUUID();
+        refl.boxed = gen.boxed = 7;
+        refl.data = gen.data = new byte[] {1, 2, 3};
+        refl.tags = gen.tags = Arrays.asList("a", "b");
+        refl.ratio = gen.ratio = 0.5;
+        refl.created = gen.created = new Date();
+        refl.state = gen.state = State.ACTIVE;
+        refl.attrs = gen.attrs = new HashMap<>();
+        refl.attrs.put("a", 1);
+        refl.skipped = gen.skipped = 1;
+    }
+
+    /**
+     * @param compactFooter Compact footer flag.
+     * @return Binary marshaller.
+     * @throws Exception If failed.
+     */
+    private BinaryMarshaller marshaller(boolean compactFooter) throws Exception {
+        return marshaller(compactFooter, BinaryCachingMetadataHandler.create(), null);
+    }
+
+    /**
+     * @param compactFooter Compact footer flag.
+     * @param metaHnd Metadata handler.
+     * @param cls Class to name {@link #TYPE_NAME} or {@code null} to keep class names.
+     * @return Binary marshaller.
+     * @throws Exception If failed.
+     */
+    private BinaryMarshaller marshaller(boolean compactFooter, BinaryMetadataHandler metaHnd, @Nullable Class<?> cls)
+        throws Exception {
+        IgniteConfiguration iCfg = new IgniteConfiguration();
+
+        BinaryConfiguration bCfg = new BinaryConfiguration().setCompactFooter(compactFooter);
+
+        if (cls != null)
+            bCfg.setNameMapper(new SameTypeNameMapper(cls.getName()));
+
+        iCfg.setBinaryConfiguration(bCfg);
+
+        BinaryContext ctx = new BinaryContext(metaHnd, iCfg, new NullLogger());
+
+        BinaryMarshaller marsh = new BinaryMarshaller();
+
+        marsh.setContext(new MarshallerContextTestImpl(null) {
+            @Override public boolean registerClassName(byte platformId, int typeId, String clsName,
+                boolean failIfUnregistered) throws IgniteCheckedException {
+                // Both value classes have the same type ID, but are never resolved by it in this test.
+                return cls != null && cls.getName().equals(clsName) ||
+                    super.registerClassName(platformId, typeId, clsName, failIfUnregistered);
+            }
+        });
+
+        IgniteUtils.invoke(BinaryMarshaller.class, marsh, "setBinaryContext", ctx, iCfg);
+
+        return marsh;
+    }
+
+    /**
+     * Type IDs differ unless classes are mapped to the same type name, everything else must match.
+     *
+     * @param bytes Marshalled object.
+     * @return Same bytes with zeroed type ID.
+     */
+    private static byte[] withoutTypeId(byte[] bytes) {
+        byte[] res = bytes.clone();
+
+        Arrays.fill(res, GridBinaryMarshaller.TYPE_ID_POS, GridBinaryMarshaller.HASH_CODE_POS, (byte)0);
+
+        return res;
+    }
+
+    /**
+     * @param bytes Bytes.
+     * @return String representation for assertion messages.
+     */
+    private static String toString(byte[] bytes) {
+        return Arrays.toString(bytes);
+    }
+
+    /**
+     * Plain POJO serialized through field accessors.
+     */
+    private static class ReflectiveValue {
+        /** */
+        private int id;
+
+        /** */
+        private long ts;
+
+        /** */
+        private String name;
+
+        /** */
+        private UUID uid;
+
+        /** */
+        private Integer boxed;
+
+        /** */
+        private byte[] data;
+
+        /** */
+        private List<String> tags;
+
+        /** */
+        private double ratio;
+
+        /** */
+        private Date created;
+
+        /** */
+        private State state;
+
+        /** */
+        private HashMap<String, Integer> attrs;
+
+        /** */
+        private transient int skipped;
+    }
+
+    /**
+     * Same fields as {@link ReflectiveValue} with generated serialization code.
+     */
+    private static class GeneratedValue implements Binarylizable {
+        /** */
+        private int id;
+
+        /** */
+        private long ts;
+
+        /** */
+        private String name;
+
+        /** */
+        private UUID uid;
+
+        /** */
+        private Integer boxed;
+
+        /** */
+        private byte[] data;
+
+        /** */
+        private List<String> tags;
+
+        /** */
+        private double ratio;
+
+        /** */
+        private Date created;
+
+        /** */
+        private State state;
+
+        /** */
+        private HashMap<String, Integer> attrs;
+
+        /** */
+        private transient int skipped;
+
+        /** {@inheritDoc} */
+        @Override public void writeBinary(BinaryWriter writer) throws BinaryObjectException {
+            writer.writeInt("id", id);
+            writer.writeLong("ts", ts);
+            writer.writeString("name", name);
+            writer.writeUuid("uid", uid);
+            ((BinaryWriterEx)writer).writeIntNullable("boxed", boxed);
+            writer.writeByteArray("data", data);
+            writer.writeObject("tags", tags);
+            writer.writeDouble("ratio", ratio);
+            writer.writeDate("created", created);
+            writer.writeEnum("state", state);
+            writer.writeMap("attrs", attrs);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void readBinary(BinaryReader reader) throws BinaryObjectException {
+            id = reader.readInt("id");
+            ts = reader.readLong("ts");
+            name = reader.readString("name");
+            uid = reader.readUuid("uid");
+            boxed = ((BinaryReaderEx)reader).readIntNullable("boxed");
+            data = reader.readByteArray("data");
+            tags = reader.readObject("tags");
+            ratio = reader.readDouble("ratio");
+            created = reader.readDate("created");
+            state = reader.readEnum("state");
+            attrs = (HashMap)reader.readMap("attrs");
+        }
+    }
+
+    /** */
+    private enum State {
+        /** */
+        ACTIVE,
+
+        /** */
+        INACTIVE
+    }
+
+    /**
+     * Maps one class to {@link #TYPE_NAME}.
+     */
+    private static class SameTypeNameMapper implements BinaryNameMapper {
+        /** */
+        private final BinaryNameMapper dflt = new BinaryBasicNameMapper();
+
+        /** */
+        private final String clsName;
+
+        /**
+         * @param clsName Class name.
+         */
+        SameTypeNameMapper(String clsName) {
+            this.clsName = clsName;
+        }
+
+        /** {@inheritDoc} */
+        @Override public String typeName(String clsName) {
+            return this.clsName.equals(clsName) ? TYPE_NAME : dflt.typeName(clsName);
+        }
+
+        /** {@inheritDoc} */
+        @Override public String fieldName(String fieldName) {
+            return dflt.fieldName(fieldName);
+        }
+    }
+}
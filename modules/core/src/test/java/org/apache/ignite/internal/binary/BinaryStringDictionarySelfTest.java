@@ -0,0 +1,264 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.binary;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.binary.BinaryObjectBuilder;
+import org.apache.ignite.configuration.BinaryConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.binary.builder.BinaryObjectBuilderImpl;
+import org.apache.ignite.internal.processors.cache.binary.CacheObjectBinaryProcessorImpl;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.logger.NullLogger;
+import org.apache.ignite.marshaller.MarshallerContextTestImpl;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_BINARY_STRING_DICTIONARY_FIELD_CARDINALITY;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_BINARY_STRING_DICTIONARY_SIZE;
+
+/**
+ * Checks dictionary encoding of string fields.
+ */
+@WithSystemProperty(key = IGNITE_BINARY_STRING_DICTIONARY_SIZE, value = "16")
+@WithSystemProperty(key = IGNITE_BINARY_STRING_DICTIONARY_FIELD_CARDINALITY, value = "4")
+public class BinaryStringDictionarySelfTest extends GridCommonAbstractTest {
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testEncodeDecode() throws Exception {
+        BinaryMarshaller marsh = marshaller();
+
+        BinaryContext ctx = marsh.binaryMarshaller().context();
+
+        BinaryStringDictionary dict = ctx.stringDictionary();
+
+        dict.onValueReady(0, "USD");
+        dict.onValueReady(1, "ACTIVE");
+
+        Value val = new Value("USD", "ACTIVE", "comment");
+
+        byte[] plain = marsh.binaryMarshaller().marshal(val, false);
+        byte[] encoded = marsh.binaryMarshaller().marshal(val, false, dict);
+
+        assertEquals(plain.length - ("USD".length() + 4) - ("ACTIVE".length() + 4) + 2, encoded.length);
+
+        BinaryObjectImpl bin = new BinaryObjectImpl(ctx, encoded, 0);
+
+        assertEquals("USD", bin.field("currency"));
+        assertEquals("ACTIVE", bin.field("status"));
+        assertEquals("comment", bin.field("comment"));
+
+        assertEquals(val, bin.deserialize());
+        assertEquals(val, marsh.unmarshal(encoded, null));
+
+        ByteBuffer buf = ByteBuffer.allocate(32);
+
+        BinaryFieldImpl field = (BinaryFieldImpl)bin.type().field("status");
+
+        assertTrue(field.writeField(bin, buf));
+
+        buf.flip();
+
+        assertEquals("ACTIVE", field.readField(buf));
+
+        BinaryObjectImpl plainBin = new BinaryObjectImpl(ctx, plain, 0);
+
+        assertFalse(plainBin.equals(bin));
+        assertTrue(BinaryStringDictionary.equalsDecoded(plainBin, bin));
+        assertFalse(BinaryStringDictionary.equalsDecoded(plainBin,
+            new BinaryObjectImpl(ctx, marsh.binaryMarshaller().marshal(new Value("USD", "CLOSED", "comment"),
+                false, dict), 0)));
+
+        BinaryObjectBuilder builder = BinaryObjectBuilderImpl.wrap(bin);
+
+        assertEquals("USD", builder.getField("currency"));
+
+        BinaryObject res = builder.setField("comment", "other").build();
+
+        assertEquals("USD", res.field("currency"));
+        assertEquals("ACTIVE", res.field("status"));
+        assertEquals(new Value("USD", "ACTIVE", "other"), res.deserialize());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCandidates() throws Exception {
+        BinaryStringDictionary dict = marshaller().binaryMarshaller().context().stringDictionary();
+
+        List<String> registered = new ArrayList<>();
+
+        dict.registrar(registered::add);
+
+        assertEquals(-1, dict.id(1, "USD"));
+        assertTrue(registered.isEmpty());
+
+        assertEquals(-1, dict.id(1, "USD"));
+        assertEquals(-1, dict.id(1, "USD"));
+        assertEquals(F.asList("USD"), registered);
+
+        dict.onValueAdded(0, "USD");
+
+        assertEquals(-1, dict.id(1, "USD"));
+        assertEquals(1, dict.nextId());
+
+        dict.onValueReady(0, "USD");
+
+        assertEquals(0, dict.id(1, "USD"));
+        assertEquals(0, dict.id(2, "USD"));
+
+        // High cardinality field.
+        for (int i = 0; i < 5; i++)
+            dict.id(2, "val" + i);
+
+        dict.id(2, "val0");
+
+        assertEquals(F.asList("USD"), registered);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCache() throws Exception {
+        IgniteEx ignite = startGrids(2);
+
+        IgniteCache<Integer, Value> cache = ignite.getOrCreateCache(DEFAULT_CACHE_NAME);
+
+        cache.put(0, new Value("USD", "ACTIVE", "first"));
+        cache.put(1, new Value("USD", "ACTIVE", "second"));
+
+        for (int i = 0; i < 2; i++) {
+            BinaryStringDictionary dict = dictionary(grid(i));
+
+            assertTrue(GridTestUtils.waitForCondition(() -> dict.size() == 2, 10_000));
+        }
+
+        BinaryStringDictionary dict = dictionary(ignite);
+
+        assertTrue(GridTestUtils.waitForCondition(() -> dict.id(0, "USD") >= 0 && dict.id(0, "ACTIVE") >= 0,
+            10_000));
+
+        cache.put(2, new Value("USD", "ACTIVE", "third"));
+
+        for (int i = 0; i < 2; i++) {
+            IgniteCache<Integer, BinaryObject> binCache = grid(i).cache(DEFAULT_CACHE_NAME).withKeepBinary();
+
+            BinaryObjectImpl first = (BinaryObjectImpl)binCache.get(0);
+            BinaryObjectImpl third = (BinaryObjectImpl)binCache.get(2);
+
+            assertEquals("USD", third.field("currency"));
+            assertTrue(third.length() < first.length());
+
+            assertEquals(new Value("USD", "ACTIVE", "third"), grid(i).cache(DEFAULT_CACHE_NAME).get(2));
+        }
+
+        // Stored value is written without the dictionary.
+        assertTrue(cache.replace(0, new Value("USD", "ACTIVE", "first"), new Value("USD", "CLOSED", "first")));
+        assertFalse(cache.replace(0, new Value("USD", "ACTIVE", "first"), new Value("USD", "ACTIVE", "first")));
+    }
+
+    /**
+     * @param ignite Node.
+     * @return String dictionary of the node.
+     */
+    private static BinaryStringDictionary dictionary(IgniteEx ignite) {
+        return ((CacheObjectBinaryProcessorImpl)ignite.context().cacheObjects()).binaryContext().stringDictionary();
+    }
+
+    /**
+     * @return Binary marshaller.
+     * @throws Exception If failed.
+     */
+    private BinaryMarshaller marshaller() throws Exception {
+        BinaryContext ctx = new BinaryContext(BinaryCachingMetadataHandler.create(), new IgniteConfiguration(),
+            new NullLogger());
+
+        BinaryMarshaller marsh = new BinaryMarshaller();
+
+        IgniteConfiguration iCfg = new IgniteConfiguration();
+
+        iCfg.setBinaryConfiguration(new BinaryConfiguration().setCompactFooter(false));
+
+        marsh.setContext(new MarshallerContextTestImpl(null));
+
+        IgniteUtils.invoke(BinaryMarshaller.class, marsh, "setBinaryContext", ctx, iCfg);
+
+        return marsh;
+    }
+
+    /**
+     * Value with low cardinality string fields.
+     */
+    private static class Value {
+        /** */
+        private String currency;
+
+        /** */
+        private String status;
+
+        /** */
+        private String comment;
+
+        /**
+         * @param currency Currency.
+         * @param status Status.
+         * @param comment Comment.
+         */
+        Value(String currency, String status, String comment) {
+            this.currency = currency;
+            this.status = status;
+            this.comment = comment;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean equals(Object o) {
+            if (this == o)
+                return true;
+
+            if (o == null || getClass() != o.getClass())
+                return false;
+
+            Value val = (Value)o;
+
+            return F.eq(currency, val.currency) && F.eq(status, val.status) && F.eq(comment, val.comment);
+        }
+
+        /** {@inheritDoc} */
+        @Override public int hashCode() {
+            return currency.hashCode();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.binary;
+
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.configuration.BinaryConfiguration;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.spi.IgniteSpiException;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Checks that keys built with the binary object builder and serialized from class instances match when int and long
+ * fields use variable length encoding, and that nodes with different encodings can't join the same cluster.
+ */
+public class BinaryVarintFieldsCacheTest extends GridCommonAbstractTest {
+    /** */
+    private static final int KEYS_CNT = 100;
+
+    /** Whether nodes to start write int and long fields with variable length encoding. */
+    private boolean varintFields;
+
+    /** */
+    private boolean client;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setClientMode(client)
+            .setMarshaller(new BinaryMarshaller())
+            .setBinaryConfiguration(new BinaryConfiguration().setVarintFields(varintFields))
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME).setBackups(1));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        client = false;
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBuilderPutClassGetVarint() throws Exception {
+        checkBuilderPutClassGet(true);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBuilderPutClassGetFixed() throws Exception {
+        checkBuilderPutClassGet(false);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testClassPutBuilderGetVarint() throws Exception {
+        checkClassPutBuilderGet(true);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testClassPutBuilderGetFixed() throws Exception {
+        checkClassPutBuilderGet(false);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testServerWithDifferentEncodingRejected() throws Exception {
+        varintFields = false;
+
+        startGrid(0);
+
+        varintFields = true;
+
+        GridTestUtils.assertThrowsAnyCause(log, () -> startGrid(1), IgniteSpiException.class,
+            "varintFields");
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testClientWithDifferentEncodingRejected() throws Exception {
+        varintFields = true;
+
+        startGrid(0);
+
+        varintFields = false;
+
+        client = true;
+
+        GridTestUtils.assertThrowsAnyCause(log, () -> startGrid(1), IgniteSpiException.class,
+            "varintFields");
+    }
+
+    /**
+     * @param varint Whether int and long fields use variable length encoding.
+     * @throws Exception If failed.
+     */
+    private void checkBuilderPutClassGet(boolean varint) throws Exception {
+        varintFields = varint;
+
+        IgniteEx ignite = startGrids(2);
+
+        IgniteCache<Object, Object> cache = ignite.cache(DEFAULT_CACHE_NAME).withKeepBinary();
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            cache.put(builderKey(ignite, i), i);
+
+        IgniteCache<Key, Integer> cache0 = grid(1).cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            assertEquals((Integer)i, cache0.get(key(i)));
+
+        assertEquals(KEYS_CNT, cache0.size());
+    }
+
+    /**
+     * @param varint Whether int and long fields use variable length encoding.
+     * @throws Exception If failed.
+     */
+    private void checkClassPutBuilderGet(boolean varint) throws Exception {
+        varintFields = varint;
+
+        IgniteEx ignite = startGrids(2);
+
+        IgniteCache<Key, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            cache.put(key(i), i);
+
+        IgniteCache<Object, Object> cache0 = grid(1).cache(DEFAULT_CACHE_NAME).withKeepBinary();
+
+        for (int i = 0; i < KEYS_CNT; i++) {
+            BinaryObject key = builderKey(grid(1), i);
+
+            assertEquals(ignite.binary().toBinary(key(i)), key);
+
+            assertEquals(i, cache0.get(key));
+        }
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            cache0.put(builderKey(grid(1), i), -i);
+
+        assertEquals(KEYS_CNT, cache.size());
+    }
+
+    /**
+     * @param i Index.
+     * @return Key.
+     */
+    private static Key key(int i) {
+        return new Key(i, i * 1000L - 7, i % 2 == 0 ? null : i);
+    }
+
+    /**
+     * @param ignite Node.
+     * @param i Index.
+     * @return Same key as {@link #key(int)} built with the binary object builder.
+     */
+    private static BinaryObject builderKey(IgniteEx ignite, int i) {
+        return ignite.binary().builder(Key.class.getName())
+            .setField("id", i)
+            .setField("ver", i * 1000L - 7)
+            .setField("boxed", i % 2 == 0 ? null : i, Integer.class)
+            .build();
+    }
+
+    /**
+     * Key with int and long fields.
+     */
+    private static class Key {
+        /** */
+        private final int id;
+
+        /** */
+        private final long ver;
+
+        /** */
+        private final Integer boxed;
+
+        /**
+         * @param id ID.
+         * @param ver Version.
+         * @param boxed Boxed value.
+         */
+        Key(int id, long ver, Integer boxed) {
+            this.id = id;
+            this.ver = ver;
+            this.boxed = boxed;
+        }
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.binary;
+
+import java.nio.ByteBuffer;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.binary.BinaryObjectBuilder;
+import org.apache.ignite.binary.BinaryObjectException;
+import org.apache.ignite.binary.BinaryReader;
+import org.apache.ignite.binary.BinaryWriter;
+import org.apache.ignite.binary.Binarylizable;
+import org.apache.ignite.configuration.BinaryConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.binary.builder.BinaryObjectBuilderImpl;
+import org.apache.ignite.internal.binary.streams.BinaryHeapInputStream;
+import org.apache.ignite.internal.binary.streams.BinaryHeapOutputStream;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.logger.NullLogger;
+import org.apache.ignite.marshaller.MarshallerContextTestImpl;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Checks variable length encoding of int and long fields.
+ */
+public class BinaryVarintFieldsSelfTest extends GridCommonAbstractTest {
+    /** */
+    private static final long[] VALS = {
+        0, 1, -1, 63, -64, 64, -65, 127, 128, 8191, 8192, Integer.MAX_VALUE, Integer.MIN_VALUE,
+        Long.MAX_VALUE, Long.MIN_VALUE, 1L << 35, -(1L << 56)
+    };
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testEncoding() throws Exception {
+        for (long val : VALS) {
+            BinaryHeapOutputStream out = new BinaryHeapOutputStream(16);
+
+            out.unsafeEnsure(BinaryUtils.VARLONG_MAX_LEN);
+
+            BinaryUtils.unsafeWriteVarLong(out, val);
+
+            byte[] arr = out.arrayCopy();
+
+            assertEquals(arr.length, BinaryUtils.varLongLength(arr, 0));
+            assertTrue(arr.length <= BinaryUtils.VARLONG_MAX_LEN);
+
+            assertEquals(val, BinaryUtils.readVarLong(arr, 0));
+            assertEquals(val, BinaryUtils.readVarLong(ByteBuffer.wrap(arr)));
+            assertEquals(val, BinaryUtils.doReadVarLong(BinaryHeapInputStream.create(arr, 0)));
+        }
+
+        assertEquals(1, encodedLength(-64));
+        assertEquals(2, encodedLength(64));
+        assertEquals(5, encodedLength(Integer.MIN_VALUE));
+        assertEquals(10, encodedLength(Long.MIN_VALUE));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSmallerObject() throws Exception {
+        BinaryMarshaller marsh = marshaller();
+
+        byte[] fixed = marsh.marshal(new FixedValue(1, 2L, 3));
+        byte[] var = marsh.marshal(new VarValue(1, 2L, 3));
+
+        assertEquals(fixed.length - 3 - 7 - 3, var.length);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReadFields() throws Exception {
+        BinaryMarshaller marsh = marshaller();
+
+        BinaryContext ctx = marsh.binaryMarshaller().context();
+
+        for (long val : VALS) {
+            VarValue obj = new VarValue((int)val, val, (int)val);
+
+            byte[] bytes = marsh.marshal(obj);
+
+            // Same fields read by a class that writes them with fixed length encoding.
+            FixedValue fixed = marsh.unmarshal(retype(marsh, bytes), null);
+
+            assertEquals((int)val, fixed.i);
+            assertEquals(val, fixed.l);
+            assertEquals((Integer)(int)val, fixed.boxed);
+
+            VarValue res = marsh.unmarshal(bytes, null);
+
+            assertEquals((int)val, res.i);
+            assertEquals(val, res.l);
+            assertEquals((int)val, res.other);
+
+            BinaryObjectImpl bin = new BinaryObjectImpl(ctx, bytes, 0);
+
+            assertEquals((Integer)(int)val, bin.field("i"));
+            assertEquals((Long)val, bin.field("l"));
+
+            ByteBuffer buf = ByteBuffer.allocate(32);
+
+            BinaryFieldImpl field = (BinaryFieldImpl)bin.type().field("l");
+
+            assertTrue(field.writeField(bin, buf));
+
+            buf.flip();
+
+            assertEquals((Long)val, field.readField(buf));
+
+            BinaryObject same = new BinaryObjectImpl(ctx, marsh.marshal(new VarValue((int)val, val, (int)val)), 0);
+
+            assertEquals(bin, same);
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBuilder() throws Exception {
+        BinaryMarshaller marsh = marshaller();
+
+        BinaryContext ctx = marsh.binaryMarshaller().context();
+
+        BinaryObjectImpl bin = new BinaryObjectImpl(ctx, marsh.marshal(new VarValue(-5, 1L << 40, 7)), 0);
+
+        BinaryObjectBuilder builder = BinaryObjectBuilderImpl.wrap(bin);
+
+        assertEquals((Integer)(-5), builder.getField("i"));
+
+        BinaryObject res = builder.setField("other", 8).build();
+
+        assertEquals((Integer)(-5), res.field("i"));
+        assertEquals((Long)(1L << 40), res.field("l"));
+        assertEquals((Integer)8, res.field("other"));
+
+        VarValue val = res.deserialize();
+
+        assertEquals(-5, val.i);
+        assertEquals(1L << 40, val.l);
+        assertEquals(8, val.other);
+    }
+
+    /**
+     * @param val Value.
+     * @return Encoded length.
+     */
+    private static int encodedLength(long val) {
+        BinaryHeapOutputStream out = new BinaryHeapOutputStream(16);
+
+        out.unsafeEnsure(BinaryUtils.VARLONG_MAX_LEN);
+
+        BinaryUtils.unsafeWriteVarLong(out, val);
+
+        return out.position();
+    }
+
+    /**
+     * @param marsh Marshaller.
+     * @param bytes Marshalled object.
+     * @return Same object with type ID of {@link FixedValue}.
+     * @throws Exception If failed.
+     */
+    private static byte[] retype(BinaryMarshaller marsh, byte[] bytes) throws Exception {
+        byte[] res = bytes.clone();
+
+        // Registers the type.
+        int typeId = BinaryPrimitives.readInt(marsh.marshal(new FixedValue(0, 0, 0)), GridBinaryMarshaller.TYPE_ID_POS);
+
+        BinaryPrimitives.writeInt(res, GridBinaryMarshaller.TYPE_ID_POS, typeId);
+
+        return res;
+    }
+
+    /**
+     * @return Binary marshaller.
+     * @throws Exception If failed.
+     */
+    private BinaryMarshaller marshaller() throws Exception {
+        BinaryContext ctx = new BinaryContext(BinaryCachingMetadataHandler.create(), new IgniteConfiguration(),
+            new NullLogger());
+
+        BinaryMarshaller marsh = new BinaryMarshaller();
+
+        IgniteConfiguration iCfg = new IgniteConfiguration();
+
+        iCfg.setBinaryConfiguration(new BinaryConfiguration().setCompactFooter(false));
+
+        marsh.setContext(new MarshallerContextTestImpl(null));
+
+        IgniteUtils.invoke(BinaryMarshaller.class, marsh, "setBinaryContext", ctx, iCfg);
+
+        return marsh;
+    }
+
+    /**
+     * Value with fields written in fixed length encoding.
+     */
+    private static class FixedValue implements Binarylizable {
+        /** */
+        private int i;
+
+        /** */
+        private long l;
+
+        /** */
+        private Integer boxed;
+
+        /**
+         * @param i Int value.
+         * @param l Long value.
+         * @param boxed Boxed value.
+         */
+        FixedValue(int i, long l, Integer boxed) {
+            this.i = i;
+            this.l = l;
+            this.boxed = boxed;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void writeBinary(BinaryWriter writer) throws BinaryObjectException {
+            if (!(writer instanceof BinaryWriterExImpl)) {
+                writer.writeInt("i", i);
+                writer.writeLong("l", l);
+                writer.writeInt("other", boxed);
+
+                return;
+            }
+
+            BinaryWriterExImpl w = (BinaryWriterExImpl)writer;
+
+            w.writeFieldId(fieldId(w.context(), "i"));
+            w.writeIntFieldPrimitive(i);
+
+            w.writeFieldId(fieldId(w.context(), "l"));
+            w.writeLongFieldPrimitive(l);
+
+            w.writeFieldId(fieldId(w.context(), "other"));
+            w.writeIntFieldPrimitive(boxed);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void readBinary(BinaryReader reader) throws BinaryObjectException {
+            BinaryReaderExImpl r = (BinaryReaderExImpl)reader;
+
+            i = reader.readInt("i");
+            l = reader.readLong("l");
+            boxed = r.readIntNullable(fieldId(r.context(), "other"));
+        }
+
+        /**
+         * @param ctx Binary context.
+         * @param name Field name.
+         * @return Field ID.
+         */
+        private static int fieldId(BinaryContext ctx, String name) {
+            return ctx.fieldId(ctx.typeId(FixedValue.class.getName()), name);
+        }
+    }
+
+    /**
+     * Value with fields written in variable length encoding.
+     */
+    private static class VarValue implements Binarylizable {
+        /** */
+        private int i;
+
+        /** */
+        private long l;
+
+        /** */
+        private int other;
+
+        /**
+         * @param i Int value.
+         * @param l Long value.
+         * @param other Other value.
+         */
+        VarValue(int i, long l, int other) {
+            this.i = i;
+            this.l = l;
+            this.other = other;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void writeBinary(BinaryWriter writer) throws BinaryObjectException {
+            // Metadata collector only needs field types.
+            if (!(writer instanceof BinaryWriterExImpl)) {
+                writer.writeInt("i", i);
+                writer.writeLong("l", l);
+                writer.writeInt("other", other);
+
+                return;
+            }
+
+            BinaryWriterExImpl w = (BinaryWriterExImpl)writer;
+
+            w.writeVarInt("i", i);
+            w.writeVarLong("l", l);
+            w.writeVarInt("other", other);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void readBinary(BinaryReader reader) throws BinaryObjectException {
+            i = reader.readInt("i");
+            l = reader.readLong("l");
+            other = reader.readInt("other");
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.managers.communication;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetric;
+import org.apache.ignite.internal.util.UUIDCollectionMessage;
+import org.apache.ignite.spi.metric.Metric;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_IO_TIMING_METRICS_SAMPLE_RATE;
+import static org.apache.ignite.internal.managers.communication.GridIoManager.COMM_METRICS;
+import static org.apache.ignite.internal.managers.communication.GridIoPolicy.SYSTEM_POOL;
+import static org.apache.ignite.internal.managers.communication.GridIoTimingMetrics.POOL_WAIT_TIME;
+import static org.apache.ignite.internal.managers.communication.GridIoTimingMetrics.PROCESSING_TIME;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+import static org.apache.ignite.internal.util.nio.GridNioServer.OUTBOUND_MESSAGES_QUEUE_WAIT_TIME_METRIC_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMMUNICATION_METRICS_GROUP_NAME;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Tests for {@link GridIoTimingMetrics}.
+ */
+public class GridIoTimingMetricsTest extends GridCommonAbstractTest {
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testHistograms() throws Exception {
+        MetricRegistry mreg = new MetricRegistry("io", "io", log);
+
+        GridIoTimingMetrics metrics = new GridIoTimingMetrics(mreg, 1);
+
+        for (int i = 0; i < 10; i++) {
+            long ts = metrics.sample();
+
+            assertTrue(ts != 0);
+
+            long procTs = metrics.onPoolDequeued(SYSTEM_POOL, ts);
+
+            assertTrue(procTs != 0);
+
+            metrics.onProcessed((short)42, procTs);
+        }
+
+        assertEquals(10, count(mreg.findMetric(metricName(POOL_WAIT_TIME, String.valueOf(SYSTEM_POOL)))));
+        assertEquals(10, count(mreg.findMetric(metricName(PROCESSING_TIME, "42"))));
+
+        // Not sampled messages are ignored.
+        metrics.onProcessed((short)42, metrics.onPoolDequeued(SYSTEM_POOL, 0));
+
+        assertEquals(10, count(mreg.findMetric(metricName(PROCESSING_TIME, "42"))));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testDisabled() throws Exception {
+        MetricRegistry mreg = new MetricRegistry("io", "io", log);
+
+        GridIoTimingMetrics metrics = new GridIoTimingMetrics(mreg, 0);
+
+        assertEquals(0, metrics.sample());
+
+        metrics.onProcessed((short)42, metrics.onPoolDequeued(SYSTEM_POOL, metrics.sample()));
+
+        assertFalse(mreg.iterator().hasNext());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testMetricsCollectedOnCacheOperations() throws Exception {
+        IgniteEx ignite = startGrids(2);
+
+        IgniteCache<Integer, Integer> cache = ignite.getOrCreateCache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < 5_000; i++)
+            cache.put(i, i);
+
+        long poolWait = 0;
+        long processing = 0;
+        long queueWait = 0;
+
+        for (int i = 0; i < 2; i++) {
+            queueWait += count(grid(i).context().metric().registry(COMMUNICATION_METRICS_GROUP_NAME)
+                .findMetric(OUTBOUND_MESSAGES_QUEUE_WAIT_TIME_METRIC_NAME));
+
+            for (Metric m : grid(i).context().metric().registry(COMM_METRICS)) {
+                String name = m.name().substring(COMM_METRICS.length() + 1);
+
+                if (name.startsWith(POOL_WAIT_TIME))
+                    poolWait += count((HistogramMetric)m);
+                else if (name.startsWith(PROCESSING_TIME))
+                    processing += count((HistogramMetric)m);
+            }
+        }
+
+        assertTrue(poolWait > 0);
+        assertTrue(processing > 0);
+        assertTrue(queueWait > 0);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_IO_TIMING_METRICS_SAMPLE_RATE, value = "1")
+    public void testOrderedMessages() throws Exception {
+        IgniteEx ignite = startGrids(2);
+
+        int cnt = 100;
+
+        CountDownLatch latch = new CountDownLatch(cnt);
+
+        grid(1).context().io().addMessageListener("topic", (nodeId, msg, plc) -> latch.countDown());
+
+        for (int i = 0; i < cnt; i++) {
+            ignite.context().io().sendOrderedMessage(grid(1).localNode(), "topic",
+                UUIDCollectionMessage.of(UUID.randomUUID()), SYSTEM_POOL, getTestTimeout(), false);
+        }
+
+        assertTrue(latch.await(getTestTimeout(), TimeUnit.MILLISECONDS));
+
+        MetricRegistry mreg = grid(1).context().metric().registry(COMM_METRICS);
+
+        String name = metricName(PROCESSING_TIME, String.valueOf(new UUIDCollectionMessage().directType()));
+
+        // Processing of a message set ends after the listener is notified.
+        assertTrue(waitForCondition(() -> {
+            HistogramMetric hist = mreg.findMetric(name);
+
+            return hist != null && count(hist) > 0;
+        }, getTestTimeout()));
+    }
+
+    /**
+     * @param hist Histogram.
+     * @return Total number of measurements.
+     */
+    private static long count(HistogramMetric hist) {
+        assertNotNull(hist);
+
+        return Arrays.stream(hist.value()).sum();
+    }
+}
@@ -18,24 +18,31 @@ package org.apache.ignite.internal.processors.cache;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.cache.Cache;
 import javax.cache.configuration.Factory;
 import javax.cache.integration.CacheLoaderException;
 import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.cache.store.CacheStoreAdapter;
 import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.lang.IgniteFuture;
+import org.apache.ignite.lang.IgniteInClosure;
 import org.apache.ignite.lang.IgniteRunnable;
 import org.apache.ignite.resources.IgniteInstanceResource;
 import org.apache.ignite.testframework.GridTestUtils;
 import org.apache.ignite.testframework.MvccFeatureChecker;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_STORE_LOAD_BATCH_WINDOW;
+
 /**
  * Test was added to check fix for IGNITE-4465.
  */
@@ -139,6 +146,36 @@ public class CacheConcurrentReadThroughTest extends GridCommonAbstractTest {
         }
     }
 
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_CACHE_STORE_LOAD_BATCH_WINDOW, value = "500")
+    public void testConcurrentReadThroughBatched() throws Exception {
+        Ignite ignite = startGrid(0);
+
+        CacheConfiguration<Integer, Integer> ccfg = new CacheConfiguration<>(DEFAULT_CACHE_NAME);
+
+        ccfg.setReadThrough(true);
+        ccfg.setCacheStoreFactory(new TestStoreFactory());
+
+        IgniteCache<Integer, Integer> cache = ignite.createCache(ccfg);
+
+        TestCacheStore.loadCnt.set(0);
+        TestCacheStore.loadAllCnt.set(0);
+
+        GridTestUtils.runMultiThreaded(new IgniteInClosure<Integer>() {
+            @Override public void apply(Integer idx) {
+                for (int key = idx; key < SYS_THREADS * 4; key += SYS_THREADS)
+                    assertEquals((Integer)key, cache.get(key));
+            }
+        }, SYS_THREADS, "get");
+
+        assertEquals(0, TestCacheStore.loadCnt.get());
+        assertTrue("Unexpected loadAll calls: " + TestCacheStore.loadAllCnt.get(),
+            TestCacheStore.loadAllCnt.get() < SYS_THREADS * 4);
+    }
+
     /**
      *
      */
@@ -156,6 +193,9 @@ public class CacheConcurrentReadThroughTest extends GridCommonAbstractTest {
         /** */
         private static final AtomicInteger loadCnt = new AtomicInteger();
 
+        /** */
+        private static final AtomicInteger loadAllCnt = new AtomicInteger();
+
         /** {@inheritDoc} */
         @Override public Integer load(Integer key) throws CacheLoaderException {
             loadCnt.incrementAndGet();
@@ -170,6 +210,18 @@ public class CacheConcurrentReadThroughTest extends GridCommonAbstractTest {
             return key;
         }
 
+        /** {@inheritDoc} */
+        @Override public Map<Integer, Integer> loadAll(Iterable<? extends Integer> keys) {
+            loadAllCnt.incrementAndGet();
+
+            Map<Integer, Integer> res = new HashMap<>();
+
+            for (Integer key : keys)
+                res.put(key, key);
+
+            return res;
+        }
+
         /** {@inheritDoc} */
         @Override public void write(Cache.Entry<? extends Integer, ? extends Integer> entry) {
             throw new UnsupportedOperationException();
@@ -1458,6 +1458,30 @@ public abstract class GridCacheAbstractMetricsSelfTest extends GridCacheAbstract
         assertEquals(1, Arrays.stream(m.value()).filter(v -> v == 1).count());
     }
 
+    /** */
+    @Test
+    public void testInvokeTime() {
+        IgniteCache<Integer, Integer> cache = grid(0).cache(DEFAULT_CACHE_NAME);
+
+        HistogramMetric m = metric("InvokeTime");
+
+        assertTrue(Arrays.stream(m.value()).allMatch(v -> v == 0));
+
+        cache.put(1, 1);
+
+        assertTrue(Arrays.stream(m.value()).allMatch(v -> v == 0));
+
+        cache.invoke(1, new CacheEntryProcessor<Integer, Integer, Object>() {
+            @Override public Object process(MutableEntry<Integer, Integer> entry, Object... arguments) {
+                entry.setValue(entry.getValue() + 1);
+
+                return null;
+            }
+        });
+
+        assertEquals(1, Arrays.stream(m.value()).filter(v -> v == 1).count());
+    }
+
     /**
      * @param name Metric name to find.
      * @return Metric.
@@ -17,13 +17,16 @@
 package org.apache.ignite.internal.processors.cache.distributed.dht;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import javax.cache.processor.EntryProcessor;
 import javax.cache.processor.MutableEntry;
 import org.apache.ignite.Ignite;
@@ -34,8 +37,11 @@ import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.configuration.NearCacheConfiguration;
 import org.apache.ignite.internal.IgniteKernal;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
 import org.apache.ignite.internal.processors.cache.GridCacheAdapter;
 import org.apache.ignite.internal.processors.cache.GridCacheEntryEx;
+import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicNearEvictedMessage;
+import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicUpdateResponse;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearCacheAdapter;
 import org.apache.ignite.internal.util.lang.GridAbsPredicate;
 import org.apache.ignite.internal.util.typedef.G;
@@ -89,6 +95,8 @@ public class GridCacheAtomicNearCacheSelfTest extends GridCommonAbstractTest {
 
         cfg.setCacheConfiguration(ccfg);
 
+        cfg.setCommunicationSpi(new TestRecordingCommunicationSpi());
+
         return cfg;
     }
 
@@ -117,6 +125,61 @@ public class GridCacheAtomicNearCacheSelfTest extends GridCommonAbstractTest {
         checkNearCache();
     }
 
+    /**
+     * Checks that keys evicted from the near cache of a reader are reported to the primary node in a batch
+     * instead of a response per update.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testNearEvictedBatch() throws Exception {
+        doStartGrids(0);
+
+        Ignite ignite0 = grid(0);
+
+        IgniteCache<Integer, Integer> cache0 = ignite0.cache(DEFAULT_CACHE_NAME);
+
+        Affinity<Integer> aff = ignite0.affinity(DEFAULT_CACHE_NAME);
+
+        Ignite primary = grid(1);
+
+        // Keys of a single partition are updated in a single stripe, so they share a batch.
+        int part = aff.partition(key(primary, PRIMARY));
+
+        List<Integer> keys = new ArrayList<>();
+
+        for (int i = 0; keys.size() < 10; i++) {
+            if (aff.partition(i) == part)
+                keys.add(i);
+        }
+
+        for (Integer key : keys)
+            cache0.put(key, 1); // Put should create near entry on grid0.
+
+        cache0.localEvict(keys);
+
+        TestRecordingCommunicationSpi spi0 = TestRecordingCommunicationSpi.spi(ignite0);
+
+        spi0.record(GridDhtAtomicNearEvictedMessage.class, GridDhtAtomicUpdateResponse.class);
+
+        IgniteCache<Integer, Integer> primaryCache = primary.cache(DEFAULT_CACHE_NAME);
+
+        for (Integer key : keys)
+            primaryCache.put(key, 2); // This put should see that near entry evicted on grid0.
+
+        for (Integer key : keys)
+            checkEntry(primary, key, 2, false); // Waits for the reader removal.
+
+        List<Object> msgs = spi0.recordedMessages(true);
+
+        assertEquals(msgs.toString(), 1, msgs.size());
+
+        GridDhtAtomicNearEvictedMessage msg = (GridDhtAtomicNearEvictedMessage)msgs.get(0);
+
+        assertEquals(new HashSet<>(keys), msg.keys().stream().map(k -> (Integer)k.value(null, false))
+            .collect(Collectors.toSet()));
+    }
+
     /**
      * @throws Exception If failed.
      */
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.atomic;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.cache.Cache;
+import javax.cache.processor.MutableEntry;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.cache.CacheEntryProcessor;
+import org.apache.ignite.cache.CacheInterceptorAdapter;
+import org.apache.ignite.cache.CacheWriteSynchronizationMode;
+import org.apache.ignite.cache.query.ContinuousQuery;
+import org.apache.ignite.cache.query.QueryCursor;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_CACHE_NIO_THREAD_PROCESSING;
+import static org.apache.ignite.internal.managers.communication.GridIoManager.COMM_METRICS;
+import static org.apache.ignite.internal.managers.communication.GridIoManager.NIO_THREAD_PROCESSED_MSGS_CNT;
+
+/**
+ * Checks that single-key requests are processed in communication threads only for ATOMIC in-memory caches which
+ * don't run user code.
+ */
+@WithSystemProperty(key = IGNITE_ATOMIC_CACHE_NIO_THREAD_PROCESSING, value = "true")
+public class IgniteCacheAtomicNioThreadProcessingTest extends GridCommonAbstractTest {
+    /** */
+    private static final int SRVS = 2;
+
+    /** */
+    private static final int KEYS_CNT = 100;
+
+    /** Names of threads in which updates were processed on primary nodes, interceptor is not called on backups. */
+    private static final Collection<String> updThreads = new ConcurrentLinkedQueue<>();
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGridsMultiThreaded(SRVS);
+
+        startClientGrid(SRVS);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTestsStopped() throws Exception {
+        stopAllGrids();
+
+        super.afterTestsStopped();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        updThreads.clear();
+
+        grid(SRVS).destroyCache(DEFAULT_CACHE_NAME);
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSingleKeyOperations() throws Exception {
+        Ignite client = grid(SRVS);
+
+        IgniteCache<Integer, Integer> cache = client.createCache(cacheConfiguration());
+
+        long processed = nioThreadProcessed();
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            cache.put(i, i);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            assertEquals(i, (int)cache.get(i));
+
+        assertTrue(nioThreadProcessed() - processed >= 2 * KEYS_CNT);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            assertEquals(i, (int)grid(0).<Integer, Integer>cache(DEFAULT_CACHE_NAME).get(i));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testInterceptorProcessedInStripedPool() throws Exception {
+        Ignite client = grid(SRVS);
+
+        IgniteCache<Integer, Integer> cache = client.createCache(cacheConfiguration()
+            .setInterceptor(new ThreadRecordingInterceptor()));
+
+        long processed = nioThreadProcessed();
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            cache.put(i, i);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            assertEquals(i, (int)cache.get(i));
+
+        assertEquals(processed, nioThreadProcessed());
+
+        assertEquals(KEYS_CNT, updThreads.size());
+
+        for (String name : updThreads)
+            assertTrue(name, name.contains("sys-stripe"));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testContinuousQueryProcessedInStripedPool() throws Exception {
+        Ignite client = grid(SRVS);
+
+        IgniteCache<Integer, Integer> cache = client.createCache(cacheConfiguration());
+
+        AtomicInteger evts = new AtomicInteger();
+
+        ContinuousQuery<Integer, Integer> qry = new ContinuousQuery<>();
+
+        qry.setLocalListener(it -> it.forEach(e -> evts.incrementAndGet()));
+
+        try (QueryCursor<?> ignored = cache.query(qry)) {
+            long processed = nioThreadProcessed();
+
+            for (int i = 0; i < KEYS_CNT; i++)
+                cache.put(i, i);
+
+            assertEquals(processed, nioThreadProcessed());
+
+            assertTrue(GridTestUtils.waitForCondition(() -> evts.get() == KEYS_CNT, getTestTimeout()));
+        }
+
+        long processed = nioThreadProcessed();
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            cache.put(i, i + 1);
+
+        assertTrue(nioThreadProcessed() - processed >= KEYS_CNT);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testInvokeProcessedInStripedPool() throws Exception {
+        Ignite client = grid(SRVS);
+
+        IgniteCache<Integer, Integer> cache = client.createCache(cacheConfiguration());
+
+        long processed = nioThreadProcessed();
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            cache.invoke(i, new IncrementProcessor());
+
+        assertEquals(processed, nioThreadProcessed());
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            assertEquals(1, (int)cache.get(i));
+    }
+
+    /**
+     * @return Cache configuration.
+     */
+    private CacheConfiguration<Integer, Integer> cacheConfiguration() {
+        return new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+            .setAtomicityMode(CacheAtomicityMode.ATOMIC)
+            .setWriteSynchronizationMode(CacheWriteSynchronizationMode.FULL_SYNC)
+            .setBackups(1);
+    }
+
+    /**
+     * @return Total count of messages processed in communication threads of server nodes.
+     */
+    private long nioThreadProcessed() {
+        long cnt = 0;
+
+        for (int i = 0; i < SRVS; i++) {
+            LongAdderMetric m = grid(i).context().metric().registry(COMM_METRICS)
+                .findMetric(NIO_THREAD_PROCESSED_MSGS_CNT);
+
+            cnt += m.value();
+        }
+
+        return cnt;
+    }
+
+    /**
+     * Records names of threads in which primary updates are processed.
+     */
+    private static class ThreadRecordingInterceptor extends CacheInterceptorAdapter<Integer, Integer> {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** {@inheritDoc} */
+        @Override public Integer onBeforePut(Cache.Entry<Integer, Integer> entry, Integer newVal) {
+            updThreads.add(Thread.currentThread().getName());
+
+            return newVal;
+        }
+    }
+
+    /** */
+    private static class IncrementProcessor implements CacheEntryProcessor<Integer, Integer, Void> {
+        /** {@inheritDoc} */
+        @Override public Void process(MutableEntry<Integer, Integer> entry, Object... args) {
+            entry.setValue(entry.exists() ? entry.getValue() + 1 : 1);
+
+            return null;
+        }
+    }
+}
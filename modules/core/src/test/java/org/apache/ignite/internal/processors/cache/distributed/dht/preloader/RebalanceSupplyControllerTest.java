@@ -0,0 +1,235 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.preloader;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.spi.metric.IntMetric;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.CacheGroupMetricsImpl.CACHE_GROUP_METRICS_PREFIX;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.RebalanceSupplyController.MAX_GROWTH_FACTOR;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.RebalanceSupplyController.MAX_THROTTLE;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.RebalanceSupplyController.MIN_BATCH_SIZE;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+
+/**
+ * Tests for {@link RebalanceSupplyController}.
+ */
+public class RebalanceSupplyControllerTest extends GridCommonAbstractTest {
+    /** */
+    private static final int BATCH_SIZE = 512 * 1024;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName).setRebalanceBatchSize(BATCH_SIZE);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testGrowsWithoutPressure() throws Exception {
+        RebalanceSupplyController ctrl = controller(true, () -> 0, () -> -1);
+
+        for (int i = 0; i < 100; i++)
+            ctrl.adjust(true);
+
+        assertEquals(BATCH_SIZE * MAX_GROWTH_FACTOR, ctrl.batchSize());
+        assertEquals(2 * MAX_GROWTH_FACTOR, ctrl.batchesPrefetchCount());
+        assertEquals(0, ctrl.throttle());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testShrinksOnCheckpointPressure() throws Exception {
+        AtomicLong dirtyRatioPercent = new AtomicLong(90);
+
+        RebalanceSupplyController ctrl = controller(true, () -> dirtyRatioPercent.get() / 100.0, () -> -1);
+
+        for (int i = 0; i < 100; i++)
+            ctrl.adjust(true);
+
+        assertEquals(MIN_BATCH_SIZE, ctrl.batchSize());
+        assertEquals(1, ctrl.batchesPrefetchCount());
+        assertEquals(MAX_THROTTLE, ctrl.throttle());
+
+        // Pressure has gone.
+        dirtyRatioPercent.set(10);
+
+        ctrl.adjust(true);
+
+        assertTrue(ctrl.batchSize() > MIN_BATCH_SIZE);
+        assertEquals(2, ctrl.batchesPrefetchCount());
+        assertEquals(MAX_THROTTLE / 2, ctrl.throttle());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testShrinksOnPutLatencyGrowth() throws Exception {
+        AtomicLong putLatency = new AtomicLong(10_000);
+
+        RebalanceSupplyController ctrl = controller(true, () -> 0, putLatency::get);
+
+        ctrl.adjust(true);
+
+        int batchSize = ctrl.batchSize();
+
+        assertTrue(batchSize > BATCH_SIZE);
+
+        putLatency.set(100_000);
+
+        ctrl.adjust(true);
+
+        assertEquals(batchSize / 2, ctrl.batchSize());
+        assertEquals(1, ctrl.throttle());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPutLatencyBaselineAdapts() throws Exception {
+        AtomicLong putLatency = new AtomicLong(10_000);
+
+        RebalanceSupplyController ctrl = controller(true, () -> 0, putLatency::get);
+
+        ctrl.adjust(true);
+
+        // Latency stays at the new level, so that it becomes the baseline.
+        putLatency.set(100_000);
+
+        for (int i = 0; i < 100; i++)
+            ctrl.adjust(true);
+
+        int batchSize = ctrl.batchSize();
+
+        ctrl.adjust(true);
+
+        assertTrue(ctrl.batchSize() > batchSize);
+        assertEquals(0, ctrl.throttle());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testHoldsWhenDemanderIsSlow() throws Exception {
+        RebalanceSupplyController ctrl = controller(true, () -> 0, () -> -1);
+
+        ctrl.onDemandRoundTrip(1_000_000);
+
+        ctrl.adjust(true);
+
+        int batchSize = ctrl.batchSize();
+        long prefetch = ctrl.batchesPrefetchCount();
+
+        for (int i = 0; i < 10; i++)
+            ctrl.onDemandRoundTrip(100_000_000);
+
+        ctrl.adjust(true);
+
+        assertEquals(batchSize, ctrl.batchSize());
+        assertEquals(prefetch, ctrl.batchesPrefetchCount());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testDisabled() throws Exception {
+        RebalanceSupplyController ctrl = controller(false, () -> 1, () -> -1);
+
+        ctrl.onDemandRoundTrip(1_000_000);
+        ctrl.onDemandRoundTrip(100_000_000);
+
+        assertEquals(BATCH_SIZE, ctrl.batchSize());
+        assertEquals(2, ctrl.batchesPrefetchCount());
+        assertEquals(0, ctrl.throttle());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testMetrics() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.getOrCreateCache(DEFAULT_CACHE_NAME);
+
+        MetricRegistry mreg = ignite.context().metric().registry(
+            metricName(CACHE_GROUP_METRICS_PREFIX, DEFAULT_CACHE_NAME));
+
+        assertEquals(BATCH_SIZE, ((IntMetric)mreg.findMetric("RebalanceBatchSize")).value());
+        assertEquals(0, ((LongMetric)mreg.findMetric("RebalanceThrottle")).value());
+        assertNotNull(mreg.findMetric("RebalanceBatchesPrefetchCount"));
+        assertNotNull(mreg.findMetric("RebalanceDemandRoundTripTime"));
+        assertNotNull(mreg.findMetric("RebalanceSuppliedBytesRate"));
+        assertNotNull(mreg.findMetric("RebalanceSuppliedBatchesRate"));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testMetricsReplacedOnRestart() throws Exception {
+        MetricRegistry mreg = new MetricRegistry("test", "test", log);
+
+        new RebalanceSupplyController(true, BATCH_SIZE, 2, 0, () -> 0, () -> -1, mreg);
+
+        RebalanceSupplyController ctrl = new RebalanceSupplyController(true, BATCH_SIZE * 2, 2, 0, () -> 0, () -> -1,
+            mreg);
+
+        assertEquals(BATCH_SIZE * 2, ((IntMetric)mreg.findMetric("RebalanceBatchSize")).value());
+
+        ctrl.onBatchSupplied(100);
+
+        assertEquals(100, ((LongMetric)mreg.findMetric("RebalanceSuppliedBytesRate")).value());
+    }
+
+    /**
+     * @param enabled Enabled flag.
+     * @param dirtyRatio Dirty ratio.
+     * @param putLatency Put latency.
+     * @return Controller.
+     */
+    private RebalanceSupplyController controller(
+        boolean enabled,
+        DoubleSupplier dirtyRatio,
+        LongSupplier putLatency
+    ) {
+        return new RebalanceSupplyController(enabled, BATCH_SIZE, 2, 0, dirtyRatio, putLatency,
+            new MetricRegistry("test", "test", log));
+    }
+}
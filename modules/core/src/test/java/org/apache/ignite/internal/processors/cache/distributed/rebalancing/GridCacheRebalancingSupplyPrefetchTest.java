@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.rebalancing;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.cache.CacheRebalanceMode;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionDemandMessage;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_DISABLE_REBALANCE_SUPPLY_PREFETCH;
+import static org.apache.ignite.cache.CachePeekMode.BACKUP;
+import static org.apache.ignite.cache.CachePeekMode.PRIMARY;
+
+/**
+ * Tests that supplier prepares the next batch before the demander requests it.
+ */
+public class GridCacheRebalancingSupplyPrefetchTest extends GridCommonAbstractTest {
+    /** */
+    private static final int ENTRIES_CNT = 5_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TestRecordingCommunicationSpi())
+            .setRebalanceThreadPoolSize(1)
+            .setRebalanceBatchesPrefetchCount(1)
+            .setRebalanceBatchSize(1024) // Force to create many supply messages during rebalancing.
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                .setBackups(1)
+                .setRebalanceMode(CacheRebalanceMode.ASYNC)
+                .setAffinity(new RendezvousAffinityFunction(false, 16)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testNextBatchPrefetched() throws Exception {
+        checkRebalance(true);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_DISABLE_REBALANCE_SUPPLY_PREFETCH, value = "true")
+    public void testPrefetchDisabled() throws Exception {
+        checkRebalance(false);
+    }
+
+    /**
+     * Blocks demand requests after the first one and checks the state of supply context.
+     *
+     * @param prefetch Whether supplier is expected to prefetch the next batch.
+     * @throws Exception If failed.
+     */
+    private void checkRebalance(boolean prefetch) throws Exception {
+        IgniteEx supplier = startGrid(0);
+
+        try (IgniteDataStreamer<Integer, Integer> streamer = supplier.dataStreamer(DEFAULT_CACHE_NAME)) {
+            for (int i = 0; i < ENTRIES_CNT; i++)
+                streamer.addData(i, i);
+        }
+
+        int grpId = CU.cacheId(DEFAULT_CACHE_NAME);
+
+        AtomicInteger demandCnt = new AtomicInteger();
+
+        IgniteConfiguration demanderCfg = getConfiguration(getTestIgniteInstanceName(1));
+
+        TestRecordingCommunicationSpi demanderSpi = (TestRecordingCommunicationSpi)demanderCfg.getCommunicationSpi();
+
+        demanderSpi.blockMessages((node, msg) -> msg instanceof GridDhtPartitionDemandMessage &&
+            ((GridDhtPartitionDemandMessage)msg).groupId() == grpId && demandCnt.getAndIncrement() > 0);
+
+        IgniteInternalFuture<IgniteEx> fut = GridTestUtils.runAsync(() -> startGrid(demanderCfg));
+
+        // Demander sends the next request as soon as the first batch is received.
+        GridTestUtils.waitForCondition(() -> demandCnt.get() > 1, getTestTimeout());
+
+        Map<?, ?> scMap = GridTestUtils.getFieldValue(supplier.cachex(DEFAULT_CACHE_NAME).context().group().preloader(),
+            "supplier", "scMap");
+
+        assertTrue(GridTestUtils.waitForCondition(() -> {
+            synchronized (scMap) {
+                return scMap.size() == 1;
+            }
+        }, getTestTimeout()));
+
+        synchronized (scMap) {
+            Object prefetched = GridTestUtils.getFieldValue(scMap.values().iterator().next(), "prefetched");
+
+            assertEquals(prefetch, prefetched != null);
+        }
+
+        demanderSpi.stopBlock();
+
+        IgniteEx demander = fut.get();
+
+        awaitPartitionMapExchange(true, true, null, true);
+
+        IgniteCache<Integer, Integer> cache = demander.cache(DEFAULT_CACHE_NAME);
+
+        // Single backup, so the demander owns all partitions.
+        assertEquals(ENTRIES_CNT, cache.localSize(PRIMARY) + cache.localSize(BACKUP));
+
+        for (int i = 0; i < ENTRIES_CNT; i++)
+            assertEquals((Integer)i, cache.localPeek(i));
+    }
+}
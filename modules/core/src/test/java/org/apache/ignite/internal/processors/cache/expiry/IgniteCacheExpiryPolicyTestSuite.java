@@ -56,6 +56,7 @@ import org.junit.runners.Suite;
     // Eager ttl expiration tests.
     GridCacheTtlManagerNotificationTest.class,
     IgniteCacheOnlyOneTtlCleanupThreadExistsTest.class,
+    IgniteCacheTtlCleanupWorkersTest.class,
 
     IgniteCacheExpireWhileRebalanceTest.class
 })
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.expiry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
+import org.apache.ignite.internal.processors.cache.tree.PendingEntriesTree;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.spi.metric.IntMetric;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TTL_CLEANUP_WORKERS_COUNT;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.TTL_METRICS;
+
+/**
+ * Checks removal of expired entries by several cleanup workers.
+ */
+@WithSystemProperty(key = IGNITE_TTL_CLEANUP_WORKERS_COUNT, value = "4")
+public class IgniteCacheTtlCleanupWorkersTest extends GridCommonAbstractTest {
+    /** */
+    private static final int WORKERS_CNT = 4;
+
+    /** */
+    private static final int KEYS_CNT = 20_000;
+
+    /** */
+    private boolean persistence;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setPersistenceEnabled(persistence)
+                    .setMaxSize(100L * 1024 * 1024)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testExpireInMemory() throws Exception {
+        checkExpire();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testExpirePersistent() throws Exception {
+        persistence = true;
+
+        checkExpire();
+    }
+
+    /**
+     * Checks that an in-memory group keeps a pending entries tree per cleanup worker.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPendingTreePerWorkerInMemory() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        IgniteCache<Integer, Integer> cache = ignite.getOrCreateCache(
+            new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME).setEagerTtl(true))
+            .withExpiryPolicy(new CreatedExpiryPolicy(new Duration(MINUTES, 10)));
+
+        for (int i = 0; i < 1000; i++)
+            cache.put(i, i);
+
+        GridCacheContext<Integer, Integer> cctx = ignite.cachex(DEFAULT_CACHE_NAME).context();
+
+        Set<PendingEntriesTree> trees = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (GridDhtLocalPartition part : cctx.topology().localPartitions()) {
+            PendingEntriesTree tree = part.dataStore().pendingTree();
+
+            assertSame(tree, cctx.topology().localPartition(part.id() % WORKERS_CNT).dataStore().pendingTree());
+
+            trees.add(tree);
+        }
+
+        assertEquals(WORKERS_CNT, trees.size());
+
+        long size = 0;
+
+        for (PendingEntriesTree tree : trees) {
+            assertEquals(tree.size(), tree.rowCount());
+
+            size += tree.size();
+        }
+
+        assertEquals(1000, size);
+        assertEquals(1000, cctx.offheap().expiredSize());
+    }
+
+    /**
+     * Checks that the pending entries of a shared cache group are counted once.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPendingEntriesSharedGroup() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        for (int c = 0; c < 2; c++) {
+            IgniteCache<Integer, Integer> cache = ignite.getOrCreateCache(
+                new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME + c).setGroupName("grp").setEagerTtl(true))
+                .withExpiryPolicy(new CreatedExpiryPolicy(new Duration(MINUTES, 10)));
+
+            for (int i = 0; i < 500; i++)
+                cache.put(i, i);
+        }
+
+        LongMetric pending = ignite.context().metric().registry(TTL_METRICS).findMetric("PendingEntries");
+
+        assertEquals(1000, pending.value());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    private void checkExpire() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().active(true);
+
+        IgniteCache<Integer, Integer> cache = ignite.getOrCreateCache(
+            new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME).setEagerTtl(true))
+            .withExpiryPolicy(new CreatedExpiryPolicy(new Duration(MILLISECONDS, 1000)));
+
+        assertEquals(WORKERS_CNT, cleanupThreads());
+
+        MetricRegistry mreg = ignite.context().metric().registry(TTL_METRICS);
+
+        assertEquals(WORKERS_CNT, ((IntMetric)mreg.findMetric("CleanupWorkersCount")).value());
+
+        LongMetric pending = mreg.findMetric("PendingEntries");
+        LongMetric lag = mreg.findMetric("ExpirationLag");
+
+        Map<Integer, Integer> batch = new HashMap<>();
+
+        for (int i = 0; i < KEYS_CNT; i++) {
+            batch.put(i, i);
+
+            if (batch.size() == 1000) {
+                cache.putAll(batch);
+
+                batch.clear();
+            }
+        }
+
+        assertTrue(pending.value() > 0);
+
+        assertTrue(GridTestUtils.waitForCondition(() -> cache.size() == 0, getTestTimeout()));
+
+        assertEquals(0, pending.value());
+
+        assertTrue("Unexpected lag: " + lag.value(), lag.value() < getTestTimeout());
+
+        ignite.destroyCache(DEFAULT_CACHE_NAME);
+
+        assertEquals(0, cleanupThreads());
+        assertEquals(0, lag.value());
+    }
+
+    /**
+     * @return Number of cleanup worker threads.
+     */
+    private int cleanupThreads() {
+        int cnt = 0;
+
+        for (Thread t : Thread.getAllStackTraces().keySet()) {
+            if (t.getName().contains("ttl-cleanup-worker"))
+                cnt++;
+        }
+
+        return cnt;
+    }
+}
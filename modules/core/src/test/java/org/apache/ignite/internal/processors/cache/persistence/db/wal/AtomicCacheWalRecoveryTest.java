@@ -0,0 +1,268 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.wal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.cache.processor.EntryProcessorResult;
+import javax.cache.processor.MutableEntry;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.cache.CacheEntryProcessor;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.WALPointer;
+import org.apache.ignite.internal.pagemem.wal.record.DataEntry;
+import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.cache.GridCacheAtomicWalBatch;
+import org.apache.ignite.internal.processors.cache.GridCacheOperation;
+import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.lang.IgniteBiTuple;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Checks that batch updates of an ATOMIC cache are logged to WAL in bounded multi-entry records and are recovered
+ * after a crash that happens before a checkpoint.
+ */
+public class AtomicCacheWalRecoveryTest extends GridCommonAbstractTest {
+    /** */
+    private static final int KEYS_CNT = 1000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setWalMode(WALMode.LOG_ONLY)
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                .setPersistenceEnabled(true)
+                .setMaxSize(100L * 1024 * 1024)));
+
+        cfg.setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+            .setAtomicityMode(CacheAtomicityMode.ATOMIC)
+            .setAffinity(new RendezvousAffinityFunction(false, 32)));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPutAllRecoveredAfterCrash() throws Exception {
+        IgniteEx ignite = startNodeWithoutCheckpoints();
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        Map<Integer, Integer> vals = new TreeMap<>();
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            vals.put(i, i);
+
+        cache.putAll(vals);
+
+        Set<Integer> rmv = new TreeSet<>();
+
+        for (int i = 0; i < KEYS_CNT; i += 2)
+            rmv.add(i);
+
+        cache.removeAll(rmv);
+
+        List<DataRecord> recs = dataRecords(ignite);
+
+        List<DataEntry> entries = dataEntries(recs);
+
+        assertEquals(KEYS_CNT + rmv.size(), entries.size());
+        assertTrue("Records: " + recs.size(), recs.size() < entries.size());
+
+        for (int i = 0; i < entries.size(); i++)
+            assertEquals(i < KEYS_CNT ? GridCacheOperation.UPDATE : GridCacheOperation.DELETE, entries.get(i).op());
+
+        stopGrid(0, true);
+
+        ignite = startGrid(0);
+
+        ignite.cluster().active(true);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        assertEquals(KEYS_CNT - rmv.size(), cache.size());
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            assertEquals(rmv.contains(i) ? null : (Integer)i, cache.get(i));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPartiallyFailedInvokeAllRecoveredAfterCrash() throws Exception {
+        IgniteEx ignite = startNodeWithoutCheckpoints();
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        Set<Integer> keys = new TreeSet<>();
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            keys.add(i);
+
+        Map<Integer, EntryProcessorResult<Object>> res = cache.invokeAll(keys, new FailOddKeysProcessor());
+
+        assertEquals(KEYS_CNT / 2, res.size());
+
+        for (Map.Entry<Integer, EntryProcessorResult<Object>> e : res.entrySet()) {
+            assertEquals(1, e.getKey() % 2);
+
+            try {
+                e.getValue().get();
+
+                fail("Exception expected for key " + e.getKey());
+            }
+            catch (Exception ignored) {
+                // Expected.
+            }
+        }
+
+        assertEquals(KEYS_CNT / 2, dataEntries(dataRecords(ignite)).size());
+
+        stopGrid(0, true);
+
+        ignite = startGrid(0);
+
+        ignite.cluster().active(true);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        assertEquals(KEYS_CNT / 2, cache.size());
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            assertEquals(i % 2 == 0 ? (Integer)i : null, cache.get(i));
+    }
+
+    /**
+     * Starts a node and disables checkpoints, so that updates can be recovered only from WAL.
+     *
+     * @return Started node.
+     * @throws Exception If failed.
+     */
+    private IgniteEx startNodeWithoutCheckpoints() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().active(true);
+
+        forceCheckpoint(ignite);
+
+        GridCacheDatabaseSharedManager dbMgr =
+            (GridCacheDatabaseSharedManager)ignite.context().cache().context().database();
+
+        dbMgr.enableCheckpoints(false).get();
+
+        return ignite;
+    }
+
+    /**
+     * @param ignite Node.
+     * @return Data records of the test cache logged to WAL.
+     * @throws Exception If failed.
+     */
+    private List<DataRecord> dataRecords(IgniteEx ignite) throws Exception {
+        IgniteWriteAheadLogManager wal = ignite.context().cache().context().wal();
+
+        wal.flush(null, true);
+
+        int cacheId = CU.cacheId(DEFAULT_CACHE_NAME);
+
+        List<DataRecord> res = new ArrayList<>();
+
+        try (WALIterator it = wal.replay(null)) {
+            while (it.hasNext()) {
+                IgniteBiTuple<WALPointer, WALRecord> tup = it.next();
+
+                if (tup.get2() instanceof DataRecord) {
+                    DataRecord rec = (DataRecord)tup.get2();
+
+                    if (rec.writeEntries().get(0).cacheId() == cacheId)
+                        res.add(rec);
+                }
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * @param recs Data records.
+     * @return Entries of the given records.
+     */
+    private List<DataEntry> dataEntries(List<DataRecord> recs) {
+        List<DataEntry> res = new ArrayList<>();
+
+        for (DataRecord rec : recs) {
+            assertTrue("Entries: " + rec.writeEntries().size(),
+                rec.writeEntries().size() <= GridCacheAtomicWalBatch.MAX_SIZE);
+
+            res.addAll(rec.writeEntries());
+        }
+
+        return res;
+    }
+
+    /**
+     * Sets value for even keys and fails for odd ones.
+     */
+    private static class FailOddKeysProcessor implements CacheEntryProcessor<Integer, Integer, Object> {
+        /** {@inheritDoc} */
+        @Override public Object process(MutableEntry<Integer, Integer> entry, Object... args) {
+            if (entry.getKey() % 2 == 1)
+                throw new IllegalStateException("Test failure [key=" + entry.getKey() + ']');
+
+            entry.setValue(entry.getKey());
+
+            return null;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.wal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetric;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.configuration.WALMode.FSYNC;
+import static org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl.DATASTORAGE_METRIC_PREFIX;
+
+/**
+ * Checks group commit of concurrent fsync requests in {@link org.apache.ignite.configuration.WALMode#FSYNC} mode.
+ */
+public class FsyncWalGroupCommitTest extends GridCommonAbstractTest {
+    /** */
+    private static final int THREADS = 16;
+
+    /** */
+    private static final int KEYS = 4_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String name) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(name);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration().setPersistenceEnabled(true))
+            .setWalMode(FSYNC)
+            .setWalSegmentSize(1024 * 1024)
+            .setWalFsyncDelayNanos(1_000_000)
+            .setMetricsEnabled(true));
+
+        cfg.setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME).setAtomicityMode(TRANSACTIONAL));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testConcurrentCommits() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().active(true);
+
+        IgniteCache<Integer, Integer> cache = ig.cache(DEFAULT_CACHE_NAME);
+
+        AtomicInteger cnt = new AtomicInteger();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            for (int key = cnt.getAndIncrement(); key < KEYS; key = cnt.getAndIncrement())
+                cache.put(key, key);
+        }, THREADS, "put");
+
+        HistogramMetric batchSize = ig.context().metric().registry(DATASTORAGE_METRIC_PREFIX)
+            .findMetric("WalFsyncBatchSize");
+
+        HistogramMetric fsyncTime = ig.context().metric().registry(DATASTORAGE_METRIC_PREFIX)
+            .findMetric("WalFsyncTime");
+
+        long fsyncs = 0;
+
+        for (long bucket : batchSize.value())
+            fsyncs += bucket;
+
+        assertTrue(fsyncs > 0);
+        assertTrue(fsyncs <= KEYS);
+
+        long timed = 0;
+
+        for (long bucket : fsyncTime.value())
+            timed += bucket;
+
+        assertEquals(fsyncs, timed);
+
+        stopAllGrids(false);
+
+        ig = startGrid(0);
+
+        ig.cluster().active(true);
+
+        IgniteCache<Integer, Integer> restored = ig.cache(DEFAULT_CACHE_NAME);
+
+        for (int key = 0; key < KEYS; key++)
+            assertEquals((Integer)key, restored.get(key));
+    }
+}
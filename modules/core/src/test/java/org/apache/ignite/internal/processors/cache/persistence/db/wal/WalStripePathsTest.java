@@ -0,0 +1,172 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.wal;
+
+import java.io.File;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager;
+import org.apache.ignite.internal.processors.cache.persistence.wal.SegmentRouter;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.wal.FileDescriptor.fileName;
+
+/**
+ * Checks work WAL segments spread across stripe directories.
+ */
+public class WalStripePathsTest extends GridCommonAbstractTest {
+    /** */
+    private static final int WAL_SEGMENTS = 4;
+
+    /** */
+    private static final int KEYS = 10_000;
+
+    /** Stripe paths. */
+    private String[] stripePaths;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String name) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(name);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration().setPersistenceEnabled(true))
+            .setWalSegmentSize(512 * 1024)
+            .setWalSegments(WAL_SEGMENTS)
+            .setWalStripePaths(stripePaths));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        deleteStripeDirs();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        deleteStripeDirs();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSegmentsSpreadAcrossStripes() throws Exception {
+        stripePaths = new String[] {"wal-stripe-1", "wal-stripe-2"};
+
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().active(true);
+
+        fill(ig, 0);
+
+        File[] dirs = ((FileWriteAheadLogManager)ig.context().cache().context().wal()).getSegmentRouter()
+            .getWalWorkDirs();
+
+        assertEquals(3, dirs.length);
+
+        for (int i = 0; i < WAL_SEGMENTS; i++) {
+            File file = new File(dirs[i % dirs.length], fileName(i));
+
+            assertTrue(file.getAbsolutePath(), file.exists());
+            assertEquals(file, SegmentRouter.workSegmentFile(dirs, i));
+        }
+
+        stopAllGrids();
+
+        ig = startGrid(0);
+
+        ig.cluster().active(true);
+
+        check(ig, 0);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testAddStripes() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().active(true);
+
+        fill(ig, 0);
+
+        stopAllGrids();
+
+        stripePaths = new String[] {"wal-stripe-1"};
+
+        ig = startGrid(0);
+
+        ig.cluster().active(true);
+
+        check(ig, 0);
+
+        fill(ig, 1);
+
+        stopAllGrids();
+
+        ig = startGrid(0);
+
+        ig.cluster().active(true);
+
+        check(ig, 1);
+    }
+
+    /**
+     * @param ig Node.
+     * @param shift Value shift.
+     */
+    private void fill(IgniteEx ig, int shift) {
+        IgniteCache<Integer, Integer> cache = ig.getOrCreateCache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i + shift);
+    }
+
+    /**
+     * @param ig Node.
+     * @param shift Value shift.
+     */
+    private void check(IgniteEx ig, int shift) {
+        IgniteCache<Integer, Integer> cache = ig.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals((Integer)(i + shift), cache.get(i));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    private void deleteStripeDirs() throws Exception {
+        U.delete(U.resolveWorkDirectory(U.defaultWorkDirectory(), "wal-stripe-1", false));
+        U.delete(U.resolveWorkDirectory(U.defaultWorkDirectory(), "wal-stripe-2", false));
+    }
+}
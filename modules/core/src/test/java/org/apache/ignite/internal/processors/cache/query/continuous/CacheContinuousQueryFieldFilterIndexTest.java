@@ -0,0 +1,210 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.query.continuous;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.event.CacheEntryEvent;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.query.ContinuousQuery;
+import org.apache.ignite.cache.query.FieldEqualsEventFilter;
+import org.apache.ignite.cache.query.QueryCursor;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Checks that continuous queries with {@link FieldEqualsEventFilter} evaluate filters only for matching updates.
+ */
+public class CacheContinuousQueryFieldFilterIndexTest extends GridCommonAbstractTest {
+    /** */
+    private static final int SRVS = 2;
+
+    /** */
+    private static final int TOPICS = 10;
+
+    /** */
+    private static final int QRYS_PER_TOPIC = 5;
+
+    /** */
+    private static final int KEYS_CNT = 200;
+
+    /** Count of filter evaluations. */
+    private static final AtomicInteger evals = new AtomicInteger();
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGridsMultiThreaded(SRVS);
+
+        startClientGrid(SRVS);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTestsStopped() throws Exception {
+        stopAllGrids();
+
+        super.afterTestsStopped();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(SRVS).destroyCache(DEFAULT_CACHE_NAME);
+
+        evals.set(0);
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFilteredByIndex() throws Exception {
+        checkFilter(false);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFilteredByIndexKeepBinary() throws Exception {
+        checkFilter(true);
+    }
+
+    /**
+     * @param keepBinary Keep binary flag.
+     * @throws Exception If failed.
+     */
+    private void checkFilter(boolean keepBinary) throws Exception {
+        Ignite client = grid(SRVS);
+
+        IgniteCache<Integer, Order> cache = client.createCache(new CacheConfiguration<>(DEFAULT_CACHE_NAME));
+
+        IgniteCache<Integer, Object> qryCache = keepBinary ? cache.withKeepBinary() : (IgniteCache)cache;
+
+        List<QueryCursor<?>> curs = new ArrayList<>();
+
+        AtomicInteger[] rcvd = new AtomicInteger[TOPICS * QRYS_PER_TOPIC];
+
+        AtomicInteger wrong = new AtomicInteger();
+
+        try {
+            for (int i = 0; i < rcvd.length; i++) {
+                int topic = i % TOPICS;
+
+                AtomicInteger cnt = rcvd[i] = new AtomicInteger();
+
+                ContinuousQuery<Integer, Object> qry = new ContinuousQuery<>();
+
+                qry.setRemoteFilterFactory(FactoryBuilder.factoryOf(new CountingFilter<>("topic", topic)));
+
+                qry.setLocalListener(evts -> {
+                    for (CacheEntryEvent<? extends Integer, ?> evt : evts) {
+                        cnt.incrementAndGet();
+
+                        if (evt.getKey() % TOPICS != topic)
+                            wrong.incrementAndGet();
+                    }
+                });
+
+                curs.add(qryCache.query(qry));
+            }
+
+            // Listener without an indexed filter gets all updates.
+            AtomicInteger rcvdAll = new AtomicInteger();
+
+            ContinuousQuery<Integer, Object> qryAll = new ContinuousQuery<>();
+
+            qryAll.setLocalListener(evts -> {
+                for (CacheEntryEvent<? extends Integer, ?> ignored : evts)
+                    rcvdAll.incrementAndGet();
+            });
+
+            curs.add(qryCache.query(qryAll));
+
+            for (int i = 0; i < KEYS_CNT; i++)
+                cache.put(i, new Order(i, i % TOPICS));
+
+            int exp = KEYS_CNT / TOPICS;
+
+            assertTrue(GridTestUtils.waitForCondition(() -> {
+                for (AtomicInteger cnt : rcvd) {
+                    if (cnt.get() != exp)
+                        return false;
+                }
+
+                return rcvdAll.get() == KEYS_CNT;
+            }, getTestTimeout()));
+
+            assertEquals(0, wrong.get());
+
+            // Filters are evaluated on the primary node only for updates of the topic they listen to.
+            assertEquals(KEYS_CNT * QRYS_PER_TOPIC, evals.get());
+        }
+        finally {
+            for (QueryCursor<?> cur : curs)
+                cur.close();
+        }
+    }
+
+    /**
+     * Filter counting its evaluations.
+     */
+    private static class CountingFilter<K, V> extends FieldEqualsEventFilter<K, V> {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /**
+         * @param fieldName Field name.
+         * @param val Field value.
+         */
+        CountingFilter(String fieldName, Object val) {
+            super(fieldName, val);
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean evaluate(CacheEntryEvent<? extends K, ? extends V> evt) {
+            evals.incrementAndGet();
+
+            return super.evaluate(evt);
+        }
+    }
+
+    /** */
+    private static class Order {
+        /** */
+        private final int id;
+
+        /** */
+        private final int topic;
+
+        /**
+         * @param id ID.
+         * @param topic Topic.
+         */
+        Order(int id, int topic) {
+            this.id = id;
+            this.topic = topic;
+        }
+    }
+}
@@ -18,19 +18,32 @@ package org.apache.ignite.internal.processors.cache.store;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import javax.cache.Cache;
+import org.apache.ignite.cache.store.CacheStore;
+import org.apache.ignite.cache.store.CacheStoreAdapter;
 import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.processors.cache.CacheEntryImpl;
 import org.apache.ignite.internal.processors.cache.GridCacheTestStore;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetric;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.GridTestUtils;
 import org.jsr166.ConcurrentLinkedHashMap;
 import org.junit.Test;
 
+import static org.apache.ignite.configuration.CacheConfiguration.DFLT_WRITE_BEHIND_BATCH_SIZE;
+import static org.apache.ignite.internal.processors.cache.store.GridCacheWriteBehindStore.BATCH_SIZE_ADJUST_RATIO;
+import static org.apache.ignite.internal.processors.cache.store.GridCacheWriteBehindStore.CACHE_OVERFLOW_RATIO;
+
 /**
  * This class provides basic tests for {@link org.apache.ignite.internal.processors.cache.store.GridCacheWriteBehindStore}.
  */
@@ -449,4 +462,179 @@ public class GridCacheWriteBehindStoreSelfTest extends GridCacheWriteBehindStore
 
         assertTrue("Store map key set: " + underlyingMap.keySet(), F.eqOrdered(underlyingMap.keySet(), intList));
     }
+
+    /**
+     * Tests that writers are blocked instead of flushing values themselves when write cache size exceeds
+     * critical size.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBackPressureWithCoalescing() throws Exception {
+        delegate.setOperationDelay(50);
+
+        initStore(2, true);
+
+        int criticalSize = (int)(CACHE_SIZE * CACHE_OVERFLOW_RATIO);
+
+        try {
+            for (int i = 0; i < 5 * CACHE_SIZE; i++) {
+                store.write(new CacheEntryImpl<>(i, "val" + i));
+
+                assertTrue(store.getWriteBehindBufferSize() <= criticalSize);
+            }
+
+            assertTrue(store.getWriteBehindTotalCriticalOverflowCount() > 0);
+            assertEquals(0, store.getWriteBehindCriticalOverflowCount());
+        }
+        finally {
+            delegate.setOperationDelay(0);
+
+            shutdownStore();
+        }
+
+        for (int i = 0; i < 5 * CACHE_SIZE; i++)
+            assertEquals("val" + i, delegate.getMap().get(i));
+    }
+
+    /**
+     * Tests that batch size is decreased on store failures and restored afterwards.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBatchSizeAdjustment() throws Exception {
+        int minBatchSize = DFLT_WRITE_BEHIND_BATCH_SIZE / BATCH_SIZE_ADJUST_RATIO;
+
+        delegate.setShouldFail(true);
+
+        initStore(1, true);
+
+        try {
+            assertEquals(DFLT_WRITE_BEHIND_BATCH_SIZE, store.getWriteBehindCurrentStoreBatchSize());
+
+            for (int i = 0; i < CACHE_SIZE; i++)
+                store.write(new CacheEntryImpl<>(i, "val" + i));
+
+            assertTrue(GridTestUtils.waitForCondition(
+                () -> store.getWriteBehindCurrentStoreBatchSize() == minBatchSize, getTestTimeout()));
+
+            delegate.setShouldFail(false);
+
+            int key = CACHE_SIZE;
+
+            while (store.getWriteBehindCurrentStoreBatchSize() < DFLT_WRITE_BEHIND_BATCH_SIZE) {
+                for (int i = 0; i < CACHE_SIZE; i++, key++)
+                    store.write(new CacheEntryImpl<>(key, "val" + key));
+
+                U.sleep(100);
+            }
+        }
+        finally {
+            shutdownStore();
+        }
+
+        assertEquals(DFLT_WRITE_BEHIND_BATCH_SIZE, store.getWriteBehindCurrentStoreBatchSize());
+    }
+
+    /**
+     * Tests write-behind store metrics.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testMetrics() throws Exception {
+        initStore(1, true);
+
+        MetricRegistry mreg = new MetricRegistry("test", "test", log);
+
+        store.registerMetrics(mreg);
+
+        try {
+            for (int i = 0; i < 100; i++) {
+                for (int k = 0; k < 10; k++)
+                    store.write(new CacheEntryImpl<>(k, "val" + i));
+            }
+        }
+        finally {
+            shutdownStore();
+        }
+
+        assertTrue(store.getWriteBehindCoalesceRatio() > 1);
+
+        HistogramMetric storeTime = mreg.findMetric("WriteBehindStoreTime");
+
+        assertTrue(Arrays.stream(storeTime.value()).sum() > 0);
+
+        assertNotNull(mreg.findMetric("WriteBehindBufferSize"));
+        assertNotNull(mreg.findMetric("WriteBehindCurrentStoreBatchSize"));
+        assertNotNull(mreg.findMetric("WriteBehindCoalesceRatio"));
+        assertNotNull(mreg.findMetric("WriteBehindCriticalOverflowCount"));
+    }
+
+    /**
+     * Tests that writers are not blocked for good if the underlying store is stalled: after waiting for the flush
+     * frequency a writer flushes a value in its own thread.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBackPressureWithStalledStore() throws Exception {
+        Thread writer = Thread.currentThread();
+
+        CountDownLatch stallLatch = new CountDownLatch(1);
+
+        Map<Integer, String> stored = new ConcurrentHashMap<>();
+
+        CacheStore<Integer, String> stalledStore = new CacheStoreAdapter<Integer, String>() {
+            @Override public String load(Integer key) {
+                return stored.get(key);
+            }
+
+            @Override public void writeAll(Collection<Cache.Entry<? extends Integer, ? extends String>> entries) {
+                // Flushers never complete until the end of the test.
+                if (Thread.currentThread() != writer)
+                    U.awaitQuiet(stallLatch);
+
+                super.writeAll(entries);
+            }
+
+            @Override public void write(Cache.Entry<? extends Integer, ? extends String> e) {
+                stored.put(e.getKey(), e.getValue());
+            }
+
+            @Override public void delete(Object key) {
+                stored.remove(key);
+            }
+        };
+
+        int flushSize = 16;
+
+        store = new GridCacheWriteBehindStore<>(null, "", "", log, stalledStore);
+
+        store.setFlushFrequency(10);
+        store.setFlushSize(flushSize);
+        store.setWriteCoalescing(true);
+        store.setFlushThreadCount(1);
+
+        store.start();
+
+        int keys = 10 * flushSize;
+
+        try {
+            for (int i = 0; i < keys; i++)
+                store.write(new CacheEntryImpl<>(i, "val" + i));
+
+            assertTrue(store.getWriteBehindTotalCriticalOverflowCount() > 0);
+            assertFalse(stored.isEmpty());
+        }
+        finally {
+            stallLatch.countDown();
+
+            shutdownStore();
+        }
+
+        for (int i = 0; i < keys; i++)
+            assertEquals("val" + i, stored.get(i));
+    }
 }
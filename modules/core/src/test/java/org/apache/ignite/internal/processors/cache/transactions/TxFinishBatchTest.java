@@ -0,0 +1,151 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.transactions;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheWriteSynchronizationMode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.processors.cache.GridCacheMessage;
+import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTxFinishBatchMessage;
+import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTxFinishRequest;
+import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTxFinishResponse;
+import org.apache.ignite.internal.util.typedef.G;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.transactions.Transaction;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TX_FINISH_BATCH_SIZE;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.cache.CachePeekMode.BACKUP;
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.PRIMARY_SYNC;
+import static org.apache.ignite.transactions.TransactionConcurrency.PESSIMISTIC;
+import static org.apache.ignite.transactions.TransactionIsolation.REPEATABLE_READ;
+
+/**
+ * Checks batching of DHT transaction finish messages.
+ */
+@WithSystemProperty(key = IGNITE_TX_FINISH_BATCH_SIZE, value = "8")
+public class TxFinishBatchTest extends GridCommonAbstractTest {
+    /** */
+    private static final int THREADS = 16;
+
+    /** */
+    private static final int TXS = 4_000;
+
+    /** */
+    private CacheWriteSynchronizationMode syncMode;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String name) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(name);
+
+        cfg.setCommunicationSpi(new TestRecordingCommunicationSpi());
+
+        cfg.setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+            .setAtomicityMode(TRANSACTIONAL)
+            .setBackups(2)
+            .setWriteSynchronizationMode(syncMode));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPrimarySync() throws Exception {
+        checkCommits(PRIMARY_SYNC);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFullSync() throws Exception {
+        checkCommits(FULL_SYNC);
+    }
+
+    /**
+     * @param syncMode Write synchronization mode.
+     * @throws Exception If failed.
+     */
+    private void checkCommits(CacheWriteSynchronizationMode syncMode) throws Exception {
+        this.syncMode = syncMode;
+
+        Ignite ignite = startGrids(3);
+
+        for (Ignite node : G.allGrids())
+            TestRecordingCommunicationSpi.spi(node).record(GridDhtTxFinishBatchMessage.class);
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        List<Integer> keys = primaryKeys(cache, TXS);
+
+        AtomicInteger idx = new AtomicInteger();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            for (int i = idx.getAndIncrement(); i < TXS; i = idx.getAndIncrement()) {
+                try (Transaction tx = ignite.transactions().txStart(PESSIMISTIC, REPEATABLE_READ)) {
+                    cache.put(keys.get(i), i);
+
+                    tx.commit();
+                }
+            }
+        }, THREADS, "tx");
+
+        for (int i = 1; i < 3; i++) {
+            IgniteCache<Integer, Integer> backup = grid(i).cache(DEFAULT_CACHE_NAME);
+
+            assertTrue(GridTestUtils.waitForCondition(() -> {
+                for (int k = 0; k < TXS; k++) {
+                    if (!Integer.valueOf(k).equals(backup.localPeek(keys.get(k), BACKUP)))
+                        return false;
+                }
+
+                return true;
+            }, 10_000));
+        }
+
+        Class<?> expCls = syncMode == PRIMARY_SYNC ? GridDhtTxFinishRequest.class : GridDhtTxFinishResponse.class;
+
+        for (Ignite node : G.allGrids()) {
+            for (Object msg : TestRecordingCommunicationSpi.spi(node).recordedMessages(true)) {
+                List<GridCacheMessage> msgs = ((GridDhtTxFinishBatchMessage)msg).messages();
+
+                assertTrue(msgs.size() >= 2 && msgs.size() <= 8);
+
+                for (GridCacheMessage m : msgs)
+                    assertEquals(expCls, m.getClass());
+            }
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.transactions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Lock;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.NearCacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.CacheLockContentionTracker;
+import org.apache.ignite.internal.processors.cache.CacheLockContentionTracker.KeyContention;
+import org.apache.ignite.internal.processors.cache.KeyCacheObjectImpl;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.transactions.Transaction;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_LOCK_CONTENTION_TRACKED_KEYS;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_LOCK_QUEUED_HANDOFF;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.internal.processors.cache.CacheLockContentionTracker.METRIC_LOCK_HANDOFFS;
+import static org.apache.ignite.internal.processors.cache.CacheLockContentionTracker.METRIC_LOCK_WAIT_TIME;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.TX_METRICS;
+import static org.apache.ignite.transactions.TransactionConcurrency.PESSIMISTIC;
+import static org.apache.ignite.transactions.TransactionIsolation.REPEATABLE_READ;
+
+/**
+ * Checks lock contention statistics.
+ */
+@WithSystemProperty(key = IGNITE_LOCK_CONTENTION_TRACKED_KEYS, value = "4")
+public class TxLockContentionTest extends GridCommonAbstractTest {
+    /** */
+    private static final int THREADS = 8;
+
+    /** */
+    private static final int TXS = 50;
+
+    /** Hot key. */
+    private static final int HOT_KEY = 0;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String name) throws Exception {
+        return super.getConfiguration(name)
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME).setAtomicityMode(TRANSACTIONAL));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testHotKey() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        cache.put(HOT_KEY, 0);
+
+        GridTestUtils.runMultiThreaded(() -> {
+            for (int i = 0; i < TXS; i++) {
+                try (Transaction tx = ignite.transactions().txStart(PESSIMISTIC, REPEATABLE_READ)) {
+                    cache.put(HOT_KEY, cache.get(HOT_KEY) + 1);
+
+                    // Hold the lock so that other threads queue up for it.
+                    doSleep(1);
+
+                    tx.commit();
+                }
+            }
+        }, THREADS, "tx");
+
+        assertEquals(THREADS * TXS, (int)cache.get(HOT_KEY));
+
+        MetricRegistry mreg = ignite.context().metric().registry(TX_METRICS);
+
+        long handoffs = mreg.<LongMetric>findMetric(METRIC_LOCK_HANDOFFS).value();
+
+        assertTrue(handoffs > 0);
+        assertTrue(mreg.<LongMetric>findMetric(METRIC_LOCK_WAIT_TIME).value() > 0);
+
+        CacheLockContentionTracker contention = ignite.context().cache().context().mvcc().contention();
+
+        List<KeyContention> hottest = contention.hottestKeys(1);
+
+        assertEquals(1, hottest.size());
+
+        KeyContention stat = hottest.get(0);
+
+        assertEquals(CU.cacheId(DEFAULT_CACHE_NAME), stat.key().cacheId());
+        assertEquals(HOT_KEY, (int)stat.key().key().value(null, false));
+        assertTrue(stat.waits() > 0 && stat.waits() <= handoffs);
+        assertTrue(stat.maxWaitTime() > 0);
+        assertTrue(stat.totalWaitTime() >= stat.maxWaitTime());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testTrackedKeysLimit() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        GridTestUtils.runMultiThreaded(() -> {
+            for (int i = 0; i < TXS; i++) {
+                try (Transaction tx = ignite.transactions().txStart(PESSIMISTIC, REPEATABLE_READ)) {
+                    cache.put(i % 16, i);
+
+                    doSleep(1);
+
+                    tx.commit();
+                }
+            }
+        }, THREADS, "tx");
+
+        List<KeyContention> tracked = ignite.context().cache().context().mvcc().contention()
+            .hottestKeys(Integer.MAX_VALUE);
+
+        assertFalse(tracked.isEmpty());
+        assertTrue(tracked.size() <= 4);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_LOCK_QUEUED_HANDOFF, value = "true")
+    public void testQueuedHandoff() throws Exception {
+        startGrids(2);
+
+        IgniteEx client = startClientGrid(2);
+
+        IgniteCache<Integer, Integer> cache = client.createCache(new CacheConfiguration<Integer, Integer>("near")
+            .setAtomicityMode(TRANSACTIONAL)
+            .setNearConfiguration(new NearCacheConfiguration<>()));
+
+        List<Integer> keys = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            keys.add(i);
+
+            cache.put(i, 0);
+        }
+
+        GridTestUtils.runMultiThreaded(() -> {
+            for (int i = 0; i < TXS; i++) {
+                Lock lock = cache.lockAll(keys);
+
+                lock.lock();
+
+                try {
+                    for (Integer key : keys)
+                        cache.put(key, cache.get(key) + 1);
+                }
+                finally {
+                    lock.unlock();
+                }
+            }
+        }, THREADS, "lock");
+
+        for (Integer key : keys)
+            assertEquals(THREADS * TXS, (int)grid(0).cache("near").get(key));
+    }
+
+    /**
+     * Checks that a newly contended key isn't evicted before the keys contended long ago.
+     */
+    @Test
+    public void testNewKeyOutranksStaleKeys() {
+        CacheLockContentionTracker tracker = new CacheLockContentionTracker(
+            new MetricRegistry("test", "test", log), 2);
+
+        for (int i = 0; i < 10; i++)
+            tracker.onWait(txKey(1), 1);
+
+        for (int i = 0; i < 5; i++)
+            tracker.onWait(txKey(2), 1);
+
+        // Replaces key 2 and inherits its contention as the error.
+        tracker.onWait(txKey(3), 1);
+
+        List<KeyContention> hottest = tracker.hottestKeys(2);
+
+        assertEquals(txKey(1), hottest.get(0).key());
+        assertEquals(txKey(3), hottest.get(1).key());
+        assertEquals(6, hottest.get(1).contention());
+        assertEquals(5, hottest.get(1).contentionError());
+        assertEquals(1, hottest.get(1).waits());
+
+        for (int i = 0; i < 6; i++)
+            tracker.onWait(txKey(3), 1);
+
+        // Key 3 is now more contended than key 1, so key 1 is the one replaced.
+        tracker.onWait(txKey(4), 1);
+
+        hottest = tracker.hottestKeys(2);
+
+        assertEquals(txKey(3), hottest.get(0).key());
+        assertEquals(txKey(4), hottest.get(1).key());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testContentionDecays() throws Exception {
+        CacheLockContentionTracker tracker = new CacheLockContentionTracker(
+            new MetricRegistry("test", "test", log), 2, 10);
+
+        for (int i = 0; i < 64; i++)
+            tracker.onWait(txKey(1), 1);
+
+        doSleep(100);
+
+        for (int i = 0; i < 2; i++)
+            tracker.onWait(txKey(2), 1);
+
+        List<KeyContention> hottest = tracker.hottestKeys(2);
+
+        assertEquals(txKey(2), hottest.get(0).key());
+        assertEquals(64, hottest.get(1).waits());
+        assertTrue(hottest.get(1).contention() < 2);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testTrackedKeysHardLimit() throws Exception {
+        CacheLockContentionTracker tracker = new CacheLockContentionTracker(
+            new MetricRegistry("test", "test", log), 4);
+
+        GridTestUtils.runMultiThreaded(() -> {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+            for (int i = 0; i < 10_000; i++) {
+                tracker.onWait(txKey(rnd.nextInt(64)), 1);
+
+                if (i % 100 == 0)
+                    assertTrue(tracker.hottestKeys(Integer.MAX_VALUE).size() <= 4);
+            }
+        }, THREADS, "wait");
+
+        assertEquals(4, tracker.hottestKeys(Integer.MAX_VALUE).size());
+    }
+
+    /**
+     * @param key Key.
+     * @return Transaction key.
+     */
+    private static IgniteTxKey txKey(int key) {
+        return new IgniteTxKey(new KeyCacheObjectImpl(key, null, -1), CU.cacheId(DEFAULT_CACHE_NAME));
+    }
+}
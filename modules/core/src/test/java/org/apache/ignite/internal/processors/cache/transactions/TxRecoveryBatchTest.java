@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.transactions;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.processors.cache.distributed.GridCacheTxRecoveryBatchMessage;
+import org.apache.ignite.internal.processors.cache.distributed.GridCacheTxRecoveryRequest;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxFinishRequest;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.transactions.Transaction;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.transactions.TransactionConcurrency.PESSIMISTIC;
+import static org.apache.ignite.transactions.TransactionIsolation.REPEATABLE_READ;
+
+/**
+ * Checks that transactions of a failed near node are recovered with batched recovery messages.
+ */
+public class TxRecoveryBatchTest extends GridCommonAbstractTest {
+    /** */
+    private static final int TXS = 32;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String name) throws Exception {
+        return super.getConfiguration(name)
+            .setClientMode("client".equals(name))
+            .setCommunicationSpi(new TestRecordingCommunicationSpi())
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                .setAtomicityMode(TRANSACTIONAL)
+                .setBackups(1));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRecoveryOnNearNodeFail() throws Exception {
+        startGrids(2);
+
+        IgniteEx client = startGrid("client");
+
+        IgniteCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+        // Every transaction spans both primaries, so that each of them asks the other one on recovery.
+        List<Integer> keys0 = primaryKeys(grid(0).cache(DEFAULT_CACHE_NAME), TXS);
+        List<Integer> keys1 = primaryKeys(grid(1).cache(DEFAULT_CACHE_NAME), TXS);
+
+        TestRecordingCommunicationSpi.spi(client).blockMessages((node, msg) -> msg instanceof GridNearTxFinishRequest);
+
+        AtomicInteger idx = new AtomicInteger();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            int i = idx.getAndIncrement();
+
+            Transaction tx = client.transactions().txStart(PESSIMISTIC, REPEATABLE_READ);
+
+            cache.put(keys0.get(i), i);
+            cache.put(keys1.get(i), i);
+
+            ((TransactionProxyImpl)tx).tx().prepare(true);
+
+            return null;
+        }, TXS, "tx");
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(TXS, grid(i).context().cache().context().tm().preparedIndex().size());
+
+            TestRecordingCommunicationSpi.spi(grid(i))
+                .record(GridCacheTxRecoveryRequest.class, GridCacheTxRecoveryBatchMessage.class);
+        }
+
+        IgniteInternalFuture<?> stopFut = GridTestUtils.runAsync(client::close);
+
+        assertTrue(GridTestUtils.waitForCondition(() -> {
+            for (int i = 0; i < 2; i++) {
+                if (!grid(i).context().cache().context().tm().activeTransactions().isEmpty())
+                    return false;
+            }
+
+            return true;
+        }, getTestTimeout()));
+
+        stopFut.get();
+
+        for (int i = 0; i < 2; i++) {
+            IgniteEx ignite = grid(i);
+
+            assertEquals(0, ignite.context().cache().context().tm().preparedIndex().size());
+
+            List<Object> msgs = TestRecordingCommunicationSpi.spi(ignite).recordedMessages(true);
+
+            assertFalse(msgs.isEmpty());
+
+            for (Object msg : msgs)
+                assertTrue(String.valueOf(msg), msg instanceof GridCacheTxRecoveryBatchMessage);
+
+            IgniteCache<Integer, Integer> cache0 = ignite.cache(DEFAULT_CACHE_NAME);
+
+            for (int j = 0; j < TXS; j++) {
+                assertEquals(j, (int)cache0.get(keys0.get(j)));
+                assertEquals(j, (int)cache0.get(keys1.get(j)));
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.transactions;
+
+import java.util.List;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearSingleGetRequest;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearSingleGetRequestV2;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxPrepareRequest;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxPrepareRequestV2;
+import org.apache.ignite.internal.transactions.IgniteTxOptimisticCheckedException;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.X;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.transactions.Transaction;
+import org.apache.ignite.transactions.TransactionOptimisticException;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TX_SERIALIZABLE_READ_CHECKS;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.transactions.TransactionConcurrency.OPTIMISTIC;
+import static org.apache.ignite.transactions.TransactionIsolation.SERIALIZABLE;
+
+/**
+ * Checks that an optimistic serializable transaction fails on a read once a key it read earlier from the same
+ * primary node has been changed.
+ */
+@WithSystemProperty(key = IGNITE_TX_SERIALIZABLE_READ_CHECKS, value = "128")
+public class TxSerializableReadChecksTest extends GridCommonAbstractTest {
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String name) throws Exception {
+        return super.getConfiguration(name)
+            .setCommunicationSpi(new TestRecordingCommunicationSpi())
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME).setAtomicityMode(TRANSACTIONAL));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGridsMultiThreaded(2);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTestsStopped() throws Exception {
+        stopAllGrids();
+
+        super.afterTestsStopped();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSingleGet() throws Exception {
+        checkConflict(false);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testGetAll() throws Exception {
+        checkConflict(true);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testNoConflict() throws Exception {
+        IgniteEx ignite = grid(0);
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        List<Integer> keys = primaryKeys(grid(1).cache(DEFAULT_CACHE_NAME), 3);
+
+        for (Integer key : keys)
+            cache.put(key, 0);
+
+        try (Transaction tx = ignite.transactions().txStart(OPTIMISTIC, SERIALIZABLE)) {
+            cache.get(keys.get(0));
+
+            // Unrelated key changes must not fail the transaction.
+            GridTestUtils.runAsync(() -> grid(1).cache(DEFAULT_CACHE_NAME).put(keys.get(2), 1)).get();
+
+            cache.put(keys.get(1), cache.get(keys.get(1)) + 1);
+
+            tx.commit();
+        }
+
+        assertEquals(1, (int)cache.get(keys.get(1)));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReadVersionSentOnce() throws Exception {
+        IgniteEx ignite = grid(0);
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        List<Integer> keys = primaryKeys(grid(1).cache(DEFAULT_CACHE_NAME), 10);
+
+        for (Integer key : keys)
+            cache.put(key, 0);
+
+        TestRecordingCommunicationSpi spi = TestRecordingCommunicationSpi.spi(ignite);
+
+        spi.record(GridNearSingleGetRequest.class, GridNearSingleGetRequestV2.class);
+
+        try (Transaction tx = ignite.transactions().txStart(OPTIMISTIC, SERIALIZABLE)) {
+            for (Integer key : keys)
+                cache.get(key);
+
+            tx.commit();
+        }
+
+        List<Object> reqs = spi.recordedMessages(true);
+
+        assertEquals(keys.size(), reqs.size());
+
+        // Every read sends only the version of the key read just before it.
+        for (int i = 0; i < reqs.size(); i++) {
+            List<?> checks = ((GridNearSingleGetRequest)reqs.get(i)).versionCheckKeys();
+
+            assertEquals(i == 0 ? 0 : 1, checks == null ? 0 : checks.size());
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCompactReadsValidatedOnPrepare() throws Exception {
+        IgniteEx ignite = grid(0);
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        List<Integer> keys = primaryKeys(grid(1).cache(DEFAULT_CACHE_NAME), 4);
+
+        for (Integer key : keys)
+            cache.put(key, 0);
+
+        TestRecordingCommunicationSpi spi = TestRecordingCommunicationSpi.spi(ignite);
+
+        spi.record(GridNearTxPrepareRequest.class, GridNearTxPrepareRequestV2.class);
+
+        try (Transaction tx = ignite.transactions().txStart(OPTIMISTIC, SERIALIZABLE)) {
+            cache.getAll(F.asSet(keys.get(0), keys.get(1), keys.get(2)));
+
+            GridTestUtils.runAsync(() -> grid(1).cache(DEFAULT_CACHE_NAME).put(keys.get(0), 1)).get();
+
+            cache.put(keys.get(3), 1);
+
+            GridTestUtils.assertThrows(log, () -> {
+                tx.commit();
+
+                return null;
+            }, TransactionOptimisticException.class, null);
+        }
+
+        List<Object> reqs = spi.recordedMessages(true);
+
+        assertEquals(1, reqs.size());
+
+        // All reads are sent as read versions.
+        GridNearTxPrepareRequest req = (GridNearTxPrepareRequest)reqs.get(0);
+
+        assertTrue(req instanceof GridNearTxPrepareRequestV2);
+        assertTrue(F.isEmpty(req.reads()));
+
+        assertEquals(0, (int)cache.get(keys.get(3)));
+    }
+
+    /**
+     * @param getAll Whether to use {@code getAll} for the second read.
+     * @throws Exception If failed.
+     */
+    private void checkConflict(boolean getAll) throws Exception {
+        IgniteEx ignite = grid(0);
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        List<Integer> keys = primaryKeys(grid(1).cache(DEFAULT_CACHE_NAME), 3, getAll ? 10_000 : 1);
+
+        for (Integer key : keys)
+            cache.put(key, 0);
+
+        try (Transaction tx = ignite.transactions().txStart(OPTIMISTIC, SERIALIZABLE)) {
+            assertEquals(0, (int)cache.get(keys.get(0)));
+
+            GridTestUtils.runAsync(() -> grid(1).cache(DEFAULT_CACHE_NAME).put(keys.get(0), 1)).get();
+
+            try {
+                if (getAll)
+                    cache.getAll(F.asSet(keys.get(1), keys.get(2)));
+                else
+                    cache.get(keys.get(1));
+
+                fail("Read of a stale key was not detected.");
+            }
+            catch (Exception e) {
+                assertTrue(X.getFullStackTrace(e),
+                    X.hasCause(e, TransactionOptimisticException.class, IgniteTxOptimisticCheckedException.class));
+            }
+
+            // Transaction is marked rollback only once the conflict is detected.
+            GridTestUtils.assertThrows(log, () -> {
+                tx.commit();
+
+                return null;
+            }, IgniteException.class, null);
+        }
+
+        assertEquals(1, (int)cache.get(keys.get(0)));
+    }
+}
@@ -16,6 +16,8 @@
 
 package org.apache.ignite.internal.util;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.apache.ignite.lang.IgniteInClosure;
 import org.apache.ignite.logger.java.JavaLogger;
 import org.apache.ignite.testframework.GridTestUtils;
@@ -157,6 +159,72 @@ public class StripedExecutorTest extends GridCommonAbstractTest {
         assertTrue(stripedExecSvc.detectStarvation());
     }
 
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testQueueImbalance() throws Exception {
+        stripedExecSvc.execute(0, new TestRunnable(true));
+        stripedExecSvc.execute(1, new TestRunnable(true));
+        stripedExecSvc.execute(1, new TestRunnable(true));
+        stripedExecSvc.execute(1, new TestRunnable(true));
+
+        sleepASec();
+
+        assertEquals(2, stripedExecSvc.queueImbalance());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testUnorderedTasksStolenByIdleStripe() throws Exception {
+        stripedExecSvc.execute(0, new TestRunnable(true));
+        stripedExecSvc.execute(1, new TestRunnable(true));
+
+        sleepASec();
+
+        int cnt = 30;
+
+        CountDownLatch latch = new CountDownLatch(cnt);
+
+        for (int i = 0; i < cnt; i++)
+            stripedExecSvc.execute(latch::countDown);
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+        assertTrue(stripedExecSvc.stolenTasks() > 0);
+
+        // Tasks submitted to a stripe are never stolen.
+        stripedExecSvc.execute(0, new TestRunnable());
+
+        sleepASec();
+
+        assertEquals(1, stripedExecSvc.queueSize(0));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testLongRunningTasks() throws Exception {
+        stripedExecSvc.execute(0, new TestRunnable());
+        stripedExecSvc.execute(1, () -> {
+            try {
+                sleepASec();
+            }
+            catch (InterruptedException ignored) {
+                // No-op.
+            }
+        });
+
+        sleepASec();
+
+        assertTrue(GridTestUtils.waitForCondition(() -> stripedExecSvc.completedTasks() == 2, 5000));
+
+        assertEquals(1, stripedExecSvc.longRunningTasks());
+    }
+
     /**
      *
      */
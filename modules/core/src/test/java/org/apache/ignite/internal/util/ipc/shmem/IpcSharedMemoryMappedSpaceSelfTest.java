@@ -0,0 +1,310 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.ipc.shmem;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Externalizable;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests for shared memory space backed by memory-mapped file (does not require native library).
+ */
+public class IpcSharedMemoryMappedSpaceSelfTest extends GridCommonAbstractTest {
+    /** */
+    private static final int DATA_LEN = 1024 * 1024;
+
+    /** */
+    private static final byte[] DATA = new byte[DATA_LEN];
+
+    /**
+     *
+     */
+    static {
+        for (int i = 0; i < DATA_LEN; i++)
+            DATA[i] = (byte)i;
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBasicOperations() throws Exception {
+        String tok = tokenFile().getAbsolutePath();
+
+        try (IpcSharedMemorySpace out = new IpcSharedMemorySpace(tok, 0, 0, 128, false, true, log);
+             IpcSharedMemorySpace in = new IpcSharedMemorySpace(tok, 0, 0, 128, true, false, log)) {
+            assertTrue(out.mapped());
+            assertTrue(in.mapped());
+
+            IgniteInternalFuture<?> fut = GridTestUtils.runAsync(() -> {
+                int bytesWritten = 0;
+
+                while (bytesWritten < DATA_LEN) {
+                    int len = Math.min(DATA_LEN - bytesWritten, ThreadLocalRandom.current().nextInt(256) + 1);
+
+                    out.write(DATA, bytesWritten, len, 0);
+
+                    bytesWritten += len;
+                }
+
+                return null;
+            });
+
+            byte[] buf = new byte[DATA_LEN];
+
+            int bytesRead = 0;
+
+            while (bytesRead < DATA_LEN) {
+                int len = Math.min(DATA_LEN - bytesRead, ThreadLocalRandom.current().nextInt(32) + 1);
+
+                int len0 = in.read(buf, bytesRead, len, 0);
+
+                assertTrue(len0 > 0);
+
+                bytesRead += len0;
+            }
+
+            fut.get();
+
+            assertTrue(Arrays.equals(DATA, buf));
+        }
+
+        assertFalse(new File(tok).exists());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testDirectBuffers() throws Exception {
+        String tok = tokenFile().getAbsolutePath();
+
+        try (IpcSharedMemorySpace out = new IpcSharedMemorySpace(tok, 0, 0, 64, false, true, log);
+             IpcSharedMemorySpace in = new IpcSharedMemorySpace(tok, 0, 0, 64, true, false, log)) {
+            ByteBuffer src = ByteBuffer.allocateDirect(48);
+
+            src.put(DATA, 0, 48);
+
+            ByteBuffer dst = ByteBuffer.allocateDirect(48);
+
+            // Two rounds to wrap around the ring.
+            for (int i = 0; i < 2; i++) {
+                out.write(src, 0, 48, 0);
+
+                assertEquals(48, in.unreadCount());
+
+                int read = 0;
+
+                while (read < 48)
+                    read += in.read(dst, read, 48 - read, 0);
+
+                for (int j = 0; j < 48; j++)
+                    assertEquals(DATA[j], dst.get(j));
+            }
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReadAfterClose() throws Exception {
+        String tok = tokenFile().getAbsolutePath();
+
+        IpcSharedMemorySpace spaceOut = new IpcSharedMemorySpace(tok, 0, 0, 128, false, true, log);
+
+        try (IpcSharedMemorySpace spaceIn = new IpcSharedMemorySpace(tok, 0, 0, 128, true, false, log)) {
+            spaceOut.write(DATA, 0, 16, 0);
+
+            spaceOut.close();
+
+            // Data written before close must still be available.
+            byte[] buf = new byte[16];
+
+            assertEquals(16, spaceIn.read(buf, 0, 16, 0));
+
+            assertEquals(-1, spaceIn.read(buf, 0, 16, 0));
+        }
+
+        assertFalse(new File(tok).exists());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testWriteAfterClose() throws Exception {
+        String tok = tokenFile().getAbsolutePath();
+
+        try (IpcSharedMemorySpace spaceOut = new IpcSharedMemorySpace(tok, 0, 0, 128, false, true, log)) {
+            try (IpcSharedMemorySpace spaceIn = new IpcSharedMemorySpace(tok, 0, 0, 128, true, false, log)) {
+                spaceOut.write(DATA, 0, 16, 0);
+            }
+
+            GridTestUtils.assertThrows(log, () -> {
+                spaceOut.write(DATA, 0, 16, 0);
+
+                return null;
+            }, IgniteCheckedException.class, null);
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testWriteTimeout() throws Exception {
+        String tok = tokenFile().getAbsolutePath();
+
+        try (IpcSharedMemorySpace spaceOut = new IpcSharedMemorySpace(tok, 0, 0, 16, false, true, log);
+             IpcSharedMemorySpace spaceIn = new IpcSharedMemorySpace(tok, 0, 0, 16, true, false, log)) {
+            // Ring is full after this write and nobody reads.
+            spaceOut.write(DATA, 0, 16, 0);
+
+            GridTestUtils.assertThrows(log, () -> {
+                spaceOut.write(DATA, 0, 1, 100);
+
+                return null;
+            }, IpcSharedMemoryOperationTimedoutException.class, null);
+
+            assertEquals(16, spaceIn.unreadCount());
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testInitRequestCompatibility() throws Exception {
+        // Request of a previous version has no mapped flag.
+        IpcSharedMemoryInitRequest req = (IpcSharedMemoryInitRequest)deserialize(
+            serialize(new PreviousInitRequest(42)), PreviousInitRequest.class, IpcSharedMemoryInitRequest.class);
+
+        assertEquals(42, req.pid());
+        assertFalse(req.mapped());
+
+        // Party of a previous version skips the flag.
+        PreviousInitRequest prevReq = (PreviousInitRequest)deserialize(
+            serialize(new IpcSharedMemoryInitRequest(42, true)), IpcSharedMemoryInitRequest.class,
+            PreviousInitRequest.class);
+
+        assertEquals(42, prevReq.pid);
+
+        req = (IpcSharedMemoryInitRequest)deserialize(serialize(new IpcSharedMemoryInitRequest(42, true)), null, null);
+
+        assertEquals(42, req.pid());
+        assertTrue(req.mapped());
+    }
+
+    /**
+     * @param obj Object.
+     * @return Serialized object.
+     * @throws Exception If failed.
+     */
+    private static byte[] serialize(Object obj) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(obj);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param bytes Serialized object.
+     * @param from Class to read as {@code to}, {@code null} to read the object as is.
+     * @param to Class to read instead of {@code from}.
+     * @return Deserialized object.
+     * @throws Exception If failed.
+     */
+    private static Object deserialize(byte[] bytes, Class<?> from, Class<?> to) throws Exception {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes)) {
+            @Override protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+                ObjectStreamClass desc = super.readClassDescriptor();
+
+                return from != null && desc.getName().equals(from.getName()) ? ObjectStreamClass.lookup(to) : desc;
+            }
+        }) {
+            return in.readObject();
+        }
+    }
+
+    /**
+     * @return New token file.
+     * @throws Exception If failed.
+     */
+    private File tokenFile() throws Exception {
+        File tokFile = new File(IgniteSystemProperties.getString("java.io.tmpdir"), UUID.randomUUID().toString());
+
+        assertTrue(tokFile.createNewFile());
+
+        return tokFile;
+    }
+
+    /**
+     * Init request as it is serialized by previous versions.
+     */
+    public static class PreviousInitRequest implements Externalizable {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** */
+        private int pid;
+
+        /**
+         * Required by {@code Externalizable}.
+         */
+        public PreviousInitRequest() {
+            // No-op.
+        }
+
+        /**
+         * @param pid PID.
+         */
+        PreviousInitRequest(int pid) {
+            this.pid = pid;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeInt(pid);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void readExternal(ObjectInput in) throws IOException {
+            pid = in.readInt();
+        }
+    }
+}
@@ -42,6 +42,7 @@ import org.apache.ignite.internal.processors.cache.distributed.IgniteCacheGroups
 import org.apache.ignite.internal.processors.cache.distributed.IgniteCachePartitionLossPolicySelfTest;
 import org.apache.ignite.internal.processors.cache.distributed.IgniteCacheTxIteratorSelfTest;
 import org.apache.ignite.internal.processors.cache.distributed.dht.NotMappedPartitionInTxTest;
+import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.IgniteCacheAtomicNioThreadProcessingTest;
 import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.IgniteCacheAtomicProtocolTest;
 import org.apache.ignite.internal.processors.cache.distributed.rebalancing.CacheManualRebalancingTest;
 import org.apache.ignite.internal.processors.cache.distributed.replicated.IgniteCacheSyncRebalanceModeSelfTest;
@@ -73,6 +74,7 @@ public class IgniteCacheMvccTestSuite5 {
         ignoredTests.add(CacheSerializableTransactionsTest.class);
         ignoredTests.add(IgniteCachePutStackOverflowSelfTest.class);
         ignoredTests.add(IgniteCacheAtomicProtocolTest.class);
+        ignoredTests.add(IgniteCacheAtomicNioThreadProcessingTest.class);
 
         // Other non-tx tests.
         ignoredTests.add(CacheLateAffinityAssignmentNodeJoinValidationTest.class);
@@ -17,6 +17,7 @@
 package org.apache.ignite.testsuites;
 
 import org.apache.ignite.internal.util.ipc.shmem.IpcSharedMemoryCrashDetectionSelfTest;
+import org.apache.ignite.internal.util.ipc.shmem.IpcSharedMemoryMappedSpaceSelfTest;
 import org.apache.ignite.internal.util.ipc.shmem.IpcSharedMemoryNativeLoaderSelfTest;
 import org.apache.ignite.internal.util.ipc.shmem.IpcSharedMemorySpaceSelfTest;
 import org.apache.ignite.internal.util.ipc.shmem.IpcSharedMemoryUtilsSelfTest;
@@ -29,6 +30,7 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
     IpcSharedMemorySpaceSelfTest.class,
+    IpcSharedMemoryMappedSpaceSelfTest.class,
     IpcSharedMemoryUtilsSelfTest.class,
     IpcSharedMemoryCrashDetectionSelfTest.class,
     IpcSharedMemoryNativeLoaderSelfTest.class
@@ -30,7 +30,9 @@ import org.apache.ignite.internal.processors.cache.persistence.db.IgnitePdsReser
 import org.apache.ignite.internal.processors.cache.persistence.db.IgnitePdsReserveWalSegmentsWithCompactionTest;
 import org.apache.ignite.internal.processors.cache.persistence.db.IgniteShutdownOnSupplyMessageFailureTest;
 import org.apache.ignite.internal.processors.cache.persistence.db.filename.IgniteUidAsConsistentIdMigrationTest;
+import org.apache.ignite.internal.processors.cache.persistence.db.wal.AtomicCacheWalRecoveryTest;
 import org.apache.ignite.internal.processors.cache.persistence.db.wal.CorruptedCheckpointReservationTest;
+import org.apache.ignite.internal.processors.cache.persistence.db.wal.FsyncWalGroupCommitTest;
 import org.apache.ignite.internal.processors.cache.persistence.db.wal.FsyncWalRolloverDoesNotBlockTest;
 import org.apache.ignite.internal.processors.cache.persistence.db.wal.IgniteWALTailIsReachedDuringIterationOverArchiveTest;
 import org.apache.ignite.internal.processors.cache.persistence.db.wal.IgniteWalFormatFileFailoverTest;
@@ -97,8 +99,10 @@ public class IgnitePdsMvccTestSuite2 {
         ignoredTests.add(IgniteWALTailIsReachedDuringIterationOverArchiveTest.class);
         ignoredTests.add(WalRolloverTypesTest.class);
         ignoredTests.add(FsyncWalRolloverDoesNotBlockTest.class);
+        ignoredTests.add(FsyncWalGroupCommitTest.class);
         ignoredTests.add(IgniteWalRebalanceLoggingTest.class);
         ignoredTests.add(CorruptedCheckpointReservationTest.class);
+        ignoredTests.add(AtomicCacheWalRecoveryTest.class);
 
         return IgnitePdsTestSuite2.suite(ignoredTests);
     }
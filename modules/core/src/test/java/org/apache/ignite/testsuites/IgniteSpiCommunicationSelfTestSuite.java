@@ -16,6 +16,7 @@
 
 package org.apache.ignite.testsuites;
 
+import org.apache.ignite.internal.managers.communication.GridIoTimingMetricsTest;
 import org.apache.ignite.spi.communication.tcp.GridTcpCommunicationInverseConnectionEstablishingTest;
 import org.apache.ignite.spi.communication.tcp.GridTcpCommunicationSpiConcurrentConnectSelfTest;
 import org.apache.ignite.spi.communication.tcp.GridTcpCommunicationSpiConcurrentConnectSslSelfTest;
@@ -95,6 +96,7 @@ import org.junit.runners.Suite;
     TcpCommunicationSpiHalfOpenedConnectionTest.class,
 
     TcpCommunicationStatisticsTest.class,
+    GridIoTimingMetricsTest.class,
 
     IgniteTcpCommunicationHandshakeWaitTest.class,
     IgniteTcpCommunicationHandshakeWaitSslTest.class,
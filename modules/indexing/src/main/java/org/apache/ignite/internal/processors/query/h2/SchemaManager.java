@@ -53,6 +53,7 @@ import org.apache.ignite.internal.processors.query.h2.sys.view.SqlSystemViewCach
 import org.apache.ignite.internal.processors.query.h2.sys.view.SqlSystemViewCacheGroupsIOStatistics;
 import org.apache.ignite.internal.processors.query.h2.sys.view.SqlSystemViewCaches;
 import org.apache.ignite.internal.processors.query.h2.sys.view.SqlSystemViewIndexes;
+import org.apache.ignite.internal.processors.query.h2.sys.view.SqlSystemViewLockContention;
 import org.apache.ignite.internal.processors.query.h2.sys.view.SqlSystemViewNodeAttributes;
 import org.apache.ignite.internal.processors.query.h2.sys.view.SqlSystemViewNodeMetrics;
 import org.apache.ignite.internal.processors.query.h2.sys.view.SqlSystemViewNodes;
@@ -190,6 +191,7 @@ public class SchemaManager {
         views.add(new SqlSystemViewCacheGroupsIOStatistics(ctx));
         views.add(new SqlSystemViewRunningQueries(ctx));
         views.add(new SqlSystemViewQueryHistoryMetrics(ctx));
+        views.add(new SqlSystemViewLockContention(ctx));
         views.add(new SqlSystemViewTables(ctx));
         views.add(new SqlSystemViewIndexes(ctx, this));
         views.add(new SqlSystemViewSchemas(ctx, this));
@@ -44,12 +44,14 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusMeta
 import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseList;
 import org.apache.ignite.internal.processors.cache.tree.mvcc.data.MvccDataRow;
 import org.apache.ignite.internal.processors.failure.FailureProcessor;
+import org.apache.ignite.internal.processors.query.QueryUtils;
 import org.apache.ignite.internal.processors.query.h2.H2RowCache;
 import org.apache.ignite.internal.processors.query.h2.H2Utils;
 import org.apache.ignite.internal.processors.query.h2.database.inlinecolumn.InlineIndexColumnFactory;
 import org.apache.ignite.internal.processors.query.h2.database.io.H2ExtrasInnerIO;
 import org.apache.ignite.internal.processors.query.h2.database.io.H2ExtrasLeafIO;
 import org.apache.ignite.internal.processors.query.h2.database.io.H2RowLinkIO;
+import org.apache.ignite.internal.processors.query.h2.opt.GridH2RowDescriptor;
 import org.apache.ignite.internal.processors.query.h2.opt.GridH2Table;
 import org.apache.ignite.internal.processors.query.h2.opt.H2CacheRow;
 import org.apache.ignite.internal.processors.query.h2.opt.H2Row;
@@ -551,7 +553,11 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
 
                 inlineSizeRecomendation(row);
 
-                SearchRow rowData = getRow(io, pageAddr, idx);
+                boolean keyOnly = keyColumnsOnly(lastIdxUsed);
+
+                SearchRow rowData = keyOnly ? null : getRow(io, pageAddr, idx);
+
+                Value key = null;
 
                 for (int i = lastIdxUsed, len = cols.length; i < len; i++) {
                     IndexColumn col = cols[i];
@@ -564,7 +570,17 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
                         return mvccCompare((H2RowLinkIO)io, pageAddr, idx, row);
                     }
 
-                    Value v1 = rowData.getValue(idx0);
+                    Value v1;
+
+                    if (keyOnly) {
+                        // Key alias column has the same value as the key column.
+                        if (key == null)
+                            key = getKeyValue(io, pageAddr, idx);
+
+                        v1 = key;
+                    }
+                    else
+                        v1 = rowData.getValue(idx0);
 
                     int c = compareValues(v1, v2);
 
@@ -580,6 +596,55 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
         }
     }
 
+    /**
+     * Checks whether the rest of index columns can be compared having only the key of the row.
+     *
+     * @param from Index of the first column to compare.
+     * @return {@code True} if all columns starting from {@code from} are key or key alias columns.
+     */
+    private boolean keyColumnsOnly(int from) {
+        if (mvccEnabled)
+            return false;
+
+        GridH2RowDescriptor desc = table.rowDescriptor();
+
+        for (int i = from; i < cols.length; i++) {
+            if (!desc.isKeyColumn(cols[i].column.getColumnId()))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets key of the row. Value bytes are not copied from the data page, and for fragmented rows
+     * only the pages holding the key are read.
+     *
+     * @param io IO.
+     * @param pageAddr Page address.
+     * @param idx Item index.
+     * @return Key value.
+     * @throws IgniteCheckedException If failed.
+     */
+    private Value getKeyValue(BPlusIO<H2Row> io, long pageAddr, int idx) throws IgniteCheckedException {
+        long link = ((H2RowLinkIO)io).getLink(pageAddr, idx);
+
+        if (rowCache != null) {
+            H2CacheRow row = rowCache.get(link);
+
+            if (row != null)
+                return row.getValue(QueryUtils.KEY_COL);
+        }
+
+        CacheDataRowAdapter row = new CacheDataRowAdapter(link);
+
+        row.initFromLink(cctx.group(), CacheDataRowAdapter.RowData.KEY_ONLY, true);
+
+        GridH2RowDescriptor desc = table.rowDescriptor();
+
+        return H2Utils.wrap(desc.indexing().objectContext(), row.key(), desc.keyType());
+    }
+
     /**
      * Perform sort order correction.
      *
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.h2.sys.view;
+
+import java.util.Iterator;
+import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.processors.cache.DynamicCacheDescriptor;
+import org.apache.ignite.internal.processors.cache.transactions.IgniteTxKey;
+import org.h2.engine.Session;
+import org.h2.result.Row;
+import org.h2.result.SearchRow;
+import org.h2.value.Value;
+
+import static org.apache.ignite.internal.util.lang.GridFunc.iterator;
+
+/**
+ * System view of the most contended entry locks on local node.
+ */
+public class SqlSystemViewLockContention extends SqlAbstractLocalSystemView {
+    /**
+     * @param ctx Grid context.
+     */
+    public SqlSystemViewLockContention(GridKernalContext ctx) {
+        super("LOCAL_LOCK_CONTENTION", "Local node lock waits for the most contended keys", ctx,
+            newColumn("CACHE_ID", Value.INT),
+            newColumn("CACHE_NAME"),
+            newColumn("KEY"),
+            newColumn("CONTENTION", Value.LONG),
+            newColumn("WAITS", Value.LONG),
+            newColumn("TOTAL_WAIT_TIME", Value.LONG),
+            newColumn("MAX_WAIT_TIME", Value.LONG),
+            newColumn("LAST_WAIT_TIME", Value.TIMESTAMP)
+        );
+    }
+
+    /** {@inheritDoc} */
+    @Override public Iterator<Row> getRows(Session ses, SearchRow first, SearchRow last) {
+        return iterator(ctx.cache().context().mvcc().contention().hottestKeys(Integer.MAX_VALUE),
+            stat -> {
+                IgniteTxKey key = stat.key();
+
+                DynamicCacheDescriptor desc = ctx.cache().cacheDescriptor(key.cacheId());
+
+                return createRow(ses,
+                    key.cacheId(),
+                    desc != null ? desc.cacheName() : null,
+                    toStringSafe(key.key()),
+                    stat.contention(),
+                    stat.waits(),
+                    stat.totalWaitTime(),
+                    stat.maxWaitTime(),
+                    valueTimestampFromMillis(stat.lastWaitTimestamp())
+                );
+            },
+            true);
+    }
+}
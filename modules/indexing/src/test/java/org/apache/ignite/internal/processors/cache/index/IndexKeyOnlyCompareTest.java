@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.index;
+
+import java.util.List;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.util.typedef.internal.SB;
+import org.junit.Test;
+
+/**
+ * Checks index operations on rows whose indexed values are not unique and can't be fully inlined,
+ * so comparison falls through to the key columns that are read from data pages without the value.
+ */
+public class IndexKeyOnlyCompareTest extends AbstractIndexingCommonTest {
+    /** */
+    private static final int ROWS = 500;
+
+    /** */
+    private static final int GROUPS = 5;
+
+    /** Value larger than a page to get fragmented rows. */
+    private static final String BIG_VAL = bigValue();
+
+    /** */
+    private boolean persistence;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setPersistenceEnabled(persistence)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testStringKeyInMemory() throws Exception {
+        check("varchar", "'key-with-a-long-prefix-to-exceed-inline-size-'");
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testStringKeyPersistent() throws Exception {
+        persistence = true;
+
+        check("varchar", "'key-with-a-long-prefix-to-exceed-inline-size-'");
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testIntKeyInMemory() throws Exception {
+        check("int", "");
+    }
+
+    /**
+     * @param keyType SQL type of the key.
+     * @param keyPrefix Key prefix expression.
+     * @throws Exception If failed.
+     */
+    private void check(String keyType, String keyPrefix) throws Exception {
+        Ignite node = startGrid(0);
+
+        node.cluster().active(true);
+
+        sql(node, "create table T (id " + keyType + " primary key, grp int, val varchar)");
+        sql(node, "create index T_GRP on T (grp) inline_size 5");
+
+        String key = keyPrefix.isEmpty() ? "?" : keyPrefix + " || ?";
+
+        for (int i = 0; i < ROWS; i++)
+            sql(node, "insert into T (id, grp, val) values (" + key + ", ?, ?)", i, i % GROUPS, BIG_VAL);
+
+        for (int g = 0; g < GROUPS; g++)
+            assertEquals((long)ROWS / GROUPS, sql(node, "select count(*) from T where grp = ?", g).get(0).get(0));
+
+        // Removal has to find exact index rows by comparing the key.
+        for (int i = 0; i < ROWS; i += 2)
+            sql(node, "delete from T where id = " + key, i);
+
+        for (int g = 0; g < GROUPS; g++) {
+            List<List<?>> rows = sql(node, "select id, val from T where grp = ?", g);
+
+            assertEquals(ROWS / GROUPS / 2, rows.size());
+
+            for (List<?> row : rows)
+                assertEquals(BIG_VAL, row.get(1));
+        }
+
+        assertEquals((long)ROWS / 2, sql(node, "select count(*) from T where grp >= 0").get(0).get(0));
+    }
+
+    /**
+     * @param ig Ignite.
+     * @param sql SQL query.
+     * @param args Query parameters.
+     * @return Results.
+     */
+    private List<List<?>> sql(Ignite ig, String sql, Object... args) {
+        return ((IgniteEx)ig).context().query().querySqlFields(
+            new SqlFieldsQuery(sql).setArgs(args), true).getAll();
+    }
+
+    /**
+     * @return Value larger than a page.
+     */
+    private static String bigValue() {
+        SB sb = new SB();
+
+        for (int i = 0; i < 5_000; i++)
+            sb.a((char)('a' + i % 26));
+
+        return sb.toString();
+    }
+}
@@ -68,11 +68,14 @@ import org.apache.ignite.lang.IgnitePredicate;
 import org.apache.ignite.lang.IgniteRunnable;
 import org.apache.ignite.spi.discovery.tcp.internal.TcpDiscoveryNode;
 import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.transactions.Transaction;
 import org.junit.Assert;
 import org.junit.Test;
 
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toSet;
+import static org.apache.ignite.transactions.TransactionConcurrency.PESSIMISTIC;
+import static org.apache.ignite.transactions.TransactionIsolation.REPEATABLE_READ;
 
 /**
  * Tests for ignite SQL system views.
@@ -731,6 +734,44 @@ public class SqlSystemViewsSelfTest extends AbstractIndexingCommonTest {
         assertEquals(1, execSql(sql1).size());
     }
 
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testLockContentionView() throws Exception {
+        IgniteEx ignite = startGrid(getConfiguration());
+
+        IgniteCache<Integer, Integer> cache = ignite.createCache(new CacheConfiguration<Integer, Integer>("tx")
+            .setAtomicityMode(CacheAtomicityMode.TRANSACTIONAL));
+
+        cache.put(1, 0);
+
+        GridTestUtils.runMultiThreaded(() -> {
+            for (int i = 0; i < 20; i++) {
+                try (Transaction tx = ignite.transactions().txStart(PESSIMISTIC, REPEATABLE_READ)) {
+                    cache.put(1, cache.get(1) + 1);
+
+                    doSleep(1);
+
+                    tx.commit();
+                }
+            }
+        }, 4, "tx");
+
+        List<List<?>> res = execSql("SELECT CACHE_NAME, WAITS, TOTAL_WAIT_TIME, MAX_WAIT_TIME, LAST_WAIT_TIME, " +
+            "CONTENTION FROM " + systemSchemaName() + ".LOCAL_LOCK_CONTENTION ORDER BY CONTENTION DESC");
+
+        assertFalse(res.isEmpty());
+
+        List<?> row = res.get(0);
+
+        assertEquals("tx", row.get(0));
+        assertTrue((Long)row.get(1) > 0);
+        assertTrue((Long)row.get(2) >= (Long)row.get(3));
+        assertNotNull(row.get(4));
+        assertTrue((Long)row.get(5) >= (Long)row.get(1));
+    }
+
     /**
      * Simple test for {@link SqlSystemViewTables}
      */
@@ -162,6 +162,7 @@ import org.apache.ignite.internal.processors.cache.index.H2RowCachePageEvictionT
 import org.apache.ignite.internal.processors.cache.index.H2RowCacheSelfTest;
 import org.apache.ignite.internal.processors.cache.index.H2RowExpireTimeIndexSelfTest;
 import org.apache.ignite.internal.processors.cache.index.IgniteDecimalSelfTest;
+import org.apache.ignite.internal.processors.cache.index.IndexKeyOnlyCompareTest;
 import org.apache.ignite.internal.processors.cache.index.LongIndexNameTest;
 import org.apache.ignite.internal.processors.cache.index.OptimizedMarshallerIndexNameTest;
 import org.apache.ignite.internal.processors.cache.index.QueryEntityValidationSelfTest;
@@ -319,6 +320,7 @@ import org.junit.runners.Suite;
     BasicIndexTest.class,
     ArrayIndexTest.class,
     DecimalIndexTest.class,
+    IndexKeyOnlyCompareTest.class,
     BasicIndexMultinodeTest.class,
 
     // Misc tests.
@@ -20,6 +20,7 @@ import org.apache.ignite.internal.processors.cache.index.StaticCacheDdlKeepStati
 import org.apache.ignite.internal.processors.cache.index.StaticCacheDdlTest;
 import org.apache.ignite.internal.processors.cache.query.continuous.CacheContinuousBatchAckTest;
 import org.apache.ignite.internal.processors.cache.query.continuous.CacheContinuousQueryAsyncFilterListenerTest;
+import org.apache.ignite.internal.processors.cache.query.continuous.CacheContinuousQueryFieldFilterIndexTest;
 import org.apache.ignite.internal.processors.cache.query.continuous.CacheContinuousQueryOperationP2PTest;
 import org.apache.ignite.internal.processors.cache.query.continuous.CacheContinuousQueryOrderingEventTest;
 import org.apache.ignite.internal.processors.cache.query.continuous.CacheContinuousQueryRandomOperationsTest;
@@ -72,6 +73,7 @@ import org.junit.runners.Suite;
     HashJoinQueryTest.class,
     ContinuousQueryBufferCleanupTest.class,
     ContinuousQueryWithTransformerBufferCleanupTest.class,
+    CacheContinuousQueryFieldFilterIndexTest.class,
 })
 public class IgniteCacheQuerySelfTestSuite6 {
 }